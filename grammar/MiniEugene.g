@@ -115,13 +115,11 @@ package org.cidarlab.minieugene.parser;
 package org.cidarlab.minieugene.parser;
 
 import org.cidarlab.minieugene.Interp;
+import org.cidarlab.minieugene.ast.*;
 import org.cidarlab.minieugene.constants.TemplateType;
 import org.cidarlab.minieugene.symbol.*;
 import org.cidarlab.minieugene.predicates.*;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
-import org.cidarlab.minieugene.predicates.templating.*;
-
-import org.apache.commons.lang3.ArrayUtils;
 }
 
 @parser::members {
@@ -136,35 +134,19 @@ public void init(SymbolTables symbols) {
     this.interp = new Interp(this.symbols);
 }
 
-// MINIMUM LENGTH OF DESIGN
-private int minN = -1;
-
-// MAXIMUM LENGTH OF DESIGN
-private int maxN = -1;
-
-// LOGICAL CONJUNCTION of all specified Constraints
-private LogicalAnd la = new LogicalAnd();
+// the AST of the script, 
+// i.e. the facts and the not yet interpreted constraints
+private ScriptNode script = new ScriptNode();
 
-private void addConstraint(Constraint c) {
-    this.la.getConstraints().add(c);  
+public ScriptNode getScript() {
+    return this.script;
 }
 
-public LogicalAnd getConstraint() {
-    this.la.setMinN(this.minN);
-    this.la.setMaxN(this.maxN);
-    return this.la;
-}
-
-
-// for tokenization
-String[] tokens = null;
-private void addToken(String token) {
-    if(null != tokens) {
-        tokens = ArrayUtils.add(tokens, token);
-    } else {
-        tokens = new String[1];
-        tokens[0] = token;
-    }
+// resolves the facts first and then 
+// the constraints of the script
+public LogicalAnd getConstraint() 
+        throws MiniEugeneException {
+    return this.interp.resolve(this.script);
 }
 
 boolean bError = false;
@@ -178,11 +160,6 @@ public boolean hasErrors() {
     return bError;
 }
 
-private boolean bCollectFacts = true;
-public void setCollectFacts(boolean b) {
-    this.bCollectFacts = b;
-}
-
 public void printFacts() {
     this.symbols.printFacts();
 }
@@ -203,23 +180,19 @@ statement
 fact
 	throws MiniEugeneException
 	:	c=ID (UC_IS_A|LC_IS_A) t=ID {
-if(bCollectFacts) {		
-    this.interp.insertFact($c.text, $t.text);	
-}
+this.script.addFact(new FactNode($c.text, $t.text));
 	}
 	;
 
 constraint_specification
 	throws MiniEugeneException 
 	:	c=or_constraint {
-if(!bCollectFacts) {		
-    if($c.lst.size() == 1) 	{
-        // ``store'' the constraint
-        this.addConstraint($c.lst.get(0));   
-    } else {
-        this.addConstraint(new LogicalOr($c.lst));   
-    }	
-}
+if($c.lst.size() == 1) 	{
+    // ``store'' the constraint
+    this.script.addConstraint($c.lst.get(0));   
+} else {
+    this.script.addConstraint(new OrNode($c.lst));   
+}	
 	}	
 	 |	composite_constraint
 	;
@@ -227,12 +200,10 @@ if(!bCollectFacts) {
 size 	
 	throws MiniEugeneException
 	:	 ('minN' EQUALS minN=INT DOT {
-this.minN = Integer.parseInt($minN.text);
-this.interp.setMinN(this.minN);
+this.script.setMinN(Integer.parseInt($minN.text));
 	}	)? 	
 		N_SIZE EQUALS maxN=INT {
-this.maxN = Integer.parseInt($maxN.text);
-this.interp.setMaxN(this.maxN);
+this.script.setMaxN(Integer.parseInt($maxN.text));
 }
 	;
 
@@ -247,102 +218,99 @@ composite_constraint_block
 	;	
 	
 or_constraint 
-        returns [List<Constraint> lst]
+        returns [List<ConstraintNode> lst]
 	throws MiniEugeneException
 @init{
-$lst = new ArrayList<Constraint>();
+$lst = new ArrayList<ConstraintNode>();
 }	
 	:	con=constraint {
-if(!bCollectFacts) {		
-    $lst.add($con.c);
-}
+$lst.add($con.c);
 	}	((UC_OR|LC_OR|LOG_OR|BOOL_OR) o=or_constraint {
-if(!bCollectFacts) {		
-    $lst.addAll($o.lst);
-}
+$lst.addAll($o.lst);
 	})?
 	;
 	
 constraint
-        returns [Constraint c]
+        returns [ConstraintNode c]
 	throws MiniEugeneException
+@init{
+List<String> tokens = new ArrayList<String>();
+}	
 	:	(not=(UC_NOT|LC_NOT|BOOL_NOT) {
-if(!bCollectFacts) {		
-    addToken("NOT");
-}
+tokens.add("NOT");
 	})? (lhs=operand {
-if(!bCollectFacts) {		
-    addToken($lhs.text);
-}	
+tokens.add($lhs.text);
 	})? op=operator {
-if(!bCollectFacts) {		
-    addToken($op.text);	
-}
+tokens.add($op.text);	
 	} (rhs=operand {
-if(!bCollectFacts) {		
-    addToken($rhs.text);	
-}
+tokens.add($rhs.text);	
 	})? {
-if(!bCollectFacts) {		
-    // turn the tokens into a miniEugene constraint	
-    $c = this.interp.interpreteRule(this.tokens);
-
-    // reset the global token array
-    this.tokens = null;
-}
+// the tokens get turned into a miniEugene constraint 
+// once all facts are known
+$c = new RuleNode(tokens.toArray(new String[tokens.size()]));
 	}
 	|	temp=templatingConstraints {
-if(!bCollectFacts) {		
-    $c = $temp.c;	
-}
+$c = $temp.c;	
 	}
 	;
-	catch[MiniEugeneException e] {
-throw new MiniEugeneException(e.getMessage());	
-	}
 
 templatingConstraints
-	returns [Constraint c]
-	throws MiniEugeneException
+	returns [ConstraintNode c]
 	:	tem=templateConstraint {
-if(!bCollectFacts) {		
-    $c = $tem.t;	
-}
+$c = $tem.t;	
 	}
 	|	seq=sequenceConstraint {
-if(!bCollectFacts) {		
-    $c = $seq.s;	
-}
+$c = $seq.s;	
+	}
+	|	pat=patternConstraint {
+$c = $pat.p;	
+	}
+	|	grp=groupConstraint {
+$c = $grp.g;	
 	}
 	;
 	
 templateConstraint	
-	returns [Template t]
-	:	(name=ID COLON)? not=(UC_NOT|LC_NOT|BOOL_NOT)? (UC_TEMPLATE|LC_TEMPLATE) ids=list_of_ids {
-if(!bCollectFacts) {		
-    $t = (Template)this.interp.createTemplatingConstraint(
-        TemplateType.TEMPLATE, 
-        $name.text, 
-        $ids.lst);
-    if(null != not) {
-        $t.setNegated();
-    }
-}	
+	returns [TemplatingNode t]
+	:	(name=ID COLON)? (not=UC_NOT|not=LC_NOT|not=BOOL_NOT)? (UC_TEMPLATE|LC_TEMPLATE) ids=list_of_ids {
+$t = new TemplatingNode(
+    TemplateType.TEMPLATE, 
+    $name.text, 
+    $ids.lst, 
+    null != not);
 	}
 	;
 
 sequenceConstraint	
-	returns [Sequence s]
-	:	(name=ID COLON)? not=(UC_NOT|LC_NOT|BOOL_NOT)? (UC_SEQUENCE|LC_SEQUENCE) ids=list_of_ids {
-if(!bCollectFacts) {		
-    $s = (Sequence)this.interp.createTemplatingConstraint(
-        TemplateType.SEQUENCE, 
-        $name.text, 
-        $ids.lst);
-    if(null != not) {
-        $s.setNegated();
-    }
-}
+	returns [TemplatingNode s]
+	:	(name=ID COLON)? (not=UC_NOT|not=LC_NOT|not=BOOL_NOT)? (UC_SEQUENCE|LC_SEQUENCE) ids=list_of_ids {
+$s = new TemplatingNode(
+    TemplateType.SEQUENCE, 
+    $name.text, 
+    $ids.lst, 
+    null != not);
+	}
+	;
+	
+patternConstraint	
+	returns [TemplatingNode p]
+	:	(name=ID COLON)? (not=UC_NOT|not=LC_NOT|not=BOOL_NOT)? (UC_PATTERN|LC_PATTERN) ids=list_of_ids {
+$p = new TemplatingNode(
+    TemplateType.PATTERN, 
+    $name.text, 
+    $ids.lst, 
+    null != not);
+	}
+	;
+
+groupConstraint	
+	returns [TemplatingNode g]
+	:	(name=ID COLON)? (not=UC_NOT|not=LC_NOT|not=BOOL_NOT)? (UC_GROUP|LC_GROUP) ids=list_of_ids {
+$g = new TemplatingNode(
+    TemplateType.GROUP, 
+    $name.text, 
+    $ids.lst, 
+    null != not);
 	}
 	;
 	
@@ -352,20 +320,14 @@ list_of_ids
 $lst = new ArrayList<List<String>>();
 }	
 	:	(id=ID {
-if(!bCollectFacts) {		
-    List<String> id_lst = new ArrayList<String>();
-    id_lst.add($id.text);
-    $lst.add(id_lst);	
-}
+List<String> id_lst = new ArrayList<String>();
+id_lst.add($id.text);
+$lst.add(id_lst);	
 	}	|LEFTSBR sel=selection {
-if(!bCollectFacts) {		
-    $lst.add($sel.lst);	
-}
+$lst.add($sel.lst);	
 	}	RIGHTSBR)
 		(COMMA ids=list_of_ids {
-if(!bCollectFacts) {		
-    $lst.addAll($ids.lst);		
-}
+$lst.addAll($ids.lst);		
 	})?
 	;
 
@@ -375,13 +337,9 @@ selection
 $lst = new ArrayList<String>();
 }	
 	:	id=ID {
-if(!bCollectFacts) {		
-    $lst.add($id.text);		
-}
+$lst.add($id.text);		
 	} 	(PIPE sel=selection {
-if(!bCollectFacts) {		
-    $lst.addAll($sel.lst);	
-}
+$lst.addAll($sel.lst);	
 	})?
 	;	
 		
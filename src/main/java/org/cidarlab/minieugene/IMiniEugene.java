@@ -33,12 +33,14 @@
 package org.cidarlab.minieugene;
 
 import java.net.URI;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.predicates.interaction.Interaction;
+import org.cidarlab.minieugene.solver.SolutionSet;
 
 /**
  * 
@@ -87,8 +89,101 @@ public interface IMiniEugene {
 	public void solve(String script) 
 			throws MiniEugeneException;
 	
+	/**
+	 * iterate/2 finds NR_OF_SOLUTIONS solutions based on the given 
+	 * miniEugene script. The solutions are found one at a time 
+	 * while the caller iterates over them.
+	 * 
+	 * The returned iterator is AutoCloseable and must be closed 
+	 * if the caller stops iterating before all solutions have 
+	 * been consumed.
+	 * 
+	 * @param script
+	 * @param NR_OF_SOLUTIONS
+	 * @return an iterator over the solutions
+	 * @throws MiniEugeneException
+	 */
+	public Iterator<Component[]> iterate(String script, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException;
+
+	/**
+	 * iterate/1 finds all solutions based on the given 
+	 * miniEugene script. The solutions are found one at a time 
+	 * while the caller iterates over them.
+	 * 
+	 * The returned iterator is AutoCloseable and must be closed 
+	 * if the caller stops iterating before all solutions have 
+	 * been consumed.
+	 * 
+	 * @param script
+	 * @return an iterator over the solutions
+	 * @throws MiniEugeneException
+	 */
+	public Iterator<Component[]> iterate(String script)
+			throws MiniEugeneException;
+	
+	/**
+	 * prepare/1 parses the given miniEugene script once. 
+	 * The PreparedScript can be solved repeatedly, and 
+	 * preparing the same script again returns the cached one.
+	 * 
+	 * @param script
+	 * @return the prepared script
+	 * @throws MiniEugeneException
+	 */
+	public PreparedScript prepare(String script)
+			throws MiniEugeneException;
+	
+	/**
+	 * solve/2 finds NR_OF_SOLUTIONS solutions of a prepared script.
+	 * 
+	 * @param script
+	 * @param NR_OF_SOLUTIONS
+	 * @throws MiniEugeneException
+	 */
+	public void solve(PreparedScript script, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException;
+	
+	/**
+	 * sample/2 finds up to K randomly selected solutions of the 
+	 * given miniEugene script without enumerating all of its 
+	 * solutions.
+	 * 
+	 * @param script
+	 * @param K ... the number of desired solutions ( >0 )
+	 * @throws MiniEugeneException
+	 */
+	public void sample(String script, int K)
+			throws MiniEugeneException;
+	
+	/**
+	 * count/1 counts all solutions of the given miniEugene 
+	 * script without materializing them. The number of solutions 
+	 * and the statistics of the search are reported in the 
+	 * statistics.
+	 * 
+	 * @param script
+	 * @return the number of solutions
+	 * @throws MiniEugeneException
+	 */
+	public long count(String script)
+			throws MiniEugeneException;
+	
+	/**
+	 * proposeN/1 proposes the range of design lengths for which the 
+	 * rules of the given miniEugene script are satisfiable. 
+	 * The length N of the script, if any, is ignored.
+	 * 
+	 * @param script
+	 * @return {minN, maxN}, where maxN is -1 if the length has no upper bound
+	 * @throws MiniEugeneException if the rules are not satisfiable
+	 */
+	public int[] proposeN(String script)
+			throws MiniEugeneException;
+	
 	public MiniEugeneStatistics getStatistics();
 	public List<Component[]> getSolutions();
+	public SolutionSet getSolutionSet();
 	public Set<Interaction> getInteractions();
 
 	/**
@@ -35,12 +35,16 @@ package org.cidarlab.minieugene;
 import java.util.Arrays;
 import java.util.List;
 
+import org.cidarlab.minieugene.ast.ConstraintNode;
+import org.cidarlab.minieugene.ast.FactNode;
+import org.cidarlab.minieugene.ast.ScriptNode;
 import org.cidarlab.minieugene.builder.PredicateBuilder;
 import org.cidarlab.minieugene.constants.MiniEugeneRules;
 import org.cidarlab.minieugene.constants.RuleOperator;
 import org.cidarlab.minieugene.constants.TemplateType;
 import org.cidarlab.minieugene.dom.ComponentType;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
 import org.cidarlab.minieugene.predicates.LogicalNot;
 import org.cidarlab.minieugene.predicates.LogicalOperator;
 import org.cidarlab.minieugene.predicates.Constraint;
@@ -77,6 +81,39 @@ public class Interp {
 		this.maxN = maxN;
 	}
 	
+	/**
+	 * The resolve/1 method interprets the AST of a miniEugene script. 
+	 * First, all facts are inserted into the symbol tables. Then, 
+	 * the constraints are interpreted, i.e. a constraint can refer 
+	 * to a component that is specified after it.
+	 * 
+	 * @param script ... the AST of the miniEugene script
+	 * @return a LogicalAnd object that represents the logical 
+	 *         conjunction of the specified constraints
+	 *         
+	 * @throws MiniEugeneException
+	 */
+	public LogicalAnd resolve(ScriptNode script) 
+			throws MiniEugeneException {
+		
+		if(script.getMinN() != -1) {
+			this.setMinN(script.getMinN());
+		}
+		this.setMaxN(script.getMaxN());
+		
+		for(FactNode fact : script.getFacts()) {
+			this.insertFact(fact.getComponent(), fact.getType());
+		}
+		
+		LogicalAnd la = new LogicalAnd();
+		for(ConstraintNode node : script.getConstraints()) {
+			la.getConstraints().add(node.resolve(this));
+		}
+		la.setMinN(script.getMinN());
+		la.setMaxN(script.getMaxN());
+		return la;
+	}
+	
 	/**
 	 * The insertFact/2 method takes as input two Strings.
 	 * The first String indicates the name of the component.
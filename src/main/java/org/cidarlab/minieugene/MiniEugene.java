@@ -34,21 +34,37 @@ package org.cidarlab.minieugene;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 
 import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.cidarlab.minieugene.act.ACT;
 import org.cidarlab.minieugene.constants.MiniEugeneConstants;
+import org.cidarlab.minieugene.constants.SolverMode;
 import org.cidarlab.minieugene.data.pigeon.WeyekinPoster;
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.parser.MiniEugeneLexer;
 import org.cidarlab.minieugene.parser.MiniEugeneParser;
+import org.cidarlab.minieugene.predicates.Constraint;
 import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.interaction.Induces;
 import org.cidarlab.minieugene.predicates.interaction.Interaction;
+import org.cidarlab.minieugene.predicates.interaction.Represses;
+import org.cidarlab.minieugene.solver.Presolver;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.solver.jacop.DecomposingJaCoPSolver;
+import org.cidarlab.minieugene.solver.jacop.DisjunctiveJaCoPSolver;
 import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.cidarlab.minieugene.solver.jacop.ParallelJaCoPSolver;
+import org.cidarlab.minieugene.solver.jacop.PortfolioJaCoPSolver;
+import org.cidarlab.minieugene.solver.jacop.SearchStrategy;
+import org.cidarlab.minieugene.solver.jacop.SolutionIterator;
 import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.jacop.core.IntVar;
+import org.jacop.search.DepthFirstSearch;
 
 /**
  * The MiniEugene main class for the utilization of miniEugene as an embedded jar.
@@ -64,7 +80,39 @@ public class MiniEugene
 	private SymbolTables symbols;
 	
 	private MiniEugeneStatistics stats;		
-	private List<Component[]> solutions;
+	private SolutionSet solutions;
+	
+	/*
+	 * how to search for the solutions
+	 */
+	private SolverMode mode;
+	
+	/*
+	 * the prepared scripts, shared by all instances
+	 */
+	private static final ScriptCache CACHE = new ScriptCache(ScriptCache.DEFAULT_SIZE);
+	
+	/*
+	 * the number of lengths that proposeN/1 tries 
+	 * at either end of the presolved range
+	 */
+	private static final int LENGTH_SCAN = 16;
+	
+	/*
+	 * how many bytes of solutions are kept on the heap
+	 */
+	private long memoryBudget;
+	
+	/*
+	 * true if only one design per DNA molecule is reported
+	 */
+	private boolean canonicalForm;
+	
+	/*
+	 * true if count/1 also measures the constraints 
+	 * that the rule simplification saved
+	 */
+	private boolean simplificationStatistics;
 	
 	/** 
 	 * non-args constructor
@@ -78,6 +126,63 @@ public class MiniEugene
 		
 		// solutions
 		this.solutions = null;
+		
+		// by default, we search sequentially
+		this.mode = SolverMode.SEQUENTIAL;
+		
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+		this.canonicalForm = false;
+		this.simplificationStatistics = false;
+	}
+	
+	/**
+	 * setSolverMode/1 specifies how the solve methods 
+	 * search for the solutions.
+	 * 
+	 * @param mode  SEQUENTIAL (default), PARALLEL, PORTFOLIO, DISJUNCTIVE, or DECOMPOSED
+	 */
+	public void setSolverMode(SolverMode mode) {
+		this.mode = mode;
+	}
+	
+	public SolverMode getSolverMode() {
+		return this.mode;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions 
+	 * are kept on the heap. Beyond the budget, the solutions 
+	 * are spilled to memory-mapped temporary files.
+	 * 
+	 * @param memoryBudget  the budget in bytes (default: 64 MB)
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	/**
+	 * setCanonicalForm/1 specifies if the sequential solver reports 
+	 * only one design per DNA molecule, i.e. it prunes the designs 
+	 * whose reversed, flipped mirror is a smaller solution. 
+	 * The statistics contain the number of pruned duplicates afterwards.
+	 * 
+	 * @param canonicalForm  (default: false)
+	 */
+	public void setCanonicalForm(boolean canonicalForm) {
+		this.canonicalForm = canonicalForm;
+	}
+	
+	/**
+	 * setSimplificationStatistics/1 specifies if the statistics of 
+	 * the sequential count contain the number of JaCoP constraints 
+	 * that the rule simplification saved. Measuring them builds 
+	 * the model a second time without the simplification. 
+	 * The number of removed rules is always contained.
+	 * 
+	 * @param simplificationStatistics  (default: false)
+	 */
+	public void setSimplificationStatistics(boolean simplificationStatistics) {
+		this.simplificationStatistics = simplificationStatistics;
 	}
 	
 	/**
@@ -110,10 +215,10 @@ public class MiniEugene
 		}
 
 		/*
-		 * at the beginning of every run, we clear the symbol tables 
-		 * that might contain symbols from earlier runs
+		 * at the beginning of every run, we start with empty symbol tables. 
+		 * The ones of earlier runs might be shared through the script cache.
 		 */
-		this.symbols.clear();
+		this.symbols = new SymbolTables();
 
 		/*
 		 * also, clear the statistics
@@ -130,6 +235,7 @@ public class MiniEugene
 		 * then, we parse the miniEugene script
 		 */
 		LogicalAnd and = this.parse(script);
+		this.putInteractions(and);
 		
 		/*
 		 * and finally, we solve the problem
@@ -202,11 +308,29 @@ public class MiniEugene
 	 * - an integer ID (generated by miniEugene)
 	 * - the name of the symbol (specified by the user as rule operands)
 	 * - the orientation (forward/reverse)
+	 * 
+	 * The list is a view of the solution set, i.e. the arrays 
+	 * are created on access and share their Component objects.
 	 *
 	 * @return a List of Symbol arrays.        
 	 */	
 	@Override
 	public List<Component[]> getSolutions() {
+		if(null == this.solutions) {
+			return null;
+		}
+		return this.solutions.asList();
+	}
+	
+	/**
+	 * getSolutionSet/0 returns the solutions found by 
+	 * the last execution of the solve method in their 
+	 * primitive encoding.
+	 * 
+	 * @return the SolutionSet, or null if no solve method has been executed
+	 */
+	@Override
+	public SolutionSet getSolutionSet() {
 		return this.solutions;
 	}
 	
@@ -226,18 +350,16 @@ public class MiniEugene
 		 * first, we clear the symbol tables and statistics
 		 * since they might contain information from the last run
 		 */
-		this.symbols.clear();
 		this.stats.getMeasurements().clear();
 		
 		/*
-		 * next, we parse the script
+		 * next, we parse the script (or take it from the cache)
 		 */
 		try {
-			LogicalAnd la = this.parse(script);
-			this.solve(la, NR_OF_SOLUTIONS);
+			this.solve(this.prepare(script), NR_OF_SOLUTIONS);
 		} catch(MiniEugeneException e) {
 //			e.printStackTrace();
-			throw new MiniEugeneException(e.getMessage());
+			throw new MiniEugeneException(e.getMessage(), e);
 		}
 	}
 	
@@ -251,87 +373,88 @@ public class MiniEugene
 		 * first, we clear the symbol tables and statistics 
 		 * since they might contain information from the last run
 		 */
-		this.symbols.clear();
 		this.stats.getMeasurements().clear();
 		
 		/*
-		 * next, we parse the script
+		 * next, we parse the script (or take it from the cache)
 		 */
 		try {
-			LogicalAnd la = this.parse(script);
-			this.solve(la, -1);
+			this.solve(this.prepare(script), -1);
 		} catch(MiniEugeneException e) {
-			throw new MiniEugeneException(e.getMessage());
+			throw new MiniEugeneException(e.getMessage(), e);
 		}
 			
 	}
-
+	
 	/**
-	 * 
-	 * @param script
-	 * @return
+	 * prepare/1 parses the given script into a PreparedScript. 
+	 * The prepared scripts are kept in a bounded LRU cache, i.e. 
+	 * preparing a script again (modulo comments and white spaces) 
+	 * skips lexing, parsing, and interpreting it.
 	 */
-	public LogicalAnd parse(String script) 
+	@Override
+	public PreparedScript prepare(String script) 
 			throws MiniEugeneException {
 		
-		/*
-		 * FIRST RUN
-		 * we collect all facts
-		 */
-		try {
-			this.collectFacts(script);
-		} catch(MiniEugeneException me) {
-			throw new MiniEugeneException(me.getMessage());
+		if(null == script) {
+			throw new MiniEugeneException("please provide some input!");
 		}
 		
-		/*
-		 * SECOND RUN
-		 * we interpret all constraints
-		 */
-		return this.interpretConstraints(script);
+		String key = ScriptCache.normalize(script);
+		PreparedScript prepared = CACHE.get(key);
+		if(null == prepared) {
+			
+			// every prepared script gets its own symbol tables
+			this.symbols = new SymbolTables();
+			LogicalAnd la = this.parse(script);
+			
+			// before the symbol tables get shared
+			this.putInteractions(la);
+			
+			prepared = new PreparedScript(key, this.symbols, la);
+			CACHE.put(prepared);
+		}
+		return prepared;
 	}
 	
-	private void collectFacts(String script) 
+	/**
+	 * solve/2 finds NR_OF_SOLUTIONS solutions of a prepared script.
+	 */
+	@Override
+	public void solve(PreparedScript script, int NR_OF_SOLUTIONS) 
 			throws MiniEugeneException {
-
-		// Lexer
-		MiniEugeneLexer lexer = new MiniEugeneLexer(
-				new ANTLRStringStream(script));
-		CommonTokenStream tokens = new CommonTokenStream(lexer);
-
-		// Parser
-		MiniEugeneParser parser = new MiniEugeneParser(tokens);
-
-		// initialize the parser with the symboltables
-		parser.init(this.symbols);
 		
-		// PARSING
-		try {
-			parser.setCollectFacts(true);
-			parser.miniEugene();
-
-//			parser.printFacts();
-			
-			if(parser.hasErrors()) {
-				throw new MiniEugeneException("The script contains invalid characters!");
-			}
-		} catch(Exception e) {
-			throw new MiniEugeneException(e.getMessage());
-		}
+		this.symbols = script.getSymbols();
+		this.stats.getMeasurements().clear();
+		
+		this.solve(script.getConstraints(), NR_OF_SOLUTIONS);
+	}
+	
+	/**
+	 * setScriptCacheSize/1 bounds the number of prepared scripts 
+	 * that are shared by all MiniEugene instances. 
+	 * 
+	 * @param size  the number of cached scripts (default: 64), 0 disables the cache
+	 */
+	public static void setScriptCacheSize(int size) {
+		CACHE.setSize(size);
 	}
 
 	/**
-	 * The interpretConstraints/1 method compiles a given miniEugene script 
+	 * The parse/1 method compiles a given miniEugene script 
 	 * into a logical conjunction (Conjunctive NormalForm) 
 	 * of the specified constraints.
 	 * 
+	 * The script is parsed only once into an AST. Then, the 
+	 * facts are collected and the constraints are interpreted.
+	 * 
 	 * @param script  ... the miniEugene script
 	 * @return ... a LogicalAnd object that represents the logical 
 	 *             conjunction of the specified constraints
 	 *             
 	 * @throws MiniEugeneException
 	 */
-	private LogicalAnd interpretConstraints(String script) 
+	public LogicalAnd parse(String script) 
 			throws MiniEugeneException {
 
 		// Lexer
@@ -347,20 +470,34 @@ public class MiniEugene
 		
 		// PARSING
 		try {
-			parser.setCollectFacts(false);
 			parser.miniEugene();
 			
 			if(parser.hasErrors()) {
 				throw new MiniEugeneException("The script contains invalid characters!");
 			}
+
+			// finally, we collect the facts and 
+			// return the created Predicate objects
+			return parser.getConstraint();
 		} catch(Exception e) {
-			e.printStackTrace();
-			throw new MiniEugeneException(e.getMessage());
+			throw new MiniEugeneException(e.getMessage(), e);
+		}
+	}
+	
+	/*
+	 * if we have an interaction predicate (esp represses or induces), 
+	 * then we store the relation in the symbol tables 
+	 * (for later visualization). 
+	 * Every freshly parsed script has to record its interactions 
+	 * before it gets solved, i.e. solving does not modify 
+	 * the (possibly shared) symbol tables.
+	 */
+	private void putInteractions(LogicalAnd la) {
+		for(Constraint constraint : la.getConstraints()) {
+			if(constraint instanceof Induces || constraint instanceof Represses) {
+				this.symbols.putInteraction((Interaction)constraint);
+			}
 		}
-
-		// finally, we return the create
-		// Predicate objects
-		return parser.getConstraint();
 	}
 	
 	/**
@@ -380,7 +517,6 @@ public class MiniEugene
 
 			
 //			int minN = la.getMinN();
-			int maxN = la.getMaxN();
 			
 			
 			/*
@@ -406,11 +542,8 @@ public class MiniEugene
 //						Math.pow(numberOfParts, i) * Math.pow(2, i);
 //			}
 			
-			this.stats.add(MiniEugeneConstants.NUMBER_OF_PARTS, numberOfParts);
-			this.stats.add(MiniEugeneConstants.NUMBER_OF_TYPES, this.symbols.getTypesSize());
-			this.stats.add(MiniEugeneConstants.MAXIMUM_LENGTH_OF_DESIGN, la.getMaxN());
-			this.stats.add(MiniEugeneConstants.DESIGN_SPACE, (Math.pow(numberOfParts, maxN) * Math.pow(2, maxN)));
-			this.stats.add(MiniEugeneConstants.NUMBER_OF_RULES, la.getNumberOfRules());
+			this.addStatistics(numberOfParts, la);
+			this.presolve(la, true);
 
 			/*
 			 * ACT
@@ -421,9 +554,26 @@ public class MiniEugene
 			 * SOLUTION FINDING
 			 */
 			long T1 = System.nanoTime();
-			this.solutions = new JaCoPSolver(this.symbols).solve(components, la, NR_OF_SOLUTIONS);
+			Solver solver = this.createSolver();
+			this.solutions = solver.solve(components, la, NR_OF_SOLUTIONS);
 			long T2 = System.nanoTime();
 
+			if(solver instanceof PortfolioJaCoPSolver && 
+					null != ((PortfolioJaCoPSolver)solver).getWinner()) {
+				this.stats.add(MiniEugeneConstants.WINNING_SEARCH_STRATEGY, 
+						((PortfolioJaCoPSolver)solver).getWinner().ordinal());
+			}
+
+			if(solver instanceof JaCoPSolver && this.canonicalForm) {
+				this.stats.add(MiniEugeneConstants.PRUNED_SYMMETRIES, 
+						((JaCoPSolver)solver).getPrunedSymmetries());
+			}
+
+			if(solver instanceof JaCoPSolver) {
+				this.stats.add(MiniEugeneConstants.REMOVED_RULES, 
+						((JaCoPSolver)solver).getRemovedRules());
+			}
+
 			if(null != solutions) {
 				this.stats.add(MiniEugeneConstants.NUMBER_OF_SOLUTIONS, solutions.size());
 			} else {
@@ -444,7 +594,340 @@ public class MiniEugene
 
 		} catch(Exception e) {
 //			e.printStackTrace();
-			throw new MiniEugeneException(e.getMessage());
+			throw new MiniEugeneException(e.getMessage(), e);
+		}
+	}
+	
+	/*
+	 * createSolver/0 returns the solver of the current solver mode
+	 */
+	private Solver createSolver() {
+		switch(this.mode) {
+		case PARALLEL:
+			ParallelJaCoPSolver parallel = new ParallelJaCoPSolver(this.symbols);
+			parallel.setMemoryBudget(this.memoryBudget);
+			return parallel;
+		case PORTFOLIO:
+			PortfolioJaCoPSolver portfolio = new PortfolioJaCoPSolver(this.symbols);
+			portfolio.setMemoryBudget(this.memoryBudget);
+			return portfolio;
+		case DISJUNCTIVE:
+			DisjunctiveJaCoPSolver disjunctive = new DisjunctiveJaCoPSolver(this.symbols);
+			disjunctive.setMemoryBudget(this.memoryBudget);
+			return disjunctive;
+		case DECOMPOSED:
+			DecomposingJaCoPSolver decomposing = new DecomposingJaCoPSolver(this.symbols);
+			decomposing.setMemoryBudget(this.memoryBudget);
+			return decomposing;
+		default:
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setMemoryBudget(this.memoryBudget);
+			solver.setCanonicalForm(this.canonicalForm);
+			return solver;
+		}
+	}
+	
+	/*
+	 * addStatistics/2 records the size of the problem
+	 */
+	private void addStatistics(int numberOfParts, LogicalAnd la) {
+		int maxN = la.getMaxN();
+		
+		this.stats.add(MiniEugeneConstants.NUMBER_OF_PARTS, numberOfParts);
+		this.stats.add(MiniEugeneConstants.NUMBER_OF_TYPES, this.symbols.getTypesSize());
+		this.stats.add(MiniEugeneConstants.MAXIMUM_LENGTH_OF_DESIGN, maxN);
+		this.stats.add(MiniEugeneConstants.DESIGN_SPACE, (Math.pow(numberOfParts, maxN) * Math.pow(2, maxN)));
+		this.stats.add(MiniEugeneConstants.NUMBER_OF_RULES, la.getNumberOfRules());
+	}
+	
+	/*
+	 * presolve/2 checks the bounds of the rules before the JaCoP model 
+	 * gets built. If the script does not specify the length of the design, 
+	 * then the exception proposes the feasible lengths. 
+	 * It returns false (or throws an exception if required) 
+	 * if the rules are not satisfiable.
+	 */
+	private boolean presolve(LogicalAnd la, boolean required) 
+			throws MiniEugeneException {
+
+		if(-1 == la.getMaxN()) {
+			int[] range = this.proposeN(la);
+			throw new MiniEugeneException("Please specify the length of the design, e.g. N=" + range[0] + ". " + 
+					(-1 == range[1] ? "The rules require N>=" + range[0] : 
+						"The rules allow N=" + range[0] + (range[0] == range[1] ? "" : ".." + range[1])) + ".");
+		}
+
+		Presolver presolver = new Presolver(this.symbols);
+		if(presolver.presolve(la)) {
+			this.stats.add(MiniEugeneConstants.MINIMUM_LENGTH_OF_DESIGN, presolver.getMinN());
+			if(presolver.isFeasible(la.getMaxN())) {
+				return true;
+			}
+		}
+		
+		if(required) {
+			throw new MiniEugeneException("Inconsistent rules! " + presolver.getReason());
+		}
+		return false;
+	}
+	
+	/**
+	 * proposeN/1 proposes the range of design lengths for which 
+	 * the rules of the given script are satisfiable. First, the 
+	 * presolver bounds the lengths. Then, the solver searches for 
+	 * one design of the shortest and of the longest lengths 
+	 * within the bounds (up to 16 lengths at either end).
+	 * 
+	 * @return {minN, maxN}, where maxN is -1 if the length has no upper bound
+	 */
+	@Override
+	public int[] proposeN(String script) 
+			throws MiniEugeneException {
+		
+		PreparedScript prepared = this.prepare(script);
+		this.symbols = prepared.getSymbols();
+		return this.proposeN(prepared.getConstraints());
+	}
+	
+	private int[] proposeN(LogicalAnd la) 
+			throws MiniEugeneException {
+		
+		Presolver presolver = new Presolver(this.symbols);
+		if(!presolver.presolve(la)) {
+			throw new MiniEugeneException("Inconsistent rules! " + presolver.getReason());
+		}
+		
+		int minN = presolver.getMinN();
+		int maxN = presolver.getMaxN();
+		int last = Presolver.UNBOUNDED == maxN ? minN + LENGTH_SCAN : Math.min(maxN, minN + LENGTH_SCAN);
+		
+		int lower = minN;
+		while(lower <= last && !this.isSatisfiable(presolver, la, lower)) {
+			lower ++;
+		}
+		if(lower > last) {
+			if(last == maxN) {
+				throw new MiniEugeneException("Inconsistent rules! No design of length " + 
+						minN + ".." + maxN + " satisfies the rules.");
+			}
+			
+			// the bounds are all we know
+			return new int[] {minN, maxN};
+		}
+		
+		int upper = maxN;
+		if(Presolver.UNBOUNDED != maxN) {
+			int first = Math.max(lower, maxN - LENGTH_SCAN);
+			while(upper > first && !this.isSatisfiable(presolver, la, upper)) {
+				upper --;
+			}
+		}
+		return new int[] {lower, upper};
+	}
+	
+	/*
+	 * isSatisfiable/3 searches for one design of length N
+	 */
+	private boolean isSatisfiable(Presolver presolver, LogicalAnd la, int N) {
+		if(!presolver.isFeasible(N)) {
+			return false;
+		}
+		
+		LogicalAnd and = new LogicalAnd(la.getConstraints());
+		and.setMaxN(N);
+		try {
+			SolutionSet solutions = new JaCoPSolver(this.symbols).solve(
+					this.symbols.getComponents(), and, 1);
+			return null != solutions && !solutions.isEmpty();
+		} catch(MiniEugeneException e) {
+			return false;
+		}
+	}
+	
+	/**
+	 * iterate/2 parses the given script and returns an iterator 
+	 * that searches for the solutions lazily. 
+	 * 
+	 * The returned SolutionIterator must be closed if the caller 
+	 * stops iterating before all solutions have been consumed, 
+	 * e.g. in a try-with-resources statement.
+	 */
+	@Override
+	public SolutionIterator iterate(String script, int NR_OF_SOLUTIONS) 
+			throws MiniEugeneException {
+		
+		if(NR_OF_SOLUTIONS < -1) {
+			throw new MiniEugeneException("Invalid number of required solutions!");
+		}
+
+		/*
+		 * first, we clear the symbol tables and statistics
+		 * since they might contain information from the last run
+		 */
+		this.stats.getMeasurements().clear();
+		this.solutions = null;
+		
+		try {
+			PreparedScript prepared = this.prepare(script);
+			this.symbols = prepared.getSymbols();
+			LogicalAnd la = prepared.getConstraints();
+
+			Component[] components = this.symbols.getComponents();
+			if(null == components || components.length==0) {
+				throw new MiniEugeneException("no solutions found!");
+			}
+
+			this.addStatistics(components.length, la);
+			this.presolve(la, true);
+			
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setCanonicalForm(this.canonicalForm);
+			return solver.iterate(components, la, NR_OF_SOLUTIONS);
+		} catch(MiniEugeneException e) {
+			throw new MiniEugeneException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * iterate/1 parses the given script and returns an iterator 
+	 * over all of its solutions.
+	 */
+	@Override
+	public SolutionIterator iterate(String script) 
+			throws MiniEugeneException {
+		return this.iterate(script, -1);
+	}
+	
+	/**
+	 * sample/2 parses the given script and finds up to K 
+	 * randomly selected solutions without enumerating 
+	 * all solutions. The solutions are available through 
+	 * getSolutions/0 afterwards.
+	 */
+	@Override
+	public void sample(String script, int K) 
+			throws MiniEugeneException {
+		
+		if(K < 1) {
+			throw new MiniEugeneException("Invalid number of required solutions!");
+		}
+		
+		/*
+		 * first, we clear the symbol tables and statistics
+		 * since they might contain information from the last run
+		 */
+		this.stats.getMeasurements().clear();
+		this.solutions = null;
+		
+		try {
+			PreparedScript prepared = this.prepare(script);
+			this.symbols = prepared.getSymbols();
+			LogicalAnd la = prepared.getConstraints();
+
+			Component[] components = this.symbols.getComponents();
+			if(null == components || components.length==0) {
+				throw new MiniEugeneException("no solutions found!");
+			}
+
+			this.addStatistics(components.length, la);
+			this.presolve(la, true);
+			
+			long T1 = System.nanoTime();
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setSearchStrategy(SearchStrategy.RANDOM_RESTARTS, new Random().nextInt());
+			solver.setMemoryBudget(this.memoryBudget);
+			solver.setCanonicalForm(this.canonicalForm);
+			this.solutions = solver.sample(components, la, K);
+			long T2 = System.nanoTime();
+			
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_SOLUTIONS, this.solutions.size());
+			this.stats.add(MiniEugeneConstants.SOLUTION_FINDING_TIME, 
+					(T2-T1)*Math.pow(10, -9));
+			
+			if(this.solutions.isEmpty()) {
+				throw new MiniEugeneException("no solutions found!");
+			}
+		} catch(MiniEugeneException e) {
+			throw new MiniEugeneException(e.getMessage(), e);
+		}
+	}
+	
+	/**
+	 * count/1 parses the given script and counts all of its 
+	 * solutions. The solutions are not recorded, hence 
+	 * getSolutions/0 returns null afterwards.
+	 */
+	@Override
+	public long count(String script) 
+			throws MiniEugeneException {
+		
+		/*
+		 * first, we clear the symbol tables and statistics
+		 * since they might contain information from the last run
+		 */
+		this.stats.getMeasurements().clear();
+		this.solutions = null;
+		
+		try {
+			PreparedScript prepared = this.prepare(script);
+			this.symbols = prepared.getSymbols();
+			LogicalAnd la = prepared.getConstraints();
+
+			Component[] components = this.symbols.getComponents();
+			if(null == components || components.length==0) {
+				throw new MiniEugeneException("no solutions found!");
+			}
+
+			this.addStatistics(components.length, la);
+			
+			// an impossible design has no solutions
+			if(!this.presolve(la, false)) {
+				this.stats.add(MiniEugeneConstants.NUMBER_OF_SOLUTIONS, 0);
+				return 0;
+			}
+			
+			/*
+			 * the decomposed count multiplies the counts of 
+			 * its blocks, i.e. there is no single search
+			 */
+			if(this.mode == SolverMode.DECOMPOSED && !this.canonicalForm) {
+				long T1 = System.nanoTime();
+				long count = new DecomposingJaCoPSolver(this.symbols).count(components, la);
+				long T2 = System.nanoTime();
+				
+				this.stats.add(MiniEugeneConstants.NUMBER_OF_SOLUTIONS, count);
+				this.stats.add(MiniEugeneConstants.SOLUTION_FINDING_TIME, 
+						(T2-T1)*Math.pow(10, -9));
+				return count;
+			}
+			
+			long T1 = System.nanoTime();
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setCanonicalForm(this.canonicalForm);
+			long count = solver.count(components, la);
+			long T2 = System.nanoTime();
+			
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_SOLUTIONS, count);
+			if(this.canonicalForm) {
+				this.stats.add(MiniEugeneConstants.PRUNED_SYMMETRIES, solver.getPrunedSymmetries());
+			}
+			this.stats.add(MiniEugeneConstants.REMOVED_RULES, solver.getRemovedRules());
+			if(this.simplificationStatistics && solver.getRemovedRules() > 0) {
+				this.stats.add(MiniEugeneConstants.SAVED_CONSTRAINTS, solver.getSavedConstraints());
+			}
+			this.stats.add(MiniEugeneConstants.SOLUTION_FINDING_TIME, 
+					(T2-T1)*Math.pow(10, -9));
+			
+			DepthFirstSearch<IntVar> search = solver.getLastSearch();
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_NODES, search.getNodes());
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_DECISIONS, search.getDecisions());
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_WRONG_DECISIONS, search.getWrongDecisions());
+			this.stats.add(MiniEugeneConstants.NUMBER_OF_BACKTRACKS, search.getBacktracks());
+			this.stats.add(MiniEugeneConstants.MAXIMUM_SEARCH_DEPTH, search.getMaximumDepth());
+			
+			return count;
+		} catch(MiniEugeneException e) {
+			throw new MiniEugeneException(e.getMessage(), e);
 		}
 	}
 	
@@ -459,16 +942,17 @@ public class MiniEugene
 		}
 
 		/*
-		 * at the beginning of every run, we clear the symbol tables 
-		 * that might contain symbols from earlier runs
+		 * at the beginning of every run, we start with empty symbol tables. 
+		 * The ones of earlier runs might be shared through the script cache.
 		 */
-		this.symbols.clear();
+		this.symbols = new SymbolTables();
 				
 		try {
-			LogicalAnd la = this.parse(script);			
+			LogicalAnd la = this.parse(script);
+			this.putInteractions(la);
 			this.solve(la, NR_OF_SOLUTIONS);
 		} catch(Exception e) {
-			throw new MiniEugeneException(e.getMessage());
+			throw new MiniEugeneException(e.getMessage(), e);
 		}
 
 	}
@@ -489,8 +973,8 @@ public class MiniEugene
 	public LogicalAnd getCNF(String script) 
 			throws MiniEugeneException {
 		
-		// first, we clear the symbol tables
-		this.symbols.clear();
+		// first, we start with empty symbol tables
+		this.symbols = new SymbolTables();
 		
 		return this.parse(script);
 	}
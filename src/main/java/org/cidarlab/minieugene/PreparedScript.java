@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * A PreparedScript is a parsed miniEugene script. 
+ * It holds the interned symbols and the conjunction of 
+ * constraints, so that the script can be solved repeatedly 
+ * without lexing, parsing, and interpreting it again.
+ * 
+ * PreparedScripts are shared through the script cache. 
+ * Hence, their symbol tables and constraints must not be 
+ * modified after preparation.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PreparedScript {
+
+	private String key;
+	private SymbolTables symbols;
+	private LogicalAnd constraints;
+	
+	public PreparedScript(String key, SymbolTables symbols, LogicalAnd constraints) {
+		this.key = key;
+		this.symbols = symbols;
+		this.constraints = constraints;
+	}
+	
+	/**
+	 * @return the normalized script text
+	 */
+	public String getKey() {
+		return this.key;
+	}
+	
+	public SymbolTables getSymbols() {
+		return this.symbols;
+	}
+	
+	public LogicalAnd getConstraints() {
+		return this.constraints;
+	}
+	
+	public Component[] getComponents() {
+		return this.symbols.getComponents();
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * The ScriptCache is a bounded LRU cache of prepared scripts. 
+ * 
+ * The scripts are keyed on their normalized text, i.e. scripts 
+ * that differ only in comments and white spaces share one 
+ * prepared script. 
+ * The key is the text itself (not only its hash code), so 
+ * different scripts can never share a cache entry.
+ * 
+ * @author Ernst Oberortner
+ */
+class ScriptCache {
+
+	public static final int DEFAULT_SIZE = 64;
+	
+	private static final Pattern COMMENTS = Pattern.compile("//[^\\n]*|/\\*.*?\\*/", Pattern.DOTALL);
+	private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+	private static final Pattern SEPARATORS = Pattern.compile("\\s*([.,;:=|\\[\\]()])\\s*");
+	
+	private int size;
+	private Map<String, PreparedScript> scripts;
+	
+	public ScriptCache(int size) {
+		this.size = size;
+		
+		// access-ordered, i.e. the eldest entry is the least recently used one
+		this.scripts = new LinkedHashMap<String, PreparedScript>(16, 0.75f, true) {
+			private static final long serialVersionUID = -1530464342473957468L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, PreparedScript> eldest) {
+				return this.size() > ScriptCache.this.size;
+			}
+		};
+	}
+	
+	public synchronized PreparedScript get(String key) {
+		return this.scripts.get(key);
+	}
+	
+	public synchronized void put(PreparedScript script) {
+		if(this.size > 0) {
+			this.scripts.put(script.getKey(), script);
+		}
+	}
+	
+	/**
+	 * setSize/1 bounds the number of cached scripts. 
+	 * A size of 0 disables the cache.
+	 */
+	public synchronized void setSize(int size) {
+		this.size = size;
+		while(this.scripts.size() > size) {
+			String eldest = this.scripts.keySet().iterator().next();
+			this.scripts.remove(eldest);
+		}
+	}
+	
+	public synchronized int size() {
+		return this.scripts.size();
+	}
+	
+	public synchronized void clear() {
+		this.scripts.clear();
+	}
+	
+	/**
+	 * normalize/1 removes the comments of a script, collapses 
+	 * its white spaces, and removes the ones around separators
+	 */
+	public static String normalize(String script) {
+		String s = COMMENTS.matcher(script).replaceAll(" ");
+		s = WHITESPACES.matcher(s.trim()).replaceAll(" ");
+		return SEPARATORS.matcher(s).replaceAll("$1");
+	}
+}
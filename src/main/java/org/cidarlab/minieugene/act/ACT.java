@@ -79,7 +79,7 @@ public class ACT {
 				lst.add((CountingConstraint)p);
 			} else if(p instanceof LogicalOr) {
 				for(Constraint subp : ((LogicalOr)p).getConstraints()) {
-					if(subp instanceof BinaryContains || p instanceof Contains) {
+					if(subp instanceof BinaryContains || subp instanceof Contains) {
 						lst.add((CountingConstraint)subp);
 					}
 				}
@@ -123,33 +123,35 @@ public class ACT {
 			
 			if(cp instanceof BinaryContains) {
 				BinaryContains bc = (BinaryContains)cp;
+				Identified a = bc.getA().getOperand();
+				Identified b = bc.getB().getOperand();
 
 				ArrayList<Identified> childs = new ArrayList<Identified>();
-				if(this.dg.containsKey(bc.getA())) {
-					childs = this.dg.get(bc.getA().getOperand());
-					childs.add(bc.getB().getOperand());
+				if(this.dg.containsKey(a)) {
+					childs = this.dg.get(a);
+					childs.add(b);
 				} else {
-					childs.add(bc.getB().getOperand());	
-					roots.add(bc.getA().getOperand());
+					childs.add(b);	
+					roots.add(a);
 				}
 				
-				this.dg.put(bc.getA().getOperand(), childs);
+				this.dg.put(a, childs);
 				
-				if(!this.dg.containsKey(bc.getB())) {
-					this.dg.put(bc.getB().getOperand(), new ArrayList<Identified>());
+				if(!this.dg.containsKey(b)) {
+					this.dg.put(b, new ArrayList<Identified>());
 				}
 
 				// B will not be a root anymore
-				if(roots.contains(bc.getB())) {
-					roots.remove(bc.getB());
+				if(roots.contains(b)) {
+					roots.remove(b);
 				}
 			} else if(cp instanceof Contains) {
-				Contains c = (Contains)cp;
-				if(!this.dg.containsKey(c.getA())) {
-					this.dg.put(c.getA().getOperand(), new ArrayList<Identified>());
-					roots.add(c.getA().getOperand());
-				} else if(this.roots.contains(c.getA())) {
-					this.roots.remove(c.getA());
+				Identified a = ((Contains)cp).getA().getOperand();
+				if(!this.dg.containsKey(a)) {
+					this.dg.put(a, new ArrayList<Identified>());
+					roots.add(a);
+				} else if(this.roots.contains(a)) {
+					this.roots.remove(a);
 				}
 			}
 		}
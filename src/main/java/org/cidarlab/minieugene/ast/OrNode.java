@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.Interp;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+
+/**
+ * An OrNode represents a disjunction of constraints, such as 
+ * contains p1 OR contains p2
+ * 
+ * @author Ernst Oberortner
+ */
+public class OrNode 
+		extends ConstraintNode {
+
+	private List<ConstraintNode> nodes;
+	
+	public OrNode(List<ConstraintNode> nodes) {
+		this.nodes = nodes;
+	}
+	
+	public List<ConstraintNode> getNodes() {
+		return this.nodes;
+	}
+	
+	@Override
+	public Constraint resolve(Interp interp) 
+			throws MiniEugeneException {
+		List<Constraint> lst = new ArrayList<Constraint>(this.nodes.size());
+		for(ConstraintNode node : this.nodes) {
+			lst.add(node.resolve(interp));
+		}
+		return new LogicalOr(lst);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.ast;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ScriptNode is the root of the abstract syntax tree (AST) 
+ * of a miniEugene script. 
+ * 
+ * The parser builds the AST in one pass without touching the 
+ * symbol tables. The facts and the constraints get resolved 
+ * afterwards (see Interp.resolve/1), i.e. the facts are known 
+ * before any constraint is interpreted.
+ * 
+ * @author Ernst Oberortner
+ */
+public class ScriptNode {
+
+	private int minN;
+	private int maxN;
+	
+	private List<FactNode> facts;
+	private List<ConstraintNode> constraints;
+	
+	public ScriptNode() {
+		this.minN = -1;
+		this.maxN = -1;
+		
+		this.facts = new ArrayList<FactNode>();
+		this.constraints = new ArrayList<ConstraintNode>();
+	}
+	
+	public int getMinN() {
+		return this.minN;
+	}
+	
+	public void setMinN(int minN) {
+		this.minN = minN;
+	}
+	
+	public int getMaxN() {
+		return this.maxN;
+	}
+	
+	public void setMaxN(int maxN) {
+		this.maxN = maxN;
+	}
+	
+	public void addFact(FactNode fact) {
+		this.facts.add(fact);
+	}
+	
+	public List<FactNode> getFacts() {
+		return this.facts;
+	}
+	
+	public void addConstraint(ConstraintNode constraint) {
+		this.constraints.add(constraint);
+	}
+	
+	public List<ConstraintNode> getConstraints() {
+		return this.constraints;
+	}
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.ast;
+
+import java.util.List;
+
+import org.cidarlab.minieugene.Interp;
+import org.cidarlab.minieugene.constants.TemplateType;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
+
+/**
+ * A TemplatingNode represents a templating constraint, such as 
+ * s : SEQUENCE [p1|p2], c
+ * 
+ * @author Ernst Oberortner
+ */
+public class TemplatingNode 
+		extends ConstraintNode {
+
+	private TemplateType type;
+	private String name;
+	private List<List<String>> ids;
+	private boolean negated;
+	
+	public TemplatingNode(TemplateType type, String name, List<List<String>> ids, boolean negated) {
+		this.type = type;
+		this.name = name;
+		this.ids = ids;
+		this.negated = negated;
+	}
+	
+	public TemplateType getType() {
+		return this.type;
+	}
+	
+	public String getName() {
+		return this.name;
+	}
+	
+	public List<List<String>> getIds() {
+		return this.ids;
+	}
+	
+	public boolean isNegated() {
+		return this.negated;
+	}
+	
+	@Override
+	public Constraint resolve(Interp interp) 
+			throws MiniEugeneException {
+		TemplatingPredicate tp = interp.createTemplatingConstraint(
+				this.type, this.name, this.ids);
+		if(null != tp && this.negated) {
+			tp.setNegated();
+		}
+		return tp;
+	}
+}
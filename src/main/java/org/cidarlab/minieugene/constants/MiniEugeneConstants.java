@@ -47,4 +47,21 @@ public class MiniEugeneConstants {
 	public static final String NUMBER_OF_TYPES = "Number of Types";
 	public static final String DESIGN_SPACE = "Design Space";
 	public static final String NUMBER_OF_RULES = "Number of Constraints";
+	
+	/* the ordinal of the SearchStrategy that won the portfolio search */
+	public static final String WINNING_SEARCH_STRATEGY = "Winning Search Strategy";
+	
+	/* the number of symmetric duplicates that the canonical form mode pruned */
+	public static final String PRUNED_SYMMETRIES = "Pruned Symmetric Duplicates";
+
+	/* the savings of the rule simplification */
+	public static final String REMOVED_RULES = "Removed Rules";
+	public static final String SAVED_CONSTRAINTS = "Saved JaCoP Constraints";
+	
+	/* the statistics of the search of the count method */
+	public static final String NUMBER_OF_NODES = "Number of Nodes";
+	public static final String NUMBER_OF_DECISIONS = "Number of Decisions";
+	public static final String NUMBER_OF_WRONG_DECISIONS = "Number of Wrong Decisions";
+	public static final String NUMBER_OF_BACKTRACKS = "Number of Backtracks";
+	public static final String MAXIMUM_SEARCH_DEPTH = "Max. Search Depth";
 }
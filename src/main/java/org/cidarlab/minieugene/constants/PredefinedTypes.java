@@ -145,7 +145,8 @@ public class PredefinedTypes {
 	 */
 	public static char toPigeonLetter(int id) {
 
-		if(id == -1) {
+		// unknown or user-defined type
+		if(id < 0 || id >= PartType.values().length) {
 			return '?';
 		}
 		
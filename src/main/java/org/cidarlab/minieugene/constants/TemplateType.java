@@ -38,6 +38,8 @@ import java.util.List;
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.dom.ComponentType;
 import org.cidarlab.minieugene.dom.Identified;
+import org.cidarlab.minieugene.predicates.templating.Group;
+import org.cidarlab.minieugene.predicates.templating.Pattern;
 import org.cidarlab.minieugene.predicates.templating.Sequence;
 import org.cidarlab.minieugene.predicates.templating.Template;
 import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
@@ -48,74 +50,59 @@ public enum TemplateType {
 		@Override
 		public TemplatingPredicate createPredicate(
 				SymbolTables symbols, String name, List<List<String>> ids) {
-
-			Template t = new Template(name);
-			for(List<String> selection : ids) {
-				
-				List<Component> components = new ArrayList<Component>();
-				for(String id : selection) {
-					
-					Identified i = symbols.get(id);
-					if(null != i) {
-						if(i instanceof Component) {
-							components.add((Component)i);
-						} else if(i instanceof ComponentType) {
-							components.addAll(
-									symbols.getComponents((ComponentType)i));
-						}
-					}
-				}
-				t.getComponents().add(components);
-			}
-			
-			return t;
+			return new Template(name, toComponents(symbols, ids));
 		}
 	}, 
 	PATTERN {
 		@Override
 		public TemplatingPredicate createPredicate(
 				SymbolTables symbols, String name, List<List<String>> ids) {
-			// TODO Auto-generated method stub
-			return null;
+			return new Pattern(name, toComponents(symbols, ids));
 		}
 	}, 
 	SEQUENCE {
 		@Override
 		public TemplatingPredicate createPredicate(
 				SymbolTables symbols, String name, List<List<String>> ids) {
-
-			Sequence s = new Sequence(name);
-			for(List<String> selection : ids) {
-				
-				List<Component> components = new ArrayList<Component>();
-				for(String id : selection) {
-					
-					Identified i = symbols.get(id);
-					if(null != i) {
-						if(i instanceof Component) {
-							components.add((Component)i);
-						} else if(i instanceof ComponentType) {
-							components.addAll(
-									symbols.getComponents((ComponentType)i));
-						}
-					}
-				}
-
-				s.getComponents().add(components);
-			}
-			
-			return s;
+			return new Sequence(name, toComponents(symbols, ids));
 		}
 	}, 
 	GROUP {
 		@Override
 		public TemplatingPredicate createPredicate(
 				SymbolTables symbols, String name, List<List<String>> ids) {
-			// TODO Auto-generated method stub
-			return null;
+			return new Group(name, toComponents(symbols, ids));
 		}
 	};
 	
 	public abstract TemplatingPredicate createPredicate(
 			SymbolTables symbols, String name, List<List<String>> ids);
+	
+	/*
+	 * toComponents/2 resolves the selections of ids. 
+	 * A type is resolved into all components of the type.
+	 */
+	private static List<List<Component>> toComponents(
+			SymbolTables symbols, List<List<String>> ids) {
+		
+		List<List<Component>> selections = new ArrayList<List<Component>>();
+		for(List<String> selection : ids) {
+			
+			List<Component> components = new ArrayList<Component>();
+			for(String id : selection) {
+				
+				Identified i = symbols.get(id);
+				if(null != i) {
+					if(i instanceof Component) {
+						components.add((Component)i);
+					} else if(i instanceof ComponentType) {
+						components.addAll(
+								symbols.getComponents((ComponentType)i));
+					}
+				}
+			}
+			selections.add(components);
+		}
+		return selections;
+	}
 }
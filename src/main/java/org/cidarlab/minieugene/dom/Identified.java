@@ -28,7 +28,13 @@ public abstract class Identified
 		return this.id;
 	}
 	
-	protected void setId(int id) {
+	/**
+	 * setId/1 is used by the symbol tables to assign 
+	 * a dense and unique ID to the symbol
+	 * 
+	 * @param id
+	 */
+	public void setId(int id) {
 		this.id = id;
 	}
 
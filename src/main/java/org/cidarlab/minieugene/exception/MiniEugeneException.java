@@ -43,4 +43,8 @@ public class MiniEugeneException extends Exception {
 		super(sMessage);
 	}
 
+	public MiniEugeneException(String sMessage, Throwable cause) {
+		super(sMessage, cause);
+	}
+
 }
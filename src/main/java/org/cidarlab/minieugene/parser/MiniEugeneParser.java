@@ -1,4 +1,4 @@
-// $ANTLR 3.5.1 /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g 2014-11-27 12:49:45
+// $ANTLR 3.5.2 /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g 2026-10-17 23:38:36
 
 /*
  * Copyright (c) 2014, Boston University
@@ -35,13 +35,11 @@
 package org.cidarlab.minieugene.parser;
 
 import org.cidarlab.minieugene.Interp;
+import org.cidarlab.minieugene.ast.*;
 import org.cidarlab.minieugene.constants.TemplateType;
 import org.cidarlab.minieugene.symbol.*;
 import org.cidarlab.minieugene.predicates.*;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
-import org.cidarlab.minieugene.predicates.templating.*;
-
-import org.apache.commons.lang3.ArrayUtils;
 
 
 import org.antlr.runtime.*;
@@ -237,35 +235,19 @@ public class MiniEugeneParser extends Parser {
 	    this.interp = new Interp(this.symbols);
 	}
 
-	// MINIMUM LENGTH OF DESIGN
-	private int minN = -1;
-
-	// MAXIMUM LENGTH OF DESIGN
-	private int maxN = -1;
-
-	// LOGICAL CONJUNCTION of all specified Constraints
-	private LogicalAnd la = new LogicalAnd();
-
-	private void addConstraint(Constraint c) {
-	    this.la.getConstraints().add(c);  
-	}
+	// the AST of the script, 
+	// i.e. the facts and the not yet interpreted constraints
+	private ScriptNode script = new ScriptNode();
 
-	public LogicalAnd getConstraint() {
-	    this.la.setMinN(this.minN);
-	    this.la.setMaxN(this.maxN);
-	    return this.la;
+	public ScriptNode getScript() {
+	    return this.script;
 	}
 
-
-	// for tokenization
-	String[] tokens = null;
-	private void addToken(String token) {
-	    if(null != tokens) {
-	        tokens = ArrayUtils.add(tokens, token);
-	    } else {
-	        tokens = new String[1];
-	        tokens[0] = token;
-	    }
+	// resolves the facts first and then 
+	// the constraints of the script
+	public LogicalAnd getConstraint() 
+	        throws MiniEugeneException {
+	    return this.interp.resolve(this.script);
 	}
 
 	boolean bError = false;
@@ -279,11 +261,6 @@ public class MiniEugeneParser extends Parser {
 	    return bError;
 	}
 
-	private boolean bCollectFacts = true;
-	public void setCollectFacts(boolean b) {
-	    this.bCollectFacts = b;
-	}
-
 	public void printFacts() {
 	    this.symbols.printFacts();
 	}
@@ -291,13 +268,13 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "miniEugene"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:192:1: miniEugene : ( size DOT )? ( statement DOT )+ ;
-	public final void miniEugene() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:169:1: miniEugene : ( size DOT )? ( statement DOT )+ ;
+	public final void miniEugene() throws MiniEugeneException, RecognitionException {
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:2: ( ( size DOT )? ( statement DOT )+ )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:4: ( size DOT )? ( statement DOT )+
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:2: ( ( size DOT )? ( statement DOT )+ )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:4: ( size DOT )? ( statement DOT )+
 			{
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:4: ( size DOT )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:4: ( size DOT )?
 			int alt1=2;
 			int LA1_0 = input.LA(1);
 			if ( ((LA1_0 >= MIN_SIZE && LA1_0 <= N_SIZE)) ) {
@@ -305,7 +282,7 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt1) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:5: size DOT
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:5: size DOT
 					{
 					pushFollow(FOLLOW_size_in_miniEugene338);
 					size();
@@ -317,19 +294,19 @@ public class MiniEugeneParser extends Parser {
 
 			}
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:16: ( statement DOT )+
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:16: ( statement DOT )+
 			int cnt2=0;
 			loop2:
 			while (true) {
 				int alt2=2;
 				int LA2_0 = input.LA(1);
-				if ( ((LA2_0 >= BOOL_NOT && LA2_0 <= BOOL_OR)||LA2_0==COMMA||LA2_0==DOT||(LA2_0 >= ID && LA2_0 <= INT)||(LA2_0 >= LC_NOT && LA2_0 <= LC_OR)||(LA2_0 >= LC_SEQUENCE && LA2_0 <= LC_TEMPLATE)||LA2_0==LEFTSBR||LA2_0==LOG_OR||(LA2_0 >= UC_NOT && LA2_0 <= UC_OR)||(LA2_0 >= UC_SEQUENCE && LA2_0 <= UC_TEMPLATE)||(LA2_0 >= 52 && LA2_0 <= 131)) ) {
+				if ( ((LA2_0 >= BOOL_NOT && LA2_0 <= BOOL_OR)||LA2_0==COMMA||LA2_0==DOT||(LA2_0 >= ID && LA2_0 <= INT)||LA2_0==LC_GROUP||(LA2_0 >= LC_NOT && LA2_0 <= LC_TEMPLATE)||LA2_0==LEFTSBR||LA2_0==LOG_OR||LA2_0==UC_GROUP||(LA2_0 >= UC_NOT && LA2_0 <= UC_TEMPLATE)||(LA2_0 >= 52 && LA2_0 <= 131)) ) {
 					alt2=1;
 				}
 
 				switch (alt2) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:194:17: statement DOT
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:171:17: statement DOT
 					{
 					pushFollow(FOLLOW_statement_in_miniEugene345);
 					statement();
@@ -363,10 +340,10 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "statement"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:197:1: statement : ( fact | constraint_specification );
-	public final void statement() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:174:1: statement : ( fact | constraint_specification );
+	public final void statement() throws MiniEugeneException, RecognitionException {
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:199:2: ( fact | constraint_specification )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:176:2: ( fact | constraint_specification )
 			int alt3=2;
 			int LA3_0 = input.LA(1);
 			if ( (LA3_0==ID) ) {
@@ -391,7 +368,7 @@ public class MiniEugeneParser extends Parser {
 				}
 
 			}
-			else if ( ((LA3_0 >= BOOL_NOT && LA3_0 <= BOOL_OR)||LA3_0==DOT||LA3_0==INT||(LA3_0 >= LC_NOT && LA3_0 <= LC_OR)||(LA3_0 >= LC_SEQUENCE && LA3_0 <= LC_TEMPLATE)||LA3_0==LEFTSBR||LA3_0==LOG_OR||(LA3_0 >= UC_NOT && LA3_0 <= UC_OR)||(LA3_0 >= UC_SEQUENCE && LA3_0 <= UC_TEMPLATE)||(LA3_0 >= 52 && LA3_0 <= 131)) ) {
+			else if ( ((LA3_0 >= BOOL_NOT && LA3_0 <= BOOL_OR)||LA3_0==DOT||LA3_0==INT||LA3_0==LC_GROUP||(LA3_0 >= LC_NOT && LA3_0 <= LC_TEMPLATE)||LA3_0==LEFTSBR||LA3_0==LOG_OR||LA3_0==UC_GROUP||(LA3_0 >= UC_NOT && LA3_0 <= UC_TEMPLATE)||(LA3_0 >= 52 && LA3_0 <= 131)) ) {
 				alt3=2;
 			}
 
@@ -403,7 +380,7 @@ public class MiniEugeneParser extends Parser {
 
 			switch (alt3) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:199:5: fact
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:176:5: fact
 					{
 					pushFollow(FOLLOW_fact_in_statement366);
 					fact();
@@ -412,7 +389,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:200:5: constraint_specification
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:177:5: constraint_specification
 					{
 					pushFollow(FOLLOW_constraint_specification_in_statement372);
 					constraint_specification();
@@ -436,14 +413,14 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "fact"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:203:1: fact : c= ID ( UC_IS_A | LC_IS_A ) t= ID ;
-	public final void fact() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:180:1: fact : c= ID ( UC_IS_A | LC_IS_A ) t= ID ;
+	public final void fact() throws MiniEugeneException, RecognitionException {
 		Token c=null;
 		Token t=null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:205:2: (c= ID ( UC_IS_A | LC_IS_A ) t= ID )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:205:4: c= ID ( UC_IS_A | LC_IS_A ) t= ID
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:182:2: (c= ID ( UC_IS_A | LC_IS_A ) t= ID )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:182:4: c= ID ( UC_IS_A | LC_IS_A ) t= ID
 			{
 			c=(Token)match(input,ID,FOLLOW_ID_in_fact391); 
 			if ( input.LA(1)==LC_IS_A||input.LA(1)==UC_IS_A ) {
@@ -456,9 +433,7 @@ public class MiniEugeneParser extends Parser {
 			}
 			t=(Token)match(input,ID,FOLLOW_ID_in_fact401); 
 
-			if(bCollectFacts) {		
-			    this.interp.insertFact((c!=null?c.getText():null), (t!=null?t.getText():null));	
-			}
+			this.script.addFact(new FactNode((c!=null?c.getText():null), (t!=null?t.getText():null)));
 				
 			}
 
@@ -476,15 +451,15 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "constraint_specification"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:212:1: constraint_specification : (c= or_constraint | composite_constraint );
-	public final void constraint_specification() throws RecognitionException, MiniEugeneException {
-		List<Constraint> c =null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:187:1: constraint_specification : (c= or_constraint | composite_constraint );
+	public final void constraint_specification() throws MiniEugeneException, RecognitionException {
+		List<ConstraintNode> c =null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:214:2: (c= or_constraint | composite_constraint )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:189:2: (c= or_constraint | composite_constraint )
 			int alt4=2;
 			int LA4_0 = input.LA(1);
-			if ( ((LA4_0 >= BOOL_NOT && LA4_0 <= BOOL_OR)||LA4_0==DOT||LA4_0==INT||(LA4_0 >= LC_NOT && LA4_0 <= LC_OR)||(LA4_0 >= LC_SEQUENCE && LA4_0 <= LC_TEMPLATE)||LA4_0==LEFTSBR||LA4_0==LOG_OR||(LA4_0 >= UC_NOT && LA4_0 <= UC_OR)||(LA4_0 >= UC_SEQUENCE && LA4_0 <= UC_TEMPLATE)||(LA4_0 >= 52 && LA4_0 <= 131)) ) {
+			if ( ((LA4_0 >= BOOL_NOT && LA4_0 <= BOOL_OR)||LA4_0==DOT||LA4_0==INT||LA4_0==LC_GROUP||(LA4_0 >= LC_NOT && LA4_0 <= LC_TEMPLATE)||LA4_0==LEFTSBR||LA4_0==LOG_OR||LA4_0==UC_GROUP||(LA4_0 >= UC_NOT && LA4_0 <= UC_TEMPLATE)||(LA4_0 >= 52 && LA4_0 <= 131)) ) {
 				alt4=1;
 			}
 			else if ( (LA4_0==ID) ) {
@@ -518,26 +493,24 @@ public class MiniEugeneParser extends Parser {
 
 			switch (alt4) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:214:4: c= or_constraint
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:189:4: c= or_constraint
 					{
 					pushFollow(FOLLOW_or_constraint_in_constraint_specification422);
 					c=or_constraint();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    if(c.size() == 1) 	{
-					        // ``store'' the constraint
-					        this.addConstraint(c.get(0));   
-					    } else {
-					        this.addConstraint(new LogicalOr(c));   
-					    }	
-					}
+					if(c.size() == 1) 	{
+					    // ``store'' the constraint
+					    this.script.addConstraint(c.get(0));   
+					} else {
+					    this.script.addConstraint(new OrNode(c));   
+					}	
 						
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:224:5: composite_constraint
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:197:5: composite_constraint
 					{
 					pushFollow(FOLLOW_composite_constraint_in_constraint_specification431);
 					composite_constraint();
@@ -561,16 +534,16 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "size"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:227:1: size : ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT ;
-	public final void size() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:200:1: size : ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT ;
+	public final void size() throws MiniEugeneException, RecognitionException {
 		Token minN=null;
 		Token maxN=null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:229:2: ( ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:229:5: ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:202:2: ( ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:202:5: ( 'minN' EQUALS minN= INT DOT )? N_SIZE EQUALS maxN= INT
 			{
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:229:5: ( 'minN' EQUALS minN= INT DOT )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:202:5: ( 'minN' EQUALS minN= INT DOT )?
 			int alt5=2;
 			int LA5_0 = input.LA(1);
 			if ( (LA5_0==MIN_SIZE) ) {
@@ -578,15 +551,14 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt5) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:229:6: 'minN' EQUALS minN= INT DOT
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:202:6: 'minN' EQUALS minN= INT DOT
 					{
 					match(input,MIN_SIZE,FOLLOW_MIN_SIZE_in_size451); 
 					match(input,EQUALS,FOLLOW_EQUALS_in_size453); 
 					minN=(Token)match(input,INT,FOLLOW_INT_in_size457); 
 					match(input,DOT,FOLLOW_DOT_in_size459); 
 
-					this.minN = Integer.parseInt((minN!=null?minN.getText():null));
-					this.interp.setMinN(this.minN);
+					this.script.setMinN(Integer.parseInt((minN!=null?minN.getText():null)));
 						
 					}
 					break;
@@ -597,8 +569,7 @@ public class MiniEugeneParser extends Parser {
 			match(input,EQUALS,FOLLOW_EQUALS_in_size472); 
 			maxN=(Token)match(input,INT,FOLLOW_INT_in_size476); 
 
-			this.maxN = Integer.parseInt((maxN!=null?maxN.getText():null));
-			this.interp.setMaxN(this.maxN);
+			this.script.setMaxN(Integer.parseInt((maxN!=null?maxN.getText():null)));
 
 			}
 
@@ -616,14 +587,14 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "composite_constraint"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:239:1: composite_constraint : ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT ;
-	public final void composite_constraint() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:210:1: composite_constraint : ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT ;
+	public final void composite_constraint() throws MiniEugeneException, RecognitionException {
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:2: ( ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:4: ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:212:2: ( ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:212:4: ID ( LEFTP list_of_parameters RIGHTP )? ':=' composite_constraint_block DOT
 			{
 			match(input,ID,FOLLOW_ID_in_composite_constraint494); 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:7: ( LEFTP list_of_parameters RIGHTP )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:212:7: ( LEFTP list_of_parameters RIGHTP )?
 			int alt6=2;
 			int LA6_0 = input.LA(1);
 			if ( (LA6_0==LEFTP) ) {
@@ -631,7 +602,7 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt6) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:9: LEFTP list_of_parameters RIGHTP
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:212:9: LEFTP list_of_parameters RIGHTP
 					{
 					match(input,LEFTP,FOLLOW_LEFTP_in_composite_constraint498); 
 					pushFollow(FOLLOW_list_of_parameters_in_composite_constraint500);
@@ -666,17 +637,17 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "composite_constraint_block"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:244:1: composite_constraint_block : constraint ( COMMA composite_constraint_block )? ;
-	public final void composite_constraint_block() throws RecognitionException, MiniEugeneException {
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:215:1: composite_constraint_block : constraint ( COMMA composite_constraint_block )? ;
+	public final void composite_constraint_block() throws MiniEugeneException, RecognitionException {
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:246:2: ( constraint ( COMMA composite_constraint_block )? )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:246:4: constraint ( COMMA composite_constraint_block )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:217:2: ( constraint ( COMMA composite_constraint_block )? )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:217:4: constraint ( COMMA composite_constraint_block )?
 			{
 			pushFollow(FOLLOW_constraint_in_composite_constraint_block527);
 			constraint();
 			state._fsp--;
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:246:15: ( COMMA composite_constraint_block )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:217:15: ( COMMA composite_constraint_block )?
 			int alt7=2;
 			int LA7_0 = input.LA(1);
 			if ( (LA7_0==COMMA) ) {
@@ -684,7 +655,7 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt7) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:246:16: COMMA composite_constraint_block
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:217:16: COMMA composite_constraint_block
 					{
 					match(input,COMMA,FOLLOW_COMMA_in_composite_constraint_block530); 
 					pushFollow(FOLLOW_composite_constraint_block_in_composite_constraint_block532);
@@ -712,31 +683,29 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "or_constraint"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:249:1: or_constraint returns [List<Constraint> lst] : con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )? ;
-	public final List<Constraint> or_constraint() throws RecognitionException, MiniEugeneException {
-		List<Constraint> lst = null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:220:1: or_constraint returns [List<ConstraintNode> lst] : con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )? ;
+	public final List<ConstraintNode> or_constraint() throws MiniEugeneException, RecognitionException {
+		List<ConstraintNode> lst = null;
 
 
-		Constraint con =null;
-		List<Constraint> o =null;
+		ConstraintNode con =null;
+		List<ConstraintNode> o =null;
 
 
-		lst = new ArrayList<Constraint>();
+		lst = new ArrayList<ConstraintNode>();
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:255:2: (con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )? )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:255:4: con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:226:2: (con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )? )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:226:4: con= constraint ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )?
 			{
 			pushFollow(FOLLOW_constraint_in_or_constraint572);
 			con=constraint();
 			state._fsp--;
 
 
-			if(!bCollectFacts) {		
-			    lst.add(con);
-			}
+			lst.add(con);
 				
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:259:4: ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:228:4: ( ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint )?
 			int alt8=2;
 			int LA8_0 = input.LA(1);
 			if ( (LA8_0==BOOL_OR||LA8_0==LC_OR||LA8_0==LOG_OR||LA8_0==UC_OR) ) {
@@ -744,7 +713,7 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt8) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:259:5: ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:228:5: ( UC_OR | LC_OR | LOG_OR | BOOL_OR ) o= or_constraint
 					{
 					if ( input.LA(1)==BOOL_OR||input.LA(1)==LC_OR||input.LA(1)==LOG_OR||input.LA(1)==UC_OR ) {
 						input.consume();
@@ -759,9 +728,7 @@ public class MiniEugeneParser extends Parser {
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    lst.addAll(o);
-					}
+					lst.addAll(o);
 						
 					}
 					break;
@@ -785,30 +752,31 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "constraint"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:266:1: constraint returns [Constraint c] : ( (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )? |temp= templatingConstraints );
-	public final Constraint constraint() throws RecognitionException, MiniEugeneException {
-		Constraint c = null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:233:1: constraint returns [ConstraintNode c] : ( (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )? |temp= templatingConstraints );
+	public final ConstraintNode constraint() throws MiniEugeneException, RecognitionException {
+		ConstraintNode c = null;
 
 
 		Token not=null;
 		ParserRuleReturnScope lhs =null;
 		ParserRuleReturnScope op =null;
 		ParserRuleReturnScope rhs =null;
-		Constraint temp =null;
+		ConstraintNode temp =null;
+
+
+		List<String> tokens = new ArrayList<String>();
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:269:2: ( (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )? |temp= templatingConstraints )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:239:2: ( (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )? |temp= templatingConstraints )
 			int alt12=2;
 			switch ( input.LA(1) ) {
-			case BOOL_NOT:
-			case LC_NOT:
 			case UC_NOT:
 				{
 				int LA12_1 = input.LA(2);
 				if ( (LA12_1==BOOL_OR||LA12_1==COMMA||LA12_1==DOT||(LA12_1 >= ID && LA12_1 <= INT)||LA12_1==LC_OR||LA12_1==LEFTSBR||LA12_1==LOG_OR||LA12_1==UC_OR||(LA12_1 >= 52 && LA12_1 <= 131)) ) {
 					alt12=1;
 				}
-				else if ( ((LA12_1 >= LC_SEQUENCE && LA12_1 <= LC_TEMPLATE)||(LA12_1 >= UC_SEQUENCE && LA12_1 <= UC_TEMPLATE)) ) {
+				else if ( (LA12_1==LC_GROUP||(LA12_1 >= LC_PATTERN && LA12_1 <= LC_TEMPLATE)||LA12_1==UC_GROUP||(LA12_1 >= UC_PATTERN && LA12_1 <= UC_TEMPLATE)) ) {
 					alt12=2;
 				}
 
@@ -942,8 +910,60 @@ public class MiniEugeneParser extends Parser {
 				alt12=1;
 				}
 				break;
+			case LC_NOT:
+				{
+				int LA12_4 = input.LA(2);
+				if ( (LA12_4==BOOL_OR||LA12_4==COMMA||LA12_4==DOT||(LA12_4 >= ID && LA12_4 <= INT)||LA12_4==LC_OR||LA12_4==LEFTSBR||LA12_4==LOG_OR||LA12_4==UC_OR||(LA12_4 >= 52 && LA12_4 <= 131)) ) {
+					alt12=1;
+				}
+				else if ( (LA12_4==LC_GROUP||(LA12_4 >= LC_PATTERN && LA12_4 <= LC_TEMPLATE)||LA12_4==UC_GROUP||(LA12_4 >= UC_PATTERN && LA12_4 <= UC_TEMPLATE)) ) {
+					alt12=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 12, 4, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case BOOL_NOT:
+				{
+				int LA12_5 = input.LA(2);
+				if ( (LA12_5==BOOL_OR||LA12_5==COMMA||LA12_5==DOT||(LA12_5 >= ID && LA12_5 <= INT)||LA12_5==LC_OR||LA12_5==LEFTSBR||LA12_5==LOG_OR||LA12_5==UC_OR||(LA12_5 >= 52 && LA12_5 <= 131)) ) {
+					alt12=1;
+				}
+				else if ( (LA12_5==LC_GROUP||(LA12_5 >= LC_PATTERN && LA12_5 <= LC_TEMPLATE)||LA12_5==UC_GROUP||(LA12_5 >= UC_PATTERN && LA12_5 <= UC_TEMPLATE)) ) {
+					alt12=2;
+				}
+
+				else {
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 12, 5, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
+				}
+
+				}
+				break;
+			case LC_GROUP:
+			case LC_PATTERN:
 			case LC_SEQUENCE:
 			case LC_TEMPLATE:
+			case UC_GROUP:
+			case UC_PATTERN:
 			case UC_SEQUENCE:
 			case UC_TEMPLATE:
 				{
@@ -957,9 +977,9 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt12) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:269:4: (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )?
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:239:4: (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )? (lhs= operand )? op= operator (rhs= operand )?
 					{
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:269:4: (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )?
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:239:4: (not= ( UC_NOT | LC_NOT | BOOL_NOT ) )?
 					int alt9=2;
 					int LA9_0 = input.LA(1);
 					if ( (LA9_0==BOOL_NOT||LA9_0==LC_NOT||LA9_0==UC_NOT) ) {
@@ -967,7 +987,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					switch (alt9) {
 						case 1 :
-							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:269:5: not= ( UC_NOT | LC_NOT | BOOL_NOT )
+							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:239:5: not= ( UC_NOT | LC_NOT | BOOL_NOT )
 							{
 							not=input.LT(1);
 							if ( input.LA(1)==BOOL_NOT||input.LA(1)==LC_NOT||input.LA(1)==UC_NOT ) {
@@ -979,16 +999,14 @@ public class MiniEugeneParser extends Parser {
 								throw mse;
 							}
 
-							if(!bCollectFacts) {		
-							    addToken("NOT");
-							}
+							tokens.add("NOT");
 								
 							}
 							break;
 
 					}
 
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:273:6: (lhs= operand )?
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:6: (lhs= operand )?
 					int alt10=2;
 					switch ( input.LA(1) ) {
 						case ID:
@@ -1015,32 +1033,28 @@ public class MiniEugeneParser extends Parser {
 					}
 					switch (alt10) {
 						case 1 :
-							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:273:7: lhs= operand
+							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:241:7: lhs= operand
 							{
-							pushFollow(FOLLOW_operand_in_constraint640);
+							pushFollow(FOLLOW_operand_in_constraint645);
 							lhs=operand();
 							state._fsp--;
 
 
-							if(!bCollectFacts) {		
-							    addToken((lhs!=null?input.toString(lhs.start,lhs.stop):null));
-							}	
+							tokens.add((lhs!=null?input.toString(lhs.start,lhs.stop):null));
 								
 							}
 							break;
 
 					}
 
-					pushFollow(FOLLOW_operator_in_constraint648);
+					pushFollow(FOLLOW_operator_in_constraint653);
 					op=operator();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    addToken((op!=null?input.toString(op.start,op.stop):null));	
-					}
+					tokens.add((op!=null?input.toString(op.start,op.stop):null));	
 						
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:281:4: (rhs= operand )?
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:245:4: (rhs= operand )?
 					int alt11=2;
 					int LA11_0 = input.LA(1);
 					if ( ((LA11_0 >= ID && LA11_0 <= INT)||LA11_0==LEFTSBR) ) {
@@ -1048,16 +1062,14 @@ public class MiniEugeneParser extends Parser {
 					}
 					switch (alt11) {
 						case 1 :
-							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:281:5: rhs= operand
+							// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:245:5: rhs= operand
 							{
-							pushFollow(FOLLOW_operand_in_constraint655);
+							pushFollow(FOLLOW_operand_in_constraint660);
 							rhs=operand();
 							state._fsp--;
 
 
-							if(!bCollectFacts) {		
-							    addToken((rhs!=null?input.toString(rhs.start,rhs.stop):null));	
-							}
+							tokens.add((rhs!=null?input.toString(rhs.start,rhs.stop):null));	
 								
 							}
 							break;
@@ -1065,39 +1077,31 @@ public class MiniEugeneParser extends Parser {
 					}
 
 
-					if(!bCollectFacts) {		
-					    // turn the tokens into a miniEugene constraint	
-					    c = this.interp.interpreteRule(this.tokens);
-
-					    // reset the global token array
-					    this.tokens = null;
-					}
+					// the tokens get turned into a miniEugene constraint 
+					// once all facts are known
+					c = new RuleNode(tokens.toArray(new String[tokens.size()]));
 						
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:294:4: temp= templatingConstraints
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:252:4: temp= templatingConstraints
 					{
-					pushFollow(FOLLOW_templatingConstraints_in_constraint668);
+					pushFollow(FOLLOW_templatingConstraints_in_constraint673);
 					temp=templatingConstraints();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    c = temp;	
-					}
+					c = temp;	
 						
 					}
 					break;
 
 			}
 		}
-		catch (MiniEugeneException e) {
-
-			throw new MiniEugeneException(e.getMessage());	
-				
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
 		}
-
 		finally {
 			// do for sure before leaving
 		}
@@ -1108,49 +1112,149 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "templatingConstraints"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:304:1: templatingConstraints returns [Constraint c] : (tem= templateConstraint |seq= sequenceConstraint );
-	public final Constraint templatingConstraints() throws RecognitionException, MiniEugeneException {
-		Constraint c = null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:257:1: templatingConstraints returns [ConstraintNode c] : (tem= templateConstraint |seq= sequenceConstraint |pat= patternConstraint |grp= groupConstraint );
+	public final ConstraintNode templatingConstraints() throws RecognitionException {
+		ConstraintNode c = null;
 
 
-		Template tem =null;
-		Sequence seq =null;
+		TemplatingNode tem =null;
+		TemplatingNode seq =null;
+		TemplatingNode pat =null;
+		TemplatingNode grp =null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:307:2: (tem= templateConstraint |seq= sequenceConstraint )
-			int alt13=2;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:259:2: (tem= templateConstraint |seq= sequenceConstraint |pat= patternConstraint |grp= groupConstraint )
+			int alt13=4;
 			switch ( input.LA(1) ) {
 			case ID:
 				{
 				int LA13_1 = input.LA(2);
 				if ( (LA13_1==COLON) ) {
 					switch ( input.LA(3) ) {
-					case BOOL_NOT:
-					case LC_NOT:
 					case UC_NOT:
 						{
-						int LA13_2 = input.LA(4);
-						if ( (LA13_2==LC_TEMPLATE||LA13_2==UC_TEMPLATE) ) {
+						switch ( input.LA(4) ) {
+						case LC_TEMPLATE:
+						case UC_TEMPLATE:
+							{
 							alt13=1;
+							}
+							break;
+						case LC_SEQUENCE:
+						case UC_SEQUENCE:
+							{
+							alt13=2;
+							}
+							break;
+						case LC_PATTERN:
+						case UC_PATTERN:
+							{
+							alt13=3;
+							}
+							break;
+						case LC_GROUP:
+						case UC_GROUP:
+							{
+							alt13=4;
+							}
+							break;
+						default:
+							int nvaeMark = input.mark();
+							try {
+								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
+									input.consume();
+								}
+								NoViableAltException nvae =
+									new NoViableAltException("", 13, 2, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
 						}
-						else if ( (LA13_2==LC_SEQUENCE||LA13_2==UC_SEQUENCE) ) {
+						}
+						break;
+					case LC_NOT:
+						{
+						switch ( input.LA(4) ) {
+						case LC_TEMPLATE:
+						case UC_TEMPLATE:
+							{
+							alt13=1;
+							}
+							break;
+						case LC_SEQUENCE:
+						case UC_SEQUENCE:
+							{
 							alt13=2;
+							}
+							break;
+						case LC_PATTERN:
+						case UC_PATTERN:
+							{
+							alt13=3;
+							}
+							break;
+						case LC_GROUP:
+						case UC_GROUP:
+							{
+							alt13=4;
+							}
+							break;
+						default:
+							int nvaeMark = input.mark();
+							try {
+								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
+									input.consume();
+								}
+								NoViableAltException nvae =
+									new NoViableAltException("", 13, 3, input);
+								throw nvae;
+							} finally {
+								input.rewind(nvaeMark);
+							}
 						}
-
-						else {
+						}
+						break;
+					case BOOL_NOT:
+						{
+						switch ( input.LA(4) ) {
+						case LC_TEMPLATE:
+						case UC_TEMPLATE:
+							{
+							alt13=1;
+							}
+							break;
+						case LC_SEQUENCE:
+						case UC_SEQUENCE:
+							{
+							alt13=2;
+							}
+							break;
+						case LC_PATTERN:
+						case UC_PATTERN:
+							{
+							alt13=3;
+							}
+							break;
+						case LC_GROUP:
+						case UC_GROUP:
+							{
+							alt13=4;
+							}
+							break;
+						default:
 							int nvaeMark = input.mark();
 							try {
 								for (int nvaeConsume = 0; nvaeConsume < 4 - 1; nvaeConsume++) {
 									input.consume();
 								}
 								NoViableAltException nvae =
-									new NoViableAltException("", 13, 2, input);
+									new NoViableAltException("", 13, 4, input);
 								throw nvae;
 							} finally {
 								input.rewind(nvaeMark);
 							}
 						}
-
 						}
 						break;
 					case LC_TEMPLATE:
@@ -1165,6 +1269,18 @@ public class MiniEugeneParser extends Parser {
 						alt13=2;
 						}
 						break;
+					case LC_PATTERN:
+					case UC_PATTERN:
+						{
+						alt13=3;
+						}
+						break;
+					case LC_GROUP:
+					case UC_GROUP:
+						{
+						alt13=4;
+						}
+						break;
 					default:
 						int nvaeMark = input.mark();
 						try {
@@ -1172,7 +1288,7 @@ public class MiniEugeneParser extends Parser {
 								input.consume();
 							}
 							NoViableAltException nvae =
-								new NoViableAltException("", 13, 5, input);
+								new NoViableAltException("", 13, 9, input);
 							throw nvae;
 						} finally {
 							input.rewind(nvaeMark);
@@ -1194,30 +1310,124 @@ public class MiniEugeneParser extends Parser {
 
 				}
 				break;
-			case BOOL_NOT:
-			case LC_NOT:
 			case UC_NOT:
 				{
-				int LA13_2 = input.LA(2);
-				if ( (LA13_2==LC_TEMPLATE||LA13_2==UC_TEMPLATE) ) {
+				switch ( input.LA(2) ) {
+				case LC_TEMPLATE:
+				case UC_TEMPLATE:
+					{
 					alt13=1;
+					}
+					break;
+				case LC_SEQUENCE:
+				case UC_SEQUENCE:
+					{
+					alt13=2;
+					}
+					break;
+				case LC_PATTERN:
+				case UC_PATTERN:
+					{
+					alt13=3;
+					}
+					break;
+				case LC_GROUP:
+				case UC_GROUP:
+					{
+					alt13=4;
+					}
+					break;
+				default:
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 13, 2, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
 				}
-				else if ( (LA13_2==LC_SEQUENCE||LA13_2==UC_SEQUENCE) ) {
+				}
+				break;
+			case LC_NOT:
+				{
+				switch ( input.LA(2) ) {
+				case LC_TEMPLATE:
+				case UC_TEMPLATE:
+					{
+					alt13=1;
+					}
+					break;
+				case LC_SEQUENCE:
+				case UC_SEQUENCE:
+					{
 					alt13=2;
+					}
+					break;
+				case LC_PATTERN:
+				case UC_PATTERN:
+					{
+					alt13=3;
+					}
+					break;
+				case LC_GROUP:
+				case UC_GROUP:
+					{
+					alt13=4;
+					}
+					break;
+				default:
+					int nvaeMark = input.mark();
+					try {
+						input.consume();
+						NoViableAltException nvae =
+							new NoViableAltException("", 13, 3, input);
+						throw nvae;
+					} finally {
+						input.rewind(nvaeMark);
+					}
 				}
-
-				else {
+				}
+				break;
+			case BOOL_NOT:
+				{
+				switch ( input.LA(2) ) {
+				case LC_TEMPLATE:
+				case UC_TEMPLATE:
+					{
+					alt13=1;
+					}
+					break;
+				case LC_SEQUENCE:
+				case UC_SEQUENCE:
+					{
+					alt13=2;
+					}
+					break;
+				case LC_PATTERN:
+				case UC_PATTERN:
+					{
+					alt13=3;
+					}
+					break;
+				case LC_GROUP:
+				case UC_GROUP:
+					{
+					alt13=4;
+					}
+					break;
+				default:
 					int nvaeMark = input.mark();
 					try {
 						input.consume();
 						NoViableAltException nvae =
-							new NoViableAltException("", 13, 2, input);
+							new NoViableAltException("", 13, 4, input);
 						throw nvae;
 					} finally {
 						input.rewind(nvaeMark);
 					}
 				}
-
 				}
 				break;
 			case LC_TEMPLATE:
@@ -1232,6 +1442,18 @@ public class MiniEugeneParser extends Parser {
 				alt13=2;
 				}
 				break;
+			case LC_PATTERN:
+			case UC_PATTERN:
+				{
+				alt13=3;
+				}
+				break;
+			case LC_GROUP:
+			case UC_GROUP:
+				{
+				alt13=4;
+				}
+				break;
 			default:
 				NoViableAltException nvae =
 					new NoViableAltException("", 13, 0, input);
@@ -1239,30 +1461,50 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt13) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:307:4: tem= templateConstraint
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:259:4: tem= templateConstraint
 					{
-					pushFollow(FOLLOW_templateConstraint_in_templatingConstraints699);
+					pushFollow(FOLLOW_templateConstraint_in_templatingConstraints693);
 					tem=templateConstraint();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    c = tem;	
-					}
+					c = tem;	
 						
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:312:4: seq= sequenceConstraint
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:262:4: seq= sequenceConstraint
 					{
-					pushFollow(FOLLOW_sequenceConstraint_in_templatingConstraints708);
+					pushFollow(FOLLOW_sequenceConstraint_in_templatingConstraints702);
 					seq=sequenceConstraint();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    c = seq;	
+					c = seq;	
+						
 					}
+					break;
+				case 3 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:265:4: pat= patternConstraint
+					{
+					pushFollow(FOLLOW_patternConstraint_in_templatingConstraints711);
+					pat=patternConstraint();
+					state._fsp--;
+
+
+					c = pat;	
+						
+					}
+					break;
+				case 4 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:268:4: grp= groupConstraint
+					{
+					pushFollow(FOLLOW_groupConstraint_in_templatingConstraints720);
+					grp=groupConstraint();
+					state._fsp--;
+
+
+					c = grp;	
 						
 					}
 					break;
@@ -1283,9 +1525,9 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "templateConstraint"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:319:1: templateConstraint returns [Template t] : (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids ;
-	public final Template templateConstraint() throws RecognitionException {
-		Template t = null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:273:1: templateConstraint returns [TemplatingNode t] : (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids ;
+	public final TemplatingNode templateConstraint() throws RecognitionException {
+		TemplatingNode t = null;
 
 
 		Token name=null;
@@ -1293,10 +1535,10 @@ public class MiniEugeneParser extends Parser {
 		List<List<String>> ids =null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:321:2: ( (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:321:4: (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:2: ( (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:4: (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_TEMPLATE | LC_TEMPLATE ) ids= list_of_ids
 			{
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:321:4: (name= ID COLON )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:4: (name= ID COLON )?
 			int alt14=2;
 			int LA14_0 = input.LA(1);
 			if ( (LA14_0==ID) ) {
@@ -1304,33 +1546,51 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt14) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:321:5: name= ID COLON
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:5: name= ID COLON
 					{
-					name=(Token)match(input,ID,FOLLOW_ID_in_templateConstraint731); 
-					match(input,COLON,FOLLOW_COLON_in_templateConstraint733); 
+					name=(Token)match(input,ID,FOLLOW_ID_in_templateConstraint743); 
+					match(input,COLON,FOLLOW_COLON_in_templateConstraint745); 
 					}
 					break;
 
 			}
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:321:25: ( UC_NOT | LC_NOT | BOOL_NOT )?
-			int alt15=2;
-			int LA15_0 = input.LA(1);
-			if ( (LA15_0==BOOL_NOT||LA15_0==LC_NOT||LA15_0==UC_NOT) ) {
-				alt15=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:21: (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )?
+			int alt15=4;
+			switch ( input.LA(1) ) {
+				case UC_NOT:
+					{
+					alt15=1;
+					}
+					break;
+				case LC_NOT:
+					{
+					alt15=2;
+					}
+					break;
+				case BOOL_NOT:
+					{
+					alt15=3;
+					}
+					break;
 			}
 			switch (alt15) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:22: not= UC_NOT
 					{
-					if ( input.LA(1)==BOOL_NOT||input.LA(1)==LC_NOT||input.LA(1)==UC_NOT ) {
-						input.consume();
-						state.errorRecovery=false;
+					not=(Token)match(input,UC_NOT,FOLLOW_UC_NOT_in_templateConstraint752); 
 					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						throw mse;
+					break;
+				case 2 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:33: not= LC_NOT
+					{
+					not=(Token)match(input,LC_NOT,FOLLOW_LC_NOT_in_templateConstraint756); 
 					}
+					break;
+				case 3 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:275:44: not= BOOL_NOT
+					{
+					not=(Token)match(input,BOOL_NOT,FOLLOW_BOOL_NOT_in_templateConstraint760); 
 					}
 					break;
 
@@ -1344,20 +1604,16 @@ public class MiniEugeneParser extends Parser {
 				MismatchedSetException mse = new MismatchedSetException(null,input);
 				throw mse;
 			}
-			pushFollow(FOLLOW_list_of_ids_in_templateConstraint756);
+			pushFollow(FOLLOW_list_of_ids_in_templateConstraint772);
 			ids=list_of_ids();
 			state._fsp--;
 
 
-			if(!bCollectFacts) {		
-			    t = (Template)this.interp.createTemplatingConstraint(
-			        TemplateType.TEMPLATE, 
-			        (name!=null?name.getText():null), 
-			        ids);
-			    if(null != not) {
-			        t.setNegated();
-			    }
-			}	
+			t = new TemplatingNode(
+			    TemplateType.TEMPLATE, 
+			    (name!=null?name.getText():null), 
+			    ids, 
+			    null != not);
 				
 			}
 
@@ -1376,9 +1632,9 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "sequenceConstraint"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:334:1: sequenceConstraint returns [Sequence s] : (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids ;
-	public final Sequence sequenceConstraint() throws RecognitionException {
-		Sequence s = null;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:284:1: sequenceConstraint returns [TemplatingNode s] : (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids ;
+	public final TemplatingNode sequenceConstraint() throws RecognitionException {
+		TemplatingNode s = null;
 
 
 		Token name=null;
@@ -1386,10 +1642,10 @@ public class MiniEugeneParser extends Parser {
 		List<List<String>> ids =null;
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:336:2: ( (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:336:4: (name= ID COLON )? not= ( UC_NOT | LC_NOT | BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:2: ( (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:4: (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_SEQUENCE | LC_SEQUENCE ) ids= list_of_ids
 			{
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:336:4: (name= ID COLON )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:4: (name= ID COLON )?
 			int alt16=2;
 			int LA16_0 = input.LA(1);
 			if ( (LA16_0==ID) ) {
@@ -1397,33 +1653,51 @@ public class MiniEugeneParser extends Parser {
 			}
 			switch (alt16) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:336:5: name= ID COLON
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:5: name= ID COLON
 					{
-					name=(Token)match(input,ID,FOLLOW_ID_in_sequenceConstraint778); 
-					match(input,COLON,FOLLOW_COLON_in_sequenceConstraint780); 
+					name=(Token)match(input,ID,FOLLOW_ID_in_sequenceConstraint794); 
+					match(input,COLON,FOLLOW_COLON_in_sequenceConstraint796); 
 					}
 					break;
 
 			}
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:336:25: ( UC_NOT | LC_NOT | BOOL_NOT )?
-			int alt17=2;
-			int LA17_0 = input.LA(1);
-			if ( (LA17_0==BOOL_NOT||LA17_0==LC_NOT||LA17_0==UC_NOT) ) {
-				alt17=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:21: (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )?
+			int alt17=4;
+			switch ( input.LA(1) ) {
+				case UC_NOT:
+					{
+					alt17=1;
+					}
+					break;
+				case LC_NOT:
+					{
+					alt17=2;
+					}
+					break;
+				case BOOL_NOT:
+					{
+					alt17=3;
+					}
+					break;
 			}
 			switch (alt17) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:22: not= UC_NOT
 					{
-					if ( input.LA(1)==BOOL_NOT||input.LA(1)==LC_NOT||input.LA(1)==UC_NOT ) {
-						input.consume();
-						state.errorRecovery=false;
+					not=(Token)match(input,UC_NOT,FOLLOW_UC_NOT_in_sequenceConstraint803); 
 					}
-					else {
-						MismatchedSetException mse = new MismatchedSetException(null,input);
-						throw mse;
+					break;
+				case 2 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:33: not= LC_NOT
+					{
+					not=(Token)match(input,LC_NOT,FOLLOW_LC_NOT_in_sequenceConstraint807); 
 					}
+					break;
+				case 3 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:286:44: not= BOOL_NOT
+					{
+					not=(Token)match(input,BOOL_NOT,FOLLOW_BOOL_NOT_in_sequenceConstraint811); 
 					}
 					break;
 
@@ -1437,20 +1711,16 @@ public class MiniEugeneParser extends Parser {
 				MismatchedSetException mse = new MismatchedSetException(null,input);
 				throw mse;
 			}
-			pushFollow(FOLLOW_list_of_ids_in_sequenceConstraint803);
+			pushFollow(FOLLOW_list_of_ids_in_sequenceConstraint823);
 			ids=list_of_ids();
 			state._fsp--;
 
 
-			if(!bCollectFacts) {		
-			    s = (Sequence)this.interp.createTemplatingConstraint(
-			        TemplateType.SEQUENCE, 
-			        (name!=null?name.getText():null), 
-			        ids);
-			    if(null != not) {
-			        s.setNegated();
-			    }
-			}
+			s = new TemplatingNode(
+			    TemplateType.SEQUENCE, 
+			    (name!=null?name.getText():null), 
+			    ids, 
+			    null != not);
 				
 			}
 
@@ -1468,8 +1738,222 @@ public class MiniEugeneParser extends Parser {
 
 
 
+	// $ANTLR start "patternConstraint"
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:295:1: patternConstraint returns [TemplatingNode p] : (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_PATTERN | LC_PATTERN ) ids= list_of_ids ;
+	public final TemplatingNode patternConstraint() throws RecognitionException {
+		TemplatingNode p = null;
+
+
+		Token name=null;
+		Token not=null;
+		List<List<String>> ids =null;
+
+		try {
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:2: ( (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_PATTERN | LC_PATTERN ) ids= list_of_ids )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:4: (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_PATTERN | LC_PATTERN ) ids= list_of_ids
+			{
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:4: (name= ID COLON )?
+			int alt18=2;
+			int LA18_0 = input.LA(1);
+			if ( (LA18_0==ID) ) {
+				alt18=1;
+			}
+			switch (alt18) {
+				case 1 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:5: name= ID COLON
+					{
+					name=(Token)match(input,ID,FOLLOW_ID_in_patternConstraint846); 
+					match(input,COLON,FOLLOW_COLON_in_patternConstraint848); 
+					}
+					break;
+
+			}
+
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:21: (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )?
+			int alt19=4;
+			switch ( input.LA(1) ) {
+				case UC_NOT:
+					{
+					alt19=1;
+					}
+					break;
+				case LC_NOT:
+					{
+					alt19=2;
+					}
+					break;
+				case BOOL_NOT:
+					{
+					alt19=3;
+					}
+					break;
+			}
+			switch (alt19) {
+				case 1 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:22: not= UC_NOT
+					{
+					not=(Token)match(input,UC_NOT,FOLLOW_UC_NOT_in_patternConstraint855); 
+					}
+					break;
+				case 2 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:33: not= LC_NOT
+					{
+					not=(Token)match(input,LC_NOT,FOLLOW_LC_NOT_in_patternConstraint859); 
+					}
+					break;
+				case 3 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:297:44: not= BOOL_NOT
+					{
+					not=(Token)match(input,BOOL_NOT,FOLLOW_BOOL_NOT_in_patternConstraint863); 
+					}
+					break;
+
+			}
+
+			if ( input.LA(1)==LC_PATTERN||input.LA(1)==UC_PATTERN ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			pushFollow(FOLLOW_list_of_ids_in_patternConstraint875);
+			ids=list_of_ids();
+			state._fsp--;
+
+
+			p = new TemplatingNode(
+			    TemplateType.PATTERN, 
+			    (name!=null?name.getText():null), 
+			    ids, 
+			    null != not);
+				
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return p;
+	}
+	// $ANTLR end "patternConstraint"
+
+
+
+	// $ANTLR start "groupConstraint"
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:306:1: groupConstraint returns [TemplatingNode g] : (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_GROUP | LC_GROUP ) ids= list_of_ids ;
+	public final TemplatingNode groupConstraint() throws RecognitionException {
+		TemplatingNode g = null;
+
+
+		Token name=null;
+		Token not=null;
+		List<List<String>> ids =null;
+
+		try {
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:2: ( (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_GROUP | LC_GROUP ) ids= list_of_ids )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:4: (name= ID COLON )? (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )? ( UC_GROUP | LC_GROUP ) ids= list_of_ids
+			{
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:4: (name= ID COLON )?
+			int alt20=2;
+			int LA20_0 = input.LA(1);
+			if ( (LA20_0==ID) ) {
+				alt20=1;
+			}
+			switch (alt20) {
+				case 1 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:5: name= ID COLON
+					{
+					name=(Token)match(input,ID,FOLLOW_ID_in_groupConstraint897); 
+					match(input,COLON,FOLLOW_COLON_in_groupConstraint899); 
+					}
+					break;
+
+			}
+
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:21: (not= UC_NOT |not= LC_NOT |not= BOOL_NOT )?
+			int alt21=4;
+			switch ( input.LA(1) ) {
+				case UC_NOT:
+					{
+					alt21=1;
+					}
+					break;
+				case LC_NOT:
+					{
+					alt21=2;
+					}
+					break;
+				case BOOL_NOT:
+					{
+					alt21=3;
+					}
+					break;
+			}
+			switch (alt21) {
+				case 1 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:22: not= UC_NOT
+					{
+					not=(Token)match(input,UC_NOT,FOLLOW_UC_NOT_in_groupConstraint906); 
+					}
+					break;
+				case 2 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:33: not= LC_NOT
+					{
+					not=(Token)match(input,LC_NOT,FOLLOW_LC_NOT_in_groupConstraint910); 
+					}
+					break;
+				case 3 :
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:308:44: not= BOOL_NOT
+					{
+					not=(Token)match(input,BOOL_NOT,FOLLOW_BOOL_NOT_in_groupConstraint914); 
+					}
+					break;
+
+			}
+
+			if ( input.LA(1)==LC_GROUP||input.LA(1)==UC_GROUP ) {
+				input.consume();
+				state.errorRecovery=false;
+			}
+			else {
+				MismatchedSetException mse = new MismatchedSetException(null,input);
+				throw mse;
+			}
+			pushFollow(FOLLOW_list_of_ids_in_groupConstraint926);
+			ids=list_of_ids();
+			state._fsp--;
+
+
+			g = new TemplatingNode(
+			    TemplateType.GROUP, 
+			    (name!=null?name.getText():null), 
+			    ids, 
+			    null != not);
+				
+			}
+
+		}
+		catch (RecognitionException re) {
+			reportError(re);
+			recover(input,re);
+		}
+		finally {
+			// do for sure before leaving
+		}
+		return g;
+	}
+	// $ANTLR end "groupConstraint"
+
+
+
 	// $ANTLR start "list_of_ids"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:349:1: list_of_ids returns [List<List<String>> lst] : (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )? ;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:317:1: list_of_ids returns [List<List<String>> lst] : (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )? ;
 	public final List<List<String>> list_of_ids() throws RecognitionException {
 		List<List<String>> lst = null;
 
@@ -1482,86 +1966,80 @@ public class MiniEugeneParser extends Parser {
 		lst = new ArrayList<List<String>>();
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:354:2: ( (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )? )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:354:4: (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:322:2: ( (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )? )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:322:4: (id= ID | LEFTSBR sel= selection RIGHTSBR ) ( COMMA ids= list_of_ids )?
 			{
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:354:4: (id= ID | LEFTSBR sel= selection RIGHTSBR )
-			int alt18=2;
-			int LA18_0 = input.LA(1);
-			if ( (LA18_0==ID) ) {
-				alt18=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:322:4: (id= ID | LEFTSBR sel= selection RIGHTSBR )
+			int alt22=2;
+			int LA22_0 = input.LA(1);
+			if ( (LA22_0==ID) ) {
+				alt22=1;
 			}
-			else if ( (LA18_0==LEFTSBR) ) {
-				alt18=2;
+			else if ( (LA22_0==LEFTSBR) ) {
+				alt22=2;
 			}
 
 			else {
 				NoViableAltException nvae =
-					new NoViableAltException("", 18, 0, input);
+					new NoViableAltException("", 22, 0, input);
 				throw nvae;
 			}
 
-			switch (alt18) {
+			switch (alt22) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:354:5: id= ID
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:322:5: id= ID
 					{
-					id=(Token)match(input,ID,FOLLOW_ID_in_list_of_ids837); 
+					id=(Token)match(input,ID,FOLLOW_ID_in_list_of_ids960); 
 
-					if(!bCollectFacts) {		
-					    List<String> id_lst = new ArrayList<String>();
-					    id_lst.add((id!=null?id.getText():null));
-					    lst.add(id_lst);	
-					}
+					List<String> id_lst = new ArrayList<String>();
+					id_lst.add((id!=null?id.getText():null));
+					lst.add(id_lst);	
 						
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:360:5: LEFTSBR sel= selection RIGHTSBR
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:326:5: LEFTSBR sel= selection RIGHTSBR
 					{
-					match(input,LEFTSBR,FOLLOW_LEFTSBR_in_list_of_ids842); 
-					pushFollow(FOLLOW_selection_in_list_of_ids846);
+					match(input,LEFTSBR,FOLLOW_LEFTSBR_in_list_of_ids965); 
+					pushFollow(FOLLOW_selection_in_list_of_ids969);
 					sel=selection();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    lst.add(sel);	
-					}
+					lst.add(sel);	
 						
-					match(input,RIGHTSBR,FOLLOW_RIGHTSBR_in_list_of_ids850); 
+					match(input,RIGHTSBR,FOLLOW_RIGHTSBR_in_list_of_ids973); 
 					}
 					break;
 
 			}
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:365:3: ( COMMA ids= list_of_ids )?
-			int alt19=2;
-			int LA19_0 = input.LA(1);
-			if ( (LA19_0==COMMA) ) {
-				int LA19_1 = input.LA(2);
-				if ( (LA19_1==ID) ) {
-					alt19=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:329:3: ( COMMA ids= list_of_ids )?
+			int alt23=2;
+			int LA23_0 = input.LA(1);
+			if ( (LA23_0==COMMA) ) {
+				int LA23_1 = input.LA(2);
+				if ( (LA23_1==ID) ) {
+					alt23=1;
 				}
-				else if ( (LA19_1==LEFTSBR) ) {
-					int LA19_4 = input.LA(3);
-					if ( (LA19_4==ID) ) {
-						alt19=1;
+				else if ( (LA23_1==LEFTSBR) ) {
+					int LA23_4 = input.LA(3);
+					if ( (LA23_4==ID) ) {
+						alt23=1;
 					}
 				}
 			}
-			switch (alt19) {
+			switch (alt23) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:365:4: COMMA ids= list_of_ids
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:329:4: COMMA ids= list_of_ids
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_list_of_ids856); 
-					pushFollow(FOLLOW_list_of_ids_in_list_of_ids860);
+					match(input,COMMA,FOLLOW_COMMA_in_list_of_ids979); 
+					pushFollow(FOLLOW_list_of_ids_in_list_of_ids983);
 					ids=list_of_ids();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    lst.addAll(ids);		
-					}
+					lst.addAll(ids);		
 						
 					}
 					break;
@@ -1585,7 +2063,7 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "selection"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:372:1: selection returns [List<String> lst] : id= ID ( PIPE sel= selection )? ;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:334:1: selection returns [List<String> lst] : id= ID ( PIPE sel= selection )? ;
 	public final List<String> selection() throws RecognitionException {
 		List<String> lst = null;
 
@@ -1597,34 +2075,30 @@ public class MiniEugeneParser extends Parser {
 		lst = new ArrayList<String>();
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:377:2: (id= ID ( PIPE sel= selection )? )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:377:4: id= ID ( PIPE sel= selection )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:339:2: (id= ID ( PIPE sel= selection )? )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:339:4: id= ID ( PIPE sel= selection )?
 			{
-			id=(Token)match(input,ID,FOLLOW_ID_in_selection887); 
+			id=(Token)match(input,ID,FOLLOW_ID_in_selection1010); 
 
-			if(!bCollectFacts) {		
-			    lst.add((id!=null?id.getText():null));		
-			}
+			lst.add((id!=null?id.getText():null));		
 				
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:381:5: ( PIPE sel= selection )?
-			int alt20=2;
-			int LA20_0 = input.LA(1);
-			if ( (LA20_0==PIPE) ) {
-				alt20=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:341:5: ( PIPE sel= selection )?
+			int alt24=2;
+			int LA24_0 = input.LA(1);
+			if ( (LA24_0==PIPE) ) {
+				alt24=1;
 			}
-			switch (alt20) {
+			switch (alt24) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:381:6: PIPE sel= selection
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:341:6: PIPE sel= selection
 					{
-					match(input,PIPE,FOLLOW_PIPE_in_selection893); 
-					pushFollow(FOLLOW_selection_in_selection897);
+					match(input,PIPE,FOLLOW_PIPE_in_selection1016); 
+					pushFollow(FOLLOW_selection_in_selection1020);
 					sel=selection();
 					state._fsp--;
 
 
-					if(!bCollectFacts) {		
-					    lst.addAll(sel);	
-					}
+					lst.addAll(sel);	
 						
 					}
 					break;
@@ -1651,14 +2125,14 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "operator"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:388:1: operator : (| ( 'CONTAINS' | 'contains' ) | ( 'NOTCONTAINS' | 'notcontains' ) | ( 'EXACTLY' | 'exactly' ) | ( 'NOTEXACTLY' | 'notexactly' ) | ( 'MORETHAN' | 'morethan' ) | ( 'NOTMORETHAN' | 'notmorethan' ) | ( 'SAME_COUNT' | 'same_count' ) | ( 'WITH' | 'with' ) | ( 'NOTWITH' | 'notwith' ) | ( 'THEN' | 'then' ) | ( 'NOTTHEN' | 'notthen' ) | ( 'STARTSWITH' | 'startswith' ) | ( 'ENDSWITH' | 'endswith' ) | ( 'BEFORE' | 'before' ) | ( 'ALL_BEFORE' | 'all_before' ) | ( 'SOME_BEFORE' | 'some_before' ) | ( 'AFTER' | 'after' ) | ( 'ALL_AFTER' | 'all_after' ) | ( 'SOME_AFTER' | 'some_after' ) | ( 'NEXTTO' | 'nextto' ) | ( 'ALL_NEXTTO' | 'all_nextto' ) | ( 'SOME_NEXTTO' | 'some_nextto' ) | ( 'ALWAYS_NEXTTO' | 'always_nextto' ) | ( 'EQUALS' | 'equals' ) | ( 'NOTEQUALS' | 'notequals' ) | ( 'MATCHES' | 'matches' ) | ( 'NOTMATCHES' | 'notmatches' ) | ( 'FORWARD' | 'forward' ) | ( 'ALL_FORWARD' | 'all_forward' ) | ( 'SOME_FORWARD' | 'some_forward' ) | ( 'REVERSE' | 'reverse' ) | ( 'ALL_REVERSE' | 'all_reverse' ) | ( 'SOME_REVERSE' | 'some_reverse' ) | ( 'SAME_ORIENTATION' | 'same_orientation' ) | ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' ) | ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' ) | ( 'REPRESSES' | 'represses' ) | ( 'INDUCES' | 'induces' ) | ( 'DRIVES' | 'drives' ) | ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' ) );
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:346:1: operator : (| ( 'CONTAINS' | 'contains' ) | ( 'NOTCONTAINS' | 'notcontains' ) | ( 'EXACTLY' | 'exactly' ) | ( 'NOTEXACTLY' | 'notexactly' ) | ( 'MORETHAN' | 'morethan' ) | ( 'NOTMORETHAN' | 'notmorethan' ) | ( 'SAME_COUNT' | 'same_count' ) | ( 'WITH' | 'with' ) | ( 'NOTWITH' | 'notwith' ) | ( 'THEN' | 'then' ) | ( 'NOTTHEN' | 'notthen' ) | ( 'STARTSWITH' | 'startswith' ) | ( 'ENDSWITH' | 'endswith' ) | ( 'BEFORE' | 'before' ) | ( 'ALL_BEFORE' | 'all_before' ) | ( 'SOME_BEFORE' | 'some_before' ) | ( 'AFTER' | 'after' ) | ( 'ALL_AFTER' | 'all_after' ) | ( 'SOME_AFTER' | 'some_after' ) | ( 'NEXTTO' | 'nextto' ) | ( 'ALL_NEXTTO' | 'all_nextto' ) | ( 'SOME_NEXTTO' | 'some_nextto' ) | ( 'ALWAYS_NEXTTO' | 'always_nextto' ) | ( 'EQUALS' | 'equals' ) | ( 'NOTEQUALS' | 'notequals' ) | ( 'MATCHES' | 'matches' ) | ( 'NOTMATCHES' | 'notmatches' ) | ( 'FORWARD' | 'forward' ) | ( 'ALL_FORWARD' | 'all_forward' ) | ( 'SOME_FORWARD' | 'some_forward' ) | ( 'REVERSE' | 'reverse' ) | ( 'ALL_REVERSE' | 'all_reverse' ) | ( 'SOME_REVERSE' | 'some_reverse' ) | ( 'SAME_ORIENTATION' | 'same_orientation' ) | ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' ) | ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' ) | ( 'REPRESSES' | 'represses' ) | ( 'INDUCES' | 'induces' ) | ( 'DRIVES' | 'drives' ) | ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' ) );
 	public final MiniEugeneParser.operator_return operator() throws RecognitionException {
 		MiniEugeneParser.operator_return retval = new MiniEugeneParser.operator_return();
 		retval.start = input.LT(1);
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:388:9: (| ( 'CONTAINS' | 'contains' ) | ( 'NOTCONTAINS' | 'notcontains' ) | ( 'EXACTLY' | 'exactly' ) | ( 'NOTEXACTLY' | 'notexactly' ) | ( 'MORETHAN' | 'morethan' ) | ( 'NOTMORETHAN' | 'notmorethan' ) | ( 'SAME_COUNT' | 'same_count' ) | ( 'WITH' | 'with' ) | ( 'NOTWITH' | 'notwith' ) | ( 'THEN' | 'then' ) | ( 'NOTTHEN' | 'notthen' ) | ( 'STARTSWITH' | 'startswith' ) | ( 'ENDSWITH' | 'endswith' ) | ( 'BEFORE' | 'before' ) | ( 'ALL_BEFORE' | 'all_before' ) | ( 'SOME_BEFORE' | 'some_before' ) | ( 'AFTER' | 'after' ) | ( 'ALL_AFTER' | 'all_after' ) | ( 'SOME_AFTER' | 'some_after' ) | ( 'NEXTTO' | 'nextto' ) | ( 'ALL_NEXTTO' | 'all_nextto' ) | ( 'SOME_NEXTTO' | 'some_nextto' ) | ( 'ALWAYS_NEXTTO' | 'always_nextto' ) | ( 'EQUALS' | 'equals' ) | ( 'NOTEQUALS' | 'notequals' ) | ( 'MATCHES' | 'matches' ) | ( 'NOTMATCHES' | 'notmatches' ) | ( 'FORWARD' | 'forward' ) | ( 'ALL_FORWARD' | 'all_forward' ) | ( 'SOME_FORWARD' | 'some_forward' ) | ( 'REVERSE' | 'reverse' ) | ( 'ALL_REVERSE' | 'all_reverse' ) | ( 'SOME_REVERSE' | 'some_reverse' ) | ( 'SAME_ORIENTATION' | 'same_orientation' ) | ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' ) | ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' ) | ( 'REPRESSES' | 'represses' ) | ( 'INDUCES' | 'induces' ) | ( 'DRIVES' | 'drives' ) | ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' ) )
-			int alt21=41;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:346:9: (| ( 'CONTAINS' | 'contains' ) | ( 'NOTCONTAINS' | 'notcontains' ) | ( 'EXACTLY' | 'exactly' ) | ( 'NOTEXACTLY' | 'notexactly' ) | ( 'MORETHAN' | 'morethan' ) | ( 'NOTMORETHAN' | 'notmorethan' ) | ( 'SAME_COUNT' | 'same_count' ) | ( 'WITH' | 'with' ) | ( 'NOTWITH' | 'notwith' ) | ( 'THEN' | 'then' ) | ( 'NOTTHEN' | 'notthen' ) | ( 'STARTSWITH' | 'startswith' ) | ( 'ENDSWITH' | 'endswith' ) | ( 'BEFORE' | 'before' ) | ( 'ALL_BEFORE' | 'all_before' ) | ( 'SOME_BEFORE' | 'some_before' ) | ( 'AFTER' | 'after' ) | ( 'ALL_AFTER' | 'all_after' ) | ( 'SOME_AFTER' | 'some_after' ) | ( 'NEXTTO' | 'nextto' ) | ( 'ALL_NEXTTO' | 'all_nextto' ) | ( 'SOME_NEXTTO' | 'some_nextto' ) | ( 'ALWAYS_NEXTTO' | 'always_nextto' ) | ( 'EQUALS' | 'equals' ) | ( 'NOTEQUALS' | 'notequals' ) | ( 'MATCHES' | 'matches' ) | ( 'NOTMATCHES' | 'notmatches' ) | ( 'FORWARD' | 'forward' ) | ( 'ALL_FORWARD' | 'all_forward' ) | ( 'SOME_FORWARD' | 'some_forward' ) | ( 'REVERSE' | 'reverse' ) | ( 'ALL_REVERSE' | 'all_reverse' ) | ( 'SOME_REVERSE' | 'some_reverse' ) | ( 'SAME_ORIENTATION' | 'same_orientation' ) | ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' ) | ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' ) | ( 'REPRESSES' | 'represses' ) | ( 'INDUCES' | 'induces' ) | ( 'DRIVES' | 'drives' ) | ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' ) )
+			int alt25=41;
 			switch ( input.LA(1) ) {
 			case BOOL_OR:
 			case COMMA:
@@ -1670,262 +2144,262 @@ public class MiniEugeneParser extends Parser {
 			case LOG_OR:
 			case UC_OR:
 				{
-				alt21=1;
+				alt25=1;
 				}
 				break;
 			case 62:
 			case 102:
 				{
-				alt21=2;
+				alt25=2;
 				}
 				break;
 			case 72:
 			case 112:
 				{
-				alt21=3;
+				alt25=3;
 				}
 				break;
 			case 66:
 			case 106:
 				{
-				alt21=4;
+				alt25=4;
 				}
 				break;
 			case 74:
 			case 114:
 				{
-				alt21=5;
+				alt25=5;
 				}
 				break;
 			case 70:
 			case 110:
 				{
-				alt21=6;
+				alt25=6;
 				}
 				break;
 			case 76:
 			case 116:
 				{
-				alt21=7;
+				alt25=7;
 				}
 				break;
 			case 81:
 			case 121:
 				{
-				alt21=8;
+				alt25=8;
 				}
 				break;
 			case 91:
 			case 131:
 				{
-				alt21=9;
+				alt25=9;
 				}
 				break;
 			case 78:
 			case 118:
 				{
-				alt21=10;
+				alt25=10;
 				}
 				break;
 			case 90:
 			case 130:
 				{
-				alt21=11;
+				alt25=11;
 				}
 				break;
 			case 77:
 			case 117:
 				{
-				alt21=12;
+				alt25=12;
 				}
 				break;
 			case 89:
 			case 129:
 				{
-				alt21=13;
+				alt25=13;
 				}
 				break;
 			case 64:
 			case 104:
 				{
-				alt21=14;
+				alt25=14;
 				}
 				break;
 			case 61:
 			case 101:
 				{
-				alt21=15;
+				alt25=15;
 				}
 				break;
 			case 54:
 			case 94:
 				{
-				alt21=16;
+				alt25=16;
 				}
 				break;
 			case 84:
 			case 124:
 				{
-				alt21=17;
+				alt25=17;
 				}
 				break;
 			case 52:
 			case 92:
 				{
-				alt21=18;
+				alt25=18;
 				}
 				break;
 			case 53:
 			case 93:
 				{
-				alt21=19;
+				alt25=19;
 				}
 				break;
 			case 83:
 			case 123:
 				{
-				alt21=20;
+				alt25=20;
 				}
 				break;
 			case 71:
 			case 111:
 				{
-				alt21=21;
+				alt25=21;
 				}
 				break;
 			case 56:
 			case 96:
 				{
-				alt21=22;
+				alt25=22;
 				}
 				break;
 			case 86:
 			case 126:
 				{
-				alt21=23;
+				alt25=23;
 				}
 				break;
 			case 60:
 			case 100:
 				{
-				alt21=24;
+				alt25=24;
 				}
 				break;
 			case 65:
 			case 105:
 				{
-				alt21=25;
+				alt25=25;
 				}
 				break;
 			case 73:
 			case 113:
 				{
-				alt21=26;
+				alt25=26;
 				}
 				break;
 			case 69:
 			case 109:
 				{
-				alt21=27;
+				alt25=27;
 				}
 				break;
 			case 75:
 			case 115:
 				{
-				alt21=28;
+				alt25=28;
 				}
 				break;
 			case 67:
 			case 107:
 				{
-				alt21=29;
+				alt25=29;
 				}
 				break;
 			case 55:
 			case 95:
 				{
-				alt21=30;
+				alt25=30;
 				}
 				break;
 			case 85:
 			case 125:
 				{
-				alt21=31;
+				alt25=31;
 				}
 				break;
 			case 80:
 			case 120:
 				{
-				alt21=32;
+				alt25=32;
 				}
 				break;
 			case 57:
 			case 97:
 				{
-				alt21=33;
+				alt25=33;
 				}
 				break;
 			case 87:
 			case 127:
 				{
-				alt21=34;
+				alt25=34;
 				}
 				break;
 			case 82:
 			case 122:
 				{
-				alt21=35;
+				alt25=35;
 				}
 				break;
 			case 58:
 			case 98:
 				{
-				alt21=36;
+				alt25=36;
 				}
 				break;
 			case 88:
 			case 128:
 				{
-				alt21=37;
+				alt25=37;
 				}
 				break;
 			case 79:
 			case 119:
 				{
-				alt21=38;
+				alt25=38;
 				}
 				break;
 			case 68:
 			case 108:
 				{
-				alt21=39;
+				alt25=39;
 				}
 				break;
 			case 63:
 			case 103:
 				{
-				alt21=40;
+				alt25=40;
 				}
 				break;
 			case 59:
 			case 99:
 				{
-				alt21=41;
+				alt25=41;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 21, 0, input);
+					new NoViableAltException("", 25, 0, input);
 				throw nvae;
 			}
-			switch (alt21) {
+			switch (alt25) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:389:2: 
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:347:2: 
 					{
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:389:4: ( 'CONTAINS' | 'contains' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:347:4: ( 'CONTAINS' | 'contains' )
 					{
 					if ( input.LA(1)==62||input.LA(1)==102 ) {
 						input.consume();
@@ -1938,7 +2412,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 3 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:390:4: ( 'NOTCONTAINS' | 'notcontains' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:348:4: ( 'NOTCONTAINS' | 'notcontains' )
 					{
 					if ( input.LA(1)==72||input.LA(1)==112 ) {
 						input.consume();
@@ -1951,7 +2425,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 4 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:391:4: ( 'EXACTLY' | 'exactly' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:349:4: ( 'EXACTLY' | 'exactly' )
 					{
 					if ( input.LA(1)==66||input.LA(1)==106 ) {
 						input.consume();
@@ -1964,7 +2438,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 5 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:392:4: ( 'NOTEXACTLY' | 'notexactly' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:350:4: ( 'NOTEXACTLY' | 'notexactly' )
 					{
 					if ( input.LA(1)==74||input.LA(1)==114 ) {
 						input.consume();
@@ -1977,7 +2451,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 6 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:393:4: ( 'MORETHAN' | 'morethan' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:351:4: ( 'MORETHAN' | 'morethan' )
 					{
 					if ( input.LA(1)==70||input.LA(1)==110 ) {
 						input.consume();
@@ -1990,7 +2464,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 7 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:394:4: ( 'NOTMORETHAN' | 'notmorethan' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:352:4: ( 'NOTMORETHAN' | 'notmorethan' )
 					{
 					if ( input.LA(1)==76||input.LA(1)==116 ) {
 						input.consume();
@@ -2003,7 +2477,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 8 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:395:4: ( 'SAME_COUNT' | 'same_count' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:353:4: ( 'SAME_COUNT' | 'same_count' )
 					{
 					if ( input.LA(1)==81||input.LA(1)==121 ) {
 						input.consume();
@@ -2016,7 +2490,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 9 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:396:4: ( 'WITH' | 'with' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:354:4: ( 'WITH' | 'with' )
 					{
 					if ( input.LA(1)==91||input.LA(1)==131 ) {
 						input.consume();
@@ -2029,7 +2503,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 10 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:397:4: ( 'NOTWITH' | 'notwith' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:355:4: ( 'NOTWITH' | 'notwith' )
 					{
 					if ( input.LA(1)==78||input.LA(1)==118 ) {
 						input.consume();
@@ -2042,7 +2516,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 11 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:398:4: ( 'THEN' | 'then' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:356:4: ( 'THEN' | 'then' )
 					{
 					if ( input.LA(1)==90||input.LA(1)==130 ) {
 						input.consume();
@@ -2055,7 +2529,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 12 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:399:4: ( 'NOTTHEN' | 'notthen' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:357:4: ( 'NOTTHEN' | 'notthen' )
 					{
 					if ( input.LA(1)==77||input.LA(1)==117 ) {
 						input.consume();
@@ -2068,7 +2542,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 13 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:400:4: ( 'STARTSWITH' | 'startswith' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:358:4: ( 'STARTSWITH' | 'startswith' )
 					{
 					if ( input.LA(1)==89||input.LA(1)==129 ) {
 						input.consume();
@@ -2081,7 +2555,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 14 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:401:4: ( 'ENDSWITH' | 'endswith' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:359:4: ( 'ENDSWITH' | 'endswith' )
 					{
 					if ( input.LA(1)==64||input.LA(1)==104 ) {
 						input.consume();
@@ -2094,7 +2568,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 15 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:402:4: ( 'BEFORE' | 'before' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:360:4: ( 'BEFORE' | 'before' )
 					{
 					if ( input.LA(1)==61||input.LA(1)==101 ) {
 						input.consume();
@@ -2107,7 +2581,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 16 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:403:4: ( 'ALL_BEFORE' | 'all_before' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:361:4: ( 'ALL_BEFORE' | 'all_before' )
 					{
 					if ( input.LA(1)==54||input.LA(1)==94 ) {
 						input.consume();
@@ -2120,7 +2594,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 17 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:404:4: ( 'SOME_BEFORE' | 'some_before' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:362:4: ( 'SOME_BEFORE' | 'some_before' )
 					{
 					if ( input.LA(1)==84||input.LA(1)==124 ) {
 						input.consume();
@@ -2133,7 +2607,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 18 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:405:4: ( 'AFTER' | 'after' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:363:4: ( 'AFTER' | 'after' )
 					{
 					if ( input.LA(1)==52||input.LA(1)==92 ) {
 						input.consume();
@@ -2146,7 +2620,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 19 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:406:4: ( 'ALL_AFTER' | 'all_after' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:364:4: ( 'ALL_AFTER' | 'all_after' )
 					{
 					if ( input.LA(1)==53||input.LA(1)==93 ) {
 						input.consume();
@@ -2159,7 +2633,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 20 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:407:4: ( 'SOME_AFTER' | 'some_after' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:365:4: ( 'SOME_AFTER' | 'some_after' )
 					{
 					if ( input.LA(1)==83||input.LA(1)==123 ) {
 						input.consume();
@@ -2172,7 +2646,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 21 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:408:4: ( 'NEXTTO' | 'nextto' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:366:4: ( 'NEXTTO' | 'nextto' )
 					{
 					if ( input.LA(1)==71||input.LA(1)==111 ) {
 						input.consume();
@@ -2185,7 +2659,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 22 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:409:4: ( 'ALL_NEXTTO' | 'all_nextto' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:367:4: ( 'ALL_NEXTTO' | 'all_nextto' )
 					{
 					if ( input.LA(1)==56||input.LA(1)==96 ) {
 						input.consume();
@@ -2198,7 +2672,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 23 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:410:4: ( 'SOME_NEXTTO' | 'some_nextto' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:368:4: ( 'SOME_NEXTTO' | 'some_nextto' )
 					{
 					if ( input.LA(1)==86||input.LA(1)==126 ) {
 						input.consume();
@@ -2211,7 +2685,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 24 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:411:4: ( 'ALWAYS_NEXTTO' | 'always_nextto' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:369:4: ( 'ALWAYS_NEXTTO' | 'always_nextto' )
 					{
 					if ( input.LA(1)==60||input.LA(1)==100 ) {
 						input.consume();
@@ -2224,7 +2698,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 25 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:412:4: ( 'EQUALS' | 'equals' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:370:4: ( 'EQUALS' | 'equals' )
 					{
 					if ( input.LA(1)==65||input.LA(1)==105 ) {
 						input.consume();
@@ -2237,7 +2711,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 26 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:413:4: ( 'NOTEQUALS' | 'notequals' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:371:4: ( 'NOTEQUALS' | 'notequals' )
 					{
 					if ( input.LA(1)==73||input.LA(1)==113 ) {
 						input.consume();
@@ -2250,7 +2724,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 27 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:414:4: ( 'MATCHES' | 'matches' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:372:4: ( 'MATCHES' | 'matches' )
 					{
 					if ( input.LA(1)==69||input.LA(1)==109 ) {
 						input.consume();
@@ -2263,7 +2737,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 28 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:415:4: ( 'NOTMATCHES' | 'notmatches' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:373:4: ( 'NOTMATCHES' | 'notmatches' )
 					{
 					if ( input.LA(1)==75||input.LA(1)==115 ) {
 						input.consume();
@@ -2276,7 +2750,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 29 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:416:4: ( 'FORWARD' | 'forward' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:374:4: ( 'FORWARD' | 'forward' )
 					{
 					if ( input.LA(1)==67||input.LA(1)==107 ) {
 						input.consume();
@@ -2289,7 +2763,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 30 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:417:4: ( 'ALL_FORWARD' | 'all_forward' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:375:4: ( 'ALL_FORWARD' | 'all_forward' )
 					{
 					if ( input.LA(1)==55||input.LA(1)==95 ) {
 						input.consume();
@@ -2302,7 +2776,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 31 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:418:4: ( 'SOME_FORWARD' | 'some_forward' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:376:4: ( 'SOME_FORWARD' | 'some_forward' )
 					{
 					if ( input.LA(1)==85||input.LA(1)==125 ) {
 						input.consume();
@@ -2315,7 +2789,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 32 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:419:4: ( 'REVERSE' | 'reverse' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:377:4: ( 'REVERSE' | 'reverse' )
 					{
 					if ( input.LA(1)==80||input.LA(1)==120 ) {
 						input.consume();
@@ -2328,7 +2802,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 33 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:420:4: ( 'ALL_REVERSE' | 'all_reverse' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:378:4: ( 'ALL_REVERSE' | 'all_reverse' )
 					{
 					if ( input.LA(1)==57||input.LA(1)==97 ) {
 						input.consume();
@@ -2341,7 +2815,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 34 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:421:4: ( 'SOME_REVERSE' | 'some_reverse' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:379:4: ( 'SOME_REVERSE' | 'some_reverse' )
 					{
 					if ( input.LA(1)==87||input.LA(1)==127 ) {
 						input.consume();
@@ -2354,7 +2828,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 35 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:422:4: ( 'SAME_ORIENTATION' | 'same_orientation' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:380:4: ( 'SAME_ORIENTATION' | 'same_orientation' )
 					{
 					if ( input.LA(1)==82||input.LA(1)==122 ) {
 						input.consume();
@@ -2367,7 +2841,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 36 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:423:4: ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:381:4: ( 'ALL_SAME_ORIENTATION' | 'all_same_orientation' )
 					{
 					if ( input.LA(1)==58||input.LA(1)==98 ) {
 						input.consume();
@@ -2380,7 +2854,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 37 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:424:4: ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:382:4: ( 'SOME_SAME_ORIENTATION' | 'some_same_orientation' )
 					{
 					if ( input.LA(1)==88||input.LA(1)==128 ) {
 						input.consume();
@@ -2393,7 +2867,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 38 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:425:4: ( 'REPRESSES' | 'represses' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:383:4: ( 'REPRESSES' | 'represses' )
 					{
 					if ( input.LA(1)==79||input.LA(1)==119 ) {
 						input.consume();
@@ -2406,7 +2880,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 39 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:426:4: ( 'INDUCES' | 'induces' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:384:4: ( 'INDUCES' | 'induces' )
 					{
 					if ( input.LA(1)==68||input.LA(1)==108 ) {
 						input.consume();
@@ -2419,7 +2893,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 40 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:427:4: ( 'DRIVES' | 'drives' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:385:4: ( 'DRIVES' | 'drives' )
 					{
 					if ( input.LA(1)==63||input.LA(1)==103 ) {
 						input.consume();
@@ -2432,7 +2906,7 @@ public class MiniEugeneParser extends Parser {
 					}
 					break;
 				case 41 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:428:4: ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' )
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:386:4: ( 'ALTERNATE_ORIENTATION' | 'alternate_orientation' )
 					{
 					if ( input.LA(1)==59||input.LA(1)==99 ) {
 						input.consume();
@@ -2466,54 +2940,54 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "operand"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:431:1: operand : ( ID | INT | LEFTSBR INT RIGHTSBR );
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:389:1: operand : ( ID | INT | LEFTSBR INT RIGHTSBR );
 	public final MiniEugeneParser.operand_return operand() throws RecognitionException {
 		MiniEugeneParser.operand_return retval = new MiniEugeneParser.operand_return();
 		retval.start = input.LT(1);
 
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:431:9: ( ID | INT | LEFTSBR INT RIGHTSBR )
-			int alt22=3;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:389:9: ( ID | INT | LEFTSBR INT RIGHTSBR )
+			int alt26=3;
 			switch ( input.LA(1) ) {
 			case ID:
 				{
-				alt22=1;
+				alt26=1;
 				}
 				break;
 			case INT:
 				{
-				alt22=2;
+				alt26=2;
 				}
 				break;
 			case LEFTSBR:
 				{
-				alt22=3;
+				alt26=3;
 				}
 				break;
 			default:
 				NoViableAltException nvae =
-					new NoViableAltException("", 22, 0, input);
+					new NoViableAltException("", 26, 0, input);
 				throw nvae;
 			}
-			switch (alt22) {
+			switch (alt26) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:431:11: ID
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:389:11: ID
 					{
-					match(input,ID,FOLLOW_ID_in_operand1284); 
+					match(input,ID,FOLLOW_ID_in_operand1407); 
 					}
 					break;
 				case 2 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:432:4: INT
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:390:4: INT
 					{
-					match(input,INT,FOLLOW_INT_in_operand1290); 
+					match(input,INT,FOLLOW_INT_in_operand1413); 
 					}
 					break;
 				case 3 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:433:4: LEFTSBR INT RIGHTSBR
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:391:4: LEFTSBR INT RIGHTSBR
 					{
-					match(input,LEFTSBR,FOLLOW_LEFTSBR_in_operand1295); 
-					match(input,INT,FOLLOW_INT_in_operand1297); 
-					match(input,RIGHTSBR,FOLLOW_RIGHTSBR_in_operand1299); 
+					match(input,LEFTSBR,FOLLOW_LEFTSBR_in_operand1418); 
+					match(input,INT,FOLLOW_INT_in_operand1420); 
+					match(input,RIGHTSBR,FOLLOW_RIGHTSBR_in_operand1422); 
 					}
 					break;
 
@@ -2535,28 +3009,28 @@ public class MiniEugeneParser extends Parser {
 
 
 	// $ANTLR start "list_of_parameters"
-	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:436:1: list_of_parameters : operand ( COMMA list_of_parameters )? ;
+	// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:394:1: list_of_parameters : operand ( COMMA list_of_parameters )? ;
 	public final void list_of_parameters() throws RecognitionException {
 		try {
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:437:2: ( operand ( COMMA list_of_parameters )? )
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:437:4: operand ( COMMA list_of_parameters )?
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:395:2: ( operand ( COMMA list_of_parameters )? )
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:395:4: operand ( COMMA list_of_parameters )?
 			{
-			pushFollow(FOLLOW_operand_in_list_of_parameters1310);
+			pushFollow(FOLLOW_operand_in_list_of_parameters1433);
 			operand();
 			state._fsp--;
 
-			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:437:12: ( COMMA list_of_parameters )?
-			int alt23=2;
-			int LA23_0 = input.LA(1);
-			if ( (LA23_0==COMMA) ) {
-				alt23=1;
+			// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:395:12: ( COMMA list_of_parameters )?
+			int alt27=2;
+			int LA27_0 = input.LA(1);
+			if ( (LA27_0==COMMA) ) {
+				alt27=1;
 			}
-			switch (alt23) {
+			switch (alt27) {
 				case 1 :
-					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:437:13: COMMA list_of_parameters
+					// /Users/ernstl/PostDoc/BU/Eugene/ecosystem/workspace/miniEugene-core/grammar/MiniEugene.g:395:13: COMMA list_of_parameters
 					{
-					match(input,COMMA,FOLLOW_COMMA_in_list_of_parameters1313); 
-					pushFollow(FOLLOW_list_of_parameters_in_list_of_parameters1315);
+					match(input,COMMA,FOLLOW_COMMA_in_list_of_parameters1436); 
+					pushFollow(FOLLOW_list_of_parameters_in_list_of_parameters1438);
 					list_of_parameters();
 					state._fsp--;
 
@@ -2583,9 +3057,9 @@ public class MiniEugeneParser extends Parser {
 
 
 	public static final BitSet FOLLOW_size_in_miniEugene338 = new BitSet(new long[]{0x0000000000000800L});
-	public static final BitSet FOLLOW_DOT_in_miniEugene340 = new BitSet(new long[]{0xFFF0C80026460020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_DOT_in_miniEugene340 = new BitSet(new long[]{0xFFF0EA0027560020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
 	public static final BitSet FOLLOW_statement_in_miniEugene345 = new BitSet(new long[]{0x0000000000000800L});
-	public static final BitSet FOLLOW_DOT_in_miniEugene347 = new BitSet(new long[]{0xFFF0C80026460022L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_DOT_in_miniEugene347 = new BitSet(new long[]{0xFFF0EA0027560022L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
 	public static final BitSet FOLLOW_fact_in_statement366 = new BitSet(new long[]{0x0000000000000002L});
 	public static final BitSet FOLLOW_constraint_specification_in_statement372 = new BitSet(new long[]{0x0000000000000002L});
 	public static final BitSet FOLLOW_ID_in_fact391 = new BitSet(new long[]{0x0000040000200000L});
@@ -2604,85 +3078,107 @@ public class MiniEugeneParser extends Parser {
 	public static final BitSet FOLLOW_LEFTP_in_composite_constraint498 = new BitSet(new long[]{0x0000000020060000L});
 	public static final BitSet FOLLOW_list_of_parameters_in_composite_constraint500 = new BitSet(new long[]{0x0000002000000000L});
 	public static final BitSet FOLLOW_RIGHTP_in_composite_constraint502 = new BitSet(new long[]{0x0008000000000000L});
-	public static final BitSet FOLLOW_51_in_composite_constraint507 = new BitSet(new long[]{0xFFF0C80026460020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_51_in_composite_constraint507 = new BitSet(new long[]{0xFFF0EA0027560020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
 	public static final BitSet FOLLOW_composite_constraint_block_in_composite_constraint509 = new BitSet(new long[]{0x0000000000000800L});
 	public static final BitSet FOLLOW_DOT_in_composite_constraint511 = new BitSet(new long[]{0x0000000000000002L});
 	public static final BitSet FOLLOW_constraint_in_composite_constraint_block527 = new BitSet(new long[]{0x0000000000000202L});
-	public static final BitSet FOLLOW_COMMA_in_composite_constraint_block530 = new BitSet(new long[]{0xFFF0C80026460020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_COMMA_in_composite_constraint_block530 = new BitSet(new long[]{0xFFF0EA0027560020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
 	public static final BitSet FOLLOW_composite_constraint_block_in_composite_constraint_block532 = new BitSet(new long[]{0x0000000000000002L});
 	public static final BitSet FOLLOW_constraint_in_or_constraint572 = new BitSet(new long[]{0x0000100080800042L});
-	public static final BitSet FOLLOW_set_in_or_constraint577 = new BitSet(new long[]{0xFFF0C80026460020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_set_in_or_constraint577 = new BitSet(new long[]{0xFFF0EA0027560020L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
 	public static final BitSet FOLLOW_or_constraint_in_or_constraint589 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_constraint625 = new BitSet(new long[]{0xFFF0000020060000L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
-	public static final BitSet FOLLOW_operand_in_constraint640 = new BitSet(new long[]{0xFFF0000020060000L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
-	public static final BitSet FOLLOW_operator_in_constraint648 = new BitSet(new long[]{0x0000000020060002L});
-	public static final BitSet FOLLOW_operand_in_constraint655 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_templatingConstraints_in_constraint668 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_templateConstraint_in_templatingConstraints699 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_sequenceConstraint_in_templatingConstraints708 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_templateConstraint731 = new BitSet(new long[]{0x0000000000000100L});
-	public static final BitSet FOLLOW_COLON_in_templateConstraint733 = new BitSet(new long[]{0x0000880004400020L});
-	public static final BitSet FOLLOW_set_in_templateConstraint748 = new BitSet(new long[]{0x0000000020020000L});
-	public static final BitSet FOLLOW_list_of_ids_in_templateConstraint756 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_sequenceConstraint778 = new BitSet(new long[]{0x0000000000000100L});
-	public static final BitSet FOLLOW_COLON_in_sequenceConstraint780 = new BitSet(new long[]{0x0000480002400020L});
-	public static final BitSet FOLLOW_set_in_sequenceConstraint795 = new BitSet(new long[]{0x0000000020020000L});
-	public static final BitSet FOLLOW_list_of_ids_in_sequenceConstraint803 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_list_of_ids837 = new BitSet(new long[]{0x0000000000000202L});
-	public static final BitSet FOLLOW_LEFTSBR_in_list_of_ids842 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_selection_in_list_of_ids846 = new BitSet(new long[]{0x0000004000000000L});
-	public static final BitSet FOLLOW_RIGHTSBR_in_list_of_ids850 = new BitSet(new long[]{0x0000000000000202L});
-	public static final BitSet FOLLOW_COMMA_in_list_of_ids856 = new BitSet(new long[]{0x0000000020020000L});
-	public static final BitSet FOLLOW_list_of_ids_in_list_of_ids860 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_selection887 = new BitSet(new long[]{0x0000000800000002L});
-	public static final BitSet FOLLOW_PIPE_in_selection893 = new BitSet(new long[]{0x0000000000020000L});
-	public static final BitSet FOLLOW_selection_in_selection897 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator916 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator925 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator934 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator943 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator952 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator961 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator970 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator979 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator988 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator997 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1006 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1015 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1024 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1033 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1042 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1051 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1060 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1069 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1078 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1087 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1096 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1105 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1114 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1123 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1132 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1141 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1150 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1159 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1168 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1177 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1186 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1195 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1204 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1213 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1222 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1231 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1240 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1249 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1258 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_set_in_operator1267 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_ID_in_operand1284 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_INT_in_operand1290 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_LEFTSBR_in_operand1295 = new BitSet(new long[]{0x0000000000040000L});
-	public static final BitSet FOLLOW_INT_in_operand1297 = new BitSet(new long[]{0x0000004000000000L});
-	public static final BitSet FOLLOW_RIGHTSBR_in_operand1299 = new BitSet(new long[]{0x0000000000000002L});
-	public static final BitSet FOLLOW_operand_in_list_of_parameters1310 = new BitSet(new long[]{0x0000000000000202L});
-	public static final BitSet FOLLOW_COMMA_in_list_of_parameters1313 = new BitSet(new long[]{0x0000000020060000L});
-	public static final BitSet FOLLOW_list_of_parameters_in_list_of_parameters1315 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_constraint630 = new BitSet(new long[]{0xFFF0000020060000L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_operand_in_constraint645 = new BitSet(new long[]{0xFFF0000020060000L,0xFFFFFFFFFFFFFFFFL,0x000000000000000FL});
+	public static final BitSet FOLLOW_operator_in_constraint653 = new BitSet(new long[]{0x0000000020060002L});
+	public static final BitSet FOLLOW_operand_in_constraint660 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_templatingConstraints_in_constraint673 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_templateConstraint_in_templatingConstraints693 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_sequenceConstraint_in_templatingConstraints702 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_patternConstraint_in_templatingConstraints711 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_groupConstraint_in_templatingConstraints720 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_templateConstraint743 = new BitSet(new long[]{0x0000000000000100L});
+	public static final BitSet FOLLOW_COLON_in_templateConstraint745 = new BitSet(new long[]{0x0000880004400020L});
+	public static final BitSet FOLLOW_UC_NOT_in_templateConstraint752 = new BitSet(new long[]{0x0000800004000000L});
+	public static final BitSet FOLLOW_LC_NOT_in_templateConstraint756 = new BitSet(new long[]{0x0000800004000000L});
+	public static final BitSet FOLLOW_BOOL_NOT_in_templateConstraint760 = new BitSet(new long[]{0x0000800004000000L});
+	public static final BitSet FOLLOW_set_in_templateConstraint764 = new BitSet(new long[]{0x0000000020020000L});
+	public static final BitSet FOLLOW_list_of_ids_in_templateConstraint772 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_sequenceConstraint794 = new BitSet(new long[]{0x0000000000000100L});
+	public static final BitSet FOLLOW_COLON_in_sequenceConstraint796 = new BitSet(new long[]{0x0000480002400020L});
+	public static final BitSet FOLLOW_UC_NOT_in_sequenceConstraint803 = new BitSet(new long[]{0x0000400002000000L});
+	public static final BitSet FOLLOW_LC_NOT_in_sequenceConstraint807 = new BitSet(new long[]{0x0000400002000000L});
+	public static final BitSet FOLLOW_BOOL_NOT_in_sequenceConstraint811 = new BitSet(new long[]{0x0000400002000000L});
+	public static final BitSet FOLLOW_set_in_sequenceConstraint815 = new BitSet(new long[]{0x0000000020020000L});
+	public static final BitSet FOLLOW_list_of_ids_in_sequenceConstraint823 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_patternConstraint846 = new BitSet(new long[]{0x0000000000000100L});
+	public static final BitSet FOLLOW_COLON_in_patternConstraint848 = new BitSet(new long[]{0x0000280001400020L});
+	public static final BitSet FOLLOW_UC_NOT_in_patternConstraint855 = new BitSet(new long[]{0x0000200001000000L});
+	public static final BitSet FOLLOW_LC_NOT_in_patternConstraint859 = new BitSet(new long[]{0x0000200001000000L});
+	public static final BitSet FOLLOW_BOOL_NOT_in_patternConstraint863 = new BitSet(new long[]{0x0000200001000000L});
+	public static final BitSet FOLLOW_set_in_patternConstraint867 = new BitSet(new long[]{0x0000000020020000L});
+	public static final BitSet FOLLOW_list_of_ids_in_patternConstraint875 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_groupConstraint897 = new BitSet(new long[]{0x0000000000000100L});
+	public static final BitSet FOLLOW_COLON_in_groupConstraint899 = new BitSet(new long[]{0x00000A0000500020L});
+	public static final BitSet FOLLOW_UC_NOT_in_groupConstraint906 = new BitSet(new long[]{0x0000020000100000L});
+	public static final BitSet FOLLOW_LC_NOT_in_groupConstraint910 = new BitSet(new long[]{0x0000020000100000L});
+	public static final BitSet FOLLOW_BOOL_NOT_in_groupConstraint914 = new BitSet(new long[]{0x0000020000100000L});
+	public static final BitSet FOLLOW_set_in_groupConstraint918 = new BitSet(new long[]{0x0000000020020000L});
+	public static final BitSet FOLLOW_list_of_ids_in_groupConstraint926 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_list_of_ids960 = new BitSet(new long[]{0x0000000000000202L});
+	public static final BitSet FOLLOW_LEFTSBR_in_list_of_ids965 = new BitSet(new long[]{0x0000000000020000L});
+	public static final BitSet FOLLOW_selection_in_list_of_ids969 = new BitSet(new long[]{0x0000004000000000L});
+	public static final BitSet FOLLOW_RIGHTSBR_in_list_of_ids973 = new BitSet(new long[]{0x0000000000000202L});
+	public static final BitSet FOLLOW_COMMA_in_list_of_ids979 = new BitSet(new long[]{0x0000000020020000L});
+	public static final BitSet FOLLOW_list_of_ids_in_list_of_ids983 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_selection1010 = new BitSet(new long[]{0x0000000800000002L});
+	public static final BitSet FOLLOW_PIPE_in_selection1016 = new BitSet(new long[]{0x0000000000020000L});
+	public static final BitSet FOLLOW_selection_in_selection1020 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1039 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1048 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1057 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1066 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1075 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1084 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1093 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1102 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1111 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1120 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1129 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1138 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1147 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1156 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1165 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1174 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1183 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1192 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1201 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1210 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1219 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1228 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1237 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1246 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1255 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1264 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1273 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1282 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1291 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1300 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1309 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1318 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1327 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1336 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1345 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1354 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1363 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1372 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1381 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_set_in_operator1390 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_ID_in_operand1407 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_INT_in_operand1413 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_LEFTSBR_in_operand1418 = new BitSet(new long[]{0x0000000000040000L});
+	public static final BitSet FOLLOW_INT_in_operand1420 = new BitSet(new long[]{0x0000004000000000L});
+	public static final BitSet FOLLOW_RIGHTSBR_in_operand1422 = new BitSet(new long[]{0x0000000000000002L});
+	public static final BitSet FOLLOW_operand_in_list_of_parameters1433 = new BitSet(new long[]{0x0000000000000202L});
+	public static final BitSet FOLLOW_COMMA_in_list_of_parameters1436 = new BitSet(new long[]{0x0000000020060000L});
+	public static final BitSet FOLLOW_list_of_parameters_in_list_of_parameters1438 = new BitSet(new long[]{0x0000000000000002L});
 }
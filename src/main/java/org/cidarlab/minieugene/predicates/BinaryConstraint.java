@@ -32,6 +32,7 @@
 
 package org.cidarlab.minieugene.predicates;
 
+import java.util.Objects;
 
 /**
  * Binary predicates have two operands 
@@ -82,4 +83,16 @@ public abstract class BinaryConstraint
 	public int getNum() {
 		return this.num;
 	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return super.equals(o) && 
+				Objects.equals(this.b, ((BinaryConstraint)o).b) && 
+				this.num == ((BinaryConstraint)o).num;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (31 * super.hashCode() + Objects.hashCode(this.b)) + this.num;
+	}
 }
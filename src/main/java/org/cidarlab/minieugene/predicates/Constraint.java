@@ -38,7 +38,11 @@ import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.solver.jacop.Variables;
 
 import org.jacop.constraints.Count;
+import org.jacop.constraints.Eq;
+import org.jacop.constraints.Max;
+import org.jacop.constraints.Min;
 import org.jacop.constraints.PrimitiveConstraint;
+import org.jacop.constraints.XeqC;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -80,7 +84,8 @@ public abstract class Constraint {
 	 * of a given constraint operand.
 	 * 
 	 *  If the counter variable exists, then we return the counter variable. Otherwise 
-	 *  we impose a new counter variable.
+	 *  we impose a new counter variable. If the variable matrix contains the counter 
+	 *  rows, then the counters are kept there by id.
 	 *  
 	 * @param store ... the variable and constraint stor
 	 * @param variables ... the variables
@@ -90,6 +95,22 @@ public abstract class Constraint {
 	 */
 	protected IntVar createCounter(Store store, IntVar[][] variables, ConstraintOperand op) {
 
+		/*
+		 * the counters of the counting compilation pass 
+		 * are found by the operand's id
+		 */
+		int row = op.getOperand() instanceof ComponentType ? 
+				Variables.TYPE_COUNTER : Variables.PART_COUNTER;
+		IntVar[] counters = variables.length > row ? variables[row] : null;
+		int id = op.getOperand().getId();
+		if(null != counters && id < counters.length) {
+			if(null == counters[id]) {
+				counters[id] = new IntVar(store, 0, variables[Variables.PART].length);
+				store.impose(new Count(variables[this.getVariableIndex(op)], counters[id], id));
+			}
+			return counters[id];
+		}
+		
 		IntVar counter = null;
 		if(op.getOperand() instanceof Component) {
 			
@@ -121,6 +142,122 @@ public abstract class Constraint {
 		return counter;
 	}
 	
+	/**
+	 * The hasPositions/1 method returns true if the variable matrix 
+	 * contains the position layer, i.e. if the constraints can be 
+	 * imposed on the first and last position of their operands.
+	 * 
+	 * @param variables ... the variables
+	 * @return true if the position layer is enabled
+	 */
+	protected boolean hasPositions(IntVar[][] variables) {
+		return variables.length > Variables.POSITION && 
+				null != variables[Variables.POSITION];
+	}
+	
+	/**
+	 * The overlaps/2 method returns true if two constraint operands
+	 * can be placed at the same position, i.e. if they are the same
+	 * operand or if one operand is a part of the other operand's type.
+	 * The first and last positions of overlapping operands do not
+	 * order them, hence such rules are imposed pairwise.
+	 *
+	 * @param a ... the first constraint operand
+	 * @param b ... the second constraint operand
+	 * @return true if a and b can be placed at the same position
+	 */
+	protected boolean overlaps(ConstraintOperand a, ConstraintOperand b) {
+		if(a.getOperand().equals(b.getOperand())) {
+			return true;
+		}
+		return isOfType(a, b) || isOfType(b, a);
+	}
+
+	private static boolean isOfType(ConstraintOperand part, ConstraintOperand type) {
+		if(part.isPrimitiveComponent() && type.isType()) {
+			Component c = (Component)part.getOperand();
+			return null != c.getType() &&
+					c.getTypeId() == type.getOperand().getId();
+		}
+		return false;
+	}
+
+	/**
+	 * The createFirst/3 method imposes a variable that holds the index 
+	 * of the first occurrence of a given constraint operand. 
+	 * If the operand does not occur, then the variable is N.
+	 * 
+	 *  If the variable exists, then we return the variable. Otherwise 
+	 *  we impose a new variable.
+	 *  
+	 * @param store ... the variable and constraint store
+	 * @param variables ... the variables
+	 * @param op ... the constraint operand
+	 * 
+	 * @return the variable of the first position
+	 */
+	protected IntVar createFirst(Store store, IntVar[][] variables, ConstraintOperand op) {
+		return this.createPosition(store, variables, op, true);
+	}
+	
+	/**
+	 * The createLast/3 method imposes a variable that holds the index 
+	 * of the last occurrence of a given constraint operand. 
+	 * If the operand does not occur, then the variable is -1.
+	 * 
+	 *  If the variable exists, then we return the variable. Otherwise 
+	 *  we impose a new variable.
+	 *  
+	 * @param store ... the variable and constraint store
+	 * @param variables ... the variables
+	 * @param op ... the constraint operand
+	 * 
+	 * @return the variable of the last position
+	 */
+	protected IntVar createLast(Store store, IntVar[][] variables, ConstraintOperand op) {
+		return this.createPosition(store, variables, op, false);
+	}
+	
+	/*
+	 * the first (last) position is the minimum (maximum) of N auxiliary 
+	 * variables, one per position. The i-th variable is i if the operand 
+	 * is placed at the i-th position and N (-1) otherwise. 
+	 * Hence, we need O(N) constraints per operand.
+	 */
+	private IntVar createPosition(Store store, IntVar[][] variables, ConstraintOperand op, boolean first) {
+		
+		String name = op.getOperand().getName() + (first ? "-first" : "-last");
+		IntVar position = (IntVar)store.findVariable(name);
+		if(null == position) {
+			
+			IntVar[] row = variables[this.getVariableIndex(op)];
+			int id = op.getOperand().getId();
+			int N = row.length;
+			int none = first ? N : -1;
+			
+			IntVar[] indices = new IntVar[N];
+			for(int i=0; i<N; i++) {
+				indices[i] = new IntVar(store, name + i);
+				indices[i].addDom(Math.min(i, none), Math.min(i, none));
+				indices[i].addDom(Math.max(i, none), Math.max(i, none));
+				
+				// operand at i <=> index is i
+				store.impose(new Eq(
+						new XeqC(row[i], id), 
+						new XeqC(indices[i], i)));
+			}
+			
+			position = new IntVar(store, name, -1, N);
+			if(first) {
+				store.impose(new Min(indices, position));
+			} else {
+				store.impose(new Max(indices, position));
+			}
+		}
+		
+		return position;
+	}
+	
 	/**
 	 * The getVariableIndex/1 method takes as input a constraint operand 
 	 * and returns the row index of the variable matrix.
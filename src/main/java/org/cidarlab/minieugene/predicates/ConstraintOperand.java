@@ -87,6 +87,24 @@ public class ConstraintOperand {
 		return this.getIndex() != -1;
 	}
 	
+	/*
+	 * two operands are equal if they refer to 
+	 * the same symbol or to the same index
+	 */
+	@Override
+	public boolean equals(Object o) {
+		if(!(o instanceof ConstraintOperand)) {
+			return false;
+		}
+		ConstraintOperand co = (ConstraintOperand)o;
+		return this.operand == co.operand && this.index == co.index;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (null == this.operand ? 0 : this.operand.hashCode()) + this.index;
+	}
+	
 	@Override
 	public String toString() {
 		StringBuilder sb = new StringBuilder();
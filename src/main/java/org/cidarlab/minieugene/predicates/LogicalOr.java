@@ -38,6 +38,7 @@ import java.util.List;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.predicates.counting.CountingConstraint;
 
+import org.jacop.constraints.And;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.core.IntVar;
@@ -94,7 +95,8 @@ public class LogicalOr
 			pc[i++] = predicate.toJaCoPNot(store, variables);
 		}
 		
-		return new Or(pc);
+		// NOT (a OR b) <=> NOT a AND NOT b
+		return new And(pc);
 	}
 
 	@Override
@@ -94,4 +94,19 @@ public abstract class LogicalPredicate
 	 */
 	public abstract int getNumberOfRules();
 
+	/*
+	 * two logical predicates are structurally equal if they 
+	 * are of the same class and have equal sub-predicates
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return null != o && this.getClass() == o.getClass() && 
+				this.constraints.equals(((LogicalPredicate)o).constraints);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * this.getClass().hashCode() + this.constraints.hashCode();
+	}
+
 }
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.predicates;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.cidarlab.minieugene.predicates.counting.Contains;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.counting.MoreThan;
+import org.cidarlab.minieugene.predicates.position.after.AllAfter;
+import org.cidarlab.minieugene.predicates.position.after.SomeAfter;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.before.SomeBefore;
+
+/**
+ * The RuleSimplifier class rewrites the rules of a design 
+ * before they get translated into JaCoP constraints. 
+ * 
+ * The rewriting 
+ * - flattens nested conjunctions and disjunctions 
+ * - collapses double negations, i.e. NOT NOT a -> a 
+ * - pushes negations inward, i.e. NOT (a OR b) -> NOT a AND NOT b and 
+ *   NOT (a AND b) -> NOT a OR NOT b 
+ * - normalizes a AFTER b into b BEFORE a 
+ * - removes structurally equal rules 
+ * - removes the counting rules that are implied by stronger counting rules, 
+ *   e.g. CONTAINS a is implied by a EXACTLY 2 
+ * 
+ * The simplified rules are satisfied by exactly the same designs.
+ * 
+ * a SOME_BEFORE b is kept even if a ALL_BEFORE b holds and a and b are 
+ * contained in the design. The first position of a and the last position 
+ * of b that it introduces strengthen the propagation of the ALL_BEFORE 
+ * rule in the position layer.
+ * 
+ * @author Ernst Oberortner
+ */
+public class RuleSimplifier {
+
+	private int removedRules;
+	
+	public RuleSimplifier() {
+		this.removedRules = 0;
+	}
+	
+	/**
+	 * simplify/1 returns a conjunction of simplified rules 
+	 * that has the same maximum design length as the given one.
+	 * 
+	 * @param and ... the rules of the design
+	 * @return the simplified rules
+	 */
+	public LogicalAnd simplify(LogicalAnd and) {
+		
+		this.removedRules = 0;
+
+		/*
+		 * first, we rewrite the rules into a flat 
+		 * list of conjuncts
+		 */
+		List<Constraint> rules = new ArrayList<Constraint>();
+		for(Constraint rule : and.getConstraints()) {
+			this.conjoin(rules, rule);
+		}
+
+		/*
+		 * then, we remove duplicates...
+		 */
+		Set<Constraint> unique = new LinkedHashSet<Constraint>(rules);
+		this.removedRules += rules.size() - unique.size();
+		
+		/*
+		 * ... and the rules that are implied by stronger ones
+		 */
+		List<Constraint> simplified = new ArrayList<Constraint>();
+		for(Constraint rule : unique) {
+			if(isImplied(rule, unique)) {
+				this.removedRules ++;
+			} else {
+				simplified.add(rule);
+			}
+		}
+		
+		LogicalAnd la = new LogicalAnd(simplified);
+		la.setMaxN(and.getMaxN());
+		return la;
+	}
+	
+	/**
+	 * @return the number of rules that the last simplification removed
+	 */
+	public int getRemovedRules() {
+		return this.removedRules;
+	}
+	
+	/*
+	 * conjoin/2 adds the conjuncts of the given rule to the list of rules
+	 */
+	private void conjoin(List<Constraint> rules, Constraint rule) {
+		
+		if(rule instanceof LogicalAnd) {
+			for(Constraint c : ((LogicalAnd)rule).getConstraints()) {
+				this.conjoin(rules, c);
+			}
+			return;
+		} else if(rule instanceof LogicalNot) {
+			Constraint negated = ((LogicalNot)rule).getConstraints().get(0);
+			
+			if(negated instanceof LogicalNot) {
+				// NOT NOT a -> a
+				this.conjoin(rules, ((LogicalNot)negated).getConstraints().get(0));
+				return;
+			} else if(negated instanceof LogicalOr) {
+				// NOT (a OR b) -> NOT a AND NOT b
+				for(Constraint c : ((LogicalOr)negated).getConstraints()) {
+					this.conjoin(rules, new LogicalNot(c));
+				}
+				return;
+			}
+		}
+		
+		rules.add(rewrite(rule));
+	}
+	
+	/*
+	 * rewrite/1 returns the simplified form of a rule 
+	 * that is nested in a disjunction or negation
+	 */
+	private static Constraint rewrite(Constraint rule) {
+		
+		if(rule instanceof LogicalNot) {
+			Constraint negated = ((LogicalNot)rule).getConstraints().get(0);
+			
+			if(negated instanceof LogicalNot) {
+				// NOT NOT a -> a
+				return rewrite(((LogicalNot)negated).getConstraints().get(0));
+			} else if(negated instanceof LogicalAnd) {
+				// NOT (a AND b) -> NOT a OR NOT b
+				List<Constraint> lst = new ArrayList<Constraint>();
+				for(Constraint c : ((LogicalAnd)negated).getConstraints()) {
+					lst.add(new LogicalNot(c));
+				}
+				return rewrite(new LogicalOr(lst));
+			}
+			return new LogicalNot(rewrite(negated));
+			
+		} else if(rule instanceof LogicalOr) {
+
+			// the alternatives of nested disjunctions are flattened and de-duplicated
+			Set<Constraint> alternatives = new LinkedHashSet<Constraint>();
+			for(Constraint c : ((LogicalOr)rule).getConstraints()) {
+				Constraint alternative = rewrite(c);
+				if(alternative instanceof LogicalOr) {
+					alternatives.addAll(((LogicalOr)alternative).getConstraints());
+				} else {
+					alternatives.add(alternative);
+				}
+			}
+			
+			if(alternatives.size() == 1) {
+				return alternatives.iterator().next();
+			}
+			return new LogicalOr(new ArrayList<Constraint>(alternatives));
+			
+		} else if(rule instanceof AllAfter) {
+			// a ALL_AFTER b -> b ALL_BEFORE a
+			return new AllBefore(((AllAfter)rule).getB(), ((AllAfter)rule).getA());
+		} else if(rule instanceof SomeAfter) {
+			// a SOME_AFTER b -> b SOME_BEFORE a
+			return new SomeBefore(((SomeAfter)rule).getB(), ((SomeAfter)rule).getA());
+		}
+		
+		return rule;
+	}
+	
+	/*
+	 * minCount/1 returns the minimum number of occurrences 
+	 * that a counting rule requires of its operand 
+	 */
+	private static int minCount(Constraint rule) {
+		if(rule instanceof Contains) {
+			return 1;
+		} else if(rule instanceof Exactly) {
+			return ((Exactly)rule).getNum();
+		} else if(rule instanceof MoreThan) {
+			return ((MoreThan)rule).getNum() + 1;
+		}
+		return 0;
+	}
+	
+	/*
+	 * isImplied/2 returns true if the given rule is implied 
+	 * by a stronger rule of the same design
+	 */
+	private static boolean isImplied(Constraint rule, Set<Constraint> rules) {
+
+		if(rule instanceof Contains || rule instanceof MoreThan) {
+
+			/*
+			 * CONTAINS a is implied by a EXACTLY n (n > 0) and a MORETHAN n, 
+			 * and a MORETHAN n is implied by a EXACTLY m and a MORETHAN m (m > n)
+			 */
+			int min = minCount(rule);
+			ConstraintOperand a = ((UnaryConstraint)rule).getA();
+			for(Constraint c : rules) {
+				if((c instanceof Exactly || c instanceof MoreThan) && !c.equals(rule) && 
+						a.equals(((UnaryConstraint)c).getA()) && minCount(c) >= min) {
+					return true;
+				}
+			}
+			
+		}
+		
+		return false;
+	}
+}
@@ -32,6 +32,8 @@
 
 package org.cidarlab.minieugene.predicates;
 
+import java.util.Objects;
+
 import org.cidarlab.minieugene.dom.Component;
 
 
@@ -65,4 +67,19 @@ public abstract class UnaryConstraint
 	public ConstraintOperand getA() {
 		return this.a;
 	}
+	
+	/*
+	 * two rules are structurally equal if they are 
+	 * of the same class and have equal operands
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return null != o && this.getClass() == o.getClass() && 
+				Objects.equals(this.a, ((UnaryConstraint)o).a);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * this.getClass().hashCode() + Objects.hashCode(this.a);
+	}
 }
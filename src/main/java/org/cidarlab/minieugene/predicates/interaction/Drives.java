@@ -45,12 +45,16 @@ import org.cidarlab.minieugene.predicates.position.before.AllBefore;
 import org.cidarlab.minieugene.solver.jacop.Variables;
 
 import org.jacop.constraints.And;
+import org.jacop.constraints.ElementVariable;
+import org.jacop.constraints.Eq;
 import org.jacop.constraints.IfThen;
-import org.jacop.constraints.Not;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XeqY;
 import org.jacop.constraints.XneqC;
+import org.jacop.constraints.XneqY;
+import org.jacop.constraints.XplusYeqZ;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -68,6 +72,15 @@ public class Drives
 		return Interaction.InteractionType.DRIVES.toString();
 	}
 
+	@Override	
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(this.getA()).append(" ")
+			.append(this.getOperator()).append(" ")
+			.append(this.getB());
+		return sb.toString();
+	}
+
 	@Override
 	public PrimitiveConstraint toJaCoP(Store store, IntVar[][] variables) 
 				throws MiniEugeneException {
@@ -76,13 +89,13 @@ public class Drives
 		
     	// FORWARD ORIENTED
     	PrimitiveConstraint[] pcForward = new PrimitiveConstraint[3];
-		pcForward[0] = noTerminatorBetween(variables, this.getA(), this.getB());
+		pcForward[0] = noTerminatorBetween(store, variables, this.getA(), this.getB());
 		pcForward[1] = new AllBefore(this.getA(), this.getB()).toJaCoP(store, variables);
 		pcForward[2] = new AllForward(this.getA()).toJaCoP(store, variables);
 		
 		// REVERSE ORIENTED
 		PrimitiveConstraint[] pcReverse = new PrimitiveConstraint[3];
-		pcReverse[0] = noTerminatorBetween(variables, this.getB(), this.getA());
+		pcReverse[0] = noTerminatorBetween(store, variables, this.getB(), this.getA());
 		pcReverse[1] = new AllBefore(this.getB(), this.getA()).toJaCoP(store, variables);
 		pcReverse[2] = new AllReverse(this.getA()).toJaCoP(store, variables);
 
@@ -103,15 +116,105 @@ public class Drives
 	
 	
 	private PrimitiveConstraint noTerminatorBetween(
-			IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
+			Store store, IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
 		
 		if(A.getOperand() != null && B.getOperand() != null) {
+			if(this.hasPositions(variables) && !this.overlaps(A, B)) {
+				return this.noTerminatorBetweenPositions(store, variables, A, B);
+			}
 			return this.componentDrivesComponent(variables, A, B);
 		}
 		
 		return null;
 	}
 	
+	/*
+	 * A is placed before B. Then, there's no terminator between 
+	 * any A and any B iff the number of terminators before the first A 
+	 * equals the number of terminators before the last B. 
+	 * Hence, we need O(N) constraints (the prefix counters are shared 
+	 * by all DRIVES rules) and O(1) constraints per rule.
+	 */
+	private PrimitiveConstraint noTerminatorBetweenPositions(
+			Store store, IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
+		
+		int N = variables[Variables.PART].length;
+		
+		IntVar firstA = this.createFirst(store, variables, A);
+		IntVar lastB = this.createLast(store, variables, B);
+		
+		return new Or(
+				new PrimitiveConstraint[] {
+					new XeqC(firstA, N),		// no A
+					new XeqC(lastB, -1),		// no B
+					new XeqY(
+						terminatorsBefore(store, variables, firstA, true), 
+						terminatorsBefore(store, variables, lastB, false))});
+	}
+	
+	/*
+	 * terminatorsBefore/4 returns the number of terminators 
+	 * that are placed before the given first (last) position
+	 */
+	private static IntVar terminatorsBefore(Store store, IntVar[][] variables, IntVar position, boolean first) {
+		
+		String name = position.id() + "-terminators";
+		IntVar terminators = (IntVar)store.findVariable(name);
+		if(null == terminators) {
+			
+			IntVar[] prefix = createTerminatorCounters(store, variables);
+			int N = prefix.length - 1;
+			terminators = new IntVar(store, name, 0, N);
+			
+			if(first) {
+				// first position: 0 .. N (N ... not placed)
+				store.impose(new ElementVariable(position, prefix, terminators, -1));
+			} else {
+				// last position: -1 .. N-1 (-1 ... not placed)
+				IntVar[] list = new IntVar[N + 1];
+				list[0] = prefix[0];
+				System.arraycopy(prefix, 0, list, 1, N);
+				store.impose(new ElementVariable(position, list, terminators, -2));
+			}
+		}
+		return terminators;
+	}
+	
+	/*
+	 * createTerminatorCounters/2 returns N+1 counters. 
+	 * The i-th counter is the number of terminators 
+	 * at the positions 0 .. i-1.
+	 */
+	private static IntVar[] createTerminatorCounters(Store store, IntVar[][] variables) {
+		
+		int N = variables[Variables.TYPE].length;
+		IntVar[] prefix = new IntVar[N + 1];
+		
+		prefix[0] = (IntVar)store.findVariable("terminators-0");
+		if(null != prefix[0]) {
+			for(int i=1; i<=N; i++) {
+				prefix[i] = (IntVar)store.findVariable("terminators-" + i);
+			}
+			return prefix;
+		}
+		
+		int termId = PredefinedTypes.toId(PredefinedTypes.toPartType("TERMINATOR"));
+
+		prefix[0] = new IntVar(store, "terminators-0", 0, 0);
+		for(int i=0; i<N; i++) {
+			
+			// is the i-th part a terminator?
+			IntVar terminator = new IntVar(store, "terminator-" + i, 0, 1);
+			store.impose(new Eq(
+					new XeqC(variables[Variables.TYPE][i], termId), 
+					new XeqC(terminator, 1)));
+			
+			prefix[i + 1] = new IntVar(store, "terminators-" + (i + 1), 0, i + 1);
+			store.impose(new XplusYeqZ(prefix[i], terminator, prefix[i + 1]));
+		}
+		return prefix;
+	}
+	
 	private PrimitiveConstraint componentDrivesComponent(
 			IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
 			
@@ -177,8 +280,94 @@ public class Drives
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
 		
-		// we just negate the toJaCoP primitive constraint
-		return new Not((PrimitiveConstraint)this.toJaCoP(store, variables));
+		// NOT FORWARD ORIENTED
+		PrimitiveConstraint[] pcForward = new PrimitiveConstraint[3];
+		pcForward[0] = terminatorBetween(store, variables, this.getA(), this.getB());
+		pcForward[1] = new AllBefore(this.getA(), this.getB()).toJaCoPNot(store, variables);
+		pcForward[2] = new AllForward(this.getA()).toJaCoPNot(store, variables);
+		
+		// NOT REVERSE ORIENTED
+		PrimitiveConstraint[] pcReverse = new PrimitiveConstraint[3];
+		pcReverse[0] = terminatorBetween(store, variables, this.getB(), this.getA());
+		pcReverse[1] = new AllBefore(this.getB(), this.getA()).toJaCoPNot(store, variables);
+		pcReverse[2] = new AllReverse(this.getA()).toJaCoPNot(store, variables);
+		
+		// NOT a drives b <=>
+		//     NOT a same_orientation b \/
+		//     ( NOT forward oriented /\ NOT reverse oriented )
+		return new Or(
+				new AllSameOrientation(this.getA(), this.getB()).toJaCoPNot(store, variables),
+				new And(
+						new Or(pcForward), 
+						new Or(pcReverse)));
+	}
+	
+	private PrimitiveConstraint terminatorBetween(
+			Store store, IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
+		
+		if(A.getOperand() != null && B.getOperand() != null) {
+			if(this.hasPositions(variables) && !this.overlaps(A, B)) {
+				
+				int N = variables[Variables.PART].length;
+				
+				IntVar firstA = this.createFirst(store, variables, A);
+				IntVar lastB = this.createLast(store, variables, B);
+				
+				// A and B occur and there's a terminator in between
+				return new And(
+						new PrimitiveConstraint[] {
+							new XneqC(firstA, N),
+							new XneqC(lastB, -1),
+							new XneqY(
+								terminatorsBefore(store, variables, firstA, true), 
+								terminatorsBefore(store, variables, lastB, false))});
+			}
+			return this.componentTerminatorComponent(variables, A, B);
+		}
+		
+		return null;
+	}
+	
+	/*
+	 * componentTerminatorComponent/3 is the negation of 
+	 * componentDrivesComponent/3, i.e. there's an A and a B 
+	 * with a terminator in between (or at the same position)
+	 */
+	private PrimitiveConstraint componentTerminatorComponent(
+			IntVar[][] variables, ConstraintOperand A, ConstraintOperand B) {
+		
+		int termId = PredefinedTypes.toId(PredefinedTypes.toPartType("TERMINATOR"));
+		
+		int N = variables[Variables.PART].length;
+		int va = this.getVariableIndex(A);
+		int vb = this.getVariableIndex(B);
+		
+		PrimitiveConstraint pc[] = new PrimitiveConstraint[N];
+		for(int i=0; i<N; i++) {
+			
+			PrimitiveConstraint[] downstream = new PrimitiveConstraint[N];
+			for(int j=0; j<N; j++) {
+				if(i == j) {
+					downstream[j] = new XeqC(variables[vb][j], B.getOperand().getId());
+				} else {
+					int from = Math.min(i, j);
+					int to = Math.max(i, j);
+					PrimitiveConstraint[] terminator = new PrimitiveConstraint[to - from];
+					for(int k=from; k<to; k++) {
+						terminator[k-from] = new XeqC(variables[Variables.TYPE][k], termId);
+					}
+					downstream[j] = new And(
+							new XeqC(variables[vb][j], B.getOperand().getId()), 
+							new Or(terminator));
+				}
+			}
+			
+			pc[i] = new And(
+						new XeqC(variables[va][i], A.getOperand().getId()), 
+						new Or(downstream));
+		}
+		
+		return new Or(pc);
 	}
 
 }
@@ -43,8 +43,10 @@ import org.cidarlab.minieugene.solver.jacop.Variables;
 import org.jacop.constraints.And;
 import org.jacop.constraints.IfThen;
 import org.jacop.constraints.Not;
+import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XneqC;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -114,7 +116,26 @@ public class AllReverse
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
 		
-		return new Not(this.toJaCoP(store, variables));
+		int N = variables[Variables.ORIENTATION].length;
+		if(null != this.getA() && null == this.getA().getOperand()) {
+			if((-1) < this.getA().getIndex() && this.getA().getIndex() < N) {
+				return new XneqC(variables[Variables.ORIENTATION][this.getA().getIndex()], -1);
+			}
+			return new Not(this.toJaCoP(store, variables));
+		}
+
+		// some (a) is forward oriented
+		PrimitiveConstraint[] pc = new PrimitiveConstraint[N];
+		for(int i=0; i<N; i++) {
+			if(null == this.getA()) {
+				pc[i] = new XneqC(variables[Variables.ORIENTATION][i], -1);
+			} else {
+				pc[i] = new And(
+							new XeqC(variables[this.getVariableIndex(this.getA())][i], this.getA().getOperand().getId()), 
+							new XneqC(variables[Variables.ORIENTATION][i], -1));
+			}
+		}
+		return new Or(pc);
 	}
 
 }
@@ -42,7 +42,6 @@ import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.And;
-import org.jacop.constraints.Not;
 
 /*
  * a SAME_ORIENTATION b
@@ -91,7 +90,19 @@ public class AllSameOrientation
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
 		
-		return new Not(this.toJaCoP(store, variables));
+		AllForward afa = new AllForward(this.getA());
+		AllForward afb = new AllForward(this.getB());
+		
+		AllReverse ara = new AllReverse(this.getA());
+		AllReverse arb = new AllReverse(this.getB());
+		
+		// NOT a SAME_ORIENTATION b <=>
+		//     (NOT ALL_FORWARD a \/ NOT ALL_FORWARD b)  /\
+		//     (NOT ALL_REVERSE a \/ NOT ALL_REVERSE b)
+		
+		return new And(
+				new Or(afa.toJaCoPNot(store, variables), afb.toJaCoPNot(store, variables)),
+				new Or(ara.toJaCoPNot(store, variables), arb.toJaCoPNot(store, variables)));
 	}
 
 }
@@ -33,21 +33,19 @@
 package org.cidarlab.minieugene.predicates.orientation;
 
 import org.cidarlab.minieugene.constants.RuleOperator;
-import org.cidarlab.minieugene.dom.Component;
-import org.cidarlab.minieugene.dom.Identified;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.predicates.ConstraintOperand;
 import org.cidarlab.minieugene.predicates.UnaryConstraint;
 import org.cidarlab.minieugene.solver.jacop.Variables;
 import org.jacop.constraints.And;
 import org.jacop.constraints.IfThen;
-import org.jacop.constraints.Not;
+import org.jacop.constraints.IfThenElse;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
-import org.jacop.constraints.Reified;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XeqY;
 import org.jacop.constraints.XneqC;
-import org.jacop.core.BooleanVar;
+import org.jacop.constraints.XneqY;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -83,77 +81,104 @@ public class AlternateOrientation
 				throws MiniEugeneException {
 		
 		if(null != this.getA()) {
-			return alternate(store, variables, this.getA().getOperand());
+			return alternate(store, variables, this.getA(), false);
 		} else {
-			return alternate(store, variables);
+			return alternate(store, variables, false);
 		}
 
 	}
 	
+	@Override
+	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
+			throws MiniEugeneException {
+		
+		if(null != this.getA()) {
+			return alternate(store, variables, this.getA(), true);
+		} else {
+			return alternate(store, variables, true);
+		}
+	}
+	
 	/**
-	 * to alternate the orientation of the component c
+	 * to alternate the orientation of the operand a, i.e. every occurrence 
+	 * of a is oriented differently than a's previous occurrence. 
+	 * If negated, then there are two successive occurrences of a 
+	 * with the same orientation.
 	 * 
 	 * @param store
 	 * @param variables
-	 * @param c
+	 * @param a
+	 * @param negated
 	 * @return
 	 */
-	private PrimitiveConstraint alternate(Store store, IntVar[][] variables, Identified id) {
-		
-		/*
-		 * here, we need memory of the orientation of c's last occurrence
-		 */
-		IntVar iVar = null;
-		if(null == (iVar = (IntVar)store.findVariable(id.getName()+"-is-forward"))) {
-			iVar = new IntVar(store, id.getName()+"-is-forward");
-			iVar.addDom(0, 1);
-		}
-		
+	private PrimitiveConstraint alternate(Store store, IntVar[][] variables, ConstraintOperand a, boolean negated) {
 		
 		int N = variables[Variables.ORIENTATION].length;
+		int v = this.getVariableIndex(a);
+		int id = a.getOperand().getId();
 		
-		BooleanVar[] isC = new BooleanVar[N];
-		BooleanVar[] isForward = new BooleanVar[N];
+		IntVar[] previous = createPreviousOrientations(store, variables, a);
 		
 		PrimitiveConstraint[] pc = new PrimitiveConstraint[N];
 		for(int i=0; i<N; i++) {
-			
-			isC[i] = new BooleanVar(store, "is"+id.getName());
-			isForward[i] = new BooleanVar(store, id.getName()+".isForward");
-			
-			/*
-			 * IF c(i) /\ forward(i) THEN
-			 * 		id.isForward(i) = TRUE
-			 * ELSE
-			 * 		id.isForward(i) = FALSE
-			 */
-			
-			pc[i] = new Or(
-						new IfThen(
-								new XeqC(iVar, 0),
-								new And( 
-										new And(new XeqC(variables[Variables.PART][i], id.getId()), new  XeqC(variables[Variables.ORIENTATION][i], 1)),
-										new XeqC(iVar, 1))),
-						new IfThen(
-								new XeqC(iVar, 1),
-								new And( 
-										new And(new XeqC(variables[Variables.PART][i], id.getId()), new  XeqC(variables[Variables.ORIENTATION][i], -1) ),
-										new XeqC(iVar, 0)))
-						);
+			if(negated) {
+				pc[i] = new And(
+							new XeqC(variables[v][i], id),
+							new XeqY(variables[Variables.ORIENTATION][i], previous[i]));
+			} else {
+				pc[i] = new IfThen(
+							new XeqC(variables[v][i], id),
+							new XneqY(variables[Variables.ORIENTATION][i], previous[i]));
+			}
 		}
 		
-		
+		if(negated) {
+			return new Or(pc);
+		}
 		return new And(pc);
 	}
 	
+	/*
+	 * createPreviousOrientations/3 returns N variables. 
+	 * The i-th variable is the orientation of a's last occurrence 
+	 * at the positions 0 .. i-1 (0 ... a does not occur)
+	 */
+	private IntVar[] createPreviousOrientations(Store store, IntVar[][] variables, ConstraintOperand a) {
+		
+		int N = variables[Variables.ORIENTATION].length;
+		String name = a.getOperand().getName() + "-previous-orientation-";
+		
+		IntVar[] previous = new IntVar[N];
+		if(null != store.findVariable(name + 0)) {
+			for(int i=0; i<N; i++) {
+				previous[i] = (IntVar)store.findVariable(name + i);
+			}
+			return previous;
+		}
+		
+		int v = this.getVariableIndex(a);
+		int id = a.getOperand().getId();
+		
+		previous[0] = new IntVar(store, name + 0, 0, 0);
+		for(int i=1; i<N; i++) {
+			previous[i] = new IntVar(store, name + i, -1, 1);
+			store.impose(new IfThenElse(
+					new XeqC(variables[v][i-1], id), 
+					new XeqY(previous[i], variables[Variables.ORIENTATION][i-1]), 
+					new XeqY(previous[i], previous[i-1])));
+		}
+		return previous;
+	}
+	
 	/**
 	 * to alternate all components of the design
 	 * 
 	 * @param store
 	 * @param variables
+	 * @param negated
 	 * @return
 	 */
-	private PrimitiveConstraint alternate(Store store, IntVar[][] variables) {
+	private PrimitiveConstraint alternate(Store store, IntVar[][] variables, boolean negated) {
 		
 		int N = variables[Variables.ORIENTATION].length;
 		
@@ -165,10 +190,13 @@ public class AlternateOrientation
 		 * IF orientation(i) == -1 THEN orientation(i+1) != -1
 		 * 
 		 * 0 <= i < N
+		 * 
+		 * If negated, then both orientation patterns 
+		 * are violated at some position.
 		 */
 		PrimitiveConstraint pcForward[] = new PrimitiveConstraint[N];
 		for(int i=0; i<N; i++) {
-			if(i%2==0) {
+			if(i%2 == (negated ? 1 : 0)) {
 				pcForward[i] = new XeqC(variables[Variables.ORIENTATION][i], 1);				
 			} else {
 				pcForward[i] = new XneqC(variables[Variables.ORIENTATION][i], 1);
@@ -176,20 +204,17 @@ public class AlternateOrientation
 		}
 		PrimitiveConstraint pcReverse[] = new PrimitiveConstraint[N];
 		for(int i=0; i<N; i++) {
-			if(i%2==0) {
+			if(i%2 == (negated ? 1 : 0)) {
 				pcReverse[i] = new XeqC(variables[Variables.ORIENTATION][i], -1);				
 			} else {
 				pcReverse[i] = new XneqC(variables[Variables.ORIENTATION][i], -1);
 			}
 		}
 		
+		if(negated) {
+			return new And(new Or(pcForward), new Or(pcReverse));
+		}
 		return new Or(new And(pcForward), new And(pcReverse));
 	}
-
-	@Override
-	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
-			throws MiniEugeneException {
-		return new Not((PrimitiveConstraint)this.toJaCoP(store, variables));
-	}
 	
 }
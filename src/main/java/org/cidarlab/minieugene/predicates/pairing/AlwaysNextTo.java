@@ -41,9 +41,9 @@ import org.cidarlab.minieugene.solver.jacop.Variables;
 
 import org.jacop.constraints.And;
 import org.jacop.constraints.Or;
-import org.jacop.constraints.Not;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XneqC;
 import org.jacop.constraints.IfThen;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
@@ -110,7 +110,7 @@ public class AlwaysNextTo
 
 		pc[N-1] = new IfThen(
 					new XeqC(variables[va][N-1], a),
-					new XeqC(variables[vb][N-1], b));
+					new XeqC(variables[vb][N-2], b));
 		
 		return new And(pc);
 	}
@@ -119,7 +119,38 @@ public class AlwaysNextTo
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
 
-		return new Not(this.toJaCoP(store, variables));
+		int va = Variables.PART;
+		int vb = Variables.PART;
+		if(this.getA().getOperand() instanceof ComponentType) {
+			va = Variables.TYPE;
+		} 
+		if(this.getB().getOperand() instanceof ComponentType) {
+			vb = Variables.TYPE;
+		}
+		
+		int N = variables[Variables.PART].length;
+		int a = this.getA().getOperand().getId();
+		int b = this.getB().getOperand().getId();
+		
+		// some a is not next to a b
+		PrimitiveConstraint[] pc = new PrimitiveConstraint[N];
+		pc[0] = new And(
+					new XeqC(variables[va][0], a),
+					new XneqC(variables[vb][1], b));
+		
+		for(int i=1; i< N-1; i++) {
+			pc[i] = new And(
+						new XeqC(variables[va][i], a),
+						new And(
+							new XneqC(variables[vb][i-1], b),
+							new XneqC(variables[vb][i+1], b)));
+		}
+
+		pc[N-1] = new And(
+					new XeqC(variables[va][N-1], a),
+					new XneqC(variables[vb][N-2], b));
+		
+		return new Or(pc);
 	}
 
 }
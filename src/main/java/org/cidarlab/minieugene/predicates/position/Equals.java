@@ -71,6 +71,20 @@ public class Equals
 		this.j = -1;		
 	}
 	
+	/**
+	 * @return the index i
+	 */
+	public int getI() {
+		return this.i;
+	}
+	
+	/**
+	 * @return the index j, or -1 if the element at index i must be A
+	 */
+	public int getJ() {
+		return this.j;
+	}
+	
 	@Override
 	public String getOperator() {
 		return RuleOperator.EQUALS.toString();
@@ -111,4 +125,15 @@ public class Equals
 		}		
 		return sb.toString();
 	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return super.equals(o) && 
+				this.i == ((Equals)o).i && this.j == ((Equals)o).j;
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (31 * super.hashCode() + this.i) + this.j;
+	}
 }
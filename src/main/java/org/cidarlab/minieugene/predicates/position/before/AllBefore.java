@@ -42,9 +42,10 @@ import org.cidarlab.minieugene.solver.jacop.Variables;
 
 import org.jacop.constraints.And;
 import org.jacop.constraints.IfThen;
-import org.jacop.constraints.Not;
+import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XltY;
 import org.jacop.constraints.XneqC;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
@@ -103,6 +104,18 @@ public class AllBefore
 			Store store, IntVar[][] variables) 
 			throws MiniEugeneException {
 		
+		if(this.hasPositions(variables) && !this.overlaps(a, b)) {
+			
+			/*
+			 * the last a is placed before the first b. 
+			 * (if a does not occur, then its last position is -1; 
+			 *  if b does not occur, then its first position is N)
+			 */
+			return new XltY(
+					this.createLast(store, variables, a), 
+					this.createFirst(store, variables, b));
+		}
+		
 		int N = variables[Variables.PART].length;
 		
 		Contains containsA = new Contains(this.getA());
@@ -134,8 +147,56 @@ public class AllBefore
 	@Override
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
-		return new Not(
-				this.toJaCoP(store, variables));
+
+		/*
+		 * NOT a ALL_BEFORE b
+		 * 
+		 * contains(a) /\ contains(b) /\ 
+		 * 		exists a, b: position(b) < position(a)
+		 */
+		
+		return this.notBefore(
+				this.getA(), this.getB(), store, variables);
+	}
+	
+	private PrimitiveConstraint notBefore(ConstraintOperand a, ConstraintOperand b,
+			Store store, IntVar[][] variables) 
+			throws MiniEugeneException {
+		
+		if(this.hasPositions(variables) && !this.overlaps(a, b)) {
+			
+			// the first b is placed before the last a
+			return new XltY(
+					this.createFirst(store, variables, b), 
+					this.createLast(store, variables, a));
+		}
+		
+		int N = variables[Variables.PART].length;
+		
+		Contains containsA = new Contains(this.getA());
+
+		int va = this.getVariableIndex(a);
+		int vb = this.getVariableIndex(b);
+		
+		PrimitiveConstraint pc[] = new PrimitiveConstraint[N];
+		pc[0] = new And(
+					containsA.toJaCoP(store, variables),
+					new XeqC(variables[vb][0], b.getOperand().getId()));
+
+		for(int i=1; i<N; i++) {
+
+			// b appears before a
+			PrimitiveConstraint[] pcB = new PrimitiveConstraint[i];
+			for(int j=0; j<i; j++) {
+				pcB[j] = new XeqC(variables[vb][j], b.getOperand().getId());
+			}
+
+			pc[i] = new And(
+						new XeqC(variables[va][i], a.getOperand().getId()),
+						new Or(pcB));
+		}
+		
+		return new Or(pc);
 	}
 	
 }
@@ -44,6 +44,7 @@ import org.jacop.constraints.Not;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
+import org.jacop.constraints.XlteqY;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -94,6 +95,17 @@ public class SomeBefore
 		 * contains(a) && contains(b) => 
 		 *     exists a: position(a) < position(b)
 		 */
+		if(this.hasPositions(variables) && !this.overlaps(this.getA(), this.getB())) {
+			
+			/*
+			 * a is placed at the first position or 
+			 * the first a is placed before (or at) the last b
+			 */
+			IntVar firstA = this.createFirst(store, variables, this.getA());
+			return new Or(
+					new XeqC(firstA, 0),
+					new XlteqY(firstA, this.createLast(store, variables, this.getB())));
+		}
 		
 		PrimitiveConstraint pc[] = new PrimitiveConstraint[N];
 		
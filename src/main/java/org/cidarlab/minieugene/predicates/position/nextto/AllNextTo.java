@@ -45,6 +45,7 @@ import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
 import org.jacop.constraints.XneqC;
+import org.jacop.constraints.XplusClteqZ;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -91,6 +92,20 @@ public class AllNextTo
 			throw new MiniEugeneException("I cannot impose "+this.toString()+"! Invalid length of design!");
 		}
 
+		if(this.hasPositions(variables) && !this.overlaps(this.getA(), this.getB())) {
+			
+			/*
+			 * every b is placed at most one position 
+			 * left or right to every a, i.e.
+			 * last(b) <= first(a) + 1 /\ last(a) <= first(b) + 1
+			 */
+			return new And(
+					new XplusClteqZ(this.createLast(store, variables, this.getB()), -1, 
+							this.createFirst(store, variables, this.getA())),
+					new XplusClteqZ(this.createLast(store, variables, this.getA()), -1, 
+							this.createFirst(store, variables, this.getB())));
+		}
+
 		int[] idxA = new int[N];
 		for(int i=0; i<N; i++) {
 			idxA[i] = i;
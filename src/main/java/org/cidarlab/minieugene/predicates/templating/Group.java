@@ -40,8 +40,14 @@ import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.solver.jacop.Variables;
 
+import org.jacop.constraints.And;
+import org.jacop.constraints.IfThen;
+import org.jacop.constraints.In;
 import org.jacop.constraints.Not;
+import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
+import org.jacop.constraints.XeqC;
+import org.jacop.core.IntDomain;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -73,63 +79,90 @@ public class Group
 			return this.toJaCoPNot(store, variables);
 		}
 		
-		int maxN = variables[Variables.PART].length;
-		
-//		if(maxN < this.getComponents().size()) {
-//			throw new EugeneException("I cannot impose the strict template!");
-//		} else if(maxN % this.getComponents().size() != 0) {
-//			throw new EugeneException(
-//					"The max. length "+maxN+" is not a multiple of the template size ("+this.getComponents().size()+")");
-//		}
+		int N = variables[Variables.PART].length;
+		int size = this.getComponents().size();
+		if(size == 0 || N < size) {
+			throw new MiniEugeneException("I cannot impose "+this.toString());
+		}
+
+		/*
+		 * the group starts at the index start. 
+		 * Once all parts are placed, the start's domain 
+		 * contains all indices where the group is placed.
+		 */
+		IntVar start = new IntVar(store, 0, N - size);
 		
-		return createTemplate(variables, maxN);
+		PrimitiveConstraint[] pc = new PrimitiveConstraint[N - size + 1];
+		for(int i=0; i + size <= N; i++) {
+			pc[i] = new IfThen(
+						new XeqC(start, i), 
+						this.createBlock(variables, i));
+		}
+		return new And(pc);
 	}
 	
 	@Override
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
-		int maxN = variables[Variables.PART].length;
 		
-		if(maxN < this.getComponents().size()) {
-			throw new MiniEugeneException("I cannot impose the strict template!");
-		} else if(maxN % this.getComponents().size() != 0) {
-			throw new MiniEugeneException(
-					"The max. length "+maxN+" is not a multiple of the template size ("+this.getComponents().size()+")");
+		int N = variables[Variables.PART].length;
+		int size = this.getComponents().size();
+		if(size == 0 || N < size) {
+			throw new MiniEugeneException("I cannot impose "+this.toString());
 		}
 		
-		return new Not(createTemplate(variables, maxN));
+		// the group cannot be placed at any index
+		PrimitiveConstraint[] pc = new PrimitiveConstraint[N - size + 1];
+		for(int i=0; i + size <= N; i++) {
+			pc[i] = this.createBlock(variables, i);
+		}
+		return new Not(new Or(pc));
 	}
 	
-	private PrimitiveConstraint createTemplate(IntVar[][] variables, int maxN) {
+	/*
+	 * a GROUP places the components of its selections 
+	 * next to each other in any order, i.e. the positions 
+	 * start, ..., start + size - 1 contain one component 
+	 * of every selection.
+	 * 
+	 * Example:
+	 * GROUP r, c
+	 * <=>
+	 * r, c or c, r appear next to each other
+	 * 
+	 * NOTE: 
+	 * if the selections overlap (e.g. GROUP [a|b], [a|c]), 
+	 * then every selection has to appear in the block 
+	 * at least once.
+	 */
+	private PrimitiveConstraint createBlock(IntVar[][] variables, int start) {
 		
-//		PrimitiveConstraint[] pc = null;
-//		for(int i=0; i + this.getComponents().size() <= maxN; i++) {
-//			
-//			// get the first component
-//			Component c = this.getComponents().get(0);
-//			PrimitiveConstraint[] pcTemplate = new PrimitiveConstraint[this.getComponents().size() - 1];
-//			for(int j=1; j<this.getComponents().size(); j++) {
-//				Component cj = this.getComponents().get(j);
-//				pcTemplate[j-1] = new XeqC(variables[Variables.PART][j+i], cj.getId());
-//			}
-//			
-//			if(pc == null) {
-//				pc = new PrimitiveConstraint[1];
-//				pc[0] =	new And(
-//							new XeqC(variables[Variables.PART][i], c.getId()),
-//							new And(pcTemplate)); 
-//			} else {
-//				pc = ArrayUtils.add(pc, 
-//					new And(
-//						new XeqC(variables[Variables.PART][i], c.getId()),
-//						new And(pcTemplate)));
-//			}
-//		}
-//
-////		return new And(pc);
-//		return new Or(pc);
+		int size = this.getComponents().size();
+
+		// every position of the block is one of the group's components
+		List<Component> all = new ArrayList<Component>();
+		for(List<Component> selection : this.getComponents()) {
+			all.addAll(selection);
+		}
+		IntDomain group = toDomain(all);
+		
+		PrimitiveConstraint[] pc = new PrimitiveConstraint[2 * size];
+		for(int k=0; k<size; k++) {
+			pc[k] = new In(variables[Variables.PART][start + k], group);
+		}
+		
+		// every selection is placed in the block
+		for(int j=0; j<size; j++) {
+			IntDomain selection = toDomain(this.getComponents().get(j));
+			
+			PrimitiveConstraint[] placed = new PrimitiveConstraint[size];
+			for(int k=0; k<size; k++) {
+				placed[k] = new In(variables[Variables.PART][start + k], selection);
+			}
+			pc[size + j] = new Or(placed);
+		}
 		
-		return null;
+		return new And(pc);
 	}
 
 	@Override
@@ -142,7 +175,7 @@ public class Group
 		}
 		
 		// NAME
-		if(null != this.getName() && !this.getName().isEmpty()) {
+		if(!bAutoGenerated && null != this.getName() && !this.getName().isEmpty()) {
 			sb.append(this.getName()).append(" ");
 		}
 		
@@ -40,8 +40,13 @@ import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
 import org.cidarlab.minieugene.solver.jacop.Variables;
 
+import org.jacop.constraints.And;
+import org.jacop.constraints.IfThen;
+import org.jacop.constraints.In;
 import org.jacop.constraints.Not;
+import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
+import org.jacop.core.IntDomain;
 import org.jacop.core.IntVar;
 import org.jacop.core.Store;
 
@@ -73,63 +78,88 @@ public class Pattern
 			return this.toJaCoPNot(store, variables);
 		}
 		
-		int maxN = variables[Variables.PART].length;
-		
-//		if(maxN < this.getComponents().size()) {
-//			throw new EugeneException("I cannot impose the strict template!");
-//		} else if(maxN % this.getComponents().size() != 0) {
-//			throw new EugeneException(
-//					"The max. length "+maxN+" is not a multiple of the template size ("+this.getComponents().size()+")");
-//		}
-		
-		return createTemplate(variables, maxN);
+		return createPattern(variables);
 	}
 	
 	@Override
 	public PrimitiveConstraint toJaCoPNot(Store store, IntVar[][] variables)
 			throws MiniEugeneException {
-		int maxN = variables[Variables.PART].length;
+		return new Not(createPattern(variables));
+	}
+	
+	/*
+	 * a PATTERN appears at least once, and every occurrence of 
+	 * its first element starts the pattern. 
+	 * 
+	 * We slide a window of the pattern's size over the design. 
+	 * If the window starts with the first element, then the i-th 
+	 * position of the window must be one of the components of 
+	 * the i-th selection. A window that does not fit into the 
+	 * design must not start with the first element.
+	 * 
+	 * Example:
+	 * PATTERN p, r, c, t
+	 * <=>
+	 * contains p /\ p nextto r /\ r nextto c /\ c nextto t /\ 
+	 * p before r /\ r before c /\ c before t 
+	 * (if p, r, c, and t occur only within the pattern)
+	 */
+	private PrimitiveConstraint createPattern(IntVar[][] variables) 
+			throws MiniEugeneException {
 		
-		if(maxN < this.getComponents().size()) {
-			throw new MiniEugeneException("I cannot impose the strict template!");
-		} else if(maxN % this.getComponents().size() != 0) {
-			throw new MiniEugeneException(
-					"The max. length "+maxN+" is not a multiple of the template size ("+this.getComponents().size()+")");
+		int N = variables[Variables.PART].length;
+		int size = this.getComponents().size();
+		
+		if(size == 0 || N < size) {
+			throw new MiniEugeneException("I cannot impose "+this.toString());
 		}
 		
-		return new Not(createTemplate(variables, maxN));
-	}
-	
-	private PrimitiveConstraint createTemplate(IntVar[][] variables, int maxN) {
+		IntDomain[] selections = this.getSelections();
+		
+		PrimitiveConstraint[] starts = new PrimitiveConstraint[N];
+		for(int i=0; i<N; i++) {
+			starts[i] = new In(variables[Variables.PART][i], selections[0]);
+		}
 		
-//		PrimitiveConstraint[] pc = null;
-//		for(int i=0; i + this.getComponents().size() <= maxN; i++) {
-//			
-//			// get the first component
-//			Component c = this.getComponents().get(0);
-//			PrimitiveConstraint[] pcTemplate = new PrimitiveConstraint[this.getComponents().size() - 1];
-//			for(int j=1; j<this.getComponents().size(); j++) {
-//				Component cj = this.getComponents().get(j);
-//				pcTemplate[j-1] = new XeqC(variables[Variables.PART][j+i], cj.getId());
-//			}
-//			
-//			if(pc == null) {
-//				pc = new PrimitiveConstraint[1];
-//				pc[0] =	new And(
-//							new XeqC(variables[Variables.PART][i], c.getId()),
-//							new And(pcTemplate)); 
-//			} else {
-//				pc = ArrayUtils.add(pc, 
-//					new And(
-//						new XeqC(variables[Variables.PART][i], c.getId()),
-//						new And(pcTemplate)));
-//			}
-//		}
-//
-////		return new And(pc);
-//		return new Or(pc);
+		if(size == 1) {
+			return new Or(starts);
+		}
 		
-		return null;
+		PrimitiveConstraint[] windows = new PrimitiveConstraint[N];
+		for(int i=0; i<N; i++) {
+			if(i + size <= N) {
+				windows[i] = new IfThen(
+						new In(variables[Variables.PART][i], selections[0]), 
+						this.createWindow(variables, selections, i, 1));
+			} else {
+				windows[i] = new Not(
+						new In(variables[Variables.PART][i], selections[0]));
+			}
+		}
+		
+		return new And(
+				new Or(starts), 
+				new And(windows));
+	}
+	
+	/*
+	 * the window at index i holds the selections from, ..., size - 1 
+	 * at the positions i + from, ..., i + size - 1
+	 */
+	private PrimitiveConstraint createWindow(IntVar[][] variables, IntDomain[] selections, int i, int from) {
+		PrimitiveConstraint[] window = new PrimitiveConstraint[selections.length - from];
+		for(int j=from; j<selections.length; j++) {
+			window[j-from] = new In(variables[Variables.PART][i+j], selections[j]);
+		}
+		return new And(window);
+	}
+	
+	private IntDomain[] getSelections() {
+		IntDomain[] selections = new IntDomain[this.getComponents().size()];
+		for(int j=0; j<selections.length; j++) {
+			selections[j] = toDomain(this.getComponents().get(j));
+		}
+		return selections;
 	}
 
 	@Override
@@ -140,7 +170,7 @@ public class Pattern
 			sb.append("NOT ");
 		}
 		
-		if(null != this.getName() && !this.getName().isEmpty()) {
+		if(!bAutoGenerated && null != this.getName() && !this.getName().isEmpty()) {
 			sb.append(this.getName()).append(" ");
 		}
 		sb.append(this.getOperator()).append(" ");
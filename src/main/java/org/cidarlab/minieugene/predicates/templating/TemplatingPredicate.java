@@ -33,10 +33,13 @@
 package org.cidarlab.minieugene.predicates.templating;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.predicates.Constraint;
+import org.jacop.core.IntDomain;
+import org.jacop.core.IntervalDomain;
 
 public abstract class TemplatingPredicate 
 	extends Constraint {
@@ -99,7 +102,35 @@ public abstract class TemplatingPredicate
 	}
 
 	/**
+	 * The toDomain/1 method returns the domain of the 
+	 * ids of a selection of components.
 	 * 
+	 * @param selection ... the selection of components
+	 * @return the domain of the components' ids
 	 */
+	protected static IntDomain toDomain(List<Component> selection) {
+		IntDomain domain = new IntervalDomain();
+		for(Component c : selection) {
+			domain.unionAdapt(c.getId(), c.getId());
+		}
+		return domain;
+	}
+	
+	/*
+	 * the name of a templating predicate is not part of its structure, 
+	 * i.e. two templates are equal if they select the same components
+	 */
+	@Override
+	public boolean equals(Object o) {
+		return null != o && this.getClass() == o.getClass() && 
+				this.negated == ((TemplatingPredicate)o).negated && 
+				Objects.equals(this.components, ((TemplatingPredicate)o).components);
+	}
+	
+	@Override
+	public int hashCode() {
+		return 31 * (31 * this.getClass().hashCode() + Objects.hashCode(this.components)) + 
+				(this.negated ? 1 : 0);
+	}
 	
 }
@@ -0,0 +1,502 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.cidarlab.minieugene.act.ACT;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.dom.Identified;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.BinaryConstraint;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.UnaryConstraint;
+import org.cidarlab.minieugene.predicates.counting.BinaryContains;
+import org.cidarlab.minieugene.predicates.counting.Contains;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.counting.MoreThan;
+import org.cidarlab.minieugene.predicates.position.EndsWith;
+import org.cidarlab.minieugene.predicates.position.Equals;
+import org.cidarlab.minieugene.predicates.position.StartsWith;
+import org.cidarlab.minieugene.predicates.templating.Template;
+import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The Presolver class rejects impossible designs before the 
+ * JaCoP model gets built. It combines 
+ * - the minimum and maximum number of occurrences of the operands 
+ *   of the counting rules (CONTAINS, EXACTLY, MORETHAN, and their negations), 
+ *   summed up per type 
+ * - the acyclicity of the ACT, i.e. of the a CONTAINS b rules 
+ * - the rules that fix the parts at positions (STARTSWITH, ENDSWITH, EQUALS) 
+ * - the sizes of the templating rules 
+ * 
+ * into the range of design lengths that the rules allow. 
+ * The range is a necessary condition only, i.e. the rules 
+ * might be unsatisfiable for a length within the range.
+ * 
+ * @author Ernst Oberortner
+ */
+public class Presolver {
+
+	/* the maximum length of a design without an upper bound */
+	public static final int UNBOUNDED = -1;
+	
+	private SymbolTables symbols;
+
+	/*
+	 * the minimum and maximum number of occurrences of 
+	 * the parts and types that the rules refer to
+	 */
+	private Map<Identified, Integer> minCounts;
+	private Map<Identified, Integer> maxCounts;
+	
+	/*
+	 * the parts or types at fixed indices, 
+	 * and the parts or types that a design ends with
+	 */
+	private Map<Integer, Identified> fixed;
+	private List<Identified> endings;
+	
+	/* the lengths of a design must be multiples of the template sizes */
+	private int period;
+	
+	private int minN;
+	private int maxN;
+	private String reason;
+	
+	public Presolver(SymbolTables symbols) {
+		this.symbols = symbols;
+	}
+	
+	/**
+	 * presolve/1 computes the range of design lengths that 
+	 * the given rules allow. 
+	 * 
+	 * @param and ... the rules of the design
+	 * @return false if the rules cannot be satisfied by any design. 
+	 *         getReason/0 provides the reason then.
+	 */
+	public boolean presolve(LogicalAnd and) {
+		
+		this.minCounts = new HashMap<Identified, Integer>();
+		this.maxCounts = new HashMap<Identified, Integer>();
+		this.fixed = new HashMap<Integer, Identified>();
+		this.endings = new ArrayList<Identified>();
+		this.period = 1;
+		this.minN = 1;
+		this.maxN = UNBOUNDED;
+		this.reason = null;
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		flatten(and, rules);
+		
+		/*
+		 * a composite cannot contain itself
+		 */
+		List<Constraint> containments = new ArrayList<Constraint>();
+		for(Constraint rule : rules) {
+			if(rule instanceof BinaryContains) {
+				containments.add(rule);
+			}
+		}
+		if(!containments.isEmpty()) {
+			try {
+				new ACT().constructACT(containments);
+			} catch(MiniEugeneException e) {
+				this.reason = e.getMessage();
+				return false;
+			}
+		}
+		
+		for(Constraint rule : rules) {
+			if(!this.bound(rule)) {
+				return false;
+			}
+		}
+		
+		/*
+		 * a part or type occurs at least once per fixed index
+		 */
+		Map<Identified, Integer> occurrences = new HashMap<Identified, Integer>();
+		for(Identified op : this.fixed.values()) {
+			occurrences.put(op, (occurrences.containsKey(op) ? occurrences.get(op) : 0) + 1);
+		}
+		for(Identified op : occurrences.keySet()) {
+			this.atLeast(op, occurrences.get(op));
+		}
+		
+		for(Identified op : this.minCounts.keySet()) {
+			if(this.getMax(op) != UNBOUNDED && this.getMin(op) > this.getMax(op)) {
+				this.reason = op.getName() + " must occur at least " + this.getMin(op) + 
+						" times, but at most " + this.getMax(op) + " times.";
+				return false;
+			}
+		}
+
+		/*
+		 * the parts of a type occur at least (at most) as often 
+		 * as the sum of their minimum (maximum) occurrences
+		 */
+		Map<ComponentType, int[]> types = new HashMap<ComponentType, int[]>();
+		int lower = 0;
+		int upper = 0;
+		for(Component c : this.symbols.getComponents()) {
+			ComponentType type = c.getType();
+			if(null == type) {
+				lower += this.getMin(c);
+				upper = add(upper, this.getMax(c));
+			} else {
+				if(!types.containsKey(type)) {
+					types.put(type, new int[] {0, 0});
+				}
+				int[] bounds = types.get(type);
+				bounds[0] += this.getMin(c);
+				bounds[1] = add(bounds[1], this.getMax(c));
+			}
+		}
+		
+		for(Identified op : this.minCounts.keySet()) {
+			if(op instanceof ComponentType && !types.containsKey(op)) {
+				types.put((ComponentType)op, new int[] {0, 0});
+			}
+		}
+		for(ComponentType type : types.keySet()) {
+			int min = Math.max(types.get(type)[0], this.getMin(type));
+			int max = min(types.get(type)[1], this.getMax(type));
+			if(max != UNBOUNDED && min > max) {
+				this.reason = "The parts of type " + type.getName() + " must occur at least " + 
+						min + " times, but at most " + max + " times.";
+				return false;
+			}
+			lower += min;
+			upper = add(upper, max);
+		}
+		
+		this.minN = Math.max(this.minN, lower);
+		this.maxN = upper;
+		
+		// the lengths are multiples of the template sizes
+		this.minN = ((this.minN + this.period - 1) / this.period) * this.period;
+		if(this.maxN != UNBOUNDED) {
+			this.maxN = (this.maxN / this.period) * this.period;
+			if(this.minN > this.maxN) {
+				this.reason = "The rules require at least " + this.minN + 
+						" parts, but allow at most " + this.maxN + " parts.";
+				return false;
+			}
+		}
+		
+		return true;
+	}
+
+	/**
+	 * isFeasible/1 checks if the rules allow designs of a given length. 
+	 * presolve/1 must be invoked before.
+	 * 
+	 * @param N ... the length of the design
+	 * @return false if the rules cannot be satisfied by a design of length N. 
+	 *         getReason/0 provides the reason then.
+	 */
+	public boolean isFeasible(int N) {
+		
+		if(N < this.minN) {
+			this.reason = "The rules require at least " + this.minN + " parts, but N=" + N + ".";
+			return false;
+		} else if(this.maxN != UNBOUNDED && N > this.maxN) {
+			this.reason = "The rules allow at most " + this.maxN + " parts, but N=" + N + ".";
+			return false;
+		} else if(N % this.period != 0) {
+			this.reason = "The length of the design (" + N + 
+					") is not a multiple of the template size (" + this.period + ").";
+			return false;
+		}
+		
+		/*
+		 * the last index holds the parts or types 
+		 * that the design ends with
+		 */
+		Map<Integer, Identified> positions = new HashMap<Integer, Identified>(this.fixed);
+		for(Identified op : this.endings) {
+			if(!this.fix(positions, N - 1, op)) {
+				return false;
+			}
+		}
+		
+		// the fixed indices must not exceed the maximum occurrences
+		for(Identified op : new LinkedHashSet<Identified>(positions.values())) {
+			for(Identified bound : new Identified[] {op, op instanceof Component ? ((Component)op).getType() : null}) {
+				if(null == bound || this.getMax(bound) == UNBOUNDED) {
+					continue;
+				}
+				int n = 0;
+				for(Identified other : positions.values()) {
+					if(other == bound || (other instanceof Component && ((Component)other).getType() == bound)) {
+						n++;
+					}
+				}
+				if(n > this.getMax(bound)) {
+					this.reason = bound.getName() + " is placed at " + n + 
+							" positions, but must occur at most " + this.getMax(bound) + " times.";
+					return false;
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * @return the minimum length of the designs
+	 */
+	public int getMinN() {
+		return this.minN;
+	}
+	
+	/**
+	 * @return the maximum length of the designs, 
+	 *         or UNBOUNDED if there is no upper bound
+	 */
+	public int getMaxN() {
+		return this.maxN;
+	}
+	
+	/**
+	 * @return the reason why the rules are not satisfiable
+	 */
+	public String getReason() {
+		return this.reason;
+	}
+	
+	/*
+	 * bound/1 tightens the bounds by a rule. 
+	 * It returns false if the rule contradicts the other rules.
+	 */
+	private boolean bound(Constraint rule) {
+		
+		if(rule instanceof Contains || rule instanceof BinaryContains) {
+			this.atLeast(symbol(((UnaryConstraint)rule).getA()), 1);
+		} else if(rule instanceof Exactly) {
+			this.atLeast(symbol(((Exactly)rule).getA()), ((Exactly)rule).getNum());
+			this.atMost(symbol(((Exactly)rule).getA()), ((Exactly)rule).getNum());
+		} else if(rule instanceof MoreThan) {
+			this.atLeast(symbol(((MoreThan)rule).getA()), ((MoreThan)rule).getNum() + 1);
+		} else if(rule instanceof LogicalNot) {
+			
+			Constraint negated = ((LogicalNot)rule).getConstraints().get(0);
+			if(negated instanceof Contains || negated instanceof BinaryContains) {
+				this.atMost(symbol(((UnaryConstraint)negated).getA()), 0);
+			} else if(negated instanceof MoreThan) {
+				this.atMost(symbol(((MoreThan)negated).getA()), ((MoreThan)negated).getNum());
+			}
+			
+		} else if(rule instanceof StartsWith) {
+			return this.fix(this.fixed, 0, symbol(((StartsWith)rule).getA()));
+		} else if(rule instanceof EndsWith) {
+			Identified op = symbol(((EndsWith)rule).getA());
+			if(null != op) {
+				for(Identified other : this.endings) {
+					if(!compatible(op, other)) {
+						this.reason = "The design cannot end with both " + op.getName() + 
+								" and " + other.getName() + ".";
+						return false;
+					}
+				}
+				this.endings.add(op);
+				this.atLeast(op, 1);
+			}
+		} else if(rule instanceof Equals) {
+			Equals eq = (Equals)rule;
+			if(-1 == eq.getJ()) {
+				return this.fix(this.fixed, eq.getI(), symbol(eq.getA()));
+			}
+			this.minN = Math.max(this.minN, Math.max(eq.getI(), eq.getJ()) + 1);
+		} else if(rule instanceof TemplatingPredicate) {
+			
+			TemplatingPredicate tp = (TemplatingPredicate)rule;
+			int size = tp.getComponents().size();
+			this.minN = Math.max(this.minN, size);
+			
+			if(rule instanceof Template && size > 0) {
+				this.period = lcm(this.period, size);
+				
+				// the parts of a template's selections are the only parts of the design
+				if(!tp.isNegated()) {
+					Set<Component> selected = new LinkedHashSet<Component>();
+					for(List<Component> selection : tp.getComponents()) {
+						selected.addAll(selection);
+					}
+					for(Component c : this.symbols.getComponents()) {
+						if(!selected.contains(c)) {
+							this.atMost(c, 0);
+						}
+					}
+				}
+			}
+		}
+		
+		// the indices of a rule must be placeable
+		if(rule instanceof UnaryConstraint) {
+			ConstraintOperand a = ((UnaryConstraint)rule).getA();
+			ConstraintOperand b = rule instanceof BinaryConstraint ? ((BinaryConstraint)rule).getB() : null;
+			for(ConstraintOperand op : new ConstraintOperand[] {a, b}) {
+				if(null != op && op.isIndex()) {
+					this.minN = Math.max(this.minN, op.getIndex() + 1);
+				}
+			}
+		}
+		
+		return true;
+	}
+	
+	/*
+	 * fix/3 places a part or type at a given index. 
+	 * It returns false if another part or type is placed there.
+	 */
+	private boolean fix(Map<Integer, Identified> positions, int index, Identified op) {
+		if(null == op) {
+			return true;
+		}
+		
+		Identified other = positions.get(index);
+		if(null != other && !compatible(op, other)) {
+			this.reason = "[" + index + "] cannot be both " + 
+					other.getName() + " and " + op.getName() + ".";
+			return false;
+		}
+		
+		// a part is more specific than its type
+		if(null == other || other instanceof ComponentType) {
+			positions.put(index, op);
+		}
+		this.minN = Math.max(this.minN, index + 1);
+		return true;
+	}
+	
+	/*
+	 * compatible/2 returns true if a part or type can 
+	 * be placed at the same index as another one
+	 */
+	private static boolean compatible(Identified a, Identified b) {
+		if(a == b) {
+			return true;
+		} else if(a instanceof Component && b instanceof ComponentType) {
+			return ((Component)a).getType() == b;
+		} else if(a instanceof ComponentType && b instanceof Component) {
+			return ((Component)b).getType() == a;
+		}
+		return !(a instanceof Component || a instanceof ComponentType) || 
+				!(b instanceof Component || b instanceof ComponentType);
+	}
+	
+	/*
+	 * flatten/2 collects the conjuncts of nested conjunctions
+	 */
+	private static void flatten(LogicalAnd and, List<Constraint> rules) {
+		for(Constraint rule : and.getConstraints()) {
+			if(rule instanceof LogicalAnd) {
+				flatten((LogicalAnd)rule, rules);
+			} else {
+				rules.add(rule);
+			}
+		}
+	}
+	
+	/*
+	 * symbol/1 returns the part or type of an operand, 
+	 * or null if the operand is an index
+	 */
+	private static Identified symbol(ConstraintOperand op) {
+		if(null == op || !(op.isPrimitiveComponent() || op.isType())) {
+			return null;
+		}
+		return op.getOperand();
+	}
+	
+	private void atLeast(Identified op, int n) {
+		if(null != op && n > this.getMin(op)) {
+			this.minCounts.put(op, n);
+		}
+	}
+	
+	private void atMost(Identified op, int n) {
+		if(null != op && (this.getMax(op) == UNBOUNDED || n < this.getMax(op))) {
+			this.maxCounts.put(op, n);
+			if(!this.minCounts.containsKey(op)) {
+				this.minCounts.put(op, 0);
+			}
+		}
+	}
+	
+	private int getMin(Identified op) {
+		return this.minCounts.containsKey(op) ? this.minCounts.get(op) : 0;
+	}
+	
+	private int getMax(Identified op) {
+		return this.maxCounts.containsKey(op) ? this.maxCounts.get(op) : UNBOUNDED;
+	}
+
+	private static int add(int a, int b) {
+		return a == UNBOUNDED || b == UNBOUNDED ? UNBOUNDED : a + b;
+	}
+	
+	private static int min(int a, int b) {
+		if(a == UNBOUNDED) {
+			return b;
+		} else if(b == UNBOUNDED) {
+			return a;
+		}
+		return Math.min(a, b);
+	}
+	
+	private static int lcm(int a, int b) {
+		int x = a;
+		int y = b;
+		while(y != 0) {
+			int t = x % y;
+			x = y;
+			y = t;
+		}
+		return a / x * b;
+	}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * A ProductSolutionSet is the Cartesian product of the solutions 
+ * of independent blocks of consecutive positions. 
+ * 
+ * The k-th factor holds the solutions of the k-th block. A solution 
+ * of the product is the concatenation of one solution per block. 
+ * The solutions are not stored but decoded on access, in the order 
+ * of the factors (the solution of the first block varies slowest). 
+ * Hence, the memory consumption is the sum of the sizes of the 
+ * factors instead of their product.
+ * 
+ * The product is read-only, i.e. it does not accept new solutions.
+ * 
+ * @author Ernst Oberortner
+ */
+public class ProductSolutionSet 
+		extends SolutionSet {
+
+	private List<SolutionSet> factors;
+	
+	/*
+	 * the first position of every block and the block of every position
+	 */
+	private int[] starts;
+	private int[] blocks;
+	
+	/*
+	 * the number of solutions of the factors after every factor 
+	 * (saturated), and the number of solutions of the product
+	 */
+	private long[] strides;
+	private long size;
+	
+	/**
+	 * @param symbols ... the symbol tables
+	 * @param factors ... the solutions of the blocks, in the 
+	 *                    order of their positions
+	 */
+	public ProductSolutionSet(SymbolTables symbols, List<SolutionSet> factors) {
+		super(symbols, length(factors));
+		
+		this.factors = new ArrayList<SolutionSet>(factors);
+		this.starts = new int[factors.size()];
+		this.blocks = new int[this.getN()];
+		this.strides = new long[factors.size()];
+		
+		int start = 0;
+		for(int k=0; k<factors.size(); k++) {
+			this.starts[k] = start;
+			for(int j=0; j<factors.get(k).getN(); j++) {
+				this.blocks[start + j] = k;
+			}
+			start += factors.get(k).getN();
+		}
+		
+		this.size = 1;
+		for(int k=factors.size() - 1; k>=0; k--) {
+			this.strides[k] = this.size;
+			this.size = saturatedMultiply(this.size, factors.get(k).size());
+		}
+	}
+	
+	/**
+	 * @return the solutions of the blocks
+	 */
+	public List<SolutionSet> getFactors() {
+		return Collections.unmodifiableList(this.factors);
+	}
+	
+	@Override
+	public void add(int[] ids, boolean[] forward) {
+		throw new UnsupportedOperationException("The product of solution sets is read-only!");
+	}
+	
+	@Override
+	public void addAll(SolutionSet other) {
+		throw new UnsupportedOperationException("The product of solution sets is read-only!");
+	}
+	
+	/**
+	 * truncate/1 drops all solutions after the first n solutions. 
+	 * The factors remain unchanged.
+	 */
+	@Override
+	public void truncate(int n) {
+		if(n >= 0 && n < this.size) {
+			this.size = n;
+		}
+	}
+	
+	@Override
+	public int size() {
+		return (int)Math.min(this.size, Integer.MAX_VALUE);
+	}
+	
+	@Override
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	/**
+	 * @return the number of solutions, i.e. every solution is a row
+	 */
+	@Override
+	public int getRows() {
+		return this.size();
+	}
+	
+	@Override
+	public int getRowPartId(int r, int j) {
+		return this.getPartId(r, j);
+	}
+	
+	@Override
+	public long getRowSolutions(int r) {
+		return 1;
+	}
+	
+	@Override
+	public int getSpilledChunks() {
+		int spilled = 0;
+		for(SolutionSet factor : this.factors) {
+			spilled += factor.getSpilledChunks();
+		}
+		return spilled;
+	}
+	
+	@Override
+	public int getPartId(int i, int j) {
+		int k = this.blocks[j];
+		return this.factors.get(k).getPartId(this.getFactorIndex(i, k), j - this.starts[k]);
+	}
+	
+	@Override
+	public boolean isForward(int i, int j) {
+		int k = this.blocks[j];
+		return this.factors.get(k).isForward(this.getFactorIndex(i, k), j - this.starts[k]);
+	}
+	
+	/*
+	 * getFactorIndex/2 returns the index of the solution 
+	 * of the k-th block in the i-th solution of the product
+	 */
+	private int getFactorIndex(int i, int k) {
+		if(i < 0 || i >= this.size) {
+			throw new IndexOutOfBoundsException("Solution: "+i+", Size: "+this.size());
+		}
+		return (int)((i / this.strides[k]) % this.factors.get(k).size());
+	}
+	
+	private static int length(List<SolutionSet> factors) {
+		int N = 0;
+		for(SolutionSet factor : factors) {
+			N += factor.getN();
+		}
+		return N;
+	}
+}
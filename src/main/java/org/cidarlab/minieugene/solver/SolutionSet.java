@@ -0,0 +1,694 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.symbol.PartClasses;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * A SolutionSet stores the solutions of a miniEugene problem 
+ * in primitive arrays. 
+ * 
+ * Every solution of size N is a row of N part ids. The orientations 
+ * are packed into a bit set, in which a set bit denotes a reverse 
+ * oriented part. The rows are appended to fixed-size chunks. 
+ * Once the chunks exceed the memory budget, every full chunk 
+ * is spilled to a memory-mapped temporary file.
+ * 
+ * The components of a solution are flyweights, i.e. all solutions 
+ * share one forward and one reverse Component instance per part. 
+ * They are created lazily on access and must not be modified.
+ * 
+ * If no rule depends on the orientations, then the set can be 
+ * orientation-free. Then, every row is an arrangement of parts 
+ * whose orientations are free, i.e. it stands for 2^N solutions. 
+ * The solutions of an arrangement are expanded on access, in the 
+ * order of the search (reverse before forward, the first position 
+ * varies slowest).
+ * 
+ * If the set has part classes, then every row consists of the 
+ * representatives of classes of interchangeable parts, i.e. it stands 
+ * for every choice of the class members at every position. 
+ * The members are expanded on access as well (the first position 
+ * varies slowest), before the orientations.
+ * 
+ * @author Ernst Oberortner
+ */
+public class SolutionSet 
+		implements Iterable<Component[]> {
+
+	/*
+	 * the number of solutions per chunk
+	 */
+	public static final int CHUNK_SIZE = 4096;
+	private static final int INITIAL_ROWS = 16;
+	
+	/*
+	 * the default in-memory budget (in bytes)
+	 */
+	public static final long DEFAULT_MEMORY_BUDGET = 64L * 1024 * 1024;
+	
+	/*
+	 * the maximum N of an orientation-free set, i.e. all 2^N 
+	 * solutions of an arrangement have an int index
+	 */
+	public static final int MAX_ORIENTATION_FREE_N = 30;
+	
+	private SymbolTables symbols;
+	private int N;
+	private long memoryBudget;
+	
+	/*
+	 * the chunks of the part ids (row-major, N per solution) 
+	 * and of the orientations (1 ... reverse)
+	 */
+	private List<IntBuffer> parts;
+	private List<LongBuffer> reverse;
+	private int inMemory;
+	
+	/*
+	 * the number of rows
+	 */
+	private int size;
+	private boolean orientationFree;
+	
+	/*
+	 * the classes of the parts of the rows (if any) and 
+	 * the number of solutions up to the end of every row
+	 */
+	private PartClasses classes;
+	private long[] ends;
+	
+	/*
+	 * the flyweights, indexed by the part id
+	 */
+	private Component[] forwardComponents;
+	private Component[] reverseComponents;
+	
+	public SolutionSet(SymbolTables symbols, int N) {
+		this(symbols, N, DEFAULT_MEMORY_BUDGET);
+	}
+	
+	/**
+	 * @param symbols      ... the symbol tables
+	 * @param N            ... the number of parts of every solution
+	 * @param memoryBudget ... the number of bytes that the chunks may 
+	 *                         occupy on the heap before they get spilled
+	 */
+	public SolutionSet(SymbolTables symbols, int N, long memoryBudget) {
+		this.symbols = symbols;
+		this.N = N;
+		this.memoryBudget = memoryBudget;
+		
+		this.parts = new ArrayList<IntBuffer>();
+		this.reverse = new ArrayList<LongBuffer>();
+		this.inMemory = 0;
+		this.size = 0;
+		this.orientationFree = false;
+		this.classes = null;
+		this.ends = null;
+		
+		this.forwardComponents = new Component[0];
+		this.reverseComponents = new Component[0];
+	}
+	
+	/**
+	 * setOrientationFree/1 specifies if the rows of an empty set 
+	 * are arrangements whose orientations are free. 
+	 * The solutions must have at most MAX_ORIENTATION_FREE_N parts.
+	 */
+	public void setOrientationFree(boolean orientationFree) {
+		if(this.size > 0) {
+			throw new IllegalStateException("The solution set is not empty!");
+		} else if(orientationFree && N > MAX_ORIENTATION_FREE_N) {
+			throw new IllegalArgumentException("The orientations of "+N+" parts cannot be free!");
+		}
+		this.orientationFree = orientationFree;
+	}
+	
+	public boolean isOrientationFree() {
+		return this.orientationFree;
+	}
+	
+	/**
+	 * setPartClasses/1 specifies that the rows of an empty set consist 
+	 * of the representatives of the given classes of interchangeable parts
+	 */
+	public void setPartClasses(PartClasses classes) {
+		if(this.size > 0) {
+			throw new IllegalStateException("The solution set is not empty!");
+		}
+		this.classes = classes;
+		this.ends = null == classes ? null : new long[INITIAL_ROWS];
+	}
+	
+	/**
+	 * @return the classes of the parts of the rows, 
+	 *         or null if every row is a solution (or an arrangement)
+	 */
+	public PartClasses getPartClasses() {
+		return this.classes;
+	}
+	
+	/**
+	 * add/2 appends a solution. If the set is orientation-free, 
+	 * then the orientations are ignored and the arrangement 
+	 * of the parts is appended.
+	 * 
+	 * @param ids     ... the part ids of the solution
+	 * @param forward ... the orientations of the parts
+	 */
+	public void add(int[] ids, boolean[] forward) {
+		int offset = (this.size % CHUNK_SIZE) * N;
+		if(offset == 0) {
+			this.newChunk();
+		}
+		
+		IntBuffer chunk = this.parts.get(this.parts.size() - 1);
+		LongBuffer bits = this.reverse.get(this.reverse.size() - 1);
+		if(offset + N > chunk.capacity()) {
+			
+			/*
+			 * the last chunk grows up to CHUNK_SIZE solutions
+			 */
+			int length = Math.min(chunk.capacity() * 2, CHUNK_SIZE * N);
+			chunk = IntBuffer.wrap(Arrays.copyOf(chunk.array(), length));
+			bits = LongBuffer.wrap(Arrays.copyOf(bits.array(), words(length)));
+			this.parts.set(this.parts.size() - 1, chunk);
+			this.reverse.set(this.reverse.size() - 1, bits);
+		}
+		
+		for(int j=0; j<N; j++) {
+			chunk.put(offset + j, ids[j]);
+			if(this.orientationFree) {
+				continue;
+			}
+
+			int k = offset + j;
+			long word = bits.get(k >>> 6);
+			if(forward[j]) {
+				word &= ~(1L << k);
+			} else {
+				word |= 1L << k;
+			}
+			bits.put(k >>> 6, word);
+		}
+		
+		if(null != this.classes) {
+			if(this.size == this.ends.length) {
+				this.ends = Arrays.copyOf(this.ends, this.size * 2);
+			}
+			long start = this.size == 0 ? 0 : this.ends[this.size - 1];
+			this.ends[this.size] = saturatedAdd(start, this.getRowSolutions(ids));
+		}
+		this.size ++;
+	}
+	
+	/**
+	 * addAll/1 appends all solutions of another solution set 
+	 * of the same size N
+	 * 
+	 * @param other
+	 */
+	public void addAll(SolutionSet other) {
+		int[] ids = new int[N];
+		boolean[] forward = new boolean[N];
+		
+		// the arrangements and class-level rows are appended as they are
+		if(other.isPacked() && (this.size == 0 || 
+				(this.orientationFree == other.orientationFree && sameClasses(this.classes, other.classes)))) {
+			if(this.size == 0) {
+				this.orientationFree = other.orientationFree;
+				this.setPartClasses(other.classes);
+			}
+			for(int r=0; r<other.size; r++) {
+				for(int j=0; j<N; j++) {
+					ids[j] = other.getRowPartId(r, j);
+					forward[j] = other.orientationFree || other.isRowForward(r, j);
+				}
+				this.add(ids, forward);
+			}
+			return;
+		}
+		
+		if(this.isPacked()) {
+			this.expand(this.size());
+		}
+		for(int i=0; i<other.size(); i++) {
+			for(int j=0; j<N; j++) {
+				ids[j] = other.getPartId(i, j);
+				forward[j] = other.isForward(i, j);
+			}
+			this.add(ids, forward);
+		}
+	}
+	
+	/**
+	 * truncate/1 drops all solutions after the first n solutions
+	 * 
+	 * @param n
+	 */
+	public void truncate(int n) {
+		if(n < 0 || n >= this.size()) {
+			return;
+		} else if(this.isPacked()) {
+			this.expand(n);
+			return;
+		}
+		
+		int chunks = (n + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		while(this.parts.size() > chunks) {
+			this.parts.remove(this.parts.size() - 1);
+			this.reverse.remove(this.reverse.size() - 1);
+		}
+		this.size = n;
+		
+		/*
+		 * the last chunk must be writable to append more solutions
+		 */
+		if(chunks > 0 && n % CHUNK_SIZE != 0 && this.parts.get(chunks - 1).isReadOnly()) {
+			int[] p = new int[this.parts.get(chunks - 1).capacity()];
+			long[] r = new long[this.reverse.get(chunks - 1).capacity()];
+			this.parts.get(chunks - 1).get(p);
+			this.reverse.get(chunks - 1).get(r);
+			this.parts.set(chunks - 1, IntBuffer.wrap(p));
+			this.reverse.set(chunks - 1, LongBuffer.wrap(r));
+		}
+		
+		this.inMemory = 0;
+		for(IntBuffer chunk : this.parts) {
+			if(!chunk.isReadOnly()) {
+				this.inMemory ++;
+			}
+		}
+	}
+	
+	/**
+	 * @return the number of solutions. If the set is orientation-free 
+	 *         or has part classes, then it is capped at Integer.MAX_VALUE.
+	 */
+	public int size() {
+		if(null != this.classes) {
+			return this.size == 0 ? 0 : (int)Math.min(this.ends[this.size - 1], Integer.MAX_VALUE);
+		} else if(!this.orientationFree) {
+			return this.size;
+		} else if(this.size == 0) {
+			return 0;
+		}
+		return (int)Math.min((long)this.size << N, Integer.MAX_VALUE);
+	}
+	
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+	
+	/**
+	 * @return the number of parts of every solution
+	 */
+	public int getN() {
+		return this.N;
+	}
+	
+	/**
+	 * @return the number of rows, i.e. the number of solutions, 
+	 *         arrangements, or class-level solutions
+	 */
+	public int getRows() {
+		return this.size;
+	}
+	
+	/**
+	 * @return the number of chunks that got spilled to disk
+	 */
+	public int getSpilledChunks() {
+		return this.parts.size() - this.inMemory;
+	}
+	
+	/**
+	 * @param i ... the index of the solution
+	 * @param j ... the position within the solution
+	 * @return the id of the part at position j of the i-th solution
+	 */
+	public int getPartId(int i, int j) {
+		this.checkIndex(i);
+		if(null != this.classes) {
+			int r = this.findRow(i);
+			long k = i - (r == 0 ? 0 : this.ends[r - 1]);
+			if(this.orientationFree) {
+				k >>>= N;
+			}
+			return this.getMember(r, j, k);
+		} else if(this.orientationFree) {
+			return this.getRowPartId(i >>> N, j);
+		}
+		return this.getRowPartId(i, j);
+	}
+	
+	/**
+	 * @param r ... the index of the row
+	 * @param j ... the position within the row
+	 * @return the id of the part (or of the representative 
+	 *         of its class) at position j of the r-th row
+	 */
+	public int getRowPartId(int r, int j) {
+		return this.parts.get(r / CHUNK_SIZE).get((r % CHUNK_SIZE) * N + j);
+	}
+	
+	/**
+	 * @param r ... the index of the row
+	 * @return the number of solutions of the r-th row
+	 */
+	public long getRowSolutions(int r) {
+		if(null != this.classes) {
+			return this.ends[r] - (r == 0 ? 0 : this.ends[r - 1]);
+		} else if(this.orientationFree) {
+			return 1L << N;
+		}
+		return 1;
+	}
+	
+	/**
+	 * @param i ... the index of the solution
+	 * @param j ... the position within the solution
+	 * @return true if the part at position j of the i-th solution 
+	 *         is forward oriented, false otherwise
+	 */
+	public boolean isForward(int i, int j) {
+		this.checkIndex(i);
+		if(null != this.classes) {
+			int r = this.findRow(i);
+			if(!this.orientationFree) {
+				return this.isRowForward(r, j);
+			}
+			long k = i - (r == 0 ? 0 : this.ends[r - 1]);
+			int bit = N - 1 - j;
+			return ((k >>> bit) & 1) == 1;
+		} else if(this.orientationFree) {
+			// the bits of i below N are the orientations, 1 ... forward
+			int bit = N - 1 - j;
+			return ((i >>> bit) & 1) == 1;
+		}
+		return this.isRowForward(i, j);
+	}
+	
+	private boolean isRowForward(int r, int j) {
+		int k = (r % CHUNK_SIZE) * N + j;
+		return (this.reverse.get(r / CHUNK_SIZE).get(k >>> 6) & (1L << k)) == 0;
+	}
+	
+	/*
+	 * getRowSolutions/1 returns the number of solutions of a new row, 
+	 * i.e. the product of the sizes of its classes (times 2^N if the 
+	 * orientations are free)
+	 */
+	private long getRowSolutions(int[] ids) {
+		long n = this.orientationFree ? 1L << N : 1;
+		for(int j=0; j<N; j++) {
+			n = saturatedMultiply(n, this.classes.getSize(this.classes.getClassId(ids[j])));
+		}
+		return n;
+	}
+	
+	/*
+	 * getMember/3 returns the part id at position j of the 
+	 * k-th choice of class members of the r-th row
+	 */
+	private int getMember(int r, int j, long k) {
+		long divisor = 1;
+		for(int m=N-1; m>j; m--) {
+			divisor = saturatedMultiply(divisor, 
+					this.classes.getSize(this.classes.getClassId(this.getRowPartId(r, m))));
+		}
+		int classId = this.classes.getClassId(this.getRowPartId(r, j));
+		return this.classes.getMember(classId, (int)((k / divisor) % this.classes.getSize(classId)));
+	}
+	
+	/*
+	 * findRow/1 returns the row of the i-th solution
+	 */
+	private int findRow(int i) {
+		int lo = 0;
+		int hi = this.size - 1;
+		while(lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if(this.ends[mid] > i) {
+				hi = mid;
+			} else {
+				lo = mid + 1;
+			}
+		}
+		return lo;
+	}
+	
+	/*
+	 * a packed set expands its rows on access
+	 */
+	private boolean isPacked() {
+		return this.orientationFree || null != this.classes;
+	}
+	
+	/**
+	 * @param i ... the index of the solution
+	 * @param j ... the position within the solution
+	 * @return the (shared) component at position j of the i-th solution
+	 */
+	public Component get(int i, int j) {
+		return this.getComponent(this.getPartId(i, j), this.isForward(i, j));
+	}
+	
+	/**
+	 * @param i ... the index of the solution
+	 * @return the i-th solution as an array of (shared) components
+	 */
+	public Component[] get(int i) {
+		Component[] solution = new Component[N];
+		for(int j=0; j<N; j++) {
+			solution[j] = this.get(i, j);
+		}
+		return solution;
+	}
+
+	/**
+	 * getComponent/2 returns the flyweight of the part 
+	 * with the given id and orientation
+	 * 
+	 * @param id      ... the id of the part
+	 * @param forward ... the orientation of the part
+	 * @return the shared Component instance
+	 */
+	public Component getComponent(int id, boolean forward) {
+		if(id >= this.forwardComponents.length) {
+			int length = Math.max(id + 1, this.symbols.getComponents().length);
+			this.forwardComponents = Arrays.copyOf(this.forwardComponents, length);
+			this.reverseComponents = Arrays.copyOf(this.reverseComponents, length);
+		}
+		
+		Component[] flyweights = forward ? this.forwardComponents : this.reverseComponents;
+		if(null == flyweights[id]) {
+			Component c = this.symbols.get(id);
+			if(null == c) {
+				throw new IllegalArgumentException("I cannot find any component with id "+id);
+			}
+			
+			Component flyweight = new Component(c.getName(), c.getType());
+			flyweight.setId(id);
+			flyweight.setForward(forward);
+			flyweights[id] = flyweight;
+		}
+		return flyweights[id];
+	}
+	
+	/**
+	 * asList/0 returns a read-only view of the solutions 
+	 * as a list of component arrays. 
+	 * The arrays are created on access.
+	 * 
+	 * @return the list view of the solutions
+	 */
+	public List<Component[]> asList() {
+		return new SolutionList();
+	}
+	
+	@Override
+	public Iterator<Component[]> iterator() {
+		return this.asList().iterator();
+	}
+	
+	/*
+	 * newChunk/0 appends an empty chunk. If the chunks in memory 
+	 * exceed the budget, then the last full chunk gets spilled.
+	 */
+	private void newChunk() {
+		long bytes = (long)CHUNK_SIZE * N * 4 + (long)words(CHUNK_SIZE * N) * 8;
+		for(int c=0; c<this.parts.size() && (this.inMemory + 1) * bytes > this.memoryBudget; c++) {
+			if(!this.parts.get(c).isReadOnly()) {
+				this.spill(c);
+			}
+		}
+		
+		int rows = Math.min(INITIAL_ROWS, CHUNK_SIZE);
+		this.parts.add(IntBuffer.wrap(new int[rows * N]));
+		this.reverse.add(LongBuffer.wrap(new long[words(rows * N)]));
+		this.inMemory ++;
+	}
+	
+	/*
+	 * spill/1 writes a chunk to a temporary file and 
+	 * replaces it by a read-only mapping of the file
+	 */
+	private void spill(int c) {
+		IntBuffer chunk = this.parts.get(c);
+		LongBuffer bits = this.reverse.get(c);
+		
+		long length = (long)chunk.capacity() * 4 + (long)bits.capacity() * 8;
+		try {
+			File file = File.createTempFile("minieugene-solutions", ".chunk");
+			RandomAccessFile raf = new RandomAccessFile(file, "rw");
+			try {
+				MappedByteBuffer mbb = raf.getChannel().map(
+						FileChannel.MapMode.READ_WRITE, 0, length);
+				mbb.asIntBuffer().put(chunk.array());
+				mbb.position(chunk.capacity() * 4);
+				mbb.slice().asLongBuffer().put(bits.array());
+				
+				/*
+				 * the mapping remains valid after closing the file
+				 */
+				ByteBuffer ro = mbb.asReadOnlyBuffer();
+				ro.position(0);
+				this.parts.set(c, ro.slice().asIntBuffer());
+				ro.position(chunk.capacity() * 4);
+				this.reverse.set(c, ro.slice().asLongBuffer());
+			} finally {
+				raf.close();
+				if(!file.delete()) {
+					file.deleteOnExit();
+				}
+			}
+		} catch(IOException ioe) {
+			throw new IllegalStateException("I cannot spill the solutions to disk: "+ioe.getMessage());
+		}
+		this.inMemory --;
+	}
+	
+	/*
+	 * expand/1 replaces the arrangements of an orientation-free 
+	 * set by its first n solutions
+	 */
+	private void expand(int n) {
+		SolutionSet solutions = new SolutionSet(this.symbols, this.N, this.memoryBudget);
+		int[] ids = new int[N];
+		boolean[] forward = new boolean[N];
+		for(int i=0; i<n; i++) {
+			for(int j=0; j<N; j++) {
+				ids[j] = this.getPartId(i, j);
+				forward[j] = this.isForward(i, j);
+			}
+			solutions.add(ids, forward);
+		}
+		
+		this.parts = solutions.parts;
+		this.reverse = solutions.reverse;
+		this.inMemory = solutions.inMemory;
+		this.size = solutions.size;
+		this.orientationFree = false;
+		this.classes = null;
+		this.ends = null;
+	}
+	
+	private void checkIndex(int i) {
+		if(i < 0 || i >= this.size()) {
+			throw new IndexOutOfBoundsException("Solution: "+i+", Size: "+this.size());
+		}
+	}
+	
+	private static int words(int bits) {
+		return (bits + 63) >>> 6;
+	}
+	
+	private static boolean sameClasses(PartClasses a, PartClasses b) {
+		return null == a ? null == b : a.equals(b);
+	}
+	
+	/**
+	 * @return a + b of two non-negative numbers, saturated at Long.MAX_VALUE
+	 */
+	public static long saturatedAdd(long a, long b) {
+		long sum = a + b;
+		return sum < 0 ? Long.MAX_VALUE : sum;
+	}
+	
+	/**
+	 * @return a * b of two non-negative numbers, saturated at Long.MAX_VALUE
+	 */
+	public static long saturatedMultiply(long a, long b) {
+		if(a != 0 && b > Long.MAX_VALUE / a) {
+			return Long.MAX_VALUE;
+		}
+		return a * b;
+	}
+	
+	/*
+	 * the adapter to the List<Component[]> API
+	 */
+	private class SolutionList 
+			extends AbstractList<Component[]> 
+			implements RandomAccess {
+
+		@Override
+		public Component[] get(int index) {
+			return SolutionSet.this.get(index);
+		}
+
+		@Override
+		public int size() {
+			return SolutionSet.this.size();
+		}
+	}
+}
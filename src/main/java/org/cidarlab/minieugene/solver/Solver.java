@@ -32,7 +32,7 @@
 
 package org.cidarlab.minieugene.solver;
 
-import java.util.List;
+import java.util.Iterator;
 
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
@@ -45,10 +45,21 @@ public interface Solver {
 	 * @param symbols   ... all components bound by constraints
 	 * @param and       ... the conjunction of miniEugene constraints
 	 * @param solutions ... the number of desired solutions
-	 * @return
+	 * @return the solutions
 	 * @throws MiniEugeneException
 	 */
-	public List<Component[]> solve(Component[] components, LogicalAnd and, int solutions)
+	public SolutionSet solve(Component[] components, LogicalAnd and, int solutions)
+			throws MiniEugeneException;
+	
+	/**
+	 * 
+	 * @param components ... all components bound by constraints
+	 * @param and        ... the conjunction of miniEugene constraints
+	 * @param solutions  ... the number of desired solutions (-1 ... all solutions)
+	 * @return an iterator that finds the solutions one at a time
+	 * @throws MiniEugeneException
+	 */
+	public Iterator<Component[]> iterate(Component[] components, LogicalAnd and, int solutions)
 			throws MiniEugeneException;
 	
 }
@@ -0,0 +1,615 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.BinaryConstraint;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.predicates.LogicalPredicate;
+import org.cidarlab.minieugene.predicates.UnaryConstraint;
+import org.cidarlab.minieugene.predicates.counting.CountingConstraint;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.predicates.interaction.Interaction;
+import org.cidarlab.minieugene.predicates.orientation.AllForward;
+import org.cidarlab.minieugene.predicates.orientation.AllReverse;
+import org.cidarlab.minieugene.predicates.orientation.OrientationConstraint;
+import org.cidarlab.minieugene.predicates.orientation.SomeForward;
+import org.cidarlab.minieugene.predicates.orientation.SomeReverse;
+import org.cidarlab.minieugene.predicates.pairing.PairingPredicate;
+import org.cidarlab.minieugene.predicates.position.EndsWith;
+import org.cidarlab.minieugene.predicates.position.Equals;
+import org.cidarlab.minieugene.predicates.position.PositioningConstraint;
+import org.cidarlab.minieugene.predicates.position.StartsWith;
+import org.cidarlab.minieugene.predicates.templating.Template;
+import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
+import org.cidarlab.minieugene.solver.ProductSolutionSet;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.jacop.core.IntDomain;
+import org.jacop.core.ValueEnumeration;
+
+/**
+ * The DecomposingJaCoPSolver splits the design into blocks 
+ * of consecutive positions that can be solved independently.
+ * 
+ * The constraint graph connects every position with the parts 
+ * that remain in its domain after the initial propagation, and 
+ * every rule with the parts and positions that it references. 
+ * A block is a connected component of the graph, widened to an 
+ * interval of positions. Hence, the blocks share neither parts 
+ * nor rules, and the solutions of the design are the Cartesian 
+ * product of the solutions of the blocks.
+ * 
+ * The blocks are separable only if the positions are fixed, e.g. 
+ * by a TEMPLATE, by SEQUENCEs that cover the design, or by [i] EQUALS 
+ * rules. Every rule must be local, i.e. it must depend on the 
+ * occurrences of its operands only. Otherwise, the solver falls back 
+ * to the sequential search. ALL_FORWARD, ALL_REVERSE, and TEMPLATE 
+ * rules without operands hold in every block.
+ * 
+ * Every block is modeled in its own JaCoP store and searched by 
+ * one worker of a ForkJoinPool. The solutions are returned 
+ * as a ProductSolutionSet, i.e. they are concatenated on access.
+ * 
+ * @author Ernst Oberortner
+ */
+public class DecomposingJaCoPSolver 
+		implements Solver {
+
+	/*
+	 * the pool is shared among all decomposing solvers
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool();
+	
+	private SymbolTables symbols;
+	private long memoryBudget;
+	
+	public DecomposingJaCoPSolver(SymbolTables symbols) {
+		this.symbols = symbols;
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions are kept 
+	 * on the heap before they get spilled to disk.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	@Override
+	public SolutionSet solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		List<Block> blocks = this.decompose(components, and);
+		
+		List<SolutionSet> factors = null;
+		if(null != blocks) {
+			List<SolveTask> tasks = new ArrayList<SolveTask>(blocks.size());
+			for(Block block : blocks) {
+				tasks.add(new SolveTask(block, NR_OF_SOLUTIONS));
+			}
+			factors = this.invoke(tasks);
+		}
+		
+		// nothing to decompose
+		if(null == factors) {
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setMemoryBudget(this.memoryBudget);
+			return solver.solve(components, and, NR_OF_SOLUTIONS);
+		}
+		
+		/*
+		 * every block searches for at most NR_OF_SOLUTIONS solutions, 
+		 * i.e. their product contains at least NR_OF_SOLUTIONS solutions
+		 */
+		ProductSolutionSet solutions = new ProductSolutionSet(this.symbols, factors);
+		if(NR_OF_SOLUTIONS != (-1)) {
+			solutions.truncate(NR_OF_SOLUTIONS);
+		}
+		return solutions;
+	}
+	
+	/**
+	 * count/2 counts the solutions of every block and 
+	 * returns their product (saturated at Long.MAX_VALUE)
+	 */
+	public long count(Component[] components, LogicalAnd and)
+			throws MiniEugeneException {
+		
+		List<Block> blocks = this.decompose(components, and);
+		
+		List<Long> counts = null;
+		if(null != blocks) {
+			List<CountTask> tasks = new ArrayList<CountTask>(blocks.size());
+			for(Block block : blocks) {
+				tasks.add(new CountTask(block));
+			}
+			counts = this.invoke(tasks);
+		}
+		
+		if(null == counts) {
+			return new JaCoPSolver(this.symbols).count(components, and);
+		}
+		
+		long count = 1;
+		for(long n : counts) {
+			if(n == 0) {
+				return 0;
+			}
+			count = n > Long.MAX_VALUE / count ? Long.MAX_VALUE : count * n;
+		}
+		return count;
+	}
+
+	/**
+	 * The solutions of the decomposing solver are not streamed. 
+	 * iterate/3 runs the sequential search lazily instead.
+	 */
+	@Override
+	public Iterator<Component[]> iterate(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+		return new JaCoPSolver(this.symbols).iterate(components, and, NR_OF_SOLUTIONS);
+	}
+	
+	/*
+	 * invoke/1 runs the tasks of all blocks in parallel. It returns 
+	 * null if a block cannot be modeled on its own, e.g. if one of 
+	 * its rules requires more positions than the block has. Then, 
+	 * the sequential search reports the solutions or the error.
+	 */
+	private <T> List<T> invoke(List<? extends RecursiveTask<T>> tasks)
+			throws MiniEugeneException {
+		try {
+			return POOL.invoke(new ForkTask<T>(tasks));
+		} catch(OutOfMemoryError oome) {
+			throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+		} catch(RuntimeException re) {
+			return null;
+		}
+	}
+	
+	/*
+	 * decompose/2 returns the independent blocks of the design, 
+	 * or null if the design consists of one block only
+	 */
+	List<Block> decompose(Component[] components, LogicalAnd and)
+			throws MiniEugeneException {
+		
+		int N = and.getMaxN();
+		if(N < 2) {
+			return null;
+		}
+		
+		int maxId = -1;
+		Map<Integer, List<Integer>> typeParts = new HashMap<Integer, List<Integer>>();
+		for(Component component : components) {
+			maxId = Math.max(maxId, component.getId());
+			if(!typeParts.containsKey(component.getTypeId())) {
+				typeParts.put(component.getTypeId(), new ArrayList<Integer>());
+			}
+			typeParts.get(component.getTypeId()).add(component.getId());
+		}
+		
+		/*
+		 * the parts (N + id) and positions that every rule references
+		 */
+		List<Constraint> rules = new ArrayList<Constraint>();
+		List<Set<Integer>> references = new ArrayList<Set<Integer>>();
+		List<Constraint> global = new ArrayList<Constraint>();
+		for(Constraint rule : and.getConstraints()) {
+			if(isGlobal(rule)) {
+				global.add(rule);
+				continue;
+			}
+			
+			Set<Integer> nodes = new HashSet<Integer>();
+			if(!collect(rule, N, typeParts, nodes)) {
+				return null;
+			}
+			for(int node : nodes) {
+				maxId = Math.max(maxId, node - N);
+			}
+			rules.add(rule);
+			references.add(nodes);
+		}
+		
+		IntDomain[] domains = new JaCoPSolver(this.symbols).propagate(components, and);
+		if(null == domains) {
+			// the sequential search reports the inconsistency
+			return null;
+		}
+		
+		/*
+		 * the connected components of the constraint graph
+		 */
+		int[] parent = new int[N + maxId + 1];
+		for(int i=0; i<parent.length; i++) {
+			parent[i] = i;
+		}
+		for(int i=0; i<N; i++) {
+			ValueEnumeration ve = domains[i].valueEnumeration();
+			while(ve.hasMoreElements()) {
+				union(parent, i, N + ve.nextElement());
+			}
+		}
+		for(Set<Integer> nodes : references) {
+			int first = -1;
+			for(int node : nodes) {
+				if(first == -1) {
+					first = node;
+				}
+				union(parent, first, node);
+			}
+		}
+		
+		// a component spans all positions between its first and last position
+		int[] last = new int[parent.length];
+		for(int i=0; i<N; i++) {
+			last[find(parent, i)] = i;
+		}
+		int end = 0;
+		for(int i=0; i<N; i++) {
+			if(i <= end && i > 0) {
+				union(parent, i - 1, i);
+			}
+			end = Math.max(end, last[find(parent, i)]);
+		}
+		
+		Map<Integer, Block> roots = new HashMap<Integer, Block>();
+		List<Block> blocks = new ArrayList<Block>();
+		for(int i=0; i<N; i++) {
+			int root = find(parent, i);
+			if(!roots.containsKey(root)) {
+				Block block = new Block(i);
+				roots.put(root, block);
+				blocks.add(block);
+			}
+			roots.get(root).length ++;
+		}
+		
+		if(blocks.size() < 2) {
+			return null;
+		}
+		
+		/*
+		 * the parts and rules that reference no position 
+		 * belong to the first block
+		 */
+		for(Component component : components) {
+			Block block = roots.get(find(parent, N + component.getId()));
+			(null == block ? blocks.get(0) : block).components.add(component);
+		}
+		for(int r=0; r<rules.size(); r++) {
+			Block block = null;
+			if(!references.get(r).isEmpty()) {
+				block = roots.get(find(parent, references.get(r).iterator().next()));
+			}
+			if(null == block) {
+				block = blocks.get(0);
+			}
+			block.rules.add(shift(rules.get(r), block.start));
+		}
+		
+		for(Block block : blocks) {
+			for(Constraint rule : global) {
+				block.rules.add(rule instanceof Template ? 
+						restrict((Template)rule, block.start, block.length) : rule);
+			}
+			block.and = new LogicalAnd(block.rules);
+			block.and.setMinN(block.length);
+			block.and.setMaxN(block.length);
+		}
+		return blocks;
+	}
+	
+	/*
+	 * a global rule holds in every block of the design
+	 */
+	private static boolean isGlobal(Constraint rule) {
+		if(rule instanceof Template) {
+			return !((Template)rule).isNegated();
+		}
+		return (rule instanceof AllForward || rule instanceof AllReverse) && 
+				null == ((UnaryConstraint)rule).getA();
+	}
+	
+	/*
+	 * collect/4 collects the parts (N + id) and positions that the 
+	 * given rule references. It returns false if the rule is not local.
+	 */
+	private static boolean collect(Constraint rule, int N, Map<Integer, List<Integer>> typeParts, Set<Integer> nodes) {
+		
+		if(rule instanceof LogicalPredicate) {
+			for(Constraint c : ((LogicalPredicate)rule).getConstraints()) {
+				if(!collect(c, N, typeParts, nodes)) {
+					return false;
+				}
+			}
+			return true;
+		} else if(rule instanceof Template) {
+			return false;
+		} else if(rule instanceof TemplatingPredicate) {
+			for(List<Component> selection : ((TemplatingPredicate)rule).getComponents()) {
+				for(Component component : selection) {
+					nodes.add(N + component.getId());
+				}
+			}
+			return true;
+		} else if(rule instanceof Interaction) {
+			// INDUCES and REPRESSES impose no constraint
+			return true;
+		} else if(rule instanceof Equals) {
+			Equals equals = (Equals)rule;
+			if(!isPosition(equals.getI(), N)) {
+				return false;
+			} else if(equals.getJ() != (-1)) {
+				nodes.add(equals.getI());
+				nodes.add(equals.getJ());
+				return isPosition(equals.getJ(), N);
+			}
+			nodes.add(equals.getI());
+			return collect(equals.getA(), N, typeParts, nodes);
+		} else if(rule instanceof StartsWith) {
+			nodes.add(0);
+		} else if(rule instanceof EndsWith) {
+			nodes.add(N - 1);
+		} else if(!(rule instanceof CountingConstraint || rule instanceof PairingPredicate || 
+				rule instanceof OrientationConstraint || rule instanceof PositioningConstraint || 
+				rule instanceof Drives)) {
+			return false;
+		}
+		
+		ConstraintOperand a = ((UnaryConstraint)rule).getA();
+		if(null == a) {
+			return false;
+		} else if(a.isIndex()) {
+			// only the orientation of a position can be shifted into a block
+			nodes.add(a.getIndex());
+			return isPosition(a.getIndex(), N) && 
+					(rule instanceof AllForward || rule instanceof AllReverse || 
+					 rule instanceof SomeForward || rule instanceof SomeReverse);
+		} else if(!collect(a, N, typeParts, nodes)) {
+			return false;
+		}
+		
+		if(rule instanceof BinaryConstraint && null != ((BinaryConstraint)rule).getB()) {
+			return collect(((BinaryConstraint)rule).getB(), N, typeParts, nodes);
+		}
+		return true;
+	}
+	
+	private static boolean collect(ConstraintOperand op, int N, Map<Integer, List<Integer>> typeParts, Set<Integer> nodes) {
+		if(null == op || op.isIndex() || op.isComposite()) {
+			return false;
+		} else if(op.isType()) {
+			List<Integer> parts = typeParts.get(op.getOperand().getId());
+			if(null != parts) {
+				for(int id : parts) {
+					nodes.add(N + id);
+				}
+			}
+		} else if(op.isPrimitiveComponent()) {
+			nodes.add(N + op.getOperand().getId());
+		}
+		return true;
+	}
+	
+	private static boolean isPosition(int i, int N) {
+		return i >= 0 && i < N;
+	}
+	
+	/*
+	 * shift/2 returns the given rule with its positions relative 
+	 * to the first position of its block
+	 */
+	static Constraint shift(Constraint rule, int start) {
+		if(start == 0) {
+			return rule;
+		} else if(rule instanceof LogicalPredicate) {
+			List<Constraint> constraints = new ArrayList<Constraint>();
+			for(Constraint c : ((LogicalPredicate)rule).getConstraints()) {
+				constraints.add(shift(c, start));
+			}
+			
+			if(rule instanceof LogicalNot) {
+				return new LogicalNot(constraints.get(0));
+			} else if(rule instanceof LogicalOr) {
+				return new LogicalOr(constraints);
+			}
+			return new LogicalAnd(constraints);
+		} else if(rule instanceof Equals) {
+			Equals equals = (Equals)rule;
+			if(equals.getJ() != (-1)) {
+				return new Equals(equals.getI() - start, equals.getJ() - start);
+			}
+			return new Equals(equals.getI() - start, equals.getA());
+		} else if(rule instanceof UnaryConstraint && 
+				null != ((UnaryConstraint)rule).getA() && ((UnaryConstraint)rule).getA().isIndex()) {
+			ConstraintOperand a = new ConstraintOperand(((UnaryConstraint)rule).getA().getIndex() - start);
+			if(rule instanceof AllForward) {
+				return new AllForward(a);
+			} else if(rule instanceof AllReverse) {
+				return new AllReverse(a);
+			} else if(rule instanceof SomeForward) {
+				return new SomeForward(a);
+			}
+			return new SomeReverse(a);
+		}
+		return rule;
+	}
+	
+	/*
+	 * restrict/3 returns the selections of a TEMPLATE 
+	 * at the given positions as a template of its own
+	 */
+	static Template restrict(Template template, int start, int length) {
+		List<List<Component>> selections = template.getComponents();
+		List<List<Component>> block = new ArrayList<List<Component>>(length);
+		for(int i=start; i<start + length; i++) {
+			block.add(selections.get(i % selections.size()));
+		}
+		return new Template(null, block);
+	}
+	
+	private static int find(int[] parent, int x) {
+		while(parent[x] != x) {
+			parent[x] = parent[parent[x]];
+			x = parent[x];
+		}
+		return x;
+	}
+	
+	private static void union(int[] parent, int x, int y) {
+		parent[find(parent, x)] = find(parent, y);
+	}
+	
+	/*
+	 * A Block consists of the consecutive positions 
+	 * of a sub-problem, its parts, and its rules.
+	 */
+	static class Block {
+		
+		private final int start;
+		private int length;
+		private final List<Component> components;
+		private final List<Constraint> rules;
+		private LogicalAnd and;
+		
+		Block(int start) {
+			this.start = start;
+			this.length = 0;
+			this.components = new ArrayList<Component>();
+			this.rules = new ArrayList<Constraint>();
+		}
+		
+		private Component[] getComponents() {
+			return this.components.toArray(new Component[this.components.size()]);
+		}
+	}
+	
+	/*
+	 * The ForkTask forks the tasks of all blocks and joins 
+	 * their results in the order of the blocks.
+	 */
+	private static class ForkTask<T> 
+			extends RecursiveTask<List<T>> {
+		
+		private static final long serialVersionUID = 2873546016539187204L;
+		
+		private final List<? extends RecursiveTask<T>> tasks;
+		
+		public ForkTask(List<? extends RecursiveTask<T>> tasks) {
+			this.tasks = tasks;
+		}
+		
+		@Override
+		protected List<T> compute() {
+			invokeAll(tasks);
+			
+			List<T> results = new ArrayList<T>(tasks.size());
+			for(RecursiveTask<T> task : tasks) {
+				results.add(task.join());
+			}
+			return results;
+		}
+	}
+	
+	/*
+	 * A SolveTask builds the model of one block and searches it.
+	 */
+	private class SolveTask 
+			extends RecursiveTask<SolutionSet> {
+		
+		private static final long serialVersionUID = -4409127460712334862L;
+
+		private final Block block;
+		private final int NR_OF_SOLUTIONS;
+		
+		public SolveTask(Block block, int NR_OF_SOLUTIONS) {
+			this.block = block;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+		}
+		
+		@Override
+		protected SolutionSet compute() {
+			try {
+				JaCoPSolver solver = new JaCoPSolver(symbols);
+				solver.setMemoryBudget(memoryBudget);
+				return solver.solve(block.getComponents(), block.and, NR_OF_SOLUTIONS);
+			} catch(MiniEugeneException mee) {
+				throw new IllegalStateException(mee.getMessage());
+			}
+		}
+	}
+	
+	/*
+	 * A CountTask builds the model of one block and counts its solutions.
+	 */
+	private class CountTask 
+			extends RecursiveTask<Long> {
+		
+		private static final long serialVersionUID = 5480364527913218820L;
+
+		private final Block block;
+		
+		public CountTask(Block block) {
+			this.block = block;
+		}
+		
+		@Override
+		protected Long compute() {
+			try {
+				return new JaCoPSolver(symbols).count(block.getComponents(), block.and);
+			} catch(MiniEugeneException mee) {
+				throw new IllegalStateException(mee.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The DisjunctiveJaCoPSolver splits the top-level OR rules 
+ * into sub-problems instead of reifying them.
+ * 
+ * The i-th branch of a rule a_0 OR ... OR a_n contains a_i 
+ * and excludes a_0, ..., a_(i-1). Hence, the branches are 
+ * mutually exclusive and no solution is found twice. 
+ * Every branch is modeled in its own JaCoP store and searched 
+ * by one worker of a ForkJoinPool. The solutions are merged 
+ * in the order of the branches.
+ * 
+ * The OR rules are split as long as the number of branches does 
+ * not exceed the maximum number of branches. The remaining 
+ * OR rules are reified as in the sequential solver.
+ * 
+ * @author Ernst Oberortner
+ */
+public class DisjunctiveJaCoPSolver 
+		implements Solver {
+
+	public static final int DEFAULT_MAX_BRANCHES = 64;
+	
+	/*
+	 * the pool is shared among all disjunctive solvers
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool();
+	
+	private SymbolTables symbols;
+	private int maxBranches;
+	private long memoryBudget;
+	
+	public DisjunctiveJaCoPSolver(SymbolTables symbols) {
+		this.symbols = symbols;
+		this.maxBranches = DEFAULT_MAX_BRANCHES;
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+	}
+	
+	/**
+	 * setMaxBranches/1 specifies the maximum number of sub-problems. 
+	 * A value of 1 reifies all OR rules, i.e. the solver falls back 
+	 * to the sequential search.
+	 */
+	public void setMaxBranches(int maxBranches) {
+		this.maxBranches = maxBranches;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions are kept 
+	 * on the heap before they get spilled to disk.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	@Override
+	public SolutionSet solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		List<Branch> branches = this.split(and);
+		
+		// nothing to split
+		if(branches.size() == 1) {
+			JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setMemoryBudget(this.memoryBudget);
+			return solver.solve(components, and, NR_OF_SOLUTIONS);
+		}
+		
+		EnumerationTask task = new EnumerationTask(
+				components, and, NR_OF_SOLUTIONS, branches);
+		try {
+			return POOL.invoke(task);
+		} catch(OutOfMemoryError oome) {
+			throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+		} catch(RuntimeException re) {
+			
+			// the branches wrap their exceptions
+			for(Throwable t = re; null != t; t = t.getCause()) {
+				if(t instanceof MiniEugeneException) {
+					throw (MiniEugeneException)t;
+				}
+			}
+			throw new MiniEugeneException(re.toString(), re);
+		}
+	}
+
+	/**
+	 * The solutions of the disjunctive solver are not streamed. 
+	 * iterate/3 runs the sequential search lazily instead.
+	 */
+	@Override
+	public Iterator<Component[]> iterate(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+		return new JaCoPSolver(this.symbols).iterate(components, and, NR_OF_SOLUTIONS);
+	}
+	
+	/*
+	 * split/1 returns the sub-problems of the given rules
+	 */
+	List<Branch> split(LogicalAnd and) {
+		
+		List<Branch> branches = new ArrayList<Branch>();
+		branches.add(new Branch());
+		
+		for(Constraint c : and.getConstraints()) {
+			
+			if(c instanceof LogicalOr && 
+					branches.size() * ((LogicalOr)c).getConstraints().size() <= this.maxBranches) {
+				
+				List<Constraint> alternatives = ((LogicalOr)c).getConstraints();
+				List<Branch> split = new ArrayList<Branch>(
+						branches.size() * alternatives.size());
+				for(Branch branch : branches) {
+					for(int i=0; i<alternatives.size(); i++) {
+						Branch b = new Branch(branch);
+						b.rules.add(alternatives.get(i));
+						
+						// the previous alternatives do not hold
+						b.excluded.addAll(alternatives.subList(0, i));
+						split.add(b);
+					}
+				}
+				branches = split;
+				
+			} else {
+				for(Branch branch : branches) {
+					branch.rules.add(c);
+				}
+			}
+		}
+		
+		for(Branch branch : branches) {
+			branch.and = new LogicalAnd(branch.rules);
+			branch.and.setMinN(and.getMinN());
+			branch.and.setMaxN(and.getMaxN());
+		}
+		return branches;
+	}
+	
+	/*
+	 * A Branch consists of the rules of a sub-problem 
+	 * and the rules that must not hold in it.
+	 */
+	static class Branch {
+		
+		private final List<Constraint> rules;
+		private final List<Constraint> excluded;
+		private LogicalAnd and;
+		
+		Branch() {
+			this.rules = new ArrayList<Constraint>();
+			this.excluded = new ArrayList<Constraint>();
+		}
+		
+		Branch(Branch branch) {
+			this.rules = new ArrayList<Constraint>(branch.rules);
+			this.excluded = new ArrayList<Constraint>(branch.excluded);
+		}
+	}
+	
+	/*
+	 * The EnumerationTask forks one BranchTask per sub-problem 
+	 * and merges their solutions.
+	 */
+	private class EnumerationTask 
+			extends RecursiveTask<SolutionSet> {
+		
+		private static final long serialVersionUID = 6152405867732893021L;
+
+		private final Component[] components;
+		private final LogicalAnd and;
+		private final int NR_OF_SOLUTIONS;
+		private final List<Branch> branches;
+		
+		public EnumerationTask(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS, List<Branch> branches) {
+			this.components = components;
+			this.and = and;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+			this.branches = branches;
+		}
+		
+		@Override
+		protected SolutionSet compute() {
+			
+			List<BranchTask> tasks = new ArrayList<BranchTask>(branches.size());
+			for(Branch branch : branches) {
+				tasks.add(new BranchTask(components, branch, NR_OF_SOLUTIONS));
+			}
+			invokeAll(tasks);
+			
+			SolutionSet solutions = new SolutionSet(symbols, and.getMaxN(), memoryBudget);
+			for(BranchTask task : tasks) {
+				solutions.addAll(task.join());
+			}
+			
+			/*
+			 * every branch searches for at most NR_OF_SOLUTIONS solutions
+			 */
+			if(NR_OF_SOLUTIONS != (-1)) {
+				solutions.truncate(NR_OF_SOLUTIONS);
+			}
+			return solutions;
+		}
+	}
+	
+	/*
+	 * A BranchTask builds the model of one sub-problem and searches it.
+	 */
+	private class BranchTask 
+			extends RecursiveTask<SolutionSet> {
+		
+		private static final long serialVersionUID = -832146637051872154L;
+
+		private final Component[] components;
+		private final Branch branch;
+		private final int NR_OF_SOLUTIONS;
+		
+		public BranchTask(Component[] components, Branch branch, int NR_OF_SOLUTIONS) {
+			this.components = components;
+			this.branch = branch;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+		}
+		
+		@Override
+		protected SolutionSet compute() {
+			try {
+				JaCoPSolver solver = new JaCoPSolver(symbols);
+				solver.setMemoryBudget(memoryBudget);
+				return solver.solve(components, branch.and, branch.excluded, NR_OF_SOLUTIONS);
+			} catch(MiniEugeneException mee) {
+				throw new IllegalStateException(mee.getMessage(), mee);
+			}
+		}
+	}
+}
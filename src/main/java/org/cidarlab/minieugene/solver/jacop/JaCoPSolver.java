@@ -33,104 +33,1029 @@
 package org.cidarlab.minieugene.solver.jacop;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.dom.ComponentType;
-import org.cidarlab.minieugene.dom.Identified;
 import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.BinaryConstraint;
 import org.cidarlab.minieugene.predicates.LogicalAnd;
 import org.cidarlab.minieugene.predicates.Constraint;
-import org.cidarlab.minieugene.predicates.interaction.Induces;
-import org.cidarlab.minieugene.predicates.interaction.Interaction;
-import org.cidarlab.minieugene.predicates.interaction.Represses;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.LogicalPredicate;
+import org.cidarlab.minieugene.predicates.RuleSimplifier;
+import org.cidarlab.minieugene.predicates.UnaryConstraint;
+import org.cidarlab.minieugene.predicates.counting.CountingConstraint;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.predicates.interaction.InteractionConstraint;
+import org.cidarlab.minieugene.predicates.orientation.AllSameOrientation;
+import org.cidarlab.minieugene.predicates.orientation.AlternateOrientation;
+import org.cidarlab.minieugene.predicates.orientation.OrientationConstraint;
+import org.cidarlab.minieugene.predicates.orientation.SomeSameOrientation;
+import org.cidarlab.minieugene.predicates.pairing.AlwaysNextTo;
+import org.cidarlab.minieugene.predicates.pairing.Then;
+import org.cidarlab.minieugene.predicates.pairing.With;
+import org.cidarlab.minieugene.predicates.position.nextto.AllNextTo;
+import org.cidarlab.minieugene.predicates.position.nextto.SomeNextTo;
+import org.cidarlab.minieugene.predicates.templating.Group;
+import org.cidarlab.minieugene.predicates.templating.Pattern;
 import org.cidarlab.minieugene.predicates.templating.Sequence;
+import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
+import org.cidarlab.minieugene.solver.SolutionSet;
 import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.symbol.PartClasses;
 import org.cidarlab.minieugene.symbol.SymbolTables;
 
 import org.jacop.constraints.And;
+import org.jacop.constraints.Cumulative;
+import org.jacop.constraints.ElementVariable;
 import org.jacop.constraints.ExtensionalSupportVA;
+import org.jacop.constraints.GCC;
 import org.jacop.constraints.IfThen;
+import org.jacop.constraints.In;
+import org.jacop.constraints.Lex;
+import org.jacop.constraints.Not;
 import org.jacop.constraints.Or;
 import org.jacop.constraints.PrimitiveConstraint;
 import org.jacop.constraints.XeqC;
-import org.jacop.core.Domain;
+import org.jacop.constraints.XltY;
+import org.jacop.constraints.XmulCeqZ;
+import org.jacop.constraints.XplusCeqZ;
+import org.jacop.constraints.XplusYeqZ;
+import org.jacop.core.IntDomain;
 import org.jacop.core.IntVar;
+import org.jacop.core.IntervalDomain;
 import org.jacop.core.Store;
 import org.jacop.core.ValueEnumeration;
 import org.jacop.search.DepthFirstSearch;
 import org.jacop.search.IndomainMin;
-import org.jacop.search.IndomainSimpleRandom;
-import org.jacop.search.MostConstrainedDynamic;
 import org.jacop.search.Search;
 import org.jacop.search.SelectChoicePoint;
-import org.jacop.search.SimpleMatrixSelect;
 import org.jacop.search.SimpleSelect;
+import org.jacop.search.SimpleSolutionListener;
 import org.jacop.search.SmallestDomain;
 import org.jacop.search.SmallestMin;
 
 public class JaCoPSolver 
 		implements Solver {
 
+	/*
+	 * the initial backtrack limit of the RANDOM_RESTARTS strategy
+	 */
+	private static final long RESTART_BACKTRACKS = 100;
+	
 	private Store store;
 	private SymbolTables symbols;
 	private int N;
 	
+	/*
+	 * the solutions of the last search
+	 */
+	private SolutionSet solutions;
+	private long memoryBudget;
+	
+	/*
+	 * the search of the last count
+	 */
+	private DepthFirstSearch<IntVar> lastSearch;
+	
+	private SearchStrategy strategy;
+	private int seed;
+	private CancelListener cancelListener;
+	
+	private boolean compactModel;
+	private boolean positionModel;
+	private boolean globalCounting;
+	private boolean orientationFactoring;
+	private boolean canonicalForm;
+	private boolean interchangeableParts;
+	private boolean ruleSimplification;
+	
+	/*
+	 * true if no rule of the last model depends on the orientations
+	 */
+	private boolean orientationFree;
+	
+	/*
+	 * the classes of interchangeable parts of the last model 
+	 * (null if every part is a class of its own)
+	 */
+	private PartClasses partClasses;
+	
+	/*
+	 * the symmetry filter of the last model (null if 
+	 * the canonical form mode is switched off)
+	 */
+	private SymmetryFilter symmetryFilter;
+	
+	/*
+	 * the rules that the simplification of the last model removed, 
+	 * the unsimplified rules and the number of imposed constraints 
+	 * (for measuring the saved constraints on demand)
+	 */
+	private int removedRules;
+	private Component[] components;
+	private LogicalAnd unsimplified;
+	private int imposedConstraints;
+	
+	public JaCoPSolver(SymbolTables symbols) {
+		this.store = new Store();
+		this.symbols = symbols;
+		
+		this.strategy = SearchStrategy.MOST_CONSTRAINED;
+		this.seed = 0;
+		this.cancelListener = new CancelListener();
+		
+		this.compactModel = true;
+		this.positionModel = true;
+		this.globalCounting = true;
+		this.orientationFactoring = true;
+		this.canonicalForm = false;
+		this.interchangeableParts = true;
+		this.ruleSimplification = true;
+		
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions are kept 
+	 * on the heap before they get spilled to disk.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	/**
+	 * setCompactModel/1 specifies how the part and type variables 
+	 * are linked. The compact model (default) imposes one table constraint 
+	 * per position and omits the type variables if no rule references 
+	 * a type. The non-compact model imposes the original 
+	 * IfThen/Or constraints per component and is kept for benchmarking.
+	 */
+	public void setCompactModel(boolean compactModel) {
+		this.compactModel = compactModel;
+	}
+	
+	/**
+	 * setPositionModel/1 specifies if the compact model contains the position layer. 
+	 * The position layer (default) channels the part and type variables 
+	 * into the first and last position of the operands of the positioning 
+	 * rules (BEFORE, AFTER, NEXTTO). Then, such rules get imposed as 
+	 * a few arithmetic constraints on the positions instead of O(N^2) 
+	 * constraints on the part and type variables.
+	 */
+	public void setPositionModel(boolean positionModel) {
+		this.positionModel = positionModel;
+	}
+	
+	/**
+	 * setGlobalCounting/1 specifies if the compact model counts the operands 
+	 * of the counting rules (CONTAINS, EXACTLY, MORETHAN, SAME_COUNT, WITH, THEN) 
+	 * with one global cardinality constraint per layer (default) 
+	 * or with one Count constraint per operand.
+	 */
+	public void setGlobalCounting(boolean globalCounting) {
+		this.globalCounting = globalCounting;
+	}
+	
+	/**
+	 * setOrientationFactoring/1 specifies if the orientations are factored 
+	 * out of the search if no rule depends on them (default). Then, solve/3 
+	 * enumerates the arrangements of the parts only and returns an 
+	 * orientation-free solution set (up to SolutionSet.MAX_ORIENTATION_FREE_N 
+	 * parts), and count/2 multiplies the number of arrangements by 2^N 
+	 * (saturated at Long.MAX_VALUE). Searches for a limited number of 
+	 * solutions always label the orientations.
+	 */
+	public void setOrientationFactoring(boolean orientationFactoring) {
+		this.orientationFactoring = orientationFactoring;
+	}
+	
+	/**
+	 * setInterchangeableParts/1 specifies if the parts of the same type 
+	 * that no rule names individually are searched as one class 
+	 * (default). Then, the search labels the class representatives 
+	 * only. solve/3 returns a solution set whose rows consist of the 
+	 * representatives and expands the class members on access, and 
+	 * count/2 multiplies the number of every class-level solution 
+	 * by the sizes of its classes. Searches for a limited number of 
+	 * solutions and the canonical form mode always label all parts.
+	 */
+	public void setInterchangeableParts(boolean interchangeableParts) {
+		this.interchangeableParts = interchangeableParts;
+	}
+	
+	/**
+	 * setCanonicalForm/1 specifies if the solver reports only one design 
+	 * per DNA molecule (default: false). A design read backwards with 
+	 * every part flipped is the same molecule. Then, a design is dropped 
+	 * if its reversed, flipped mirror is lexicographically smaller 
+	 * and satisfies the rules as well. If all rules are mirror-invariant, 
+	 * then the lexicographic order is imposed as a constraint and 
+	 * prunes the search. Otherwise, the mirror of every non-canonical 
+	 * solution gets checked against the rules.
+	 * 
+	 * The canonical form depends on the orientations, i.e. it 
+	 * disables the orientation factoring.
+	 * 
+	 * getPrunedSymmetries/0 provides the number of pruned duplicates afterwards.
+	 */
+	public void setCanonicalForm(boolean canonicalForm) {
+		this.canonicalForm = canonicalForm;
+	}
+	
+	/**
+	 * setRuleSimplification/1 specifies if the rules get simplified 
+	 * before they are translated into JaCoP constraints (default). 
+	 * The simplification removes duplicate rules and rules that are 
+	 * implied by stronger ones, and pushes negations inward 
+	 * (see RuleSimplifier).
+	 * 
+	 * getRemovedRules/0 and getSavedConstraints/0 provide the 
+	 * savings afterwards. The latter builds the model again, 
+	 * hence it is meant for evaluations only.
+	 */
+	public void setRuleSimplification(boolean ruleSimplification) {
+		this.ruleSimplification = ruleSimplification;
+	}
+	
+	/**
+	 * @return the number of rules that the simplification 
+	 *         removed from the last model
+	 */
+	public int getRemovedRules() {
+		return this.removedRules;
+	}
+	
+	/**
+	 * getSavedConstraints/0 builds the last model without 
+	 * the rule simplification and compares its number of 
+	 * constraints with the number of constraints of the last model.
+	 * 
+	 * @return the number of JaCoP constraints that the 
+	 *         simplification saved in the last model
+	 */
+	public int getSavedConstraints() 
+			throws MiniEugeneException {
+		if(null == this.unsimplified) {
+			return 0;
+		}
+		
+		JaCoPSolver solver = new JaCoPSolver(this.symbols);
+		solver.setCompactModel(this.compactModel);
+		solver.setPositionModel(this.positionModel);
+		solver.setGlobalCounting(this.globalCounting);
+		solver.setOrientationFactoring(this.orientationFactoring);
+		solver.setInterchangeableParts(this.interchangeableParts);
+		solver.setCanonicalForm(this.canonicalForm);
+		solver.setRuleSimplification(false);
+		solver.build(this.components, this.unsimplified);
+		return solver.store.numberConstraints() - this.imposedConstraints;
+	}
+	
+	/**
+	 * @return the number of symmetric duplicates that the canonical 
+	 *         form mode pruned from the solutions of the last model
+	 */
+	public long getPrunedSymmetries() {
+		if(null == this.symmetryFilter) {
+			return 0;
+		}
+		return this.symmetryFilter.getPruned();
+	}
+	
+	/**
+	 * setSearchStrategy/2 specifies the variable and value ordering 
+	 * of the search and the seed of its random value ordering.
+	 */
+	public void setSearchStrategy(SearchStrategy strategy, int seed) {
+		this.strategy = strategy;
+		this.seed = seed;
+	}
+	
+	public SearchStrategy getSearchStrategy() {
+		return this.strategy;
+	}
+	
+	/**
+	 * cancel/0 stops a running search. 
+	 * It can be invoked from any thread.
+	 */
+	public void cancel() {
+		this.cancelListener.cancel();
+	}
+	
+	public SolutionSet solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		IntVar[][] variables = this.build(components, and);
+		
+    	/*
+    	 * now, let's solve the problem
+    	 */
+    	return this.search(variables, NR_OF_SOLUTIONS);
+	}
+	
+	/**
+	 * iterate/3 builds the same model as solve/3, but it does not 
+	 * search for the solutions up front. The returned iterator 
+	 * runs the depth-first search lazily and decodes one solution 
+	 * at a time, i.e. the memory consumption does not grow with 
+	 * the number of solutions.
+	 * 
+	 * The iterator should be closed if the caller stops 
+	 * consuming solutions before the search space is exhausted.
+	 */
+	public SolutionIterator iterate(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		IntVar[][] variables = this.build(components, and);
+		
+    	if(!store.consistency()) {
+    		throw new MiniEugeneException("Inconsistent rules!");
+    	}
+
+    	return new SolutionIterator(this, variables, NR_OF_SOLUTIONS);
+	}
+	
+	/**
+	 * count/2 builds the same model as solve/3 and counts all of its 
+	 * solutions. The solutions are neither recorded nor decoded, 
+	 * i.e. the memory consumption does not grow with the number 
+	 * of solutions.
+	 * 
+	 * getLastSearch/0 provides the statistics of the search afterwards.
+	 * 
+	 * @return the number of solutions
+	 */
+	public long count(Component[] components, LogicalAnd and)
+			throws MiniEugeneException {
+		
+		IntVar[][] variables = this.build(components, and);
+		if(this.orientationFree) {
+			variables = factor(variables);
+		}
+		if(null != this.partClasses) {
+			this.restrictToClasses(variables);
+		}
+		
+		DepthFirstSearch<IntVar> search = this.createSearch(variables);
+		this.lastSearch = search;
+		
+		// inconsistent rules have no solutions
+		if(!store.consistency()) {
+			return 0;
+		}
+
+		CountingSolutionListener listener = new CountingSolutionListener(
+				variables, this.symmetryFilter, this.partClasses);
+		search.setSolutionListener(listener);
+		listener.searchAll(true);
+		listener.recordSolutions(false);
+		search.setAssignSolution(false);
+		
+		try {
+			search.labeling(this.store, this.createSelect(variables));
+		} catch(OutOfMemoryError oome) {
+			throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+		}
+		
+		// every arrangement has 2^N orientations (saturated at Long.MAX_VALUE)
+		if(this.orientationFree) {
+			long count = listener.getCount();
+			return count > (Long.MAX_VALUE >> this.N) ? Long.MAX_VALUE : count << this.N;
+		}
+		return listener.getCount();
+	}
+	
+	/**
+	 * sample/3 finds up to K distinct solutions that are spread over 
+	 * the whole solution space. Every sample is the first new solution 
+	 * of a depth-first search with a randomly seeded value ordering, 
+	 * i.e. the search visits only a small part of the solution space.
+	 * 
+	 * If a search completes without finding a new solution, then the 
+	 * solution space is exhausted and less than K solutions are returned.
+	 * 
+	 * @return the sampled solutions
+	 */
+	public SolutionSet sample(Component[] components, LogicalAnd and, int K)
+			throws MiniEugeneException {
+		
+		IntVar[][] variables = this.build(components, and);
+		
+    	if(!store.consistency()) {
+    		throw new MiniEugeneException("Inconsistent rules!");
+    	}
+    	
+		Set<String> keys = new HashSet<String>();
+		for(int k = 0; this.solutions.size() < K && !this.cancelListener.isCancelled(); k++) {
+			int before = this.solutions.size();
+			
+			DepthFirstSearch<IntVar> search = this.createSearch(variables);
+			
+			// the search stops at the first solution that has not been sampled yet
+			RestartSolutionListener listener = 
+					new RestartSolutionListener(variables, keys, before + 1);
+			search.setSolutionListener(listener);
+			listener.searchAll(true);
+			listener.recordSolutions(false);
+			search.setAssignSolution(false);
+			
+			try {
+				search.labeling(this.store, SearchStrategy.RANDOM_RESTARTS.createSelect(
+						this.store, searchVariables(variables), this.seed + k));
+			} catch(OutOfMemoryError oome) {
+				throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+			}
+			
+			if(this.solutions.size() == before) {
+				break;
+			}
+		}
+		
+		return this.solutions;
+	}
+	
+	/**
+	 * @return the depth-first search of the last execution of count/2, 
+	 *         or null if count/2 has not been executed
+	 */
+	public DepthFirstSearch<IntVar> getLastSearch() {
+		return this.lastSearch;
+	}
+
+	/*
+	 * partition/3 returns the values that remain in the domain of the 
+	 * part variable at the given position after the initial propagation. 
+	 * Every value yields an independent sub-problem.
+	 */
+	int[] partition(Component[] components, LogicalAnd and, int position)
+			throws MiniEugeneException {
+		
+		IntVar[][] variables = this.build(components, and);
+		
+    	if(!store.consistency()) {
+    		throw new MiniEugeneException("Inconsistent rules!");
+    	}
+    	
+    	if(position < 0 || position >= this.N) {
+    		throw new MiniEugeneException("Invalid position "+position+" for partitioning the search!");
+    	}
+    	
+    	IntVar var = variables[Variables.PART][position];
+    	int[] values = new int[var.getSize()];
+    	int i = 0;
+    	ValueEnumeration ve = var.dom().valueEnumeration();
+    	while(ve.hasMoreElements()) {
+    		int value = ve.nextElement();
+    		
+    		// the search of a sub-problem expands the class of its representative
+    		if(null == this.partClasses || this.partClasses.isRepresentative(value)) {
+    			values[i++] = value;
+    		}
+    	}
+    	return Arrays.copyOf(values, i);
+	}
+
+	/*
+	 * propagate/2 returns the domains of the part variables after 
+	 * the initial propagation, or null if the rules are inconsistent
+	 */
+	IntDomain[] propagate(Component[] components, LogicalAnd and)
+			throws MiniEugeneException {
+		
+		IntVar[][] variables = this.build(components, and);
+		if(!store.consistency()) {
+			return null;
+		}
+		
+		IntDomain[] domains = new IntDomain[this.N];
+		for(int i=0; i<this.N; i++) {
+			domains[i] = variables[Variables.PART][i].dom();
+		}
+		return domains;
+	}
+
+	/*
+	 * solve/5 solves the sub-problem in which the part variable 
+	 * at the given position is fixed to the given part id
+	 */
+	SolutionSet solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS, int position, int partId)
+			throws MiniEugeneException {
+
+		IntVar[][] variables = this.build(components, and);
+		store.impose(new XeqC(variables[Variables.PART][position], partId));
+		
+		// an inconsistent sub-problem has no solutions
+		if(!store.consistency()) {
+			return this.solutions;
+		}
+
+		return this.search(variables, NR_OF_SOLUTIONS);
+	}
+
+	/*
+	 * solve/4 solves the sub-problem in which none of the 
+	 * excluded rules holds. An inconsistent sub-problem 
+	 * has no solutions.
+	 */
+	SolutionSet solve(Component[] components, LogicalAnd and, List<Constraint> excluded, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		IntVar[][] variables = this.build(components, and, excluded);
+		if(!store.consistency()) {
+			return this.solutions;
+		}
+
+		return this.search(variables, NR_OF_SOLUTIONS);
+	}
+
+	/*
+	 * complement/3 returns the logical complement of a rule. 
+	 * The NOT of a rule is not always its complement, 
+	 * e.g. NOT a NEXTTO b means that no a is next to a b.
+	 * A group's start variable is existential, i.e. the 
+	 * complement of a group is its native negation.
+	 * The complement of a NOT is the negated rule.
+	 */
+	static PrimitiveConstraint complement(Store store, IntVar[][] variables, Constraint constraint)
+			throws MiniEugeneException {
+		
+		if(constraint instanceof LogicalOr || constraint instanceof LogicalAnd) {
+			List<Constraint> lst = ((LogicalPredicate)constraint).getConstraints();
+			PrimitiveConstraint[] pc = new PrimitiveConstraint[lst.size()];
+			for(int i=0; i<lst.size(); i++) {
+				pc[i] = complement(store, variables, lst.get(i));
+			}
+			if(constraint instanceof LogicalAnd) {
+				return new Or(pc);
+			}
+			return new And(pc);
+		} else if(constraint instanceof LogicalNot) {
+			Constraint negated = ((LogicalNot)constraint).getConstraints().get(0);
+			if(negated instanceof LogicalNot) {
+				// NOT NOT a
+				return complement(store, variables, ((LogicalNot)negated).getConstraints().get(0));
+			}
+			return new Not(negated.toJaCoPNot(store, variables));
+		} else if(constraint instanceof Group && !((Group)constraint).isNegated()) {
+			return constraint.toJaCoPNot(store, variables);
+		}
+		return new Not(constraint.toJaCoP(store, variables));
+	}
+	
+	/*
+	 * build/2 creates the variables of the constraint solving problem 
+	 * and imposes the miniEugene rules on them
+	 */
+	IntVar[][] build(Component[] components, LogicalAnd and) 
+			throws MiniEugeneException {
+		return this.build(components, and, Collections.<Constraint>emptyList());
+	}
+	
+	/*
+	 * build/3 imposes the complements of the excluded rules as well. 
+	 * The model is chosen for the rules and the excluded rules, 
+	 * e.g. the type and orientation variables and the part classes.
+	 */
+	IntVar[][] build(Component[] components, LogicalAnd and, List<Constraint> excluded) 
+			throws MiniEugeneException {
+		
+		this.N = and.getMaxN();
+		
+		this.removedRules = 0;
+		this.unsimplified = null;
+		if(this.ruleSimplification && null != and) {
+			RuleSimplifier simplifier = new RuleSimplifier();
+			this.components = components;
+			this.unsimplified = and;
+			and = simplifier.simplify(and);
+			this.removedRules = simplifier.getRemovedRules();
+			
+			/*
+			 * the excluded rules are rewritten one by one, 
+			 * since each of them gets complemented as a whole
+			 */
+			List<Constraint> rewritten = new ArrayList<Constraint>(excluded.size());
+			for(Constraint constraint : excluded) {
+				List<Constraint> conjuncts = simplifier.simplify(
+						new LogicalAnd(Collections.singletonList(constraint))).getConstraints();
+				rewritten.add(conjuncts.size() == 1 ? conjuncts.get(0) : new LogicalAnd(conjuncts));
+			}
+			excluded = rewritten;
+		}
+		
+		// the rules that the model is chosen for
+		LogicalAnd scope = and;
+		if(!excluded.isEmpty()) {
+			List<Constraint> rules = new ArrayList<Constraint>(excluded);
+			rules.add(and);
+			scope = new LogicalAnd(rules);
+		}
+		
+		this.solutions = new SolutionSet(this.symbols, this.N, this.memoryBudget);
+		this.orientationFree = this.orientationFactoring && !this.canonicalForm && 
+				this.N < 63 && (null == and || !referencesOrientation(scope));
+		this.partClasses = null;
+		if(this.interchangeableParts && !this.canonicalForm) {
+			this.partClasses = this.createPartClasses(components, 
+					null == and ? Collections.<Constraint>emptyList() : Collections.<Constraint>singletonList(scope));
+		}
+
+		// first, build the abstract syntax tree
+//		buildACT(and);
+		
+    	/*
+    	 * create the variables of the constraint solving problem
+    	 * i.e. the parts
+    	 */
+//		IntVar[] positioning_variables = this.model_positioning(components, N);
+    	IntVar[][] variables = null;
+    	if(this.compactModel) {
+    		variables = this.model(components, 
+    				null != and && referencesTypes(scope));
+    	} else {
+    		variables = this.model(components);
+    	}
+    	
+//    	this.solve_pos(components);
+
+    	/*
+    	 * map the Eugene rules onto JaCoP constraints
+    	 */
+    	if(null != and) {
+    		if(this.compactModel && this.globalCounting) {
+    			this.imposeCounters(variables, scope);
+    		}
+    		this.imposeConstraints(variables, and);
+    		for(Constraint constraint : excluded) {
+    			store.impose(complement(this.store, variables, constraint));
+    		}
+
+        	/*
+        	 * and let's try to do some optimizations
+        	 */
+    		this.optimize(variables, and);
+    	}
+    	
+    	this.symmetryFilter = null;
+    	if(this.canonicalForm) {
+    		this.symmetryFilter = this.createSymmetryFilter(components, and, excluded, variables);
+    	}
+    	this.imposedConstraints = this.store.numberConstraints();
+    	
+    	/*
+    	 * for testing: print the store's information
+    	 */
+//    	store.print();
+    	
+    	return variables;
+	}
+	
+	/*
+	 * createPartClasses/2 returns the classes of interchangeable 
+	 * parts of the given rules, or null if there are none
+	 */
+	private PartClasses createPartClasses(Component[] components, List<Constraint> rules) {
+		PartClasses classes = this.symbols.getPartClasses(components, rules);
+		return classes.isTrivial() ? null : classes;
+	}
+	
+	/*
+	 * restrictToClasses/1 restricts the part variables 
+	 * to the representatives of their classes
+	 */
+	private void restrictToClasses(IntVar[][] variables) {
+		IntervalDomain representatives = new IntervalDomain();
+		for(int c=0; c<this.partClasses.size(); c++) {
+			int id = this.partClasses.getRepresentative(c);
+			representatives.unionAdapt(id, id);
+		}
+		for(IntVar part : variables[Variables.PART]) {
+			store.impose(new In(part, representatives));
+		}
+	}
+	
+	/*
+	 * createSymmetryFilter/4 imposes the lexicographic order between 
+	 * a design and its reversed, flipped mirror if the rules are 
+	 * mirror-invariant. Otherwise, the filter checks the mirrors 
+	 * on a second model of the same rules.
+	 */
+	private SymmetryFilter createSymmetryFilter(Component[] components, LogicalAnd and, 
+			List<Constraint> excluded, IntVar[][] variables) 
+			throws MiniEugeneException {
+		
+		boolean invariant = isMirrorInvariant(and);
+		for(Constraint constraint : excluded) {
+			invariant &= isMirrorInvariant(constraint);
+		}
+		if(invariant) {
+			this.imposeCanonicalOrder(variables);
+			return new SymmetryFilter(this.N);
+		}
+		
+		JaCoPSolver checker = new JaCoPSolver(this.symbols);
+		checker.setCompactModel(this.compactModel);
+		checker.setPositionModel(this.positionModel);
+		checker.setGlobalCounting(this.globalCounting);
+		IntVar[][] mirror = checker.build(components, and, excluded);
+		
+		// i.e. inconsistent rules have no solutions and no mirrors
+		checker.store.consistency();
+		
+		return new SymmetryFilter(this.N, checker.store, mirror);
+	}
+	
+	/*
+	 * imposeCanonicalOrder/1 imposes that the keys 3*part + orientation 
+	 * of a design are lexicographically less than or equal to 
+	 * the keys 3*part - orientation of its reversed sequence
+	 */
+	private void imposeCanonicalOrder(IntVar[][] variables) {
+		
+		if(this.N < 2) {
+			return;
+		}
+		
+		IntVar[] parts = new IntVar[N];
+		for(int i=0; i<N; i++) {
+			IntVar part = variables[Variables.PART][i];
+			parts[i] = new IntVar(store, "3P"+i, 3 * part.min(), 3 * part.max());
+			store.impose(new XmulCeqZ(part, 3, parts[i]));
+		}
+		
+		IntVar[] keys = new IntVar[N];
+		IntVar[] mirror = new IntVar[N];
+		for(int i=0; i<N; i++) {
+			keys[i] = new IntVar(store, "K"+i, parts[i].min() - 1, parts[i].max() + 1);
+			store.impose(new XplusYeqZ(parts[i], variables[Variables.ORIENTATION][i], keys[i]));
+			
+			// mirror + orientation = 3*part at the reversed position
+			mirror[i] = new IntVar(store, "M"+i, parts[N-1-i].min() - 1, parts[N-1-i].max() + 1);
+			store.impose(new XplusYeqZ(mirror[i], variables[Variables.ORIENTATION][N-1-i], parts[N-1-i]));
+		}
+		
+		store.imposeDecomposition(new Lex(new IntVar[][] {keys, mirror}, false));
+	}
+	
+	/*
+	 * isMirrorInvariant/1 returns true if the reversed, flipped 
+	 * mirror of every solution of the given constraint is 
+	 * a solution as well. Positioning (BEFORE, AFTER, STARTSWITH, 
+	 * ENDSWITH, EQUALS), templating, and FORWARD/REVERSE rules 
+	 * are not mirror-invariant.
+	 */
+	static boolean isMirrorInvariant(Constraint constraint) {
+		if(null == constraint) {
+			return true;
+		} else if(constraint instanceof LogicalPredicate) {
+			for(Constraint c : ((LogicalPredicate)constraint).getConstraints()) {
+				if(!isMirrorInvariant(c)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return constraint instanceof CountingConstraint || 
+				constraint instanceof With || 
+				constraint instanceof Then || 
+				constraint instanceof AlwaysNextTo || 
+				constraint instanceof AllNextTo || 
+				constraint instanceof SomeNextTo || 
+				constraint instanceof AllSameOrientation || 
+				constraint instanceof SomeSameOrientation || 
+				constraint instanceof AlternateOrientation || 
+				constraint instanceof InteractionConstraint;
+	}
+	
+	/*
+	 * isCanonical/1 returns true if the current assignment of the 
+	 * variables is not a pruned symmetric duplicate
+	 */
+	boolean isCanonical(IntVar[][] variables) {
+		return null == this.symmetryFilter || 
+				this.symmetryFilter.accept(variables);
+	}
+	
+	/*
+	 * model/2 creates the part, type, and orientation variables. 
+	 * 
+	 * At every position, one table constraint links the part 
+	 * variable with its type variable. The table contains one 
+	 * (part id, type id) tuple per component. 
+	 * If no rule references a type, then we do not create 
+	 * any type variables at all.
+	 */
+	private IntVar[][] model(Component[] components, boolean types) 
+			throws MiniEugeneException {
+
+		IntVar[][] variables = new IntVar[6][];
+		variables[Variables.PART] = new IntVar[N];
+		variables[Variables.TYPE] = new IntVar[types ? N : 0];
+		variables[Variables.ORIENTATION] = new IntVar[N];
+		if(this.positionModel) {
+			// the position variables get created per operand on demand
+			variables[Variables.POSITION] = new IntVar[0];
+		}
+		
+		// the counters get created per id on demand
+		int maxTypeId = -1;
+		for(Component component : components) {
+			maxTypeId = Math.max(maxTypeId, component.getTypeId());
+		}
+		variables[Variables.PART_COUNTER] = new IntVar[components.length];
+		variables[Variables.TYPE_COUNTER] = new IntVar[types ? maxTypeId + 1 : 0];
+
+		/*
+		 * the part-type relation is the same at every position
+		 */
+		int[][] partTypes = new int[components.length][];
+		for(int j=0; j<components.length; j++) {
+			partTypes[j] = new int[] {components[j].getId(), components[j].getTypeId()};
+		}
+		
+		for(int i=0; i<N; i++) {
+
+			/*
+			 * PART
+			 */
+			variables[Variables.PART][i] = new IntVar(store, "P"+i);
+			for(int j=0; j<components.length; j++) {						
+				variables[Variables.PART][i].addDom(components[j].getId(), components[j].getId());
+			}
+			
+			/*
+			 * TYPE
+			 */
+			if(types) {
+				variables[Variables.TYPE][i] = new IntVar(store, "T"+i);
+				for(int j=0; j<components.length; j++) {						
+					variables[Variables.TYPE][i].addDom(components[j].getTypeId(), components[j].getTypeId());
+				}
+				
+				store.impose(new ExtensionalSupportVA(
+						new IntVar[] {variables[Variables.PART][i], variables[Variables.TYPE][i]}, 
+						partTypes));
+			}
+			
+			/*
+			 * ORIENTATION
+			 *  -1 ... reverse
+			 *   1 ... forward
+			 */
+			variables[Variables.ORIENTATION][i] = new IntVar(store, "O"+i);
+			variables[Variables.ORIENTATION][i].addDom(-1, -1);
+			variables[Variables.ORIENTATION][i].addDom( 1,  1);
+		}
+		
+		return variables;
+	}
+	
+	/*
+	 * referencesTypes/1 returns true if the given constraint 
+	 * imposes any restrictions on the type variables
+	 */
+	static boolean referencesTypes(Constraint constraint) {
+		if(constraint instanceof LogicalPredicate) {
+			for(Constraint c : ((LogicalPredicate)constraint).getConstraints()) {
+				if(referencesTypes(c)) {
+					return true;
+				}
+			}
+			return false;
+		} else if(constraint instanceof Drives) {
+			// DRIVES looks for terminators
+			return true;
+		} else if(constraint instanceof BinaryConstraint && 
+				null != ((BinaryConstraint)constraint).getB() && 
+				((BinaryConstraint)constraint).getB().isType()) {
+			return true;
+		} else if(constraint instanceof UnaryConstraint && 
+				null != ((UnaryConstraint)constraint).getA() && 
+				((UnaryConstraint)constraint).getA().isType()) {
+			return true;
+		}
+		return false;
+	}
+	
+	/*
+	 * referencesOrientation/1 returns true if the given 
+	 * constraint depends on the orientation variables
+	 */
+	static boolean referencesOrientation(Constraint constraint) {
+		if(constraint instanceof LogicalPredicate) {
+			for(Constraint c : ((LogicalPredicate)constraint).getConstraints()) {
+				if(referencesOrientation(c)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return constraint instanceof OrientationConstraint || 
+				constraint instanceof InteractionConstraint;
+	}
+	
+	/*
+	 * factor/1 returns the variables without the orientations, 
+	 * i.e. the search labels the parts and types only
+	 */
+	static IntVar[][] factor(IntVar[][] variables) {
+		IntVar[][] factored = variables.clone();
+		factored[Variables.ORIENTATION] = new IntVar[0];
+		return factored;
+	}
+	
+	/*
+	 * imposeCounters/2 is the counting compilation pass. It collects 
+	 * the operands of all counting rules and imposes one global 
+	 * cardinality constraint per variable layer instead of one Count 
+	 * per operand. The rules find the counters by id. 
+	 */
+	private void imposeCounters(IntVar[][] variables, LogicalAnd and) {
+		
+		Set<Integer> parts = new HashSet<Integer>();
+		Set<Integer> types = new HashSet<Integer>();
+		collectCounted(and, parts, types);
+		
+		boolean gcc = this.imposeGCC(variables, Variables.PART, Variables.PART_COUNTER, parts);
+		gcc |= this.imposeGCC(variables, Variables.TYPE, Variables.TYPE_COUNTER, types);
+		
+		/*
+		 * JaCoP's GCC does not propagate correctly if its variables 
+		 * are assigned already at its first consistency check. 
+		 * Hence, we propagate before the rules get imposed.
+		 */
+		if(gcc) {
+			store.consistency();
+		}
+	}
+	
+	/*
+	 * imposeGCC/4 imposes a GCC with one counter per value of 
+	 * the given layer, in increasing order. A single counted 
+	 * operand keeps its Count constraint.
+	 */
+	private boolean imposeGCC(IntVar[][] variables, int layer, int row, Set<Integer> ids) {
+		
+		IntVar[] x = variables[layer];
+		if(ids.size() < 2 || x.length == 0 || x[0].getSize() < 2) {
+			return false;
+		}
+		
+		IntVar[] counters = new IntVar[x[0].getSize()];
+		ValueEnumeration ve = x[0].dom().valueEnumeration();
+		for(int i=0; ve.hasMoreElements(); i++) {
+			int id = ve.nextElement();
+			counters[i] = new IntVar(store, 0, x.length);
+			if(id < variables[row].length) {
+				variables[row][id] = counters[i];
+			}
+		}
+		store.impose(new GCC(x, counters));
+		return true;
+	}
 	
-	public JaCoPSolver(SymbolTables symbols) {
-		this.store = new Store();
-		this.symbols = symbols;
+	/*
+	 * collectCounted/3 collects the ids of the parts and types 
+	 * that are counted by the given constraint
+	 */
+	static void collectCounted(Constraint constraint, Set<Integer> parts, Set<Integer> types) {
+		if(constraint instanceof LogicalPredicate) {
+			for(Constraint c : ((LogicalPredicate)constraint).getConstraints()) {
+				collectCounted(c, parts, types);
+			}
+		} else if(constraint instanceof CountingConstraint || 
+				constraint instanceof With || constraint instanceof Then) {
+			
+			collectCounted(((UnaryConstraint)constraint).getA(), parts, types);
+			if(constraint instanceof BinaryConstraint) {
+				collectCounted(((BinaryConstraint)constraint).getB(), parts, types);
+			}
+		}
 	}
 	
-	public List<Component[]> solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
-			throws MiniEugeneException {
-
-		this.N = and.getMaxN();
-
-		// first, build the abstract syntax tree
-//		buildACT(and);
-		
-    	/*
-    	 * create the variables of the constraint solving problem
-    	 * i.e. the parts
-    	 */
-//		IntVar[] positioning_variables = this.model_positioning(components, N);
-    	IntVar[][] variables = this.model(components);
-    	
-//    	this.solve_pos(components);
-
-    	/*
-    	 * map the Eugene rules onto JaCoP constraints
-    	 */
-    	if(null != and) {
-    		this.imposeConstraints(variables, and);
-
-        	/*
-        	 * and let's try to do some optimizations
-        	 */
-    		this.optimize(variables, and);
-    	}
-    	
-    	
-    	/*
-    	 * for testing: print the store's information
-    	 */
-//    	store.print();
-    	
-    	/*
-    	 * now, let's solve the problem
-    	 */
-//    	Domain[][] solutions = this.search(positioning_variables);
-    	
-//    	Domain[][] solutions = this.optSearch(variables, positioning_variables, NR_OF_SOLUTIONS);
-    	return this.search(variables, NR_OF_SOLUTIONS);
-    	
-    	
+	private static void collectCounted(ConstraintOperand op, Set<Integer> parts, Set<Integer> types) {
+		if(null == op) {
+			return;
+		} else if(op.getOperand() instanceof ComponentType) {
+			types.add(op.getOperand().getId());
+		} else if(op.getOperand() instanceof Component) {
+			parts.add(op.getOperand().getId());
+		}
 	}
 	
+	/*
+	 * model/1 is the original model that links parts and types 
+	 * with IfThen/Or constraints per component and position
+	 */
 	private IntVar[][] model(Component[] components) 
 			throws MiniEugeneException {
 
@@ -196,7 +1121,7 @@ public class JaCoPSolver
 				for(Integer typeId : typeIds) {
 
 					Set<Component> typeComponents = this.symbols.getComponents(
-							(ComponentType)this.symbols.get(typeId));
+							this.symbols.getComponentType(typeId));
 					
 					PrimitiveConstraint[] pcTypes = new PrimitiveConstraint[typeComponents.size()];
 					int k = 0;
@@ -230,16 +1155,6 @@ public class JaCoPSolver
 
 			try {
 				
-				/*
-				 * if we have an interaction predicate (esp represses or induces), 
-				 * then we store the relation in the symbol tables 
-				 * (for later visualization)
-				 */
-				if(constraint instanceof Induces || constraint instanceof Represses) {
-					this.symbols.putInteraction(
-							(Interaction)constraint);
-				} 
-				
 				PrimitiveConstraint pc = 
 						constraint.toJaCoP(this.store, variables);
 
@@ -264,59 +1179,52 @@ public class JaCoPSolver
 	}
 	
 
-    private List<Component[]> search(IntVar[][] variables, int NR_OF_SOLUTIONS) 
+    private SolutionSet search(IntVar[][] variables, int NR_OF_SOLUTIONS) 
     		throws MiniEugeneException {
 
     	if(!store.consistency()) {
     		throw new MiniEugeneException("Inconsistent rules!");
     	}
     	
-		// first, let's search for the orientations
-		Search<IntVar> labelOrientation = new DepthFirstSearch<IntVar>();
-		SelectChoicePoint<IntVar> selectOrientation = 
-			new SimpleSelect<IntVar>(variables[Variables.ORIENTATION], 
-					new SmallestMin<IntVar>(), 
-					new SmallestDomain<IntVar>(),
-					new IndomainMin<IntVar>());
-		
-		labelOrientation.setSelectChoicePoint(selectOrientation);
-		labelOrientation.setPrintInfo(false);
-
-		// then, let's search for the types
-		Search<IntVar> labelTypes = new DepthFirstSearch<IntVar>();
-		SelectChoicePoint<IntVar> selectTypes = 
-			new SimpleSelect<IntVar>(
-					variables[Variables.TYPE], 
-					new SmallestMin<IntVar>(), 
-					new SmallestDomain<IntVar>(),
-					new IndomainMin<IntVar>());
-		
-		labelTypes.setSelectChoicePoint(selectTypes);
-		labelTypes.setPrintInfo(false);
-
-		// finally, let's search for the parts
-		Search<IntVar> labelParts = new DepthFirstSearch<IntVar>();
-        SelectChoicePoint<IntVar> select = new SimpleMatrixSelect<IntVar>(
-				variables, 
-				new MostConstrainedDynamic<IntVar>(), 
-				new IndomainSimpleRandom<IntVar>());  
-        labelParts.addChildSearch(labelOrientation);
-        labelParts.addChildSearch(labelTypes);
+    	if(this.strategy == SearchStrategy.RANDOM_RESTARTS && NR_OF_SOLUTIONS != (-1)) {
+    		return this.restartSearch(variables, NR_OF_SOLUTIONS);
+    	}
+    	
+    	// all solutions of orientation-free rules are enumerated as arrangements
+    	if(this.orientationFree && NR_OF_SOLUTIONS == (-1) && 
+    			this.N <= SolutionSet.MAX_ORIENTATION_FREE_N) {
+    		variables = factor(variables);
+    		this.solutions.setOrientationFree(true);
+    	}
+    	
+    	// and all solutions with interchangeable parts as class-level solutions
+    	if(null != this.partClasses && NR_OF_SOLUTIONS == (-1)) {
+    		this.restrictToClasses(variables);
+    		this.solutions.setPartClasses(this.partClasses);
+    		if(!store.consistency()) {
+    			return this.solutions;
+    		}
+    	}
+    	
+		Search<IntVar> labelParts = this.createSearch(variables);
+        SelectChoicePoint<IntVar> select = this.createSelect(variables);
         
-//        MiniEugeneSolutionListener<IntVar> listener = new MiniEugeneSolutionListener<IntVar>(this.symbols, this.N);
-//        search.setSolutionListener(listener);
+        // the listener appends the solutions to the solution set
+        MiniEugeneSolutionListener listener = new MiniEugeneSolutionListener(this.solutions, variables);
+        listener.setSymmetryFilter(this.symmetryFilter);
+        labelParts.setSolutionListener(listener);
         
 //    	labelParts.getSolutionListener().setSolutionLimit(100);
 
         if(NR_OF_SOLUTIONS != (-1)) {
         	labelParts.getSolutionListener().setSolutionLimit(NR_OF_SOLUTIONS);
         } else {
-//        	search.getSolutionListener().setSolutionLimit(MiniEugeneSolutionListener.MAX_NR_OF_SOLUTIONS);
         	labelParts.getSolutionListener().searchAll(true);   
         }
 
         labelParts.setPrintInfo(false);
-        labelParts.getSolutionListener().recordSolutions(true);
+        labelParts.getSolutionListener().recordSolutions(false);
+        labelParts.setAssignSolution(false);
 
 		try {
 			/*
@@ -332,67 +1240,241 @@ public class JaCoPSolver
 		/*
 		 * return the solutions
 		 */
-		if(null == labelParts.getSolutionListener().getSolutions()) {
-			return null;
-		}
-		return this.processSolutions(labelParts.getSolutionListener().getSolutions());
-//		return null;
-//		return listener.getMiniEugeneSolutions();
+		return listener.getMiniEugeneSolutions();
     }
 
 		
-	public List<Component[]> processSolutions(Domain[][] solutions) 
-			throws MiniEugeneException {
+	/*
+	 * createSearch/1 sets up the depth-first search 
+	 * over the parts, types, and orientations
+	 */
+	DepthFirstSearch<IntVar> createSearch(IntVar[][] variables) {
+		
+		// first, let's search for the orientations
+		Search<IntVar> labelOrientation = new DepthFirstSearch<IntVar>();
+		SelectChoicePoint<IntVar> selectOrientation = 
+			new SimpleSelect<IntVar>(variables[Variables.ORIENTATION], 
+					new SmallestMin<IntVar>(), 
+					new SmallestDomain<IntVar>(),
+					new IndomainMin<IntVar>());
+		
+		labelOrientation.setSelectChoicePoint(selectOrientation);
+		labelOrientation.setPrintInfo(false);
 
-		/*
-		 * here, we also need a cloner
-		 */
+		// then, let's search for the types
+		Search<IntVar> labelTypes = new DepthFirstSearch<IntVar>();
+		SelectChoicePoint<IntVar> selectTypes = 
+			new SimpleSelect<IntVar>(
+					variables[Variables.TYPE], 
+					new SmallestMin<IntVar>(), 
+					new SmallestDomain<IntVar>(),
+					new IndomainMin<IntVar>());
+		
+		labelTypes.setSelectChoicePoint(selectTypes);
+		labelTypes.setPrintInfo(false);
 
-		List<Component[]> lst = new ArrayList<Component[]>();
-		for(int i=0; i<solutions.length && solutions[i]!=null; i++) {
+		// finally, let's search for the parts
+		DepthFirstSearch<IntVar> labelParts = new DepthFirstSearch<IntVar>();
+        if(variables[Variables.ORIENTATION].length > 0) {
+        	labelParts.addChildSearch(labelOrientation);
+        }
+        if(variables[Variables.TYPE].length > 0) {
+        	labelParts.addChildSearch(labelTypes);
+        }
+        labelParts.setPrintInfo(false);
+        
+        // the search fails at every node once it has been cancelled
+        labelParts.setConsistencyListener(this.cancelListener);
+        
+        return labelParts;
+	}
+	
+	SelectChoicePoint<IntVar> createSelect(IntVar[][] variables) {
+		return this.strategy.createSelect(this.store, searchVariables(variables), this.seed);
+	}
+	
+	/*
+	 * searchVariables/1 returns the rows of the variable matrix 
+	 * that get labeled, i.e. the parts, the types (if modeled), 
+	 * and the orientations (if not factored out)
+	 */
+	static IntVar[][] searchVariables(IntVar[][] variables) {
+		if(variables[Variables.ORIENTATION].length == 0) {
+			if(variables[Variables.TYPE].length > 0) {
+				return new IntVar[][] {
+						variables[Variables.PART], 
+						variables[Variables.TYPE]};
+			}
+			return new IntVar[][] {
+					variables[Variables.PART]};
+		}
+		if(variables[Variables.TYPE].length > 0) {
+			return new IntVar[][] {
+					variables[Variables.PART], 
+					variables[Variables.TYPE], 
+					variables[Variables.ORIENTATION]};
+		}
+		return new IntVar[][] {
+				variables[Variables.PART], 
+				variables[Variables.ORIENTATION]};
+	}
+	
+	/*
+	 * restartSearch/2 runs randomized searches with an increasing 
+	 * backtrack limit and a new seed until NR_OF_SOLUTIONS 
+	 * distinct solutions are found or a search completes
+	 */
+	private SolutionSet restartSearch(IntVar[][] variables, int NR_OF_SOLUTIONS) 
+			throws MiniEugeneException {
+		
+		Set<String> keys = new HashSet<String>();
+		
+		long backtracks = RESTART_BACKTRACKS;
+		for(int restart = 0; ; restart++) {
+			DepthFirstSearch<IntVar> search = this.createSearch(variables);
 			
-			Domain[] solution = solutions[i];
+			RestartSolutionListener listener = 
+					new RestartSolutionListener(variables, keys, NR_OF_SOLUTIONS);
+			search.setSolutionListener(listener);
+			listener.searchAll(true);
+			listener.recordSolutions(false);
 			
-			Component[] sol = new Component[this.N];
+			search.setBacktracksOut(backtracks);
+			search.setAssignSolution(false);
 
-			for(int j=0; j<this.N; j++) {
-				Component component = null;
-				
-				/*
-				 * PART
-				 */
-				ValueEnumeration ve = solution[j].valueEnumeration();
-				while(ve.hasMoreElements()) {
-					// interim solution ... no orientation
-					int id = ve.nextElement(); 
-					Identified idObj = this.symbols.get(id);
-					if(null == idObj) {
-						throw new MiniEugeneException("I cannot find any component with id "+id);
-					}
-					if(idObj instanceof Component) {
-						// we need to create a new Component instance in memory
-						component = new Component(
-								((Component)idObj).getName(), 
-								((Component)idObj).getType());
-					}
-				}
-				
-				/*
-				 * ORIENTATION
-				 */
-				ve = solution[j+(Variables.ORIENTATION * N)].valueEnumeration();
-				while(ve.hasMoreElements()) {
-					if(ve.nextElement() == (-1)) {
-						component.setForward(false);
-					}
-				}				
+			try {
+				search.labeling(this.store, 
+						this.strategy.createSelect(this.store, searchVariables(variables), this.seed + restart));
+			} catch(OutOfMemoryError oome) {
+				throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+			}
 
-				sol[j] = component;
+			if(this.solutions.size() >= NR_OF_SOLUTIONS || 
+					!search.timeOutOccured || 
+					this.cancelListener.isCancelled()) {
+				break;
+			}
+			
+			backtracks *= 2;
+		}
+		
+		return this.solutions;
+	}
+	
+	/*
+	 * The RestartSolutionListener appends the solutions of one 
+	 * restart and drops the ones found by earlier restarts.
+	 */
+	private class RestartSolutionListener 
+			extends SimpleSolutionListener<IntVar> {
+		
+		private IntVar[][] variables;
+		private Set<String> keys;
+		private int NR_OF_SOLUTIONS;
+		
+		public RestartSolutionListener(IntVar[][] variables, Set<String> keys, int NR_OF_SOLUTIONS) {
+			this.variables = variables;
+			this.keys = keys;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+		}
+		
+		@Override
+		public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+			if(!isCanonical(this.variables)) {
+				return false;
+			}
+			super.executeAfterSolution(search, select);
+			
+			int[] ids = new int[N];
+			boolean[] forward = new boolean[N];
+			StringBuilder key = new StringBuilder();
+			for(int i=0; i<N; i++) {
+				ids[i] = variables[Variables.PART][i].value();
+				forward[i] = variables[Variables.ORIENTATION][i].value() != (-1);
+				key.append(ids[i]).append(',')
+					.append(variables[Variables.ORIENTATION][i].value()).append(';');
+			}
+			
+			if(this.keys.add(key.toString())) {
+				JaCoPSolver.this.solutions.add(ids, forward);
+			}
+			
+			// i.e. we stop searching once we have enough solutions
+			return JaCoPSolver.this.solutions.size() >= this.NR_OF_SOLUTIONS;
+		}
+	}
+	
+	/*
+	 * The CountingSolutionListener only counts the solutions 
+	 * (without the pruned symmetric duplicates).
+	 * Every class-level solution counts for all of its members.
+	 * The count is saturated at Long.MAX_VALUE.
+	 */
+	private static class CountingSolutionListener 
+			extends SimpleSolutionListener<IntVar> {
+		
+		private long count;
+		
+		private IntVar[][] variables;
+		private SymmetryFilter filter;
+		private PartClasses classes;
+		
+		public CountingSolutionListener(IntVar[][] variables, SymmetryFilter filter, PartClasses classes) {
+			this.variables = variables;
+			this.filter = filter;
+			this.classes = classes;
+		}
+		
+		@Override
+		public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+			if(null != this.filter && !this.filter.accept(this.variables)) {
+				return false;
+			}
+			
+			// a class-level solution stands for every choice of the class members
+			long n = 1;
+			if(null != this.classes) {
+				for(IntVar part : this.variables[Variables.PART]) {
+					n = SolutionSet.saturatedMultiply(n, 
+							this.classes.getSize(this.classes.getClassId(part.value())));
+				}
 			}
+			this.count = SolutionSet.saturatedAdd(this.count, n);
+			return false;
+		}
+		
+		public long getCount() {
+			return this.count;
+		}
+	}
+	
+	Store getStore() {
+		return this.store;
+	}
+	
+	/*
+	 * decode/1 translates the current assignment of the 
+	 * variables into an array of (shared) components
+	 */
+	Component[] decode(IntVar[][] variables) 
+			throws MiniEugeneException {
+		
+		Component[] sol = new Component[this.N];
+		for(int j=0; j<this.N; j++) {
+			
+			/*
+			 * PART and ORIENTATION
+			 */
+			int id = variables[Variables.PART][j].value();
+			boolean forward = variables[Variables.ORIENTATION][j].value() != (-1);
 			
-			lst.add(sol);
+			try {
+				sol[j] = this.solutions.getComponent(id, forward);
+			} catch(IllegalArgumentException iae) {
+				throw new MiniEugeneException(iae.getMessage());
+			}
 		}
-		return lst;
+		return sol;
 	}
     
 	
@@ -404,19 +1486,12 @@ public class JaCoPSolver
 			
 		List<Sequence> sequences = new ArrayList<Sequence>();
 		for(Constraint predicate : and.getConstraints()) {
-			if(predicate instanceof Sequence) {
-				
-				Sequence seq = (Sequence)predicate;
-				
-				// analyse the sequence
-				for(List<Component> lst : seq.getComponents()) {
-					if(lst.size() > 1) {
-						// we cannot optimize this right now
-						return;
-					}
-				}
-				
-				sequences.add(seq);
+			if(predicate instanceof Sequence && 
+					!((Sequence)predicate).isNegated()) {
+				sequences.add((Sequence)predicate);
+			} else if((predicate instanceof Pattern || predicate instanceof Group) && 
+					!((TemplatingPredicate)predicate).isNegated()) {
+				this.placementOptimize(variables, (TemplatingPredicate)predicate);
 			}
 		}
 		
@@ -425,71 +1500,108 @@ public class JaCoPSolver
 		}
 	}	
 	
+	/*
+	 * A PATTERN or GROUP appears at least once, i.e. there is a start 
+	 * index such that the positions start, ..., start + size - 1 hold 
+	 * the pattern's selections (or any of the group's selections). 
+	 * The element constraints are redundant to the predicates' window 
+	 * constraints, but they prune the start index as soon as a single 
+	 * element is placed, which places the remaining elements.
+	 */
+	private void placementOptimize(IntVar[][] variables, TemplatingPredicate predicate) {
+		
+		int N = variables[Variables.PART].length;
+		
+		List<List<Component>> elements = predicate.getComponents();
+		int L = elements.size();
+		if(L == 0 || L > N) {
+			return;
+		}
+		
+		IntVar start = new IntVar(store, 0, N - L);
+		for(int j=0; j<L; j++) {
+			
+			// the position of the j-th element
+			IntVar position = new IntVar(store, j, N - L + j);
+			store.impose(new XplusCeqZ(start, j, position));
+			
+			// the part at this position
+			IntVar part = new IntVar(store);
+			for(List<Component> selection : elements) {
+				if(predicate instanceof Pattern && selection != elements.get(j)) {
+					continue;
+				}
+				for(Component c : selection) {
+					part.addDom(c.getId(), c.getId());
+				}
+			}
+			store.impose(new ElementVariable(position, variables[Variables.PART], part, -1));
+		}
+	}
+	
+	/*
+	 * If the sequences cover the whole design, then the design is 
+	 * a concatenation of all sequences in any order. 
+	 * 
+	 * Instead of enumerating all orders, every sequence gets a start 
+	 * variable. The sequences do not overlap (one cumulative constraint 
+	 * with capacity 1) and the j-th element of a sequence is placed 
+	 * at its start + j (one element constraint per element). 
+	 * Hence, the model size is polynomial in the number of sequences 
+	 * and an element can be a selection of components.
+	 */
 	private void sequenceOptimize(IntVar[][] variables, List<Sequence> sequences) {
+		
+		int N = variables[Variables.PART].length;
+		
+		int length = 0;
+		for(Sequence seq : sequences) {
+			length += seq.getComponents().size();
+		}
+		
+		if(length != N) {
+			return;
+		}
+		
+		int k = sequences.size();
+		IntVar[] starts = new IntVar[k];
+		IntVar[] durations = new IntVar[k];
+		IntVar[] resources = new IntVar[k];
+		
+		for(int s=0; s<k; s++) {
+			
+			List<List<Component>> elements = sequences.get(s).getComponents();
+			int L = elements.size();
+			
+			starts[s] = new IntVar(store, "S"+s, 0, N - L);
+			durations[s] = new IntVar(store, L, L);
+			resources[s] = new IntVar(store, 1, 1);
+			
+			for(int j=0; j<L; j++) {
 				
-		// first, we permute the list of sequences
-		List<List<Sequence>> lstPerm = this.permute(sequences);
-
-		// let's try extensional support
-		int max_cols = 0;
-		for(Sequence seq : lstPerm.get(0)) {
-			max_cols += seq.getComponents().size();
-		}
-		
-		if(max_cols == variables[Variables.PART].length) {
-			int[][] ext = new int[lstPerm.size()][max_cols];
-			int row = 0;
-			for(List<Sequence> lst : lstPerm) {
-				int col = 0;
-				for(Sequence sequence : lst) {
-					for(int i=0; i<sequence.getComponents().size(); i++) {
-						ext[row][col++] = sequence.getComponents().get(i).get(0).getId();
-					}
+				// the position of the j-th element
+				IntVar position = new IntVar(store, j, N - L + j);
+				store.impose(new XplusCeqZ(starts[s], j, position));
+				
+				// the part at this position
+				IntVar part = new IntVar(store);
+				for(Component c : elements.get(j)) {
+					part.addDom(c.getId(), c.getId());
+				}
+				store.impose(new ElementVariable(position, variables[Variables.PART], part, -1));
+			}
+			
+			// identical sequences are placed in the order of their declaration
+			for(int t=0; t<s; t++) {
+				if(sequences.get(t).getComponents().equals(elements)) {
+					store.impose(new XltY(starts[t], starts[s]));
 				}
-				row ++;
 			}
-			store.impose(new ExtensionalSupportVA(variables[Variables.PART], ext));
 		}
+		
+		store.impose(new Cumulative(starts, durations, resources, new IntVar(store, 1, 1)));
 	}
 	
-	// sequence permute
-	private List<List<Sequence>> permute(List<Sequence> sequences) {
-
-        if(sequences.size()==1){
-            List<Sequence> arrayList = new ArrayList<Sequence>();
-            arrayList.add(sequences.get(0));
-            List<List<Sequence> > listOfList = new ArrayList<List<Sequence>>();
-            listOfList.add(arrayList);
-            return listOfList;
-        }
-
-        Set<Sequence> setOf = new HashSet<Sequence>(sequences);   
-
-        List<List<Sequence>> listOfLists = new ArrayList<List<Sequence>>();
-
-        for(Sequence i: sequences){
-            ArrayList<Sequence> arrayList = new ArrayList<Sequence>();
-            arrayList.add(i);
-
-            Set<Sequence> setOfCopied = new HashSet<Sequence>();
-            setOfCopied.addAll(setOf);
-            setOfCopied.remove(i);
-
-            List<Sequence> isttt = new ArrayList<Sequence>(setOfCopied);
-//            setOfCopied.toArray(isttt);
-
-            List<List<Sequence>> permute = permute(isttt);
-            Iterator<List<Sequence>> iterator = permute.iterator();
-            while (iterator.hasNext()) {
-                List<Sequence> list = iterator.next();
-                list.add(i);
-                listOfLists.add(list);
-            }
-        }   
-
-        return listOfLists;
-    }
-	
 //	private PrimitiveConstraint sequenceStartsAt(IntVar[][] variables, Sequence seq, int idx) {
 //		PrimitiveConstraint[] sel = new PrimitiveConstraint[seq.getComponents().get(0).size()];
 //		int k=0;
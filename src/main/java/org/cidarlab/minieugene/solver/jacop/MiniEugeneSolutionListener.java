@@ -29,107 +29,98 @@
  * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
  * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-
 package org.cidarlab.minieugene.solver.jacop;
 
-import java.util.List;
-
-import org.cidarlab.minieugene.dom.Component;
-import org.cidarlab.minieugene.dom.Identified;
-import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.solver.SolutionSet;
 import org.cidarlab.minieugene.symbol.SymbolTables;
 
-import org.jacop.core.Domain;
-import org.jacop.core.ValueEnumeration;
-import org.jacop.core.Var;
+import org.jacop.core.IntVar;
 import org.jacop.search.Search;
 import org.jacop.search.SelectChoicePoint;
 import org.jacop.search.SimpleSolutionListener;
 import org.jacop.search.SolutionListener;
 
-public class MiniEugeneSolutionListener<T extends Var> 
-	extends SimpleSolutionListener<T> 
-	implements SolutionListener<T> {
+/**
+ * The MiniEugeneSolutionListener appends every solution 
+ * of the search to a SolutionSet, i.e. the solutions are 
+ * not recorded as JaCoP domains.
+ * 
+ * @author Ernst Oberortner
+ */
+public class MiniEugeneSolutionListener 
+	extends SimpleSolutionListener<IntVar> 
+	implements SolutionListener<IntVar> {
 
-	private SymbolTables symbols; 
-	private SolutionPoolManager poolManager;
+	private IntVar[][] variables;
+	private SolutionSet solutions;
+	
+	/*
+	 * the buffers of the current solution
+	 */
+	private int[] ids;
+	private boolean[] forward;
 	
-	public static final int MAX_NR_OF_SOLUTIONS = 50000;
+	/*
+	 * the filter of the symmetric duplicates (if any)
+	 */
+	private SymmetryFilter filter;
 	
-	public MiniEugeneSolutionListener(SymbolTables symbols, int N) {
-		this.symbols = symbols;
+	public MiniEugeneSolutionListener(SymbolTables symbols, IntVar[][] variables) {
+		this(new SolutionSet(symbols, variables[Variables.PART].length), variables);
+	}
+	
+	public MiniEugeneSolutionListener(SolutionSet solutions, IntVar[][] variables) {
+		this.variables = variables;
+		this.solutions = solutions;
 		
-		/*
-		 * Solution Pool Manager
-		 */
-		this.poolManager = new SolutionPoolManager(MAX_NR_OF_SOLUTIONS, N);			
+		this.ids = new int[solutions.getN()];
+		this.forward = new boolean[solutions.getN()];
+	}
+	
+	void setSymmetryFilter(SymmetryFilter filter) {
+		this.filter = filter;
 	}
 	
 	@Override
 	public boolean executeAfterSolution(
-			Search<T> search, 
-			SelectChoicePoint<T> select) {
+			Search<IntVar> search, 
+			SelectChoicePoint<IntVar> select) {
+		
+		// a pruned duplicate does not count as a solution
+		if(null != this.filter && !this.filter.accept(this.variables)) {
+			return false;
+		}
+		
 		boolean parent = super.executeAfterSolution(search, select);
 
-		try {
-			this.processSolution(search.getSolution());
-		} catch(MiniEugeneException mee) {
-			// we ignore this, for the time being
-		}
+		this.processSolution();
 
-		if(this.poolManager.getCurrentNumberOfSolutions() > MAX_NR_OF_SOLUTIONS) {
-			// i.e. we stop searching
-			return true;
-		}
-		
 		return parent;
 	}
 	
-	private void processSolution(Domain[] solution) 
-			throws MiniEugeneException {
-		Component[] sol = this.poolManager.getFreeSpot();
-
-		int si = 0;
+	private void processSolution() {
 		
-		/*
-		 * PART
-		 */
-		for(int i=0; i<solution.length/3; i++, si++) {
+		for(int j=0; j<this.ids.length; j++) {
+			/*
+			 * PART
+			 */
+			this.ids[j] = this.variables[Variables.PART][j].value();
 			
-			Domain part = solution[i];
-			ValueEnumeration ve = part.valueEnumeration();
-			while(ve.hasMoreElements()) {
-				int id = ve.nextElement();
-				Identified idObj = this.symbols.get(id);
-				if(null == idObj) {
-					throw new MiniEugeneException("I cannot find any component with id "+id);
-				}
-				if(idObj instanceof Component) {
-					// we need to create a new Component instance in memory
-					sol[si] = new Component(
-							((Component)idObj).getName(), 
-							((Component)idObj).getType());
-				}
+			/*
+			 * ORIENTATION (unless the solutions are orientation-free)
+			 */
+			if(!this.solutions.isOrientationFree()) {
+				this.forward[j] = this.variables[Variables.ORIENTATION][j].value() != (-1);
 			}
-			
-			Domain orient = solution[i+2*(solution.length/3)];
-			ve = orient.valueEnumeration();
-			while(ve.hasMoreElements()) {
-				if(ve.nextElement() == (-1)) {
-					sol[si].setForward(false);
-				}
-			}						
 		}
 		
-//		System.out.println(Arrays.toString(sol));
-		
 		/*
-		 * here, we put the solution back intoto the solutionpool
+		 * here, we append the solution to the solution set
 		 */
-		this.poolManager.putSolution(sol);
+		this.solutions.add(this.ids, this.forward);
 	}
 	
-	public List<Component[]> getMiniEugeneSolutions() {
-		return this.poolManager.getSolutions();
+	public SolutionSet getMiniEugeneSolutions() {
+		return this.solutions;
 	}
 }
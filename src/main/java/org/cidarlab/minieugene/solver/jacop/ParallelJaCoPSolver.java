@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The ParallelJaCoPSolver enumerates the solutions on a ForkJoinPool.
+ * 
+ * The search is partitioned on the domain of the part variable 
+ * at a given position (P0 by default). Every value of the domain 
+ * yields an independent sub-problem that is modeled in its own 
+ * JaCoP store and searched by one worker of the pool.
+ * 
+ * The results are merged either in the order of the partitioning 
+ * values or in the order in which the sub-problems complete.
+ * 
+ * @author Ernst Oberortner
+ */
+public class ParallelJaCoPSolver 
+		implements Solver {
+
+	/*
+	 * the pool is shared among all parallel solvers
+	 */
+	private static final ForkJoinPool POOL = new ForkJoinPool();
+	
+	private SymbolTables symbols;
+	private boolean ordered;
+	private int position;
+	private long memoryBudget;
+	
+	public ParallelJaCoPSolver(SymbolTables symbols) {
+		this(symbols, true, 0);
+	}
+	
+	/**
+	 * @param symbols  ... the symbol tables
+	 * @param ordered  ... true  -> the solutions are merged in the order of the partitions
+	 *                     false -> the solutions are merged as the partitions complete
+	 * @param position ... the position of the part variable whose domain gets partitioned
+	 */
+	public ParallelJaCoPSolver(SymbolTables symbols, boolean ordered, int position) {
+		this.symbols = symbols;
+		this.ordered = ordered;
+		this.position = position;
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions are kept 
+	 * on the heap before they get spilled to disk.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	@Override
+	public SolutionSet solve(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+
+		/*
+		 * first, we propagate the rules once to 
+		 * learn the values of the partitioning variable
+		 */
+		int[] values = new JaCoPSolver(this.symbols).partition(components, and, this.position);
+		
+		EnumerationTask task = new EnumerationTask(
+				components, and, NR_OF_SOLUTIONS, values);
+		try {
+			return POOL.invoke(task);
+		} catch(OutOfMemoryError oome) {
+			throw new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!");
+		} catch(RuntimeException re) {
+			throw new MiniEugeneException(re.getMessage());
+		}
+	}
+
+	/**
+	 * The solutions of the parallel solver are not streamed. 
+	 * iterate/3 runs the sequential search lazily instead.
+	 */
+	@Override
+	public Iterator<Component[]> iterate(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+		return new JaCoPSolver(this.symbols).iterate(components, and, NR_OF_SOLUTIONS);
+	}
+	
+	/*
+	 * The EnumerationTask forks one PartitionTask per value 
+	 * and merges their solutions.
+	 */
+	private class EnumerationTask 
+			extends RecursiveTask<SolutionSet> {
+		
+		private static final long serialVersionUID = -3385934413325707574L;
+
+		private final Component[] components;
+		private final LogicalAnd and;
+		private final int NR_OF_SOLUTIONS;
+		private final int[] values;
+		
+		public EnumerationTask(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS, int[] values) {
+			this.components = components;
+			this.and = and;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+			this.values = values;
+		}
+		
+		@Override
+		protected SolutionSet compute() {
+			
+			/*
+			 * in the unordered mode, the partitions add their solutions 
+			 * to a shared solution set as soon as they complete
+			 */
+			SolutionSet solutions = new SolutionSet(symbols, and.getMaxN(), memoryBudget);
+			AtomicInteger found = new AtomicInteger(0);
+
+			List<PartitionTask> tasks = new ArrayList<PartitionTask>(values.length);
+			for(int value : values) {
+				tasks.add(new PartitionTask(
+						components, and, NR_OF_SOLUTIONS, value, solutions, found));
+			}
+			invokeAll(tasks);
+			
+			if(ordered) {
+				for(PartitionTask task : tasks) {
+					solutions.addAll(task.join());
+				}
+			}
+			
+			/*
+			 * every partition searches for at most NR_OF_SOLUTIONS solutions
+			 */
+			if(NR_OF_SOLUTIONS != (-1)) {
+				solutions.truncate(NR_OF_SOLUTIONS);
+			}
+			return solutions;
+		}
+	}
+	
+	/*
+	 * A PartitionTask builds its own model in which the partitioning 
+	 * variable is fixed to one value and searches it.
+	 */
+	private class PartitionTask 
+			extends RecursiveTask<SolutionSet> {
+		
+		private static final long serialVersionUID = 4312795632958414036L;
+
+		private final Component[] components;
+		private final LogicalAnd and;
+		private final int NR_OF_SOLUTIONS;
+		private final int value;
+		private final SolutionSet shared;
+		private final AtomicInteger found;
+		
+		public PartitionTask(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS, int value,
+				SolutionSet shared, AtomicInteger found) {
+			this.components = components;
+			this.and = and;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+			this.value = value;
+			this.shared = shared;
+			this.found = found;
+		}
+		
+		@Override
+		protected SolutionSet compute() {
+
+			/*
+			 * in the unordered mode, we skip the partition 
+			 * if other partitions found enough solutions already
+			 */
+			if(!ordered && NR_OF_SOLUTIONS != (-1) && found.get() >= NR_OF_SOLUTIONS) {
+				return null;
+			}
+			
+			SolutionSet solutions = null;
+			try {
+				JaCoPSolver solver = new JaCoPSolver(symbols);
+				solver.setMemoryBudget(memoryBudget);
+				solutions = solver.solve(
+						components, and, NR_OF_SOLUTIONS, position, value);
+			} catch(MiniEugeneException mee) {
+				throw new IllegalStateException(mee.getMessage());
+			}
+			
+			found.addAndGet(solutions.size());
+			if(!ordered) {
+				synchronized(shared) {
+					shared.addAll(solutions);
+				}
+			}
+			return solutions;
+		}
+	}
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.Solver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The PortfolioJaCoPSolver races several search strategies. 
+ * 
+ * Every strategy builds its own model and searches it in its 
+ * own thread. The solutions of the first strategy that finishes 
+ * are returned and the other searches get cancelled.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PortfolioJaCoPSolver 
+		implements Solver {
+
+	private static final SearchStrategy[] DEFAULT_PORTFOLIO = {
+		SearchStrategy.SMALLEST_DOMAIN,
+		SearchStrategy.INPUT_ORDER,
+		SearchStrategy.RANDOM_RESTARTS,
+		SearchStrategy.MOST_CONSTRAINED
+	};
+	
+	private SymbolTables symbols;
+	private SearchStrategy[] portfolio;
+	private SearchStrategy winner;
+	private long memoryBudget;
+	
+	public PortfolioJaCoPSolver(SymbolTables symbols) {
+		this(symbols, DEFAULT_PORTFOLIO);
+	}
+
+	public PortfolioJaCoPSolver(SymbolTables symbols, SearchStrategy[] portfolio) {
+		this.symbols = symbols;
+		this.portfolio = portfolio;
+		this.winner = null;
+		this.memoryBudget = SolutionSet.DEFAULT_MEMORY_BUDGET;
+	}
+	
+	/**
+	 * setMemoryBudget/1 specifies how many bytes of solutions are kept 
+	 * on the heap before they get spilled to disk.
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+	
+	@Override
+	public SolutionSet solve(final Component[] components, final LogicalAnd and, final int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+		
+		this.winner = null;
+		
+		ExecutorService executor = Executors.newFixedThreadPool(
+				this.portfolio.length, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread t = new Thread(r, "miniEugene-portfolio");
+						t.setDaemon(true);
+						return t;
+					}
+				});
+		CompletionService<SolutionSet> race = 
+				new ExecutorCompletionService<SolutionSet>(executor);
+
+		/*
+		 * every strategy gets its own solver, i.e. its own model
+		 */
+		int seed = new Random().nextInt();
+		List<JaCoPSolver> solvers = new ArrayList<JaCoPSolver>(this.portfolio.length);
+		List<Future<SolutionSet>> futures = new ArrayList<Future<SolutionSet>>(this.portfolio.length);
+		for(int i=0; i<this.portfolio.length; i++) {
+			final JaCoPSolver solver = new JaCoPSolver(this.symbols);
+			solver.setSearchStrategy(this.portfolio[i], seed + i);
+			solver.setMemoryBudget(this.memoryBudget);
+			solvers.add(solver);
+			
+			futures.add(race.submit(new Callable<SolutionSet>() {
+				@Override
+				public SolutionSet call() 
+						throws Exception {
+					return solver.solve(components, and, NR_OF_SOLUTIONS);
+				}
+			}));
+		}
+		
+		try {
+			
+			/*
+			 * we take the first strategy that finishes without an error
+			 */
+			String error = null;
+			for(int i=0; i<this.portfolio.length; i++) {
+				Future<SolutionSet> done = race.take();
+				try {
+					SolutionSet solutions = done.get();
+					this.winner = this.portfolio[futures.indexOf(done)];
+					return solutions;
+				} catch(ExecutionException ee) {
+					if(null == error) {
+						error = ee.getCause().getMessage();
+					}
+				}
+			}
+			throw new MiniEugeneException(error);
+			
+		} catch(InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new MiniEugeneException(ie.getMessage());
+		} finally {
+			
+			/*
+			 * finally, we cancel the other strategies
+			 */
+			for(JaCoPSolver solver : solvers) {
+				solver.cancel();
+			}
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * The solutions of the portfolio are not streamed. 
+	 * iterate/3 runs the sequential search lazily instead.
+	 */
+	@Override
+	public Iterator<Component[]> iterate(Component[] components, LogicalAnd and, int NR_OF_SOLUTIONS)
+			throws MiniEugeneException {
+		return new JaCoPSolver(this.symbols).iterate(components, and, NR_OF_SOLUTIONS);
+	}
+	
+	/**
+	 * @return the strategy that won the last race, 
+	 *         or null if no strategy finished
+	 */
+	public SearchStrategy getWinner() {
+		return this.winner;
+	}
+}
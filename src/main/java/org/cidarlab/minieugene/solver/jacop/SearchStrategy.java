@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import org.jacop.core.IntVar;
+import org.jacop.core.Store;
+import org.jacop.search.IndomainMin;
+import org.jacop.search.IndomainRandom;
+import org.jacop.search.IndomainSimpleRandom;
+import org.jacop.search.InputOrderSelect;
+import org.jacop.search.MostConstrainedDynamic;
+import org.jacop.search.SelectChoicePoint;
+import org.jacop.search.SimpleMatrixSelect;
+import org.jacop.search.SmallestDomain;
+
+/**
+ * The SearchStrategy specifies the variable and value ordering 
+ * of the depth-first search.
+ * 
+ * @author Ernst Oberortner
+ */
+public enum SearchStrategy {
+
+	/*
+	 * the most constrained variable first, random values
+	 */
+	MOST_CONSTRAINED {
+		@Override
+		public SelectChoicePoint<IntVar> createSelect(Store store, IntVar[][] variables, int seed) {
+	        return new SimpleMatrixSelect<IntVar>(
+					variables, 
+					new MostConstrainedDynamic<IntVar>(), 
+					new IndomainSimpleRandom<IntVar>());  
+		}
+	},
+	
+	/*
+	 * the variable with the smallest domain first, seeded random values
+	 */
+	SMALLEST_DOMAIN {
+		@Override
+		public SelectChoicePoint<IntVar> createSelect(Store store, IntVar[][] variables, int seed) {
+	        return new SimpleMatrixSelect<IntVar>(
+					variables, 
+					new SmallestDomain<IntVar>(), 
+					new IndomainRandom<IntVar>(seed));  
+		}
+	},
+
+	/*
+	 * the parts, types, and orientations from left to right, smallest values first
+	 */
+	INPUT_ORDER {
+		@Override
+		public SelectChoicePoint<IntVar> createSelect(Store store, IntVar[][] variables, int seed) {
+			int size = 0;
+			for(int i=0; i<variables.length; i++) {
+				size += variables[i].length;
+			}
+			IntVar[] vars = new IntVar[size];
+			int k = 0;
+			for(int i=0; i<variables.length; i++) {
+				for(int j=0; j<variables[i].length; j++) {
+					vars[k++] = variables[i][j];
+				}
+			}
+			return new InputOrderSelect<IntVar>(
+					store, vars, new IndomainMin<IntVar>());
+		}
+	},
+	
+	/*
+	 * the most constrained variable first, seeded random values.
+	 * The search gets restarted with a new seed and a larger 
+	 * backtrack limit whenever it exceeds the backtrack limit.
+	 */
+	RANDOM_RESTARTS {
+		@Override
+		public SelectChoicePoint<IntVar> createSelect(Store store, IntVar[][] variables, int seed) {
+	        return new SimpleMatrixSelect<IntVar>(
+					variables, 
+					new MostConstrainedDynamic<IntVar>(), 
+					new IndomainRandom<IntVar>(seed));  
+		}
+	};
+	
+	public abstract SelectChoicePoint<IntVar> createSelect(Store store, IntVar[][] variables, int seed);
+}
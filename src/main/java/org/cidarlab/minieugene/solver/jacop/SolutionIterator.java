@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.exception.MiniEugeneException;
+
+import org.jacop.core.IntVar;
+import org.jacop.search.Search;
+import org.jacop.search.SelectChoicePoint;
+import org.jacop.search.SimpleSolutionListener;
+
+/**
+ * The SolutionIterator runs JaCoP's depth-first search lazily 
+ * and hands over one solution at a time to the caller.
+ * 
+ * JaCoP's search reports its solutions through a callback. 
+ * Hence, the search runs in a separate thread that blocks after 
+ * every solution until the caller has consumed it. 
+ * At most one decoded solution is held in memory at any time.
+ * 
+ * The iterator must be closed if the caller stops consuming 
+ * solutions before the search space is exhausted, preferably 
+ * in a try-with-resources statement. 
+ * The search thread only references the iterator weakly. If an 
+ * unfinished iterator becomes unreachable, then the search thread 
+ * stops once the iterator has been garbage collected.
+ * 
+ * @author Ernst Oberortner
+ */
+public class SolutionIterator 
+		implements Iterator<Component[]>, AutoCloseable {
+
+	/*
+	 * the marker that signals the end of the search
+	 */
+	private static final Object END_OF_SEARCH = new Object();
+	
+	private final Producer producer;
+	
+	private Object next;
+	private boolean exhausted;
+	
+	public SolutionIterator(JaCoPSolver solver, IntVar[][] variables, int NR_OF_SOLUTIONS) {
+		this.producer = new Producer(solver, variables, NR_OF_SOLUTIONS);
+		
+		this.next = null;
+		this.exhausted = false;
+	}
+	
+	@Override
+	public boolean hasNext() {
+		if(this.exhausted) {
+			return false;
+		}
+		
+		if(null == this.next) {
+
+			/*
+			 * the search starts with the request of the first solution
+			 */
+			if(!this.producer.isStarted()) {
+				this.producer.start(this);
+			}
+			
+			try {
+				this.next = this.producer.take();
+			} catch(InterruptedException ie) {
+				Thread.currentThread().interrupt();
+				this.close();
+				return false;
+			}
+		}
+
+		if(this.next == END_OF_SEARCH) {
+			this.exhausted = true;
+			this.next = null;
+			return false;
+		} else if(this.next instanceof MiniEugeneException) {
+			String message = ((MiniEugeneException)this.next).getMessage();
+			this.exhausted = true;
+			this.next = null;
+			throw new IllegalStateException(message);
+		}
+		
+		return true;
+	}
+
+	@Override
+	public Component[] next() {
+		if(!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Component[] solution = (Component[])this.next;
+		this.next = null;
+		return solution;
+	}
+
+	@Override
+	public void remove() {
+		throw new UnsupportedOperationException();
+	}
+	
+	/**
+	 * close/0 stops the search. 
+	 * No further solutions are returned afterwards.
+	 */
+	@Override
+	public void close() {
+		this.producer.close();
+		this.exhausted = true;
+		this.next = null;
+	}
+	
+	/*
+	 * The Producer runs the search in its own thread. 
+	 * 
+	 * It is a static class and holds the iterator only weakly, 
+	 * so that the running search does not keep an abandoned 
+	 * iterator reachable.
+	 */
+	private static class Producer 
+			implements Runnable {
+		
+		private final JaCoPSolver solver;
+		private final IntVar[][] variables;
+		private final int NR_OF_SOLUTIONS;
+		
+		private final SynchronousQueue<Object> handOver;
+		private final CancelListener cancelListener;
+		private volatile boolean closed;
+		
+		private WeakReference<SolutionIterator> consumer;
+		private Thread searchThread;
+		
+		private Producer(JaCoPSolver solver, IntVar[][] variables, int NR_OF_SOLUTIONS) {
+			this.solver = solver;
+			this.variables = variables;
+			this.NR_OF_SOLUTIONS = NR_OF_SOLUTIONS;
+			
+			this.handOver = new SynchronousQueue<Object>();
+			this.cancelListener = new CancelListener();
+			this.closed = false;
+			
+			this.consumer = null;
+			this.searchThread = null;
+		}
+		
+		private boolean isStarted() {
+			return null != this.searchThread;
+		}
+		
+		private void start(SolutionIterator iterator) {
+			this.consumer = new WeakReference<SolutionIterator>(iterator);
+			
+			this.searchThread = new Thread(this, "miniEugene-search");
+			
+			// the search must not keep the JVM alive
+			this.searchThread.setDaemon(true);
+			this.searchThread.start();
+		}
+		
+		private Object take() 
+				throws InterruptedException {
+			return this.handOver.take();
+		}
+		
+		private void close() {
+			this.closed = true;
+			this.cancelListener.cancel();
+		}
+		
+		/*
+		 * run/0 is executed by the search thread
+		 */
+		@Override
+		public void run() {
+			
+			Search<IntVar> search = this.solver.createSearch(this.variables);
+			
+			StreamingSolutionListener listener = new StreamingSolutionListener();
+			search.setSolutionListener(listener);
+			if(NR_OF_SOLUTIONS != (-1)) {
+				listener.setSolutionLimit(NR_OF_SOLUTIONS);
+			} else {
+				listener.searchAll(true);
+			}
+			listener.recordSolutions(false);
+			
+			/*
+			 * if the iterator gets closed, then we let 
+			 * the search fail at the next node
+			 */
+			search.setConsistencyListener(this.cancelListener);
+			search.setAssignSolution(false);
+			
+			try {
+				search.labeling(this.solver.getStore(), this.solver.createSelect(this.variables));
+				this.handOver(END_OF_SEARCH);
+			} catch(OutOfMemoryError oome) {
+				this.handOver(new MiniEugeneException("I'm sorry! This problem is currently too big for me to solve!"));
+			} catch(RuntimeException re) {
+				this.handOver(new MiniEugeneException(re.getMessage()));
+			}
+		}
+		
+		/*
+		 * handOver/1 blocks until the caller takes the given object, 
+		 * until the iterator gets closed, or until the iterator 
+		 * has been garbage collected.
+		 * 
+		 * It returns false if the search has to stop.
+		 */
+		private boolean handOver(Object o) {
+			try {
+				while(!this.closed) {
+					if(this.handOver.offer(o, 100, TimeUnit.MILLISECONDS)) {
+						return true;
+					}
+					
+					// nobody can take the object anymore
+					if(null == this.consumer.get()) {
+						this.close();
+					}
+				}
+			} catch(InterruptedException ie) {
+				this.close();
+			}
+			return false;
+		}
+		
+		/*
+		 * The StreamingSolutionListener decodes every solution 
+		 * as soon as it is found and hands it over to the caller.
+		 */
+		private class StreamingSolutionListener 
+				extends SimpleSolutionListener<IntVar> {
+			
+			@Override
+			public boolean executeAfterSolution(Search<IntVar> search, SelectChoicePoint<IntVar> select) {
+				if(!solver.isCanonical(variables)) {
+					return false;
+				}
+				boolean parent = super.executeAfterSolution(search, select);
+				
+				Object solution = null;
+				try {
+					solution = solver.decode(variables);
+				} catch(MiniEugeneException mee) {
+					handOver(mee);
+					return true;
+				}
+				
+				if(!handOver(solution)) {
+					// i.e. we stop searching
+					return true;
+				}
+				
+				return parent;
+			}
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import org.jacop.core.FailException;
+import org.jacop.core.IntVar;
+import org.jacop.core.Store;
+
+/**
+ * The SymmetryFilter decides if a solution is the canonical form 
+ * of its DNA molecule. A design read backwards with every part 
+ * flipped is the same molecule, i.e. a design and its reversed, 
+ * flipped mirror are symmetric duplicates. The canonical form is 
+ * the lexicographically smaller one of the two, comparing the 
+ * (part, orientation) pairs from left to right.
+ * 
+ * If the rules are mirror-invariant, then the solver imposes the 
+ * lexicographic order and the filter only counts the pruned mirrors. 
+ * Otherwise, a non-canonical solution is dropped only if its 
+ * mirror satisfies the rules as well, which the filter checks 
+ * on the model of a separate store.
+ * 
+ * @author Ernst Oberortner
+ */
+class SymmetryFilter {
+
+	/*
+	 * the model of the mirror check 
+	 * (null if the lexicographic order is imposed)
+	 */
+	private final Store store;
+	private final IntVar[][] variables;
+	
+	/*
+	 * the buffers of the current solution
+	 */
+	private final int[] ids;
+	private final int[] orientations;
+	
+	private long pruned;
+	
+	public SymmetryFilter(int N) {
+		this(N, null, null);
+	}
+	
+	public SymmetryFilter(int N, Store store, IntVar[][] variables) {
+		this.store = store;
+		this.variables = variables;
+		
+		this.ids = new int[N];
+		this.orientations = new int[N];
+		
+		this.pruned = 0;
+	}
+	
+	/**
+	 * accept/1 returns true if the current assignment of the 
+	 * given variables is the canonical form of its molecule, or 
+	 * if its mirror violates the rules.
+	 */
+	public boolean accept(IntVar[][] solution) {
+		int N = this.ids.length;
+		for(int i=0; i<N; i++) {
+			this.ids[i] = solution[Variables.PART][i].value();
+			this.orientations[i] = solution[Variables.ORIENTATION][i].value();
+		}
+		
+		int cmp = this.compareToMirror();
+		
+		// a palindrome is its own mirror
+		if(cmp == 0) {
+			return true;
+		}
+		
+		if(null == this.store) {
+			// the lexicographic order pruned the mirror
+			this.pruned ++;
+			return true;
+		}
+		
+		if(cmp < 0 || !this.isMirrorSolution()) {
+			return true;
+		}
+		
+		this.pruned ++;
+		return false;
+	}
+	
+	/**
+	 * @return the number of symmetric duplicates that have been pruned
+	 */
+	public long getPruned() {
+		return this.pruned;
+	}
+	
+	/*
+	 * compareToMirror/0 compares the keys 3*part + orientation 
+	 * of the current solution with the ones of its mirror
+	 */
+	private int compareToMirror() {
+		int N = this.ids.length;
+		for(int i=0; i<N; i++) {
+			int key = 3 * this.ids[i] + this.orientations[i];
+			int mirror = 3 * this.ids[N-1-i] - this.orientations[N-1-i];
+			if(key != mirror) {
+				return key < mirror ? -1 : 1;
+			}
+		}
+		return 0;
+	}
+	
+	/*
+	 * isMirrorSolution/0 assigns the mirror of the current solution 
+	 * at a new level of the store. The mirror is a solution if the 
+	 * assignment is consistent, i.e. the same test as the one of 
+	 * the search at its leaves.
+	 */
+	private boolean isMirrorSolution() {
+		int N = this.ids.length;
+		IntVar[] parts = this.variables[Variables.PART];
+		IntVar[] orientations = this.variables[Variables.ORIENTATION];
+		
+		// the mirror must lie in the initial domains
+		for(int i=0; i<N; i++) {
+			if(!parts[i].dom().contains(this.ids[N-1-i]) || 
+					!orientations[i].dom().contains(-this.orientations[N-1-i])) {
+				return false;
+			}
+		}
+		
+		int level = this.store.level;
+		this.store.setLevel(level + 1);
+		try {
+			for(int i=0; i<N; i++) {
+				parts[i].domain.in(this.store.level, parts[i], 
+						this.ids[N-1-i], this.ids[N-1-i]);
+				orientations[i].domain.in(this.store.level, orientations[i], 
+						-this.orientations[N-1-i], -this.orientations[N-1-i]);
+			}
+			return this.store.consistency();
+		} catch(FailException fe) {
+			return false;
+		} finally {
+			this.store.removeLevel(level + 1);
+			this.store.setLevel(level);
+		}
+	}
+}
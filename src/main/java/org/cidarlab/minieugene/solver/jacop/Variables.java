@@ -37,4 +37,6 @@ public class Variables {
 	public static final int TYPE = 1;
 	public static final int ORIENTATION = 2;
 	public static final int POSITION = 3;
+	public static final int PART_COUNTER = 4;
+	public static final int TYPE_COUNTER = 5;
 }
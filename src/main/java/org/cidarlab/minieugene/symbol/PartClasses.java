@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.symbol;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The PartClasses partition the components into classes of 
+ * interchangeable parts. Two parts are interchangeable if they have 
+ * the same type and no rule names either of them individually, i.e. 
+ * the rules see them only through their type. Then, replacing one 
+ * by the other in a solution yields another solution. 
+ * Every part that is named by a rule is a class of its own.
+ * 
+ * The first member of a class is its representative. 
+ * The classes are created by SymbolTables.getPartClasses/2.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PartClasses {
+
+	/*
+	 * the class ids, indexed by the part id
+	 */
+	private final int[] classIds;
+	
+	/*
+	 * the part ids of the members, indexed by the class id
+	 */
+	private final List<int[]> members;
+	private final List<String> names;
+	
+	PartClasses(int[] classIds, List<int[]> members, List<String> names) {
+		this.classIds = classIds;
+		this.members = members;
+		this.names = names;
+	}
+	
+	/**
+	 * @return the number of classes
+	 */
+	public int size() {
+		return this.members.size();
+	}
+	
+	/**
+	 * @return true if every class contains a single part
+	 */
+	public boolean isTrivial() {
+		return this.members.size() == this.classIds.length;
+	}
+	
+	/**
+	 * @param partId ... the id of a part
+	 * @return the id of the part's class
+	 */
+	public int getClassId(int partId) {
+		return this.classIds[partId];
+	}
+	
+	/**
+	 * @param classId ... the id of a class
+	 * @return the number of parts of the class
+	 */
+	public int getSize(int classId) {
+		return this.members.get(classId).length;
+	}
+	
+	/**
+	 * @param classId ... the id of a class
+	 * @param k       ... the index of the member (0 <= k < size of the class)
+	 * @return the part id of the k-th member of the class
+	 */
+	public int getMember(int classId, int k) {
+		return this.members.get(classId)[k];
+	}
+	
+	/**
+	 * @param classId ... the id of a class
+	 * @return the part id of the class's representative
+	 */
+	public int getRepresentative(int classId) {
+		return this.members.get(classId)[0];
+	}
+	
+	/**
+	 * @param partId ... the id of a part
+	 * @return true if the part represents its class
+	 */
+	public boolean isRepresentative(int partId) {
+		return this.getRepresentative(this.classIds[partId]) == partId;
+	}
+	
+	/**
+	 * @param classId ... the id of a class
+	 * @return the name of the class, i.e. the name of its part if the class 
+	 *         contains a single part, or the name of the type followed by 
+	 *         #k for the k-th class of interchangeable parts of the type
+	 */
+	public String getName(int classId) {
+		return this.names.get(classId);
+	}
+	
+	@Override
+	public boolean equals(Object o) {
+		return o instanceof PartClasses && 
+				Arrays.equals(this.classIds, ((PartClasses)o).classIds);
+	}
+	
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(this.classIds);
+	}
+	
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for(int c=0; c<this.size(); c++) {
+			sb.append(this.getName(c)).append(": ").append(this.getSize(c)).append("\n");
+		}
+		return sb.toString();
+	}
+}
@@ -32,20 +32,29 @@
 
 package org.cidarlab.minieugene.symbol;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.cidarlab.minieugene.act.ACT;
 import org.cidarlab.minieugene.constants.PredefinedTypes;
+import org.cidarlab.minieugene.constants.PredefinedTypes.PartType;
 import org.cidarlab.minieugene.dom.Component;
 import org.cidarlab.minieugene.dom.ComponentType;
 import org.cidarlab.minieugene.dom.Identified;
+import org.cidarlab.minieugene.predicates.BinaryConstraint;
 import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalPredicate;
+import org.cidarlab.minieugene.predicates.UnaryConstraint;
 import org.cidarlab.minieugene.predicates.interaction.Interaction;
+import org.cidarlab.minieugene.predicates.position.Equals;
+import org.cidarlab.minieugene.predicates.templating.TemplatingPredicate;
 
 
 /**
@@ -61,7 +70,15 @@ public class SymbolTables {
 	private Map<String, ComponentType> types;
 	
 	private Map<String, Set<Component>> typedComponents;
-	private Map<Integer, Identified> identifiers;
+	
+	/*
+	 * the reverse lookup of the dense ids
+	 * components ... 0 .. n-1
+	 * types      ... 0 .. |PartType|-1 are the predefined types, 
+	 *                followed by the user-defined types
+	 */
+	private List<Component> componentIds;
+	private List<ComponentType> typeIds;
 	
 	private Set<Constraint> constraints;
 	private Set<Interaction> interactions;
@@ -97,9 +114,10 @@ public class SymbolTables {
 		this.typedComponents = new HashMap<String, Set<Component>>();
 		
 		/*
-		 * another helper map for a more efficient search
+		 * the reverse lookup of the component and type ids
 		 */
-		this.identifiers = new HashMap<Integer, Identified>();
+		this.componentIds = new ArrayList<Component>();
+		this.typeIds = new ArrayList<ComponentType>();
 		
 		/*
 		 * all specified constraints
@@ -124,20 +142,35 @@ public class SymbolTables {
 	public ComponentType putType(String t) {
 		
 		if(!this.types.containsKey(t)) {
-			this.types.put(t, new ComponentType(t));
+			ComponentType ct = new ComponentType(t);
+			
+			/*
+			 * predefined types keep their predefined id, 
+			 * user-defined types get the next id after 
+			 * the predefined types
+			 */
+			if(null == ct.getPartType()) {
+				ct.setId(Math.max(this.typeIds.size(), PartType.values().length));
+			}
+			this.putTypeId(ct);
+			
+			this.types.put(t, ct);
 		}
 		
 		if(!this.typedComponents.containsKey(this.getType(t).toString())) {
 			this.typedComponents.put(this.getType(t).toString(), new HashSet<Component>());
 		}
 		
-		if(!this.identifiers.containsKey(this.getType(t).getId())) {
-			this.identifiers.put(this.getType(t).getId(), this.getType(t));
-		}
-		
 		return this.getType(t);
 	}
 	
+	private void putTypeId(ComponentType ct) {
+		while(this.typeIds.size() <= ct.getId()) {
+			this.typeIds.add(null);
+		}
+		this.typeIds.set(ct.getId(), ct);
+	}
+	
 	public boolean containsType(String t) {
 		return this.types.containsKey(t);
 	}
@@ -212,13 +245,11 @@ public class SymbolTables {
 
 			// if the component exists, then
 			// we need to update its type
-			Identified id = this.get(this.getId(s));
-			if(null == id || !(id instanceof Component)) {
-				c = new Component(s, ct);
-			} else {
-				c = (Component)id;
-				c.setType(ct);
+			c = this.components.get(s);
+			if(null != c.getType() && this.typedComponents.containsKey(c.getType().toString())) {
+				this.typedComponents.get(c.getType().toString()).remove(c);
 			}
+			c.setType(ct);
 			
 		} else {
 			
@@ -257,12 +288,13 @@ public class SymbolTables {
 		}
 		
 		if(!this.components.containsKey(c.getName())) {
+			
+			// the components get dense ids in the order of their definition
+			c.setId(this.componentIds.size());
+			this.componentIds.add(c);
+
 			this.components.put(c.getName(), c);
 		}
-		
-		if(!this.identifiers.containsKey(c.getId())) {
-			this.identifiers.put(c.getId(), c);
-		}
 	}
 	
 
@@ -275,15 +307,37 @@ public class SymbolTables {
 	}
 	
 	public boolean containsId(int i) {
-		return this.components.containsKey(i);
+		return i >= 0 && i < this.componentIds.size();
 	}
 	
 	public boolean contains(String s) {
 		return this.components.containsKey(s) || this.types.containsKey(s);
 	}
 	
-	public Identified get(int id) {
-		return this.identifiers.get(id);
+	/**
+	 * get/1 returns the component with the given id.
+	 * 
+	 * @param id ... the id of the component (0 <= id < number of components)
+	 * @return the component, or null if no component has the given id
+	 */
+	public Component get(int id) {
+		if(this.containsId(id)) {
+			return this.componentIds.get(id);
+		}
+		return null;
+	}
+	
+	/**
+	 * getComponentType/1 returns the type with the given id.
+	 * 
+	 * @param id ... the id of the type
+	 * @return the type, or null if no type has the given id
+	 */
+	public ComponentType getComponentType(int id) {
+		if(id >= 0 && id < this.typeIds.size()) {
+			return this.typeIds.get(id);
+		}
+		return null;
 	}
 	
 	public Identified get(String s) {
@@ -311,14 +365,19 @@ public class SymbolTables {
 	}
 	
 	public int[] getIds() {
-		Integer[] ids = new Integer[this.components.keySet().size()];
-		this.components.keySet().toArray(ids);
-		return ArrayUtils.toPrimitive(ids);
+		int[] ids = new int[this.componentIds.size()];
+		for(int i=0; i<ids.length; i++) {
+			ids[i] = i;
+		}
+		return ids;
 	}
 	
+	/**
+	 * getComponents/0 returns all components ordered by their ids
+	 */
 	public Component[] getComponents() {
-		Component[] s = new Component[this.components.keySet().size()];
-		return this.components.values().toArray(s);
+		Component[] s = new Component[this.componentIds.size()];
+		return this.componentIds.toArray(s);
 	}
 	
 	public Set<Component> getComponents(ComponentType ct) {
@@ -385,7 +444,7 @@ public class SymbolTables {
 	/*
 	 * methods to store information on regulatory interactions
 	 */
-	public void putInteraction(Interaction ip) {	
+	public synchronized void putInteraction(Interaction ip) {	
 		if(!this.interactions.contains(ip)) {
 			this.interactions.add(ip);
 		}		
@@ -400,6 +459,132 @@ public class SymbolTables {
 	}
 	
 
+	/**
+	 * getPartClasses/2 groups the given components into classes of 
+	 * interchangeable parts, i.e. the parts of the same type that 
+	 * none of the given rules names individually.
+	 * 
+	 * If a rule relates the parts at different positions 
+	 * (e.g. [i] EQUALS [j]), then no parts are interchangeable.
+	 * 
+	 * @param components ... the components
+	 * @param rules      ... the rules
+	 * @return the classes of the components
+	 */
+	public PartClasses getPartClasses(Component[] components, Collection<? extends Constraint> rules) {
+		
+		Set<Integer> named = new HashSet<Integer>();
+		boolean interchangeable = true;
+		for(Constraint rule : rules) {
+			interchangeable &= collectNamed(rule, named);
+		}
+		
+		int maxId = -1;
+		for(Component component : components) {
+			maxId = Math.max(maxId, component.getId());
+		}
+		Component[] byId = new Component[maxId + 1];
+		for(Component component : components) {
+			byId[component.getId()] = component;
+		}
+		
+		/*
+		 * the classes are ordered by their representatives, 
+		 * i.e. by the smallest part id of their members
+		 */
+		int[] classIds = new int[maxId + 1];
+		List<List<Integer>> lst = new ArrayList<List<Integer>>();
+		List<String> names = new ArrayList<String>();
+		Map<Integer, Integer> typeClasses = new HashMap<Integer, Integer>();
+		for(int id=0; id<=maxId; id++) {
+			Component component = byId[id];
+			if(null == component) {
+				classIds[id] = -1;
+				continue;
+			}
+			
+			Integer classId = null;
+			if(interchangeable && !named.contains(id)) {
+				classId = typeClasses.get(component.getTypeId());
+			}
+			
+			if(null == classId) {
+				classId = lst.size();
+				lst.add(new ArrayList<Integer>());
+				names.add(component.getName());
+				if(interchangeable && !named.contains(id)) {
+					typeClasses.put(component.getTypeId(), classId);
+				}
+			}
+			
+			classIds[id] = classId;
+			lst.get(classId).add(id);
+		}
+		
+		List<int[]> members = new ArrayList<int[]>();
+		Map<String, Integer> counters = new HashMap<String, Integer>();
+		for(int c=0; c<lst.size(); c++) {
+			int[] ids = new int[lst.get(c).size()];
+			for(int k=0; k<ids.length; k++) {
+				ids[k] = lst.get(c).get(k);
+			}
+			members.add(ids);
+			
+			// e.g. RBS#1
+			if(ids.length > 1) {
+				String type = byId[ids[0]].getType().getName();
+				int k = counters.containsKey(type) ? counters.get(type) + 1 : 1;
+				counters.put(type, k);
+				names.set(c, type + "#" + k);
+			}
+		}
+		
+		return new PartClasses(classIds, members, names);
+	}
+	
+	/*
+	 * collectNamed/2 collects the ids of the components that the given 
+	 * rule names individually. It returns false if the rule relates 
+	 * the parts at different positions.
+	 */
+	private static boolean collectNamed(Constraint rule, Set<Integer> named) {
+		if(rule instanceof LogicalPredicate) {
+			boolean interchangeable = true;
+			for(Constraint c : ((LogicalPredicate)rule).getConstraints()) {
+				interchangeable &= collectNamed(c, named);
+			}
+			return interchangeable;
+		} else if(rule instanceof TemplatingPredicate) {
+			for(List<Component> selection : ((TemplatingPredicate)rule).getComponents()) {
+				for(Component component : selection) {
+					named.add(component.getId());
+				}
+			}
+			return true;
+		} else if(rule instanceof Equals && null == ((Equals)rule).getA()) {
+			// [i] EQUALS [j]
+			return false;
+		} else if(rule instanceof UnaryConstraint) {
+			boolean interchangeable = collectNamed(((UnaryConstraint)rule).getA(), named);
+			if(rule instanceof BinaryConstraint) {
+				interchangeable &= collectNamed(((BinaryConstraint)rule).getB(), named);
+			}
+			return interchangeable;
+		}
+		return null == rule;
+	}
+	
+	private static boolean collectNamed(ConstraintOperand op, Set<Integer> named) {
+		if(null == op || null == op.getOperand() || op.isType()) {
+			return true;
+		} else if(op.isPrimitiveComponent()) {
+			named.add(op.getOperand().getId());
+			return true;
+		}
+		// i.e. composites
+		return false;
+	}
+	
 	/**
 	 * 
 	 * @return the Abstract Composition Tree
@@ -431,5 +616,13 @@ public class SymbolTables {
 		if(null != this.types) {
 			this.types.clear();
 		}
+		
+		if(null != this.componentIds) {
+			this.componentIds.clear();
+		}
+		
+		if(null != this.typeIds) {
+			this.typeIds.clear();
+		}
 	}
 }
@@ -41,6 +41,7 @@ import java.net.URI;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -51,7 +52,6 @@ import javax.swing.ImageIcon;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 
-import org.apache.commons.lang3.ArrayUtils;
 import org.cidarlab.minieugene.data.pigeon.Pigeonizer;
 import org.cidarlab.minieugene.data.sbol.SBOLExporter;
 import org.cidarlab.minieugene.dom.Component;
@@ -86,6 +86,8 @@ public class SolutionExporter {
 	 * After executing the solve() method of miniEugene, the solutions 
 	 * and the set of interactions can be obtained by miniEugeneObj.getSolutions 
 	 * and miniEugeneObj.getInteractions respectively.
+	 * To export K random designs without enumerating all solutions, 
+	 * execute miniEugeneObj.sample(script, K) instead of solve().
 	 * 
 	 * @param solutions  
 	 * @param interactions
@@ -293,19 +295,26 @@ public class SolutionExporter {
 		return lst;
 	}
 	
+	/*
+	 * generateRandomIndices/2 selects N distinct indices 
+	 * out of [0, range) with Floyd's algorithm, i.e. 
+	 * with exactly N random numbers
+	 */
 	private int[] generateRandomIndices(int N, int range) {
 		
-		int[] idx = new int[N];
+		Set<Integer> selected = new LinkedHashSet<Integer>();
 		Random generator = new Random();
-		for(int i=0; i<N; i++) {
-	
-			// here, we also need to check if
-			// the index is present already
-			int ix = generator.nextInt( range );
-			while(ArrayUtils.contains(idx, ix)) {
-				ix = generator.nextInt( range );
+		for(int j=range-N; j<range; j++) {
+			int ix = generator.nextInt( j+1 );
+			if(!selected.add(ix)) {
+				selected.add(j);
 			}
-			idx[i] = ix;
+		}
+		
+		int[] idx = new int[N];
+		int i = 0;
+		for(Integer ix : selected) {
+			idx[i++] = ix;
 		}
 		return idx;
 	}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.parser;
+
+import org.antlr.runtime.ANTLRStringStream;
+import org.antlr.runtime.CommonTokenStream;
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The FrontEndEvaluator measures the front-end time (lexing, parsing, 
+ * and interpreting) of generated scripts with thousands of facts and 
+ * rules. It compares the single-pass front end (one parser run that 
+ * builds the AST, then the resolution of facts and constraints) with 
+ * the previous front end that ran the lexer and parser twice 
+ * (one run to collect the facts, one run to interpret the constraints).
+ * 
+ * @author Ernst Oberortner
+ */
+public class FrontEndEvaluator {
+
+	private static final int[] NR_OF_PARTS = {1000, 5000, 10000, 20000};
+	private static final String[] TYPES = {"Promoter", "RBS", "CDS", "Terminator"};
+	private static final int RUNS = 5;
+	
+	public void evaluate() {
+		
+		System.out.println("parts, rules, single-pass [ms], two-pass [ms]");
+		
+		for(int n : NR_OF_PARTS) {
+			String script = this.generate(n);
+			
+			// warm-up
+			this.singlePass(script);
+			this.twoPass(script);
+			
+			long single = 0;
+			long two = 0;
+			for(int i=0; i<RUNS; i++) {
+				long T1 = System.nanoTime();
+				this.singlePass(script);
+				long T2 = System.nanoTime();
+				this.twoPass(script);
+				long T3 = System.nanoTime();
+				
+				single += T2 - T1;
+				two += T3 - T2;
+			}
+			
+			System.out.println(
+					n + ", " + 
+					n + ", " + 
+					(single / RUNS) * Math.pow(10, -6) + ", " + 
+					(two / RUNS) * Math.pow(10, -6));
+		}
+	}
+	
+	/*
+	 * a script with n facts and n rules. 
+	 * Every rule refers to a part that is specified 
+	 * after the rule.
+	 */
+	private String generate(int n) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("N=").append(TYPES.length).append(".\n");
+		for(int i=0; i<n; i++) {
+			sb.append("p").append(i).append(" before p").append((i + 1) % n).append(".\n");
+			sb.append("p").append(i).append(" is_a ").append(TYPES[i % TYPES.length]).append(".\n");
+		}
+		return sb.toString();
+	}
+	
+	private void singlePass(String script) {
+		try {
+			new MiniEugene().parse(script);
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/*
+	 * the previous front end: an additional 
+	 * run of the lexer and parser
+	 */
+	private void twoPass(String script) {
+		try {
+			MiniEugeneParser parser = new MiniEugeneParser(
+					new CommonTokenStream(
+							new MiniEugeneLexer(
+									new ANTLRStringStream(script))));
+			parser.init(new SymbolTables());
+			parser.miniEugene();
+			
+			new MiniEugene().parse(script);
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		FrontEndEvaluator fe = new FrontEndEvaluator();
+		fe.evaluate();
+	}
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Contains;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The ChannelingEvaluator compares the model-building time and the 
+ * cost of the initial propagation of the original part/type channeling 
+ * (IfThen/Or constraints per component) with the compact channeling 
+ * (one table constraint per position).
+ * 
+ * @author Ernst Oberortner
+ */
+public class ChannelingEvaluator {
+
+	private static final int N = 14;
+	private static final int[] LIBRARY_SIZES = {50, 100, 250, 500};
+	private static final String[] TYPES = {"p", "r", "c", "t"};
+	
+	public void evaluate() {
+		
+		System.out.println("library-size, types-referenced, model, constraints, build [ms], propagation [ms]");
+		
+		for(int size : LIBRARY_SIZES) {
+			for(boolean referenceTypes : new boolean[] {false, true}) {
+				for(boolean compact : new boolean[] {false, true}) {
+					this.evaluate(size, referenceTypes, compact);
+				}
+			}
+		}
+	}
+	
+	private void evaluate(int size, boolean referenceTypes, boolean compact) {
+		
+		/*
+		 * a library of size parts, equally distributed among the types
+		 */
+		SymbolTables symbols = new SymbolTables();
+		for(int i=0; i<size; i++) {
+			symbols.put(TYPES[i % TYPES.length] + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		rules.add(new Contains(new ConstraintOperand(components[0])));
+		if(referenceTypes) {
+			rules.add(new Contains(new ConstraintOperand(symbols.getType("t"))));
+		}
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setCompactModel(compact);
+			
+			long T1 = System.nanoTime();
+			solver.build(components, and);
+			long T2 = System.nanoTime();
+			solver.getStore().consistency();
+			long T3 = System.nanoTime();
+			
+			System.out.println(
+					size + ", " + 
+					referenceTypes + ", " + 
+					(compact ? "compact" : "original") + ", " + 
+					solver.getStore().numberConstraints() + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T3 - T2) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		ChannelingEvaluator ce = new ChannelingEvaluator();
+		ce.evaluate();
+	}
+}
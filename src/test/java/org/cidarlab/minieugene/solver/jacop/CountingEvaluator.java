@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.counting.MoreThan;
+import org.cidarlab.minieugene.predicates.counting.SameCount;
+import org.cidarlab.minieugene.predicates.orientation.AllForward;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The CountingEvaluator compares the number of imposed constraints, 
+ * the number of search nodes, and the time to count all solutions 
+ * of the counting rules with one global cardinality constraint per 
+ * layer and with one Count constraint per operand.
+ * 
+ * The parts are paired by SAME_COUNT rules, the first part appears 
+ * exactly twice, and every other part appears at least once.
+ * 
+ * @author Ernst Oberortner
+ */
+public class CountingEvaluator {
+
+	private static final int[] LENGTHS = {8, 9, 10};
+	private static final int NR_OF_PARTS = 6;
+	
+	public void evaluate() {
+		
+		System.out.println("N, counting, imposed constraints, nodes, solutions, all solutions [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean global : new boolean[] {false, true}) {
+				this.evaluate(N, global);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean global) {
+		
+		SymbolTables symbols = new SymbolTables();
+		Component[] parts = new Component[NR_OF_PARTS];
+		for(int i=0; i<NR_OF_PARTS; i++) {
+			parts[i] = symbols.put("p" + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			rules.add(new AllForward(null));
+			rules.add(new Exactly(new ConstraintOperand(parts[0]), 2));
+			for(int i=1; i<NR_OF_PARTS; i++) {
+				rules.add(new MoreThan(new ConstraintOperand(parts[i]), 0));
+			}
+			for(int i=0; i+1<NR_OF_PARTS; i+=2) {
+				rules.add(new SameCount(new ConstraintOperand(parts[i]), new ConstraintOperand(parts[i+1])));
+			}
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setGlobalCounting(global);
+			
+			long T1 = System.nanoTime();
+			long solutions = solver.count(components, and);
+			long T2 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					(global ? "GCC" : "COUNT") + ", " + 
+					solver.getStore().numberConstraints() + ", " + 
+					solver.getLastSearch().getNodes() + ", " + 
+					solutions + ", " + 
+					(T2 - T1) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		CountingEvaluator ce = new CountingEvaluator();
+		ce.evaluate();
+	}
+}
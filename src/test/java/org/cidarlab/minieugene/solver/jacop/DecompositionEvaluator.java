@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.constants.SolverMode;
+
+/**
+ * The DecompositionEvaluator compares the time to enumerate and to count 
+ * all solutions of the sequential and the decomposed search.
+ * 
+ * The design consists of K cassettes of a promoter, an RBS, and a CDS. 
+ * A TEMPLATE fixes the positions of every cassette and every cassette 
+ * has its own parts and rules, i.e. the cassettes are independent blocks.
+ * 
+ * @author Ernst Oberortner
+ */
+public class DecompositionEvaluator {
+
+	private static final int[] CASSETTES = {1, 2, 3, 4};
+	private static final int CHOICES = 3;
+	
+	public void evaluate() {
+		
+		System.out.println("K, mode, solutions, all solutions [ms], count [ms]");
+		
+		for(int K : CASSETTES) {
+			for(SolverMode mode : new SolverMode[] {SolverMode.SEQUENTIAL, SolverMode.DECOMPOSED}) {
+				this.evaluate(K, mode);
+			}
+		}
+	}
+	
+	private void evaluate(int K, SolverMode mode) {
+		
+		try {
+			String script = script(K);
+			
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(mode);
+			
+			long T1 = System.nanoTime();
+			me.solve(script);
+			long T2 = System.nanoTime();
+			int solutions = me.getSolutionSet().size();
+			
+			long T3 = System.nanoTime();
+			long count = me.count(script);
+			long T4 = System.nanoTime();
+			
+			if(count != solutions) {
+				throw new IllegalStateException(count + " != " + solutions);
+			}
+			
+			System.out.println(
+					K + ", " + 
+					mode + ", " + 
+					count + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/*
+	 * script/1 returns K cassettes with CHOICES parts per position. 
+	 * The first promoter of a cassette is not next to its first RBS.
+	 */
+	private static String script(int K) {
+		StringBuilder facts = new StringBuilder();
+		StringBuilder template = new StringBuilder("TEMPLATE ");
+		StringBuilder rules = new StringBuilder();
+		
+		String[][] types = {{"p", "Promoter"}, {"r", "RBS"}, {"c", "CDS"}};
+		for(int k=0; k<K; k++) {
+			for(String[] type : types) {
+				template.append(k == 0 && type == types[0] ? "[" : ", [");
+				for(int i=0; i<CHOICES; i++) {
+					String name = type[0] + k + "_" + i;
+					facts.append(name).append(" is_a ").append(type[1]).append(". ");
+					template.append(i > 0 ? "|" : "").append(name);
+				}
+				template.append("]");
+			}
+			rules.append("NOT p").append(k).append("_0 NEXTTO r").append(k).append("_0. ");
+		}
+		
+		return "N=" + (3 * K) + ". " + facts + template + ". " + rules + "ALL_FORWARD.";
+	}
+	
+	public static void main(String[] args) {
+		DecompositionEvaluator de = new DecompositionEvaluator();
+		de.evaluate();
+	}
+}
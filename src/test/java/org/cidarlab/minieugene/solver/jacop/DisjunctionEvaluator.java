@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.orientation.AllForward;
+import org.cidarlab.minieugene.predicates.pairing.AlwaysNextTo;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The DisjunctionEvaluator compares the time to enumerate all solutions 
+ * of the sequential solver, which reifies the OR rules, with the 
+ * disjunctive solver for different maximum numbers of branches.
+ * 
+ * Every part appears exactly once and the parts are paired 
+ * by the rules p(2i) NEXTTO p(2i+1) OR p(2i+1) BEFORE p(2i).
+ * 
+ * @author Ernst Oberortner
+ */
+public class DisjunctionEvaluator {
+
+	private static final int[] LENGTHS = {6, 7, 8};
+	private static final int[] MAX_BRANCHES = {1, 4, 64};
+	
+	public void evaluate() {
+		
+		System.out.println("N, solver, max branches, solutions, all solutions [ms]");
+		
+		for(int N : LENGTHS) {
+			this.evaluate(N, -1);
+			for(int maxBranches : MAX_BRANCHES) {
+				this.evaluate(N, maxBranches);
+			}
+		}
+	}
+	
+	/*
+	 * maxBranches == -1 ... the sequential solver
+	 */
+	private void evaluate(int N, int maxBranches) {
+		
+		SymbolTables symbols = new SymbolTables();
+		Component[] parts = new Component[N];
+		for(int i=0; i<N; i++) {
+			parts[i] = symbols.put("p" + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			rules.add(new AllForward(null));
+			for(int i=0; i<N; i++) {
+				rules.add(new Exactly(new ConstraintOperand(parts[i]), 1));
+			}
+			
+			for(int i=0; i+1<N; i+=2) {
+				ConstraintOperand a = new ConstraintOperand(parts[i]);
+				ConstraintOperand b = new ConstraintOperand(parts[i+1]);
+				
+				List<Constraint> alternatives = new ArrayList<Constraint>();
+				alternatives.add(new AlwaysNextTo(a, b));
+				alternatives.add(new AllBefore(b, a));
+				rules.add(new LogicalOr(alternatives));
+			}
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			long T1 = System.nanoTime();
+			SolutionSet solutions = null;
+			if(maxBranches == (-1)) {
+				solutions = new JaCoPSolver(symbols).solve(components, and, -1);
+			} else {
+				DisjunctiveJaCoPSolver solver = new DisjunctiveJaCoPSolver(symbols);
+				solver.setMaxBranches(maxBranches);
+				solutions = solver.solve(components, and, -1);
+			}
+			long T2 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					(maxBranches == (-1) ? "SEQUENTIAL" : "DISJUNCTIVE") + ", " + 
+					(maxBranches == (-1) ? "-" : maxBranches) + ", " + 
+					solutions.size() + ", " + 
+					(T2 - T1) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		DisjunctionEvaluator de = new DisjunctionEvaluator();
+		de.evaluate();
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Contains;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.jacop.core.IntVar;
+import org.jacop.search.DepthFirstSearch;
+
+/**
+ * The DrivesEvaluator compares the model-building time, the number of 
+ * imposed constraints, and the number of search nodes to the first 
+ * solution of regulatory circuits (promoter DRIVES cds) with the 
+ * original DRIVES encoding (O(N^3) per rule) and the encoding on 
+ * prefix terminator counters (O(N)).
+ * 
+ * @author Ernst Oberortner
+ */
+public class DrivesEvaluator {
+
+	private static final int[] LENGTHS = {10, 20, 30};
+	private static final int NR_OF_CASSETTES = 3;
+	
+	public void evaluate() {
+		
+		System.out.println("N, model, imposed constraints, build [ms], nodes, first solution [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean positions : new boolean[] {false, true}) {
+				this.evaluate(N, positions);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean positions) {
+		
+		/*
+		 * NR_OF_CASSETTES promoters, cds, and terminators
+		 */
+		SymbolTables symbols = new SymbolTables();
+		ComponentType promoter = symbols.putType("Promoter");
+		ComponentType cds = symbols.putType("CDS");
+		ComponentType terminator = symbols.putType("Terminator");
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		for(int i=0; i<NR_OF_CASSETTES; i++) {
+			Component p = symbols.put("p" + i, promoter);
+			Component c = symbols.put("c" + i, cds);
+			symbols.put("t" + i, terminator);
+			
+			rules.add(new Contains(new ConstraintOperand(p)));
+			rules.add(new Drives(new ConstraintOperand(p), new ConstraintOperand(c)));
+		}
+		Component[] components = symbols.getComponents();
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setPositionModel(positions);
+			
+			long T1 = System.nanoTime();
+			IntVar[][] variables = solver.build(components, and);
+			long T2 = System.nanoTime();
+			
+			DepthFirstSearch<IntVar> search = new DepthFirstSearch<IntVar>();
+			search.setPrintInfo(false);
+			search.labeling(solver.getStore(), 
+					SearchStrategy.MOST_CONSTRAINED.createSelect(
+							solver.getStore(), JaCoPSolver.searchVariables(variables), 0));
+			long T3 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					(positions ? "prefix counters" : "original") + ", " + 
+					solver.getStore().numberConstraints() + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					search.getNodes() + ", " + 
+					(T3 - T2) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		DrivesEvaluator de = new DrivesEvaluator();
+		de.evaluate();
+	}
+}
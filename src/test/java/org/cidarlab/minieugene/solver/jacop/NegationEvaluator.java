@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.predicates.orientation.AllForward;
+import org.cidarlab.minieugene.predicates.orientation.AlternateOrientation;
+import org.cidarlab.minieugene.predicates.pairing.AlwaysNextTo;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.templating.Template;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The NegationEvaluator compares the number of imposed constraints, 
+ * the number of search nodes, and the time to enumerate all solutions 
+ * of the positive and the negated forms of the positioning, pairing, 
+ * interaction, orientation, and templating rules. 
+ * 
+ * Every part appears exactly once and the rules form a chain 
+ * (p0 r p1, p1 r p2, ...), i.e. the solver depends on the 
+ * propagation of the (negated) rules.
+ * 
+ * @author Ernst Oberortner
+ */
+public class NegationEvaluator {
+
+	private static final int[] LENGTHS = {4, 6, 8};
+	private static final String[] RULES = {
+		"ALL_BEFORE", "ALWAYS_NEXTTO", "DRIVES", "ALTERNATE_ORIENTATION", "TEMPLATE"};
+	
+	public void evaluate() {
+		
+		System.out.println("N, rule, negated, imposed constraints, nodes, solutions, all solutions [ms]");
+		
+		for(int N : LENGTHS) {
+			for(String rule : RULES) {
+				for(boolean negated : new boolean[] {false, true}) {
+					this.evaluate(N, rule, negated);
+				}
+			}
+		}
+	}
+	
+	private void evaluate(int N, String rule, boolean negated) {
+		
+		SymbolTables symbols = new SymbolTables();
+		ComponentType promoter = symbols.putType("Promoter");
+		ComponentType terminator = symbols.putType("Terminator");
+		
+		// the last part is a terminator
+		Component[] parts = new Component[N];
+		for(int i=0; i<N; i++) {
+			parts[i] = symbols.put("p" + i, i < N - 1 ? promoter : terminator);
+		}
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			for(int i=0; i<N; i++) {
+				rules.add(new Exactly(new ConstraintOperand(parts[i]), 1));
+			}
+			
+			if("ALTERNATE_ORIENTATION".equals(rule)) {
+				
+				// the parts are ordered, the orientations alternate
+				for(int i=0; i<N-1; i++) {
+					rules.add(new AllBefore(new ConstraintOperand(parts[i]), new ConstraintOperand(parts[i+1])));
+				}
+				rules.add(negate(new AlternateOrientation(null), negated));
+				
+			} else if("TEMPLATE".equals(rule)) {
+				
+				// the even and odd parts alternate
+				List<List<Component>> selections = new ArrayList<List<Component>>();
+				selections.add(new ArrayList<Component>());
+				selections.add(new ArrayList<Component>());
+				for(int i=0; i<N; i++) {
+					selections.get(i % 2).add(parts[i]);
+				}
+				rules.add(new AllForward(null));
+				rules.add(negate(new Template(null, selections), negated));
+				
+			} else {
+				
+				rules.add(new AllForward(null));
+				for(int i=0; i<N-2; i++) {
+					ConstraintOperand a = new ConstraintOperand(parts[i]);
+					ConstraintOperand b = new ConstraintOperand(parts[i+1]);
+					if("ALL_BEFORE".equals(rule)) {
+						rules.add(negate(new AllBefore(a, b), negated));
+					} else if("ALWAYS_NEXTTO".equals(rule)) {
+						rules.add(negate(new AlwaysNextTo(a, b), negated));
+					} else {
+						rules.add(negate(new Drives(a, b), negated));
+					}
+				}
+			}
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			
+			long T1 = System.nanoTime();
+			long solutions = solver.count(components, and);
+			long T2 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					rule + ", " + 
+					negated + ", " + 
+					solver.getStore().numberConstraints() + ", " + 
+					solver.getLastSearch().getNodes() + ", " + 
+					solutions + ", " + 
+					(T2 - T1) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	private static Constraint negate(Constraint constraint, boolean negated) {
+		if(negated) {
+			return new LogicalNot(constraint);
+		}
+		return constraint;
+	}
+	
+	public static void main(String[] args) {
+		NegationEvaluator ne = new NegationEvaluator();
+		ne.evaluate();
+	}
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The OrientationEvaluator compares the time to enumerate and to count 
+ * all solutions of orientation-independent rules with and without 
+ * factoring the orientations out of the search.
+ * 
+ * Every part appears exactly once and the first part 
+ * is placed before the second one.
+ * 
+ * @author Ernst Oberortner
+ */
+public class OrientationEvaluator {
+
+	private static final int[] LENGTHS = {5, 6, 7};
+	
+	public void evaluate() {
+		
+		System.out.println("N, factoring, solutions, all solutions [ms], count [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean factoring : new boolean[] {false, true}) {
+				this.evaluate(N, factoring);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean factoring) {
+		
+		SymbolTables symbols = new SymbolTables();
+		Component[] parts = new Component[N];
+		for(int i=0; i<N; i++) {
+			parts[i] = symbols.put("p" + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			for(int i=0; i<N; i++) {
+				rules.add(new Exactly(new ConstraintOperand(parts[i]), 1));
+			}
+			rules.add(new AllBefore(new ConstraintOperand(parts[0]), new ConstraintOperand(parts[1])));
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setOrientationFactoring(factoring);
+			
+			long T1 = System.nanoTime();
+			SolutionSet solutions = solver.solve(components, and, -1);
+			long T2 = System.nanoTime();
+
+			solver = new JaCoPSolver(symbols);
+			solver.setOrientationFactoring(factoring);
+			long T3 = System.nanoTime();
+			long count = solver.count(components, and);
+			long T4 = System.nanoTime();
+			
+			if(count != solutions.size()) {
+				throw new IllegalStateException(count + " != " + solutions.size());
+			}
+			
+			System.out.println(
+					N + ", " + 
+					factoring + ", " + 
+					solutions.size() + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		OrientationEvaluator oe = new OrientationEvaluator();
+		oe.evaluate();
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The PartClassesEvaluator compares the time to enumerate and to count 
+ * all solutions with and without searching the interchangeable parts 
+ * as classes.
+ * 
+ * The library consists of one promoter, K RBSs, one CDS, and one 
+ * terminator. The rules reference the RBSs only through their type, 
+ * i.e. a promoter is followed by two RBSs, the CDS, and the terminator.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PartClassesEvaluator {
+
+	private static final int N = 5;
+	private static final int[] RBS = {10, 20, 40};
+	
+	public void evaluate() {
+		
+		System.out.println("K, classes, solutions, rows, all solutions [ms], count [ms]");
+		
+		for(int K : RBS) {
+			for(boolean classes : new boolean[] {false, true}) {
+				this.evaluate(K, classes);
+			}
+		}
+	}
+	
+	private void evaluate(int K, boolean classes) {
+		
+		SymbolTables symbols = new SymbolTables();
+		ComponentType rbs = symbols.putType("RBS");
+		Component p = symbols.put("p", symbols.putType("Promoter"));
+		for(int i=0; i<K; i++) {
+			symbols.put("r" + i, rbs);
+		}
+		Component c = symbols.put("c", symbols.putType("CDS"));
+		Component t = symbols.put("t", symbols.putType("Terminator"));
+		Component[] components = symbols.getComponents();
+		
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			rules.add(new Exactly(new ConstraintOperand(p), 1));
+			rules.add(new Exactly(new ConstraintOperand(rbs), 2));
+			rules.add(new Exactly(new ConstraintOperand(c), 1));
+			rules.add(new Exactly(new ConstraintOperand(t), 1));
+			rules.add(new AllBefore(new ConstraintOperand(p), new ConstraintOperand(rbs)));
+			rules.add(new AllBefore(new ConstraintOperand(rbs), new ConstraintOperand(c)));
+			rules.add(new AllBefore(new ConstraintOperand(c), new ConstraintOperand(t)));
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setInterchangeableParts(classes);
+			
+			long T1 = System.nanoTime();
+			SolutionSet solutions = solver.solve(components, and, -1);
+			long T2 = System.nanoTime();
+
+			solver = new JaCoPSolver(symbols);
+			solver.setInterchangeableParts(classes);
+			long T3 = System.nanoTime();
+			long count = solver.count(components, and);
+			long T4 = System.nanoTime();
+			
+			if(count != solutions.size()) {
+				throw new IllegalStateException(count + " != " + solutions.size());
+			}
+			
+			System.out.println(
+					K + ", " + 
+					classes + ", " + 
+					solutions.size() + ", " + 
+					solutions.getRows() + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		PartClassesEvaluator pce = new PartClassesEvaluator();
+		pce.evaluate();
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.before.SomeBefore;
+import org.cidarlab.minieugene.predicates.position.nextto.AllNextTo;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The PositionEvaluator compares the number of constraints, the 
+ * model-building time, and the time to find the first solution of 
+ * the positioning rules (BEFORE, SOME_BEFORE, NEXTTO) with and without 
+ * the position layer for increasing design lengths.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PositionEvaluator {
+
+	private static final int[] LENGTHS = {10, 20, 30, 40};
+	private static final int NR_OF_PARTS = 20;
+	private static final int NR_OF_RULES = 10;
+	
+	public void evaluate() {
+		
+		System.out.println("N, model, imposed constraints, build [ms], first solution [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean positions : new boolean[] {false, true}) {
+				this.evaluate(N, positions);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean positions) {
+		
+		SymbolTables symbols = new SymbolTables();
+		for(int i=0; i<NR_OF_PARTS; i++) {
+			symbols.put("p" + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		/*
+		 * a chain of rules over disjoint parts:
+		 * p0 BEFORE p1, p2 SOME_BEFORE p3, p4 NEXTTO p5, ...
+		 */
+		List<Constraint> rules = new ArrayList<Constraint>();
+		for(int i=0; i<NR_OF_RULES; i++) {
+			ConstraintOperand a = new ConstraintOperand(components[(2 * i) % NR_OF_PARTS]);
+			ConstraintOperand b = new ConstraintOperand(components[(2 * i + 1) % NR_OF_PARTS]);
+			switch(i % 3) {
+			case 0:
+				rules.add(new AllBefore(a, b));
+				break;
+			case 1:
+				rules.add(new SomeBefore(a, b));
+				break;
+			default:
+				rules.add(new AllNextTo(a, b));
+			}
+		}
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			solver.setPositionModel(positions);
+			
+			long T1 = System.nanoTime();
+			solver.build(components, and);
+			long T2 = System.nanoTime();
+			int constraints = solver.getStore().numberConstraints();
+			solver = new JaCoPSolver(symbols);
+			solver.setPositionModel(positions);
+			long T3 = System.nanoTime();
+			solver.solve(components, and, 1);
+			long T4 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					(positions ? "positions" : "original") + ", " + 
+					constraints + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		PositionEvaluator pe = new PositionEvaluator();
+		pe.evaluate();
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+import org.cidarlab.minieugene.solver.Presolver;
+
+/**
+ * The PresolveEvaluator compares the time to reject an impossible 
+ * design by the presolver and by the JaCoP model.
+ * 
+ * Every one of the K parts occurs exactly twice, 
+ * but the design has 2K-1 positions only.
+ * 
+ * @author Ernst Oberortner
+ */
+public class PresolveEvaluator {
+
+	private static final int[] PARTS = {4, 8, 16};
+	
+	public void evaluate() {
+		
+		System.out.println("K, N, presolve [ms], JaCoP [ms]");
+		
+		for(int K : PARTS) {
+			this.evaluate(K);
+		}
+	}
+	
+	private void evaluate(int K) {
+		
+		try {
+			int N = 2 * K - 1;
+			PreparedScript prepared = new MiniEugene().prepare(script(K, N));
+			
+			long T1 = System.nanoTime();
+			Presolver presolver = new Presolver(prepared.getSymbols());
+			boolean feasible = presolver.presolve(prepared.getConstraints()) && 
+					presolver.isFeasible(N);
+			long T2 = System.nanoTime();
+			
+			long T3 = System.nanoTime();
+			long count = new JaCoPSolver(prepared.getSymbols()).count(
+					prepared.getSymbols().getComponents(), prepared.getConstraints());
+			long T4 = System.nanoTime();
+			
+			if(feasible || count != 0) {
+				throw new IllegalStateException("the design must be impossible");
+			}
+			
+			System.out.println(
+					K + ", " + 
+					N + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	private static String script(int K, int N) {
+		StringBuilder sb = new StringBuilder("N=" + N + ". ");
+		for(int i=0; i<K; i++) {
+			sb.append("p").append(i).append(" is_a Promoter. ");
+			sb.append("p").append(i).append(" EXACTLY 2. ");
+		}
+		return sb.toString();
+	}
+	
+	public static void main(String[] args) {
+		PresolveEvaluator pe = new PresolveEvaluator();
+		pe.evaluate();
+	}
+}
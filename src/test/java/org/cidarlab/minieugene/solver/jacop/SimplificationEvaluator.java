@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+
+/**
+ * The SimplificationEvaluator compares the number of imposed constraints 
+ * and the time to count all solutions with and without the rule 
+ * simplification.
+ * 
+ * The parts are ordered pairwise. Every ordering is stated twice, as an 
+ * ALL_BEFORE and as an ALL_AFTER rule, and every part is required by both 
+ * a CONTAINS and an EXACTLY rule, i.e. half of the rules are duplicates 
+ * or implied by stronger rules.
+ * 
+ * @author Ernst Oberortner
+ */
+public class SimplificationEvaluator {
+
+	private static final int[] LENGTHS = {6, 7, 8};
+	
+	public void evaluate() {
+		
+		System.out.println("N, simplification, rules, removed rules, imposed constraints, solutions, all solutions [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean simplify : new boolean[] {false, true}) {
+				this.evaluate(N, simplify);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean simplify) {
+		
+		try {
+			PreparedScript prepared = new MiniEugene().prepare(script(N));
+			
+			JaCoPSolver solver = new JaCoPSolver(prepared.getSymbols());
+			solver.setRuleSimplification(simplify);
+			
+			long T1 = System.nanoTime();
+			long solutions = solver.count(prepared.getSymbols().getComponents(), prepared.getConstraints());
+			long T2 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					simplify + ", " + 
+					prepared.getConstraints().getNumberOfRules() + ", " + 
+					solver.getRemovedRules() + ", " + 
+					solver.getStore().numberConstraints() + ", " + 
+					solutions + ", " + 
+					(T2 - T1) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	/*
+	 * script/1 returns N parts with redundant ordering and counting rules
+	 */
+	private static String script(int N) {
+		StringBuilder sb = new StringBuilder("N=" + N + ". ");
+		for(int i=0; i<N; i++) {
+			sb.append("p").append(i).append(" is_a Promoter. ");
+		}
+		for(int i=0; i<N; i++) {
+			sb.append("CONTAINS p").append(i).append(". ");
+			sb.append("p").append(i).append(" EXACTLY 1. ");
+			if(i + 1 < N) {
+				sb.append("p").append(i).append(" ALL_BEFORE p").append(i + 1).append(". ");
+				sb.append("p").append(i + 1).append(" ALL_AFTER p").append(i).append(". ");
+			}
+		}
+		return sb.toString();
+	}
+	
+	public static void main(String[] args) {
+		SimplificationEvaluator se = new SimplificationEvaluator();
+		se.evaluate();
+	}
+}
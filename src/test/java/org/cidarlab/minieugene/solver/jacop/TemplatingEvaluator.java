@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2014, Boston University
+ * All rights reserved.
+ * 
+ * Redistribution and use in source and binary forms, with or 
+ * without modification, are permitted provided that the following 
+ * conditions are met:
+ * 
+ * 1. Redistributions of source code must retain the above copyright 
+ *    notice, this list of conditions and the following disclaimer.
+ *    
+ * 2. Redistributions in binary form must reproduce the above copyright 
+ *    notice, this list of conditions and the following disclaimer in 
+ *    the documentation and/or other materials provided with the distribution.
+ *    
+ * 3. Neither the name of the copyright holder nor the names of its 
+ *    contributors may be used to endorse or promote products derived 
+ *    from this software without specific prior written permission.
+ *    
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS 
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT 
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR 
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT 
+ * HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, 
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED 
+ * TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR 
+ * PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY THEORY OF 
+ * LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING 
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, 
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.cidarlab.minieugene.solver.jacop;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.nextto.AllNextTo;
+import org.cidarlab.minieugene.predicates.templating.Pattern;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+
+/**
+ * The TemplatingEvaluator compares the number of imposed constraints, 
+ * the model-building time, and the time to find the first solution of 
+ * transcriptional units (promoter, rbs, cds, terminator) that are 
+ * specified either as a PATTERN or as the equivalent hand-written 
+ * pairwise rules (a NEXTTO b, a BEFORE b).
+ * 
+ * @author Ernst Oberortner
+ */
+public class TemplatingEvaluator {
+
+	private static final int[] LENGTHS = {16, 20, 24, 28};
+	private static final int NR_OF_UNITS = 3;
+	private static final int NR_OF_FILLERS = 4;
+	private static final String[] ELEMENTS = {"p", "r", "c", "t"};
+	
+	public void evaluate() {
+		
+		System.out.println("N, model, imposed constraints, build [ms], first solution [ms]");
+		
+		for(int N : LENGTHS) {
+			for(boolean pattern : new boolean[] {false, true}) {
+				this.evaluate(N, pattern);
+			}
+		}
+	}
+	
+	private void evaluate(int N, boolean pattern) {
+		
+		SymbolTables symbols = new SymbolTables();
+		Component[][] units = new Component[NR_OF_UNITS][ELEMENTS.length];
+		for(int i=0; i<NR_OF_UNITS; i++) {
+			for(int j=0; j<ELEMENTS.length; j++) {
+				units[i][j] = symbols.put(ELEMENTS[j] + i);
+			}
+		}
+		for(int i=0; i<NR_OF_FILLERS; i++) {
+			symbols.put("f" + i);
+		}
+		Component[] components = symbols.getComponents();
+		
+		/*
+		 * every unit's elements appear exactly once 
+		 * and in the order p, r, c, t next to each other
+		 */
+		List<Constraint> rules = new ArrayList<Constraint>();
+		try {
+			for(int i=0; i<NR_OF_UNITS; i++) {
+				for(int j=0; j<ELEMENTS.length; j++) {
+					rules.add(new Exactly(new ConstraintOperand(units[i][j]), 1));
+				}
+				
+				if(pattern) {
+					List<List<Component>> selections = new ArrayList<List<Component>>();
+					for(int j=0; j<ELEMENTS.length; j++) {
+						List<Component> selection = new ArrayList<Component>();
+						selection.add(units[i][j]);
+						selections.add(selection);
+					}
+					rules.add(new Pattern(null, selections));
+				} else {
+					for(int j=0; j<ELEMENTS.length - 1; j++) {
+						ConstraintOperand a = new ConstraintOperand(units[i][j]);
+						ConstraintOperand b = new ConstraintOperand(units[i][j+1]);
+						rules.add(new AllNextTo(a, b));
+						rules.add(new AllBefore(a, b));
+					}
+				}
+			}
+		} catch(Exception e) {
+			e.printStackTrace();
+			return;
+		}
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		try {
+			JaCoPSolver solver = new JaCoPSolver(symbols);
+			
+			long T1 = System.nanoTime();
+			solver.build(components, and);
+			long T2 = System.nanoTime();
+			int constraints = solver.getStore().numberConstraints();
+			solver = new JaCoPSolver(symbols);
+			long T3 = System.nanoTime();
+			solver.solve(components, and, 1);
+			long T4 = System.nanoTime();
+			
+			System.out.println(
+					N + ", " + 
+					(pattern ? "PATTERN" : "pairwise") + ", " + 
+					constraints + ", " + 
+					(T2 - T1) * Math.pow(10, -6) + ", " + 
+					(T4 - T3) * Math.pow(10, -6));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+		}
+	}
+	
+	public static void main(String[] args) {
+		TemplatingEvaluator te = new TemplatingEvaluator();
+		te.evaluate();
+	}
+}
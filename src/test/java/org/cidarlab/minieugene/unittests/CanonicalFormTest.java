@@ -0,0 +1,136 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+import org.cidarlab.minieugene.constants.MiniEugeneConstants;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class CanonicalFormTest {
+
+	private static final String FACTS =
+			"p is_a Promoter. q is_a Promoter. c is_a CDS. t is_a Terminator. ";
+
+	@Test
+	public void test_mirror_invariant() {
+
+		/*
+		 * the numbers of designs were
+		 * enumerated by brute force
+		 */
+		test(4, "CONTAINS q.", 2800, 1414);
+		test(5, "NOT t NEXTTO c.", 20288, 10144);
+		test(4, "ALTERNATE_ORIENTATION q. c NEXTTO q.", 2514, 1284);
+		test(4, "t THEN t. t SAME_ORIENTATION t.", 3506, 1771);
+	}
+
+	@Test
+	public void test_not_mirror_invariant() {
+
+		// the mirror of a solution is not always a solution
+		test(5, "STARTSWITH q.", 8192, 7168);
+		test(3, "ENDSWITH c.", 128, 112);
+		test(4, "t BEFORE p.", 3024, 1884);
+		test(4, "p REPRESSES c. c SAME_COUNT q. ENDSWITH q.", 240, 234);
+		test(5, "ALL_REVERSE t. NOT q SAME_ORIENTATION c. t DRIVES p.", 6640, 4480);
+		test(5, "ALL_FORWARD.", 1024, 1024);
+	}
+
+	@Test
+	public void test_solutions() {
+
+		try {
+
+			MiniEugene me = new MiniEugene();
+			me.setCanonicalForm(true);
+			me.solve("N=4. " + FACTS + "CONTAINS q.");
+			assertTrue(me.getSolutions().size() == 1414);
+			assertTrue(me.getStatistics().getValueByKey(
+					MiniEugeneConstants.PRUNED_SYMMETRIES) == 2800 - 1414);
+
+			// no solution is the mirror of another one
+			Set<String> designs = new HashSet<String>();
+			Set<String> mirrors = new HashSet<String>();
+			for(Component[] solution : me.getSolutions()) {
+				StringBuilder design = new StringBuilder();
+				StringBuilder mirror = new StringBuilder();
+				for(int i=0; i<solution.length; i++) {
+					Component c = solution[solution.length-1-i];
+					design.append(solution[i].isForward() ? "+" : "-").append(solution[i].getName());
+					mirror.append(c.isForward() ? "-" : "+").append(c.getName());
+				}
+				designs.add(design.toString());
+				if(!design.toString().equals(mirror.toString())) {
+					mirrors.add(mirror.toString());
+				}
+			}
+			assertTrue(designs.size() == 1414);
+			designs.retainAll(mirrors);
+			assertTrue(designs.isEmpty());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_iterate() {
+
+		try {
+
+			MiniEugene me = new MiniEugene();
+			me.setCanonicalForm(true);
+			Iterator<Component[]> it = me.iterate("N=4. " + FACTS + "t BEFORE p.");
+			int n = 0;
+			while(it.hasNext()) {
+				it.next();
+				n++;
+			}
+			assertTrue(n == 1884);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static void test(int N, String script, long all, long canonical) {
+
+		try {
+
+			PreparedScript prepared = new MiniEugene().prepare("N=" + N + ". " + FACTS + script);
+
+			assertTrue(script, new JaCoPSolver(prepared.getSymbols()).count(
+					prepared.getComponents(), prepared.getConstraints()) == all);
+
+			JaCoPSolver solver = new JaCoPSolver(prepared.getSymbols());
+			solver.setCanonicalForm(true);
+			assertTrue(script, solver.count(
+					prepared.getComponents(), prepared.getConstraints()) == canonical);
+			assertTrue(script, solver.getPrunedSymmetries() == all - canonical);
+
+			solver = new JaCoPSolver(prepared.getSymbols());
+			solver.setCanonicalForm(true);
+			SolutionSet solutions = solver.solve(
+					prepared.getComponents(), prepared.getConstraints(), -1);
+			assertTrue(script, solutions.size() == canonical);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
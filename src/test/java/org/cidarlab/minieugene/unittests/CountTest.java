@@ -0,0 +1,106 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+import org.cidarlab.minieugene.constants.MiniEugeneConstants;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class CountTest {
+
+	@Test
+	public void test_count() {
+		String script = "N=4.contains A.A before B.B nextto C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.solve(script);
+			int expected = me.getSolutions().size();
+			
+			long count = me.count(script);
+			assertTrue(count == expected);
+			assertTrue(null == me.getSolutions());
+			assertTrue(me.getStatistics().getValueByKey(
+					MiniEugeneConstants.NUMBER_OF_SOLUTIONS) == expected);
+			
+			// the orientations are factored out, i.e. the search visits every arrangement
+			assertTrue(me.getStatistics().getValueByKey(
+					MiniEugeneConstants.NUMBER_OF_NODES) >= expected / 16);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_count_orientations() {
+		
+		try {
+			
+			// one arrangement in 2^40 orientations
+			assertTrue(new MiniEugene().count("N=40.p is_a Promoter.") == 1L << 40);
+			
+			// 62 arrangements in 2^62 orientations each
+			assertTrue(new MiniEugene().count(
+					"N=62.p is_a Promoter.q is_a Promoter.q EXACTLY 1.") == Long.MAX_VALUE);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_count_inconsistent() {
+		String script = "N=2.contains A.NOT contains A.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			assertTrue(me.count(script) == 0);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_global_counting() {
+		String[] scripts = {
+			"N=4.p is_a Promoter.q is_a Promoter.c is_a CDS.p EXACTLY 2.q SAME_COUNT c.NOT c MORETHAN 1.",
+			"N=4.p is_a Promoter.q is_a Promoter.c is_a CDS.t is_a Terminator.Promoter MORETHAN 1.c WITH t.NOT contains p.",
+			"N=4.TEMPLATE [p], [c|t].p THEN c.t EXACTLY 1.contains c OR c SAME_COUNT p."
+		};
+		
+		try {
+			
+			// the GCC and the Count constraints yield the same solutions
+			for(String script : scripts) {
+				PreparedScript prepared = new MiniEugene().prepare(script);
+				
+				long[] counts = new long[2];
+				for(int i=0; i<2; i++) {
+					JaCoPSolver solver = new JaCoPSolver(prepared.getSymbols());
+					solver.setGlobalCounting(i == 0);
+					counts[i] = solver.count(prepared.getComponents(), prepared.getConstraints());
+				}
+				assertTrue(script, counts[0] > 0);
+				assertTrue(script, counts[0] == counts[1]);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
@@ -0,0 +1,126 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.constants.SolverMode;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.solver.ProductSolutionSet;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class DecomposedSolverTest {
+
+	private static final String FACTS = 
+			"p1 is_a Promoter. p2 is_a Promoter. r1 is_a RBS. r2 is_a RBS. " + 
+			"c1 is_a CDS. c2 is_a CDS. t1 is_a Terminator. t2 is_a Terminator. ";
+	
+	private static final String[] SCRIPTS = {
+		"N=3. " + FACTS + "TEMPLATE [p1|p2], [r1|r2], [c1|c2]. p1 WITH r1. ALL_FORWARD.",
+		"N=6. " + FACTS + "TEMPLATE [p1|p2|r1], [r2|c1], [c2|t1|t2]. NOT t1 MORETHAN 1. [3] NOTEQUALS p2. REVERSE [4].",
+		"N=4. " + FACTS + "TEMPLATE [p1|r1], [p2|r2]. p1 BEFORE r1. r2 SAME_ORIENTATION p2.",
+		"N=6. " + FACTS + "[0] EQUALS p1. [1] EQUALS r1. p1 EXACTLY 1. r1 EXACTLY 1. c1 NEXTTO t1.",
+		"N=6. " + FACTS + "SEQUENCE p1, r1, c1. SEQUENCE p2, r2, c2. STARTSWITH p1. p2 DRIVES c2.",
+		// a block of one position cannot hold a NEXTTO rule
+		"N=3. " + FACTS + "TEMPLATE [p1|p2], [r1|r2], [c1|c2]. p1 NEXTTO Promoter.",
+		// not separable
+		"N=4. " + FACTS + "contains p1. p1 before c1."
+	};
+	
+	@Test
+	public void test_decomposed_equals_sequential() {
+		
+		try {
+			
+			for(String script : SCRIPTS) {
+				MiniEugene me = new MiniEugene();
+				
+				List<String> sequential = solve(me, script);
+				long count = me.count(script);
+				assertTrue(script, count == sequential.size());
+				
+				me.setSolverMode(SolverMode.DECOMPOSED);
+				assertTrue(script, sequential.equals(solve(me, script)));
+				assertTrue(script, me.count(script) == count);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	@Test
+	public void test_blocks() {
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(SolverMode.DECOMPOSED);
+			
+			// every position is a block of its own, except p1 and r1
+			me.solve(SCRIPTS[0]);
+			assertTrue(me.getSolutionSet() instanceof ProductSolutionSet);
+			assertTrue(((ProductSolutionSet)me.getSolutionSet()).getFactors().size() == 2);
+			
+			// the sequences are fixed, i.e. they are blocks of their own
+			me.solve(SCRIPTS[4]);
+			assertTrue(me.getSolutionSet() instanceof ProductSolutionSet);
+			assertTrue(((ProductSolutionSet)me.getSolutionSet()).getFactors().size() == 2);
+			
+			me.solve(SCRIPTS[6]);
+			assertFalse(me.getSolutionSet() instanceof ProductSolutionSet);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_decomposed_limit() {
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			List<String> all = solve(me, SCRIPTS[1]);
+			
+			me.setSolverMode(SolverMode.DECOMPOSED);
+			me.solve(SCRIPTS[1], 10);
+			assertTrue(me.getSolutions().size() == 10);
+			for(Component[] solution : me.getSolutions()) {
+				assertTrue(all.contains(toString(solution)));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	private static List<String> solve(MiniEugene me, String script) 
+			throws Exception {
+		me.solve(script);
+		List<String> designs = new ArrayList<String>();
+		for(Component[] solution : me.getSolutions()) {
+			designs.add(toString(solution));
+		}
+		Collections.sort(designs);
+		return designs;
+	}
+	
+	private static String toString(Component[] solution) {
+		StringBuilder sb = new StringBuilder();
+		for(Component c : solution) {
+			sb.append(c.isForward() ? "+" : "-").append(c.getName());
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,197 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.constants.SolverMode;
+import org.cidarlab.minieugene.dom.Component;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class DisjunctiveSolverTest {
+
+	private static final String[] SCRIPTS = {
+		"N=3.contains p OR contains t.all_forward.",
+		"N=4.contains p.contains c.p before c OR c before p.p nextto c OR p drives c.",
+		"N=4.contains p OR contains c OR contains t.NOT p before c OR all_reverse.NOT t MORETHAN 1.",
+		"N=4.p1 before c1 OR NOT contains p1.contains c1 OR contains p2.contains t1 OR p2 nextto t1."
+	};
+	
+	@Test
+	public void test_disjunctive_equals_sequential() {
+		
+		try {
+			
+			for(String script : SCRIPTS) {
+				MiniEugene me = new MiniEugene();
+				
+				me.solve(script);
+				int sequential = me.getSolutions().size();
+				assertTrue(script, sequential > 0);
+				
+				me.setSolverMode(SolverMode.DISJUNCTIVE);
+				me.solve(script);
+				assertTrue(script, me.getSolutions().size() == sequential);
+				
+				// the branches are mutually exclusive
+				Set<String> designs = new HashSet<String>();
+				for(Component[] solution : me.getSolutions()) {
+					designs.add(Arrays.toString(solution));
+				}
+				assertTrue(script, designs.size() == sequential);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static final String FACTS = 
+			"p1 is_a Promoter. p2 is_a Promoter. r1 is_a RBS. t1 is_a Terminator. ";
+	
+	private static final String[] OPERATORS = {
+		"BEFORE", "AFTER", "SOME_BEFORE", "NEXTTO", "ALL_NEXTTO", "DRIVES", 
+		"SAME_COUNT", "ALL_SAME_ORIENTATION", "MORETHAN 1", "CONTAINS", "ALL_REVERSE"
+	};
+	
+	private static final String[] OPERANDS = {
+		"p1", "p2", "r1", "t1", "Promoter", "RBS", "Terminator"
+	};
+	
+	@Test
+	public void test_random() {
+		
+		/*
+		 * the excluded alternatives of a branch may refer to 
+		 * types and orientations that its rules do not refer to
+		 */
+		Random random = new Random(18);
+		for(int k=0; k<100; k++) {
+			
+			StringBuilder script = new StringBuilder("N=" + (2 + random.nextInt(2)) + ". " + FACTS);
+			for(int i=random.nextInt(2); i>=0; i--) {
+				script.append(rule(random));
+				for(int j=random.nextInt(3); j>=0; j--) {
+					script.append(" OR ").append(rule(random));
+				}
+				script.append(". ");
+			}
+			
+			assertTrue(script.toString(), 
+					solve(script.toString(), SolverMode.SEQUENTIAL).equals(
+							solve(script.toString(), SolverMode.DISJUNCTIVE)));
+		}
+	}
+	
+	@Test
+	public void test_excluded_negations() {
+		
+		/*
+		 * the excluded alternatives NOT [i] NOTEQUALS x 
+		 * are double negations
+		 */
+		String[] scripts = {
+			"N=4. " + FACTS + "Terminator INDUCES Promoter. NOT [1] NOTEQUALS p2 OR NOT ALL_REVERSE. ALTERNATE_ORIENTATION.",
+			"N=2. " + FACTS + "RBS SOME_AFTER RBS. FORWARD p2 OR NOT [0] NOTEQUALS r1 OR FORWARD Promoter.",
+			"N=3. " + FACTS + "NOT p1 ALL_NEXTTO r1 OR CONTAINS Terminator OR t1 SOME_AFTER p2. NOT [2] NOTEQUALS t1 OR RBS EXACTLY 1."
+		};
+		int[] expected = {512, 26, 256};
+		
+		try {
+			
+			for(int i=0; i<scripts.length; i++) {
+				MiniEugene me = new MiniEugene();
+				me.solve(scripts[i]);
+				int sequential = me.getSolutions().size();
+				assertTrue(scripts[i], sequential == expected[i]);
+				
+				me.setSolverMode(SolverMode.DISJUNCTIVE);
+				me.solve(scripts[i]);
+				assertTrue(scripts[i], me.getSolutions().size() == sequential);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	private static String rule(Random random) {
+		String op = OPERATORS[random.nextInt(OPERATORS.length)];
+		String a = OPERANDS[random.nextInt(OPERANDS.length)];
+		String b = OPERANDS[random.nextInt(OPERANDS.length)];
+		
+		String rule = a + " " + op + " " + b;
+		if("CONTAINS".equals(op) || "ALL_REVERSE".equals(op)) {
+			rule = op + " " + a;
+		} else if(op.startsWith("MORETHAN")) {
+			rule = a + " " + op;
+		}
+		return (random.nextInt(4) == 0 ? "NOT " : "") + rule;
+	}
+	
+	/*
+	 * solve/2 returns the number of solutions or 
+	 * the message of the exception
+	 */
+	private static String solve(String script, SolverMode mode) {
+		try {
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(mode);
+			me.solve(script);
+			return String.valueOf(me.getSolutions().size());
+		} catch(Exception e) {
+			return e.getMessage();
+		}
+	}
+
+	@Test
+	public void test_group_branch() {
+		
+		/*
+		 * all 6^4 designs except the 32 designs 
+		 * that contain neither t nor an adjacent p and r
+		 */
+		String script = "N=4.p is_a Promoter. r is_a RBS. t is_a Terminator. GROUP [p], [r] OR contains t.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(SolverMode.DISJUNCTIVE);
+			
+			me.solve(script);
+			assertTrue(me.getSolutions().size() == 1264);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_disjunctive_limit() {
+		String script = "N=4.contains A OR contains B.contains C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(SolverMode.DISJUNCTIVE);
+			
+			me.solve(script, 10);
+			assertTrue(me.getSolutions().size() == 10);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
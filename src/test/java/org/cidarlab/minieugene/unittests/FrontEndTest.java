@@ -0,0 +1,54 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class FrontEndTest {
+
+	@Test
+	public void test_forward_reference() {
+		
+		try {
+			
+			MiniEugene me1 = new MiniEugene();
+			me1.solve("N=3. p before c. p is_a Promoter. c is_a CDS. t is_a Terminator.");
+
+			MiniEugene me2 = new MiniEugene();
+			me2.solve("N=3. p is_a Promoter. c is_a CDS. t is_a Terminator. p before c.");
+			
+			assertTrue(me1.getSolutions().size() > 0);
+			assertTrue(me1.getSolutions().size() == me2.getSolutions().size());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_ast() {
+		
+		try {
+			
+			LogicalAnd la = new MiniEugene().parse(
+					"minN=2. N=3. contains p OR contains t. p is_a Promoter. SEQUENCE p, c. c is_a CDS.");
+			
+			assertTrue(la.getMinN() == 2);
+			assertTrue(la.getMaxN() == 3);
+			assertTrue(la.getConstraints().size() == 2);
+			assertTrue(la.getConstraints().get(0) instanceof LogicalOr);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
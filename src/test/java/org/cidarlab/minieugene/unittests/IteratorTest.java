@@ -0,0 +1,117 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.solver.jacop.SolutionIterator;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class IteratorTest {
+
+	@Test
+	public void test_iterate_all() {
+		String script = "N=3.A nextto B.all_forward.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.solve(script);
+			int expected = me.getSolutions().size();
+			
+			Iterator<Component[]> it = me.iterate(script);
+			int nr = 0;
+			while(it.hasNext()) {
+				Component[] solution = it.next();
+				assertTrue(solution.length == 3);
+				nr ++;
+			}
+			assertTrue(nr == expected);
+			assertFalse(it.hasNext());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_iterate_limit_and_close() {
+		String script = "N=4.contains A.contains B.contains C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			Iterator<Component[]> it = me.iterate(script, 5);
+			int nr = 0;
+			while(it.hasNext()) {
+				it.next();
+				nr ++;
+			}
+			assertTrue(nr == 5);
+			
+			try(SolutionIterator si = me.iterate(script)) {
+				assertTrue(si.hasNext());
+				si.next();
+				it = si;
+			}
+			assertFalse(it.hasNext());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_iterate_abandoned() {
+		String script = "N=4.contains A.contains B.contains C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			Set<Thread> before = getSearchThreads();
+			
+			// the iterator is dropped without closing it
+			Iterator<Component[]> it = me.iterate(script);
+			assertTrue(it.hasNext());
+			it.next();
+			Set<Thread> search = getSearchThreads();
+			search.removeAll(before);
+			assertTrue(search.size() == 1);
+			it = null;
+			
+			Thread thread = search.iterator().next();
+			for(int i=0; i<100 && thread.isAlive(); i++) {
+				System.gc();
+				thread.join(100);
+			}
+			assertFalse(thread.isAlive());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	private static Set<Thread> getSearchThreads() {
+		Set<Thread> threads = new HashSet<Thread>();
+		for(Thread t : Thread.getAllStackTraces().keySet()) {
+			if("miniEugene-search".equals(t.getName())) {
+				threads.add(t);
+			}
+		}
+		return threads;
+	}
+
+}
@@ -0,0 +1,172 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.predicates.orientation.AllForward;
+import org.cidarlab.minieugene.predicates.orientation.AllReverse;
+import org.cidarlab.minieugene.predicates.orientation.AllSameOrientation;
+import org.cidarlab.minieugene.predicates.orientation.AlternateOrientation;
+import org.cidarlab.minieugene.predicates.pairing.AlwaysNextTo;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.before.SomeBefore;
+import org.cidarlab.minieugene.predicates.templating.Template;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class NegationTest {
+
+	private static final int N = 4;
+
+	// 4 parts in 2 orientations at 4 positions
+	private static final long ALL = 4096;
+
+	@Test
+	public void test_negations() {
+
+		try {
+
+			SymbolTables symbols = new SymbolTables();
+			ComponentType promoter = symbols.putType("Promoter");
+			ComponentType cds = symbols.putType("CDS");
+			ComponentType terminator = symbols.putType("Terminator");
+			Component p1 = symbols.put("p1", promoter);
+			Component p2 = symbols.put("p2", promoter);
+			Component c1 = symbols.put("c1", cds);
+			Component t1 = symbols.put("t1", terminator);
+
+			ConstraintOperand p = new ConstraintOperand(p1);
+			ConstraintOperand c = new ConstraintOperand(c1);
+			ConstraintOperand P = new ConstraintOperand(promoter);
+
+			List<List<Component>> selections = new ArrayList<List<Component>>();
+			selections.add(new ArrayList<Component>());
+			selections.get(0).add(p1);
+			selections.get(0).add(p2);
+			selections.add(new ArrayList<Component>());
+			selections.get(1).add(c1);
+			selections.get(1).add(t1);
+
+			Constraint[] rules = new Constraint[] {
+				new AllBefore(p, c),
+				new AllBefore(P, c),
+				new AllBefore(p, p),
+				new AlwaysNextTo(p, c),
+				new AlwaysNextTo(P, c),
+				new Drives(p, c),
+				new Drives(P, c),
+				new AllForward(p),
+				new AllReverse(null),
+				new AllSameOrientation(p, c),
+				new AlternateOrientation(null),
+				new AlternateOrientation(p),
+				new AlternateOrientation(P),
+				new Template(null, selections),
+				new LogicalOr(Arrays.<Constraint>asList(new AllForward(p), new AlwaysNextTo(p, c)))
+			};
+
+			// a rule and its negation partition the designs
+			for(Constraint rule : rules) {
+				for(boolean positions : new boolean[] {false, true}) {
+					assertTrue(rule.toString(),
+							count(symbols, rule, positions) +
+							count(symbols, new LogicalNot(rule), positions) == ALL);
+				}
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_overlapping() {
+
+		try {
+
+			SymbolTables symbols = new SymbolTables();
+			ComponentType promoter = symbols.putType("Promoter");
+			Component p1 = symbols.put("p1", promoter);
+			symbols.put("p2", promoter);
+			symbols.put("c1", symbols.putType("CDS"));
+			symbols.put("t1", symbols.putType("Terminator"));
+
+			// p1 and the Promoter type can be placed at the same position
+			ConstraintOperand p = new ConstraintOperand(p1);
+			ConstraintOperand P = new ConstraintOperand(promoter);
+
+			Constraint[] rules = new Constraint[] {
+				new AllBefore(p, P),
+				new AllBefore(P, p),
+				new SomeBefore(P, p),
+				new AlwaysNextTo(p, P),
+				new Drives(p, P),
+				new Drives(P, p)
+			};
+
+			for(Constraint rule : rules) {
+				for(boolean positions : new boolean[] {false, true}) {
+					assertTrue(rule.toString(),
+							count(symbols, rule, positions) +
+							count(symbols, new LogicalNot(rule), positions) == ALL);
+				}
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_alternate() {
+
+		try {
+
+			SymbolTables symbols = new SymbolTables();
+			Component p1 = symbols.put("p1", symbols.putType("Promoter"));
+			symbols.put("p2");
+			symbols.put("c1");
+			symbols.put("t1");
+
+			/*
+			 * the number of designs with alternating p1's
+			 * was enumerated by brute force
+			 */
+			assertTrue(count(symbols, new AlternateOrientation(new ConstraintOperand(p1)), true) == 3506);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static long count(SymbolTables symbols, Constraint rule, boolean positions)
+			throws Exception {
+		List<Constraint> rules = new ArrayList<Constraint>();
+		rules.add(rule);
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+
+		JaCoPSolver solver = new JaCoPSolver(symbols);
+		solver.setPositionModel(positions);
+		return solver.count(symbols.getComponents(), and);
+	}
+}
@@ -72,6 +72,39 @@ public class NextToTest {
 		}
 	}
 
+	@Test
+	public void test_always_nextto_last() {
+		String script = "N=2.p ALWAYS_NEXTTO c.all_forward.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.solve(script);
+			
+			List<Component[]> solutions = me.getSolutions();
+			assertTrue(null != solutions);
+			
+			/*
+			 * SOLUTIONS:
+			 * p c
+			 * c p  // p is placed last
+			 * c c
+			 */
+			assertTrue(solutions.size() == 3);
+			
+			boolean last = false;
+			for(Component[] solution : solutions) {
+				last |= "p".equals(solution[1].getName());
+			}
+			assertTrue(last);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
 	@Test
 	public void test_NOT_AnexttoB_N2() {
 		String script = "N=2.NOT A nextto B.all_forward.";
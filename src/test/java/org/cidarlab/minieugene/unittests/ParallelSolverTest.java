@@ -0,0 +1,91 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.constants.MiniEugeneConstants;
+import org.cidarlab.minieugene.constants.SolverMode;
+import org.cidarlab.minieugene.solver.jacop.SearchStrategy;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class ParallelSolverTest {
+
+	private static final String[] SCRIPTS = {
+		"N=3.A nextto B.all_forward.",
+		"N=4.contains p.contains r.contains c.contains t.p before r.r before c.c before t.",
+		"N=5.TEMPLATE [p1], [A | B | C], [p2], [A | B | C], [p4].all_forward.NOT A MORETHAN 1.",
+		"N=4.contains p1.contains p2.p1 drives c1.NOT p2 drives c1."
+	};
+	
+	@Test
+	public void test_parallel_equals_sequential() {
+		
+		try {
+			
+			for(String script : SCRIPTS) {
+				MiniEugene me = new MiniEugene();
+				
+				me.solve(script);
+				int sequential = me.getSolutions().size();
+				
+				me.setSolverMode(SolverMode.PARALLEL);
+				me.solve(script);
+				assertTrue(me.getSolutions().size() == sequential);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_parallel_limit() {
+		String script = "N=4.contains A.contains B.contains C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.setSolverMode(SolverMode.PARALLEL);
+			
+			me.solve(script, 10);
+			assertTrue(me.getSolutions().size() == 10);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_portfolio() {
+		String script = "N=5.contains A.contains B.contains C.A before B.B before C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.solve(script);
+			int all = me.getSolutions().size();
+			
+			me.setSolverMode(SolverMode.PORTFOLIO);
+			me.solve(script, 10);
+			assertTrue(me.getSolutions().size() == Math.min(10, all));
+			
+			double winner = me.getStatistics().getValueByKey(MiniEugeneConstants.WINNING_SEARCH_STRATEGY);
+			assertTrue(winner >= 0 && winner < SearchStrategy.values().length);
+
+			me.solve(script);
+			assertTrue(me.getSolutions().size() == all);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+}
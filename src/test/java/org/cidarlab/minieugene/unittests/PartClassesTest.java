@@ -0,0 +1,173 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.cidarlab.minieugene.symbol.PartClasses;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class PartClassesTest {
+
+	private static final String FACTS =
+			"p is_a Promoter. r1 is_a RBS. r2 is_a RBS. r3 is_a RBS. r4 is_a RBS. " +
+			"c is_a CDS. t1 is_a Terminator. t2 is_a Terminator. ";
+
+	@Test
+	public void test_classes() {
+
+		try {
+
+			PartClasses classes = classes("N=4. " + FACTS + "p BEFORE RBS. CONTAINS c.");
+			assertTrue(classes.size() == 4);
+			assertTrue(classes.getSize(classes.getClassId(id("r3", "N=4. " + FACTS))) == 4);
+
+			// the parts named by a rule are classes of their own
+			String script = "N=4. " + FACTS + "r1 BEFORE RBS. PATTERN [t1], [c].";
+			classes = classes(script);
+			assertTrue(classes.size() == 6);
+			int rbs = classes.getClassId(id("r2", script));
+			assertTrue(classes.getSize(rbs) == 3);
+			assertTrue("RBS#1".equals(classes.getName(rbs)));
+			assertTrue(classes.getSize(classes.getClassId(id("r1", script))) == 1);
+			assertTrue(classes.getSize(classes.getClassId(id("t2", script))) == 1);
+
+			// [i] EQUALS [j] compares the parts at different positions
+			assertTrue(classes("N=4. " + FACTS + "[1] EQUALS [2].").isTrivial());
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_solutions() {
+
+		String[] scripts = {
+				"N=4. " + FACTS + "p BEFORE RBS. RBS BEFORE c. CONTAINS c.",
+				"N=4. " + FACTS + "RBS EXACTLY 2. NOT RBS NEXTTO RBS. ALL_FORWARD.",
+				"N=3. " + FACTS + "r1 NEXTTO Terminator. CONTAINS r1 OR CONTAINS t2.",
+				"N=4. " + FACTS + "p DRIVES c. RBS SAME_COUNT Terminator."
+		};
+
+		try {
+
+			for(String script : scripts) {
+				PreparedScript prepared = new MiniEugene().prepare(script);
+
+				JaCoPSolver solver = new JaCoPSolver(prepared.getSymbols());
+				solver.setInterchangeableParts(false);
+				List<String> expected = toStrings(solver.solve(
+						prepared.getComponents(), prepared.getConstraints(), -1));
+
+				solver = new JaCoPSolver(prepared.getSymbols());
+				SolutionSet solutions = solver.solve(
+						prepared.getComponents(), prepared.getConstraints(), -1);
+				List<String> actual = toStrings(solutions);
+
+				// the rows are class-level solutions
+				assertTrue(script, null != solutions.getPartClasses());
+				assertTrue(script, solutions.getRows() < solutions.size());
+
+				assertTrue(script, expected.size() > 0);
+				assertTrue(script, expected.equals(actual));
+
+				assertTrue(script, new JaCoPSolver(prepared.getSymbols()).count(
+						prepared.getComponents(), prepared.getConstraints()) == expected.size());
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_truncate() {
+
+		try {
+
+			PreparedScript prepared = new MiniEugene().prepare(
+					"N=4. " + FACTS + "p BEFORE RBS. RBS BEFORE c.");
+			SolutionSet solutions = new JaCoPSolver(prepared.getSymbols()).solve(
+					prepared.getComponents(), prepared.getConstraints(), -1);
+			assertTrue(null != solutions.getPartClasses());
+			Component[] first = solutions.get(0);
+			Component[] last = solutions.get(99);
+
+			solutions.truncate(100);
+			assertTrue(solutions.size() == 100);
+			assertTrue(null == solutions.getPartClasses());
+			for(int j=0; j<first.length; j++) {
+				assertTrue(first[j] == solutions.get(0, j));
+				assertTrue(last[j] == solutions.get(99, j));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_count_saturated() {
+
+		StringBuilder script = new StringBuilder("N=14. ALL_FORWARD. ");
+		for(int i=1; i<=40; i++) {
+			script.append("r").append(i).append(" is_a RBS. ");
+		}
+
+		try {
+
+			// 40^14 choices of the RBS members
+			assertTrue(new MiniEugene().count(script.toString()) == Long.MAX_VALUE);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static PartClasses classes(String script)
+			throws Exception {
+		PreparedScript prepared = new MiniEugene().prepare(script);
+		return prepared.getSymbols().getPartClasses(prepared.getComponents(),
+				Collections.<Constraint>singletonList(prepared.getConstraints()));
+	}
+
+	private static int id(String name, String script)
+			throws Exception {
+		for(Component component : new MiniEugene().prepare(script).getComponents()) {
+			if(name.equals(component.getName())) {
+				return component.getId();
+			}
+		}
+		return -1;
+	}
+
+	private static List<String> toStrings(SolutionSet solutions) {
+		List<String> lst = new ArrayList<String>();
+		for(Component[] solution : solutions) {
+			StringBuilder sb = new StringBuilder();
+			for(Component c : solution) {
+				sb.append(c.isForward() ? "+" : "-").append(c.getName()).append(" ");
+			}
+			lst.add(sb.toString());
+		}
+		Collections.sort(lst);
+		return lst;
+	}
+}
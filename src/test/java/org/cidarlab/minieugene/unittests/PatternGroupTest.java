@@ -0,0 +1,116 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class PatternGroupTest {
+
+	private static final String FACTS =
+			"N=5. p is_a Promoter. q is_a Promoter. r is_a RBS. c is_a CDS. t is_a Terminator. ";
+
+	// 5 parts in 2 orientations at 5 positions
+	private static final long ALL = 100000;
+
+	@Test
+	public void test_pattern() {
+
+		/*
+		 * the numbers of designs were
+		 * enumerated by brute force
+		 */
+		test("PATTERN [p], [r]", 8576);
+		test("PATTERN [p|q], [r], [c]", 1728);
+		test("PATTERN [r]", 67232);
+	}
+
+	@Test
+	public void test_group() {
+		test("GROUP [p], [r]", 26112);
+		test("GROUP [p|r], [p|c]", 65248);
+		test("GROUP [p], [q], [r]", 12288);
+	}
+
+	@Test
+	public void test_solutions() {
+
+		try {
+
+			MiniEugene me = new MiniEugene();
+			me.solve(FACTS + "PATTERN [p], [r], [c].", 50);
+			for(Component[] solution : me.getSolutions()) {
+				for(int i=0; i<solution.length; i++) {
+					if("p".equals(solution[i].getName())) {
+						assertTrue(i + 2 < solution.length);
+						assertTrue("r".equals(solution[i+1].getName()));
+						assertTrue("c".equals(solution[i+2].getName()));
+					}
+				}
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_pairwise() {
+
+		/*
+		 * with exactly one p, r, and c, the PATTERN
+		 * is equivalent to the pairwise rules
+		 */
+		String facts = "N=4. p is_a Promoter. r is_a RBS. c is_a CDS. t is_a Terminator. " +
+				"p EXACTLY 1. r EXACTLY 1. c EXACTLY 1. ";
+
+		try {
+
+			long pattern = new MiniEugene().count(facts +
+					"PATTERN [p], [r], [c].");
+			long pairwise = new MiniEugene().count(facts +
+					"p NEXTTO r. p BEFORE r. r NEXTTO c. r BEFORE c.");
+			assertTrue(pattern > 0);
+			assertTrue(pattern == pairwise);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_invalid_size() {
+
+		try {
+
+			new MiniEugene().solve("N=2. PATTERN [p], [r], [c].");
+			assertTrue(false);	// exception expected
+
+		} catch(Exception e) {
+			assertTrue(null != e.getMessage());
+		}
+	}
+
+	private static void test(String rule, long expected) {
+
+		try {
+
+			assertTrue(rule, new MiniEugene().count(FACTS + rule + ".") == expected);
+
+			// the negation must yield the remaining designs
+			assertTrue("NOT " + rule,
+					new MiniEugene().count(FACTS + "NOT " + rule + ".") == ALL - expected);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
@@ -0,0 +1,159 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.interaction.Drives;
+import org.cidarlab.minieugene.predicates.position.after.SomeAfter;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.before.SomeBefore;
+import org.cidarlab.minieugene.predicates.position.nextto.AllNextTo;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class PositionModelTest {
+
+	private static final int N = 4;
+	
+	@Test
+	public void test_positions() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			ComponentType promoter = symbols.putType("Promoter");
+			ComponentType cds = symbols.putType("CDS");
+			Component p1 = symbols.put("p1", promoter);
+			symbols.put("p2", promoter);
+			Component c1 = symbols.put("c1", cds);
+			symbols.put("c2", cds);
+			
+			ConstraintOperand a = new ConstraintOperand(p1);
+			ConstraintOperand b = new ConstraintOperand(c1);
+			ConstraintOperand t = new ConstraintOperand(cds);
+			
+			Constraint[] rules = new Constraint[] {
+				new AllBefore(a, b), 
+				new LogicalNot(new AllBefore(a, b)), 
+				new AllBefore(a, t), 
+				new SomeBefore(a, b), 
+				new LogicalNot(new SomeBefore(a, b)), 
+				new SomeAfter(a, t), 
+				new AllNextTo(a, b), 
+				new AllNextTo(a, t)
+			};
+			
+			for(Constraint rule : rules) {
+				assertTrue(rule.toString(), 
+						count(symbols, rule, true) == count(symbols, rule, false));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	@Test
+	public void test_drives() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			ComponentType promoter = symbols.putType("Promoter");
+			ComponentType cds = symbols.putType("CDS");
+			ComponentType terminator = symbols.putType("Terminator");
+			Component p1 = symbols.put("p1", promoter);
+			Component c1 = symbols.put("c1", cds);
+			symbols.put("c2", cds);
+			symbols.put("t1", terminator);
+			
+			ConstraintOperand p = new ConstraintOperand(p1);
+			ConstraintOperand c = new ConstraintOperand(c1);
+			
+			Constraint[] rules = new Constraint[] {
+				new Drives(p, c), 
+				new LogicalNot(new Drives(p, c)), 
+				new Drives(new ConstraintOperand(promoter), c), 
+				new Drives(p, new ConstraintOperand(cds))
+			};
+			
+			for(Constraint rule : rules) {
+				assertTrue(rule.toString(), 
+						count(symbols, rule, true) == count(symbols, rule, false));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	@Test
+	public void test_overlapping() {
+
+		try {
+
+			SymbolTables symbols = new SymbolTables();
+			ComponentType promoter = symbols.putType("Promoter");
+			ComponentType rbs = symbols.putType("RBS");
+			ComponentType terminator = symbols.putType("Terminator");
+			Component p1 = symbols.put("p1", promoter);
+			symbols.put("p2", promoter);
+			Component r1 = symbols.put("r1", rbs);
+			symbols.put("t1", terminator);
+
+			// a part and its own type can be placed at the same position
+			ConstraintOperand p = new ConstraintOperand(p1);
+			ConstraintOperand P = new ConstraintOperand(promoter);
+			ConstraintOperand r = new ConstraintOperand(r1);
+			ConstraintOperand R = new ConstraintOperand(rbs);
+
+			Constraint[] rules = new Constraint[] {
+				new AllBefore(R, r),
+				new AllBefore(p, P),
+				new SomeBefore(R, r),
+				new SomeBefore(p, P),
+				new SomeAfter(p, P),
+				new AllNextTo(p, P),
+				new AllNextTo(R, r),
+				new Drives(p, P),
+				new Drives(P, p)
+			};
+
+			for(Constraint rule : rules) {
+				assertTrue(rule.toString(),
+						count(symbols, rule, true) == count(symbols, rule, false));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static long count(SymbolTables symbols, Constraint rule, boolean positions) 
+			throws Exception {
+		List<Constraint> rules = new ArrayList<Constraint>();
+		rules.add(rule);
+		LogicalAnd and = new LogicalAnd(rules);
+		and.setMaxN(N);
+		
+		JaCoPSolver solver = new JaCoPSolver(symbols);
+		solver.setPositionModel(positions);
+		return solver.count(symbols.getComponents(), and);
+	}
+}
@@ -0,0 +1,115 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.PreparedScript;
+import org.cidarlab.minieugene.constants.SolverMode;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class PreparedScriptTest {
+
+	@Test
+	public void test_prepare_cached() {
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			PreparedScript ps1 = me.prepare("N=3.contains A.A before B.");
+			PreparedScript ps2 = new MiniEugene().prepare(
+					"// the same rules\n N = 3 .\n contains  A .\n A before B .");
+			assertTrue(ps1 == ps2);
+			
+			PreparedScript ps3 = me.prepare("N=3.contains A.B before A.");
+			assertTrue(ps1 != ps3);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_solve_prepared() {
+		String script = "N=4.contains A.A nextto B.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.solve(script);
+			int all = me.getSolutions().size();
+			
+			PreparedScript ps = me.prepare(script);
+			me.solve(ps, 5);
+			assertTrue(me.getSolutions().size() == 5);
+			
+			me.solve(ps, -1);
+			assertTrue(me.getSolutions().size() == all);
+			
+			me.solve(script);
+			assertTrue(me.getSolutions().size() == all);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_interactions() {
+		String script = "N=2.contains c.contains p.c induces p.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			PreparedScript ps = me.prepare(script);
+			
+			// the interactions are recorded at preparation
+			assertTrue(ps.getSymbols().getInteractions().size() == 1);
+			
+			// solving the shared script does not modify its symbol tables
+			for(SolverMode mode : SolverMode.values()) {
+				me.setSolverMode(mode);
+				me.solve(ps, -1);
+				assertTrue(me.getInteractions().size() == 1);
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_interactions_unprepared() {
+		String[] rules = new String[] {"contains p1", "contains p2", "p1 REPRESSES p2"};
+		
+		try {
+			
+			// solve/2 and solve/3 parse the rules without preparing them
+			MiniEugene me = new MiniEugene();
+			me.solve(rules, 2);
+			assertTrue(me.getInteractions().size() == 1);
+			
+			me.solve(rules, 2, 1);
+			assertTrue(me.getInteractions().size() == 1);
+			
+			// so does executeScript/3
+			me = new MiniEugene() {
+				{
+					this.executeScript("N=2.contains p1.contains p2.p1 REPRESSES p2.", -1, -1);
+				}
+			};
+			assertTrue(me.getInteractions().size() == 1);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class PresolverTest {
+
+	private static final String FACTS =
+			"p is_a Promoter. q is_a Promoter. c is_a CDS. t is_a Terminator. ";
+
+	@Test
+	public void test_infeasible() {
+		
+		String[] scripts = {
+			// the counts exceed N
+			"N=3. " + FACTS + "p EXACTLY 2. c EXACTLY 1. CONTAINS t.",
+			// the counts exceed N per type
+			"N=3. " + FACTS + "Promoter MORETHAN 1. c EXACTLY 2.",
+			// the counts contradict each other
+			"N=5. " + FACTS + "p MORETHAN 2. p EXACTLY 2.",
+			"N=5. " + FACTS + "CONTAINS c. NOT CONTAINS c.",
+			"N=5. " + FACTS + "Promoter EXACTLY 1. p EXACTLY 1. q EXACTLY 1.",
+			// the fixed positions contradict each other
+			"N=4. " + FACTS + "STARTSWITH p. STARTSWITH c.",
+			"N=4. " + FACTS + "[3] EQUALS c. ENDSWITH t.",
+			"N=4. " + FACTS + "STARTSWITH p. ENDSWITH p. p EXACTLY 1.",
+			// the template does not fit
+			"N=5. " + FACTS + "TEMPLATE [p], [c].",
+			"N=4. " + FACTS + "TEMPLATE [p], [c]. CONTAINS t.",
+			// the composition is cyclic
+			"N=4. " + FACTS + "p CONTAINS c. c CONTAINS p."
+		};
+		
+		for(String script : scripts) {
+			try {
+				
+				new MiniEugene().solve(script);
+				assertTrue(script, false);	// exception expected
+
+			} catch(Exception e) {
+				assertTrue(script, e.getMessage().startsWith("Inconsistent rules!"));
+			}
+
+			try {
+				assertTrue(script, new MiniEugene().count(script) == 0);
+			} catch(Exception e) {
+				e.printStackTrace();
+				assertTrue(false);	// no exception allowed
+			}
+		}
+	}
+	
+	@Test
+	public void test_feasible() {
+		
+		try {
+			
+			// the presolver must not reject satisfiable designs
+			assertTrue(new MiniEugene().count("N=4. " + FACTS + 
+					"p EXACTLY 2. c EXACTLY 1. CONTAINS t.") > 0);
+			assertTrue(new MiniEugene().count("N=4. " + FACTS + 
+					"STARTSWITH Promoter. STARTSWITH q. ENDSWITH t.") > 0);
+			assertTrue(new MiniEugene().count("N=4. " + FACTS + 
+					"TEMPLATE [p], [c]. CONTAINS p.") > 0);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	@Test
+	public void test_proposeN() {
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			assertArrayEquals(new int[] {2, 2}, 
+					me.proposeN(FACTS + "p EXACTLY 1. c EXACTLY 1. NOT CONTAINS q. NOT CONTAINS t."));
+			assertArrayEquals(new int[] {5, 5}, 
+					me.proposeN(FACTS + "Promoter EXACTLY 2. c EXACTLY 3. NOT CONTAINS t."));
+			assertArrayEquals(new int[] {4, -1}, 
+					me.proposeN(FACTS + "TEMPLATE [p|q], [c|t]. p MORETHAN 1."));
+			
+			// the length of the script is ignored
+			assertArrayEquals(new int[] {2, 2}, 
+					me.proposeN("N=7. " + FACTS + "p EXACTLY 1. c EXACTLY 1. NOT CONTAINS q. NOT CONTAINS t."));
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+		
+		try {
+			
+			// a script without a length gets the proposal
+			new MiniEugene().solve(FACTS + "p EXACTLY 1. c EXACTLY 1. NOT CONTAINS q. NOT CONTAINS t.");
+			assertTrue(false);	// exception expected
+
+		} catch(Exception e) {
+			assertTrue(e.getMessage().contains("N=2"));
+		}
+	}
+}
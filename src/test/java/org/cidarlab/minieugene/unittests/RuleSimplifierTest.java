@@ -0,0 +1,187 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.MiniEugeneStatistics;
+import org.cidarlab.minieugene.constants.MiniEugeneConstants;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.dom.ComponentType;
+import org.cidarlab.minieugene.predicates.Constraint;
+import org.cidarlab.minieugene.predicates.ConstraintOperand;
+import org.cidarlab.minieugene.predicates.LogicalAnd;
+import org.cidarlab.minieugene.predicates.LogicalNot;
+import org.cidarlab.minieugene.predicates.LogicalOr;
+import org.cidarlab.minieugene.predicates.RuleSimplifier;
+import org.cidarlab.minieugene.predicates.counting.Contains;
+import org.cidarlab.minieugene.predicates.counting.Exactly;
+import org.cidarlab.minieugene.predicates.counting.MoreThan;
+import org.cidarlab.minieugene.predicates.position.after.SomeAfter;
+import org.cidarlab.minieugene.predicates.position.before.AllBefore;
+import org.cidarlab.minieugene.predicates.position.before.SomeBefore;
+import org.cidarlab.minieugene.predicates.templating.Template;
+import org.cidarlab.minieugene.solver.jacop.JaCoPSolver;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.junit.Test;
+
+/**
+ *
+ * @author Ernst Oberortner
+ */
+public class RuleSimplifierTest {
+
+	private static final int N = 4;
+
+	@Test
+	public void test_equality() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			ConstraintOperand p = new ConstraintOperand(symbols.put("p", symbols.putType("Promoter")));
+			ConstraintOperand c = new ConstraintOperand(symbols.put("c", symbols.putType("CDS")));
+			
+			assertTrue(new AllBefore(p, c).equals(new AllBefore(p, c)));
+			assertTrue(new AllBefore(p, c).hashCode() == new AllBefore(p, c).hashCode());
+			assertFalse(new AllBefore(p, c).equals(new AllBefore(c, p)));
+			assertFalse(new AllBefore(p, c).equals(new SomeBefore(p, c)));
+			assertFalse(new Exactly(p, 1).equals(new Exactly(p, 2)));
+			assertTrue(new LogicalNot(new Contains(p)).equals(new LogicalNot(new Contains(p))));
+			
+			// the name of a template is not part of its structure
+			List<List<Component>> selections = new ArrayList<List<Component>>();
+			selections.add(Arrays.asList((Component)p.getOperand(), (Component)c.getOperand()));
+			assertTrue(new Template("t1", selections).equals(new Template("t2", selections)));
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+	
+	@Test
+	public void test_simplify() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			ConstraintOperand p = new ConstraintOperand(symbols.put("p", symbols.putType("Promoter")));
+			ConstraintOperand c = new ConstraintOperand(symbols.put("c", symbols.putType("CDS")));
+			symbols.put("t", symbols.putType("Terminator"));
+			
+			List<Constraint> rules = new ArrayList<Constraint>();
+			rules.add(new Contains(p));
+			rules.add(new Exactly(p, 2));
+			rules.add(new MoreThan(p, 0));
+			rules.add(new AllBefore(p, c));
+			rules.add(new AllBefore(p, c));
+			rules.add(new Contains(c));
+			rules.add(new SomeBefore(p, c));
+			rules.add(new LogicalNot(new LogicalNot(new SomeAfter(c, p))));
+			
+			RuleSimplifier simplifier = new RuleSimplifier();
+			LogicalAnd simplified = simplifier.simplify(and(rules));
+			
+			/*
+			 * 2 duplicates and 2 implied rules, 
+			 * i.e. CONTAINS p and p MORETHAN 0
+			 */
+			assertTrue(simplifier.getRemovedRules() == 4);
+			assertTrue(simplified.getConstraints().equals(Arrays.<Constraint>asList(
+					new Exactly(p, 2), new AllBefore(p, c), new Contains(c), new SomeBefore(p, c))));
+			assertTrue(simplified.getMaxN() == N);
+			
+			// the simplified rules are satisfied by the same designs
+			assertTrue(count(symbols, rules, true) == count(symbols, simplified.getConstraints(), false));
+			
+			// a MORETHAN 2 is not implied by a EXACTLY 2
+			rules.add(new MoreThan(p, 2));
+			simplifier.simplify(and(rules));
+			assertTrue(simplifier.getRemovedRules() == 4);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_negations() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			ConstraintOperand p = new ConstraintOperand(symbols.put("p", symbols.putType("Promoter")));
+			ConstraintOperand c = new ConstraintOperand(symbols.put("c", symbols.putType("CDS")));
+			symbols.put("t", symbols.putType("Terminator"));
+			
+			// NOT (CONTAINS p OR p ALL_BEFORE c) -> NOT CONTAINS p AND NOT p ALL_BEFORE c
+			List<Constraint> rules = new ArrayList<Constraint>();
+			rules.add(new LogicalNot(new LogicalOr(Arrays.<Constraint>asList(
+					new Contains(p), new AllBefore(p, c)))));
+			LogicalAnd simplified = new RuleSimplifier().simplify(and(rules));
+			assertTrue(simplified.getConstraints().equals(Arrays.<Constraint>asList(
+					new LogicalNot(new Contains(p)), new LogicalNot(new AllBefore(p, c)))));
+			assertTrue(count(symbols, rules, true) == count(symbols, rules, false));
+			
+			// NOT (CONTAINS p AND CONTAINS c) -> NOT CONTAINS p OR NOT CONTAINS c
+			rules.clear();
+			rules.add(new LogicalOr(Arrays.<Constraint>asList(
+					new LogicalNot(and(Arrays.<Constraint>asList(new Contains(p), new Contains(c)))), 
+					new Contains(p))));
+			simplified = new RuleSimplifier().simplify(and(rules));
+			assertTrue(simplified.getConstraints().equals(Arrays.<Constraint>asList(
+					new LogicalOr(Arrays.<Constraint>asList(
+							new LogicalNot(new Contains(p)), new LogicalNot(new Contains(c)), new Contains(p))))));
+
+			// the disjunction always holds
+			assertTrue(count(symbols, rules, true) == 3 * 3 * 3 * 3 * 16);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_statistics() {
+		String script = "N=3.contains A.contains A.A before B.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.count(script);
+			MiniEugeneStatistics stats = me.getStatistics();
+			assertTrue(stats.getValueByKey(MiniEugeneConstants.REMOVED_RULES) == 1);
+			
+			// the saved constraints are measured on request only
+			assertTrue(stats.getValueByKey(MiniEugeneConstants.SAVED_CONSTRAINTS) == -1);
+			
+			me.setSimplificationStatistics(true);
+			me.count(script);
+			stats = me.getStatistics();
+			assertTrue(stats.getValueByKey(MiniEugeneConstants.SAVED_CONSTRAINTS) > 0);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	private static LogicalAnd and(List<Constraint> rules) {
+		LogicalAnd and = new LogicalAnd(new ArrayList<Constraint>(rules));
+		and.setMaxN(N);
+		return and;
+	}
+	
+	private static long count(SymbolTables symbols, List<Constraint> rules, boolean simplify) 
+			throws Exception {
+		JaCoPSolver solver = new JaCoPSolver(symbols);
+		solver.setRuleSimplification(simplify);
+		return solver.count(symbols.getComponents(), and(rules));
+	}
+}
@@ -0,0 +1,78 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class SampleTest {
+
+	@Test
+	public void test_sample() {
+		String script = "N=6.contains A.A before B.contains C.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.sample(script, 25);
+			List<Component[]> samples = me.getSolutions();
+			assertTrue(samples.size() == 25);
+			
+			// the samples are distinct and rule-compliant
+			Set<String> distinct = new HashSet<String>();
+			for(Component[] solution : samples) {
+				assertTrue(solution.length == 6);
+				distinct.add(Arrays.toString(solution));
+				
+				int a = -1;
+				int lastB = -1;
+				for(int i=0; i<solution.length; i++) {
+					if(a == -1 && "A".equals(solution[i].getName())) {
+						a = i;
+					} else if("B".equals(solution[i].getName())) {
+						lastB = i;
+					}
+				}
+				assertTrue(a != -1);
+				assertTrue(lastB == -1 || a < lastB);
+			}
+			assertTrue(distinct.size() == 25);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_sample_exhausted() {
+		String script = "N=2.contains A.contains B.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			
+			me.solve(script);
+			int all = me.getSolutions().size();
+			
+			// asking for more samples than solutions returns all solutions
+			me.sample(script, all + 10);
+			assertTrue(me.getSolutions().size() == all);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
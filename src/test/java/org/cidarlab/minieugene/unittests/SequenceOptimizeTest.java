@@ -0,0 +1,66 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class SequenceOptimizeTest {
+
+	@Test
+	public void test_concatenation() {
+		
+		try {
+			
+			// 3! orders x 2^6 orientations
+			assertTrue(new MiniEugene().count(
+					"N=6. SEQUENCE p1, c1. SEQUENCE p2, c2. SEQUENCE p3, c3.") == 384);
+			
+			// 2 orders x 4 selections x 2^4 orientations
+			assertTrue(new MiniEugene().count(
+					"N=4. a is_a Promoter. b is_a Promoter. c is_a CDS. d is_a Terminator. " + 
+					"SEQUENCE [a|b], c. SEQUENCE d, [a|c].") == 128);
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_many_sequences() {
+		
+		/*
+		 * 9 sequences, i.e. 9! orders
+		 */
+		StringBuilder sb = new StringBuilder();
+		sb.append("N=18.\n");
+		for(int i=0; i<9; i++) {
+			sb.append("SEQUENCE p").append(i).append(", c").append(i).append(".\n");
+		}
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.solve(sb.toString(), 100);
+			assertTrue(me.getSolutions().size() == 100);
+			
+			for(Component[] solution : me.getSolutions()) {
+				for(int i=0; i<solution.length; i += 2) {
+					assertTrue(solution[i].getName().startsWith("p"));
+					assertTrue(solution[i + 1].getName().equals(
+							"c" + solution[i].getName().substring(1)));
+				}
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
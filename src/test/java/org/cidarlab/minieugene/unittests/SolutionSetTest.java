@@ -0,0 +1,214 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.cidarlab.minieugene.solver.SolutionSet;
+import org.cidarlab.minieugene.symbol.SymbolTables;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class SolutionSetTest {
+
+	@Test
+	public void test_solution_set_view() {
+		String script = "N=3.contains A.A before B.";
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.solve(script);
+			
+			SolutionSet ss = me.getSolutionSet();
+			List<Component[]> solutions = me.getSolutions();
+			assertTrue(ss.size() > 0);
+			assertTrue(ss.size() == solutions.size());
+			
+			boolean reverse = false;
+			for(int i=0; i<ss.size(); i++) {
+				Component[] solution = solutions.get(i);
+				assertTrue(solution.length == 3);
+				for(int j=0; j<3; j++) {
+					assertTrue(solution[j].getId() == ss.getPartId(i, j));
+					assertTrue(solution[j].isForward() == ss.isForward(i, j));
+					
+					// the components are flyweights
+					assertTrue(solution[j] == ss.get(i, j));
+					
+					reverse |= !ss.isForward(i, j);
+				}
+			}
+			assertTrue(reverse);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_spill_to_disk() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			symbols.put("p1");
+			symbols.put("c1");
+			symbols.put("t1");
+			
+			// no memory budget, i.e. every full chunk gets spilled
+			SolutionSet ss = new SolutionSet(symbols, 3, 0);
+			
+			int nr = 3 * SolutionSet.CHUNK_SIZE + 7;
+			int[] ids = new int[3];
+			boolean[] forward = new boolean[3];
+			for(int i=0; i<nr; i++) {
+				for(int j=0; j<3; j++) {
+					ids[j] = (i + j) % 3;
+					forward[j] = (i + j) % 2 == 0;
+				}
+				ss.add(ids, forward);
+			}
+			
+			assertTrue(ss.size() == nr);
+			assertTrue(ss.getSpilledChunks() == 3);
+			for(int i=0; i<nr; i++) {
+				for(int j=0; j<3; j++) {
+					assertTrue(ss.getPartId(i, j) == (i + j) % 3);
+					assertTrue(ss.isForward(i, j) == ((i + j) % 2 == 0));
+				}
+			}
+			
+			// truncating into a spilled chunk keeps the set appendable
+			ss.truncate(SolutionSet.CHUNK_SIZE + 1);
+			ss.add(new int[] {2, 2, 2}, new boolean[] {false, true, false});
+			assertTrue(ss.size() == SolutionSet.CHUNK_SIZE + 2);
+			assertTrue(ss.getPartId(SolutionSet.CHUNK_SIZE + 1, 0) == 2);
+			assertFalse(ss.isForward(SolutionSet.CHUNK_SIZE + 1, 0));
+			assertTrue(ss.isForward(SolutionSet.CHUNK_SIZE + 1, 1));
+			assertTrue(ss.getPartId(SolutionSet.CHUNK_SIZE, 1) == (SolutionSet.CHUNK_SIZE + 1) % 3);
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_orientation_free() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			symbols.put("p1");
+			symbols.put("c1");
+			
+			// 2 arrangements of 3 parts, i.e. 16 solutions
+			SolutionSet ss = new SolutionSet(symbols, 3);
+			ss.setOrientationFree(true);
+			ss.add(new int[] {0, 1, 0}, new boolean[3]);
+			ss.add(new int[] {1, 1, 0}, new boolean[3]);
+			assertTrue(ss.size() == 16);
+			
+			// every arrangement is expanded into all of its orientations
+			Set<String> keys = new HashSet<String>();
+			for(int i=0; i<ss.size(); i++) {
+				StringBuilder key = new StringBuilder();
+				for(int j=0; j<3; j++) {
+					key.append(ss.getPartId(i, j)).append(ss.isForward(i, j)).append(';');
+				}
+				keys.add(key.toString());
+				assertTrue(ss.getPartId(i, 0) == i / 8);
+			}
+			assertTrue(keys.size() == 16);
+			assertFalse(ss.isForward(0, 0));
+			assertTrue(ss.isForward(7, 0) && ss.isForward(7, 1) && ss.isForward(7, 2));
+			
+			// the arrangements are merged as they are
+			SolutionSet merged = new SolutionSet(symbols, 3);
+			merged.addAll(ss);
+			merged.addAll(ss);
+			assertTrue(merged.isOrientationFree());
+			assertTrue(merged.size() == 32);
+			
+			// truncating expands the first solutions
+			ss.truncate(5);
+			assertFalse(ss.isOrientationFree());
+			assertTrue(ss.size() == 5);
+			assertTrue(ss.isForward(4, 0) && !ss.isForward(4, 1) && !ss.isForward(4, 2));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_orientation_free_limit() {
+		
+		try {
+			
+			SymbolTables symbols = new SymbolTables();
+			symbols.put("p1");
+			symbols.put("c1");
+			
+			int N = SolutionSet.MAX_ORIENTATION_FREE_N + 1;
+			SolutionSet ss = new SolutionSet(symbols, N);
+			try {
+				ss.setOrientationFree(true);
+				assertTrue(false);	// exception expected
+			} catch(IllegalArgumentException iae) {
+				assertFalse(ss.isOrientationFree());
+			}
+			
+			// every row of a set with N >= 31 parts is reachable
+			int[] ids = new int[N];
+			boolean[] forward = new boolean[N];
+			ss.add(ids, forward);
+			ids[N - 1] = 1;
+			forward[N - 1] = true;
+			ss.add(ids, forward);
+			assertTrue(ss.size() == 2);
+			assertTrue(ss.getPartId(0, N - 1) == 0 && !ss.isForward(0, N - 1));
+			assertTrue(ss.getPartId(1, N - 1) == 1 && ss.isForward(1, N - 1));
+			
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_orientation_factoring() {
+		String[] scripts = {
+			"N=4.contains A.A before B.B nextto C.",
+			"N=4.contains A.A before B.all_forward.",
+			"N=4.contains p.c is_a CDS.p drives c."
+		};
+		
+		try {
+			
+			for(String script : scripts) {
+				MiniEugene me = new MiniEugene();
+				me.solve(script);
+				
+				// only the rules without orientations are factored
+				boolean free = !script.contains("forward") && !script.contains("drives");
+				assertTrue(script, me.getSolutionSet().isOrientationFree() == free);
+				assertTrue(script, me.getSolutions().size() == me.count(script));
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+}
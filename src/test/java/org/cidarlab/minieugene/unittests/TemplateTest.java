@@ -0,0 +1,73 @@
+package org.cidarlab.minieugene.unittests;
+
+import static org.junit.Assert.*;
+
+import org.cidarlab.minieugene.MiniEugene;
+import org.cidarlab.minieugene.dom.Component;
+import org.junit.Test;
+
+/**
+ * 
+ * @author Ernst Oberortner
+ */
+public class TemplateTest {
+
+	private static final int SLOTS = 6;
+	private static final int CHOICES = 10;
+	
+	@Test
+	public void test_large_template() {
+		
+		/*
+		 * a template with 6 slots of 10 choices, 
+		 * i.e. 10^6 combinations
+		 */
+		StringBuilder sb = new StringBuilder();
+		sb.append("N=").append(2 * SLOTS).append(".\n");
+		sb.append("TEMPLATE ");
+		for(int i=0; i<SLOTS; i++) {
+			sb.append("[");
+			for(int j=0; j<CHOICES; j++) {
+				sb.append("s").append(i).append("_").append(j);
+				if(j < CHOICES - 1) {
+					sb.append("|");
+				}
+			}
+			sb.append("]");
+			if(i < SLOTS - 1) {
+				sb.append(", ");
+			}
+		}
+		sb.append(".");
+		
+		try {
+			
+			MiniEugene me = new MiniEugene();
+			me.solve(sb.toString(), 100);
+			assertTrue(me.getSolutions().size() == 100);
+			
+			for(Component[] solution : me.getSolutions()) {
+				for(int i=0; i<solution.length; i++) {
+					assertTrue(solution[i].getName().startsWith("s" + (i % SLOTS) + "_"));
+				}
+			}
+
+		} catch(Exception e) {
+			e.printStackTrace();
+			assertTrue(false);	// no exception allowed
+		}
+	}
+
+	@Test
+	public void test_invalid_length() {
+		
+		try {
+			
+			new MiniEugene().solve("N=3. TEMPLATE [p1|p2], c.");
+			assertTrue(false);	// exception expected
+
+		} catch(Exception e) {
+			assertTrue(e.getMessage().contains("multiple"));
+		}
+	}
+}